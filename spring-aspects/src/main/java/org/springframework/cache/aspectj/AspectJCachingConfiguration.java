@@ -52,6 +52,8 @@ public class AspectJCachingConfiguration extends AbstractCachingConfiguration {
 		if (this.errorHandler != null) {
 			cacheAspect.setErrorHandler(this.errorHandler);
 		}
+		cacheAspect.setResolveAsyncResults(this.enableCaching.getBoolean("resolveAsyncResults"));
+		cacheAspect.setCoalesceMisses(this.enableCaching.getBoolean("coalesceMisses"));
 		return cacheAspect;
 	}
 
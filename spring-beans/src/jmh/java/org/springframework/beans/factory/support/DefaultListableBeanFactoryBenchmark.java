@@ -0,0 +1,151 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+
+/**
+ * Benchmarks for bean retrieval from a {@link DefaultListableBeanFactory}:
+ * singleton lookups by name and by type, alias resolution, and prototype
+ * creation with constructor and property injection.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DefaultListableBeanFactoryBenchmark {
+
+	@Benchmark
+	public void getSingletonByName(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.beanFactory.getBean("service"));
+	}
+
+	@Benchmark
+	public void getSingletonByAlias(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.beanFactory.getBean("serviceAlias"));
+	}
+
+	@Benchmark
+	public void getSingletonByType(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.beanFactory.getBean(Service.class));
+	}
+
+	@Benchmark
+	public void getPrototypeWithConstructorInjection(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.beanFactory.getBean("constructorPrototype"));
+	}
+
+	@Benchmark
+	public void getPrototypeWithPropertyInjection(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.beanFactory.getBean("propertyPrototype"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		/**
+		 * Number of additional singleton bean definitions registered,
+		 * so that lookups by type operate on a realistically sized registry.
+		 */
+		@Param({"10", "1000"})
+		public int beanCount;
+
+		public DefaultListableBeanFactory beanFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			this.beanFactory.registerBeanDefinition("repository", new RootBeanDefinition(Repository.class));
+			this.beanFactory.registerBeanDefinition("service", new RootBeanDefinition(Service.class));
+			this.beanFactory.registerAlias("service", "serviceAlias");
+
+			RootBeanDefinition constructorPrototype = new RootBeanDefinition(Consumer.class);
+			constructorPrototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			ConstructorArgumentValues args = new ConstructorArgumentValues();
+			args.addGenericArgumentValue(new RuntimeBeanReference("service"));
+			constructorPrototype.setConstructorArgumentValues(args);
+			this.beanFactory.registerBeanDefinition("constructorPrototype", constructorPrototype);
+
+			RootBeanDefinition propertyPrototype = new RootBeanDefinition(Consumer.class);
+			propertyPrototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			propertyPrototype.getPropertyValues().add("service", new RuntimeBeanReference("service"));
+			propertyPrototype.getPropertyValues().add("name", "consumer");
+			this.beanFactory.registerBeanDefinition("propertyPrototype", propertyPrototype);
+
+			for (int i = 0; i < this.beanCount; i++) {
+				this.beanFactory.registerBeanDefinition("filler" + i, new RootBeanDefinition(Repository.class));
+			}
+			this.beanFactory.preInstantiateSingletons();
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.beanFactory.destroySingletons();
+		}
+	}
+
+
+	public static class Repository {
+	}
+
+
+	public static class Service {
+	}
+
+
+	public static class Consumer {
+
+		private Service service;
+
+		private String name;
+
+		public Consumer() {
+		}
+
+		public Consumer(Service service) {
+			this.service = service;
+		}
+
+		public Service getService() {
+			return this.service;
+		}
+
+		public void setService(Service service) {
+			this.service = service;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+}
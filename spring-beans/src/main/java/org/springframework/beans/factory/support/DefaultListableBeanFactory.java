@@ -32,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -40,7 +41,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.inject.Provider;
 
 import org.springframework.beans.BeanUtils;
@@ -72,6 +76,7 @@ import org.springframework.beans.factory.config.NamedBeanHolder;
 import org.springframework.core.OrderComparator;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -146,6 +151,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Optional OrderComparator for dependency Lists and arrays */
 	private Comparator<Object> dependencyComparator;
 
+	/** Optional Executor for pre-instantiating independent singletons in parallel */
+	private Executor bootstrapExecutor;
+
 	/** Resolver to use for checking if a bean definition is an autowire candidate */
 	private AutowireCandidateResolver autowireCandidateResolver = new SimpleAutowireCandidateResolver();
 
@@ -275,6 +283,36 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.dependencyComparator;
 	}
 
+	/**
+	 * Specify an {@link Executor} for pre-instantiating singletons in parallel,
+	 * typically a {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>Default is none, creating all non-lazy singletons one after the other
+	 * in the calling thread. If an Executor is specified, singletons that do not
+	 * declare dependencies on each other (through bean references, "depends-on"
+	 * or factory beans) are instantiated concurrently, each group of dependent
+	 * singletons in dependency order. Singletons involved in declared circular
+	 * references as well as FactoryBeans are instantiated sequentially afterwards,
+	 * in registration order, in the calling thread.
+	 * <p>Only to be used for singletons that are safe to be initialized
+	 * concurrently: e.g. not relying on thread-bound state or on initialization
+	 * side effects of other beans that they do not explicitly depend on.
+	 * @since 5.0
+	 * @see #preInstantiateSingletons()
+	 * @see java.util.concurrent.ForkJoinPool#commonPool()
+	 */
+	public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
+		this.bootstrapExecutor = bootstrapExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for pre-instantiating singletons in parallel, if any.
+	 * @since 5.0
+	 */
+	@Nullable
+	public Executor getBootstrapExecutor() {
+		return this.bootstrapExecutor;
+	}
+
 	/**
 	 * Set a custom autowire candidate resolver for this BeanFactory to use
 	 * when deciding whether a bean definition should be considered as a
@@ -312,6 +350,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
+			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware...
 			setAutowireCandidateResolver(BeanUtils.instantiateClass(getAutowireCandidateResolver().getClass()));
 			// Make resolvable dependencies (e.g. ResourceLoader) available here as well...
@@ -724,27 +763,14 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		List<String> beanNames = new ArrayList<>(this.beanDefinitionNames);
 
 		// Trigger initialization of all non-lazy singleton beans...
-		for (String beanName : beanNames) {
-			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
-			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
-				if (isFactoryBean(beanName)) {
-					final FactoryBean<?> factory = (FactoryBean<?>) getBean(FACTORY_BEAN_PREFIX + beanName);
-					boolean isEagerInit;
-					if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
-						isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
-								((SmartFactoryBean<?>) factory).isEagerInit(),
-								getAccessControlContext());
-					}
-					else {
-						isEagerInit = (factory instanceof SmartFactoryBean &&
-								((SmartFactoryBean<?>) factory).isEagerInit());
-					}
-					if (isEagerInit) {
-						getBean(beanName);
-					}
-				}
-				else {
-					getBean(beanName);
+		if (this.bootstrapExecutor != null) {
+			preInstantiateSingletonsInParallel(beanNames, this.bootstrapExecutor);
+		}
+		else {
+			for (String beanName : beanNames) {
+				RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+				if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+					preInstantiateSingleton(beanName);
 				}
 			}
 		}
@@ -753,18 +779,142 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		for (String beanName : beanNames) {
 			Object singletonInstance = getSingleton(beanName);
 			if (singletonInstance instanceof SmartInitializingSingleton) {
+				StartupStep smartInitialize = getApplicationStartup().start("spring.beans.smart-initialize")
+						.tag("beanName", beanName);
 				final SmartInitializingSingleton smartSingleton = (SmartInitializingSingleton) singletonInstance;
-				if (System.getSecurityManager() != null) {
-					AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+				try {
+					if (System.getSecurityManager() != null) {
+						AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+							smartSingleton.afterSingletonsInstantiated();
+							return null;
+						}, getAccessControlContext());
+					}
+					else {
 						smartSingleton.afterSingletonsInstantiated();
-						return null;
-					}, getAccessControlContext());
+					}
+				}
+				finally {
+					smartInitialize.end();
+				}
+			}
+		}
+
+		// Serve the fully initialized singletons of a frozen configuration without locking...
+		if (isConfigurationFrozen()) {
+			freezeSingletonLookup();
+		}
+	}
+
+	/**
+	 * Instantiate the given non-lazy singleton, also triggering eager
+	 * initialization of the object exposed by a {@link SmartFactoryBean}.
+	 * @param beanName the name of the bean
+	 */
+	private void preInstantiateSingleton(String beanName) {
+		if (isFactoryBean(beanName)) {
+			final FactoryBean<?> factory = (FactoryBean<?>) getBean(FACTORY_BEAN_PREFIX + beanName);
+			boolean isEagerInit;
+			if (System.getSecurityManager() != null && factory instanceof SmartFactoryBean) {
+				isEagerInit = AccessController.doPrivileged((PrivilegedAction<Boolean>) () ->
+						((SmartFactoryBean<?>) factory).isEagerInit(),
+						getAccessControlContext());
+			}
+			else {
+				isEagerInit = (factory instanceof SmartFactoryBean &&
+						((SmartFactoryBean<?>) factory).isEagerInit());
+			}
+			if (isEagerInit) {
+				getBean(beanName);
+			}
+		}
+		else {
+			getBean(beanName);
+		}
+	}
+
+	/**
+	 * Instantiate the given singletons on the given Executor, as far as their
+	 * declared dependencies allow for it, with the remaining singletons to be
+	 * instantiated sequentially in the calling thread.
+	 * <p>Records a "spring.beans.preinstantiate-parallel" step for the entire phase
+	 * and a "spring.beans.preinstantiate-subgraph" step per independent subgraph,
+	 * on the thread instantiating it, with the {@link #getApplicationStartup()
+	 * ApplicationStartup}: e.g. a {@link org.springframework.core.metrics.RecordingApplicationStartup}
+	 * exposes the resulting timeline with start time, duration and thread per step.
+	 * @param beanNames all bean definition names, in registration order
+	 * @param executor the Executor to use
+	 * @see #setBootstrapExecutor
+	 */
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		StartupStep parallelStep = getApplicationStartup().start("spring.beans.preinstantiate-parallel");
+		long startTime = System.nanoTime();
+		List<String> candidateNames = new ArrayList<>(beanNames.size());
+		Set<String> sequentialNames = new HashSet<>();
+		for (String beanName : beanNames) {
+			RootBeanDefinition bd = getMergedLocalBeanDefinition(beanName);
+			if (!bd.isAbstract() && bd.isSingleton() && !bd.isLazyInit()) {
+				if (isFactoryBean(beanName)) {
+					sequentialNames.add(beanName);
 				}
 				else {
-					smartSingleton.afterSingletonsInstantiated();
+					candidateNames.add(beanName);
 				}
 			}
 		}
+		PreInstantiationPlan plan = new PreInstantiationPlan(this, candidateNames);
+		sequentialNames.addAll(plan.getSequentialBeanNames());
+		parallelStep.tag("subgraphs", String.valueOf(plan.getIndependentSubgraphs().size()));
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(plan.getIndependentSubgraphs().size());
+		setConcurrentSingletonCreation(true);
+		try {
+			for (List<String> subgraph : plan.getIndependentSubgraphs()) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					StartupStep subgraphStep = getApplicationStartup().start("spring.beans.preinstantiate-subgraph")
+							.tag("beanNames", subgraph::toString);
+					try {
+						for (String beanName : subgraph) {
+							getBean(beanName);
+						}
+					}
+					finally {
+						subgraphStep.end();
+					}
+				}, executor));
+			}
+			RuntimeException failure = null;
+			for (CompletableFuture<Void> future : futures) {
+				try {
+					future.join();
+				}
+				catch (CompletionException ex) {
+					if (failure == null) {
+						failure = (ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex);
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+		finally {
+			setConcurrentSingletonCreation(false);
+			parallelStep.end();
+		}
+		long parallelTime = System.nanoTime() - startTime;
+
+		for (String beanName : beanNames) {
+			if (sequentialNames.contains(beanName)) {
+				preInstantiateSingleton(beanName);
+			}
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Pre-instantiated " + candidateNames.size() + " singletons in " +
+					plan.getIndependentSubgraphs().size() + " independent subgraph(s) within " +
+					parallelTime / 1000000 + " ms, followed by " + sequentialNames.size() +
+					" singleton(s) in sequential order within " +
+					(System.nanoTime() - startTime - parallelTime) / 1000000 + " ms");
+		}
 	}
 
 
@@ -16,12 +16,14 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -121,6 +123,18 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Map between depending bean names: bean name --> Set of bean names for the bean's dependencies */
 	private final Map<String, Set<String>> dependenciesForBeanMap = new ConcurrentHashMap<>(64);
 
+	/** Whether singletons may currently be created by several threads in parallel */
+	private volatile boolean concurrentSingletonCreation = false;
+
+	/** Threads creating singletons in concurrent creation mode: bean name --> creating thread */
+	private final Map<String, Thread> singletonCreationThreads = new ConcurrentHashMap<>(16);
+
+	/** Singletons awaited in concurrent creation mode: waiting thread --> bean name */
+	private final Map<Thread, String> awaitedSingletons = new ConcurrentHashMap<>(16);
+
+	/** Immutable snapshot of fully initialized singletons: bean name or alias --> exposed object */
+	private volatile Map<String, Object> frozenSingletonLookup;
+
 
 	@Override
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
@@ -187,6 +201,11 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		Object singletonObject = this.singletonObjects.get(beanName);
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
 			synchronized (this.singletonObjects) {
+				if (this.concurrentSingletonCreation && !isCreatedByCurrentThread(beanName)) {
+					// Not a circular reference but a singleton in creation by another thread:
+					// to be awaited through getSingleton(String, ObjectFactory) instead.
+					return null;
+				}
 				singletonObject = this.earlySingletonObjects.get(beanName);
 				if (singletonObject == null && allowEarlyReference) {
 					ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
@@ -212,6 +231,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	@Nullable
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "'beanName' must not be null");
+		if (this.concurrentSingletonCreation) {
+			return getSingletonConcurrently(beanName, singletonFactory);
+		}
 		synchronized (this.singletonObjects) {
 			Object singletonObject = this.singletonObjects.get(beanName);
 			if (singletonObject == null) {
@@ -263,6 +285,194 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		}
 	}
 
+	/**
+	 * Variant of {@link #getSingleton(String, ObjectFactory)} for concurrent
+	 * creation mode: holding the singleton lock only for bookkeeping, and
+	 * waiting for singletons that are in creation by another thread.
+	 * <p>Should waiting result in a cycle between creating threads, the
+	 * circular reference gets resolved through an early singleton reference,
+	 * analogous to a circular reference within a single thread.
+	 * @param beanName the name of the bean
+	 * @param singletonFactory the ObjectFactory to lazily create the singleton with
+	 * @return the registered singleton object
+	 * @see #setConcurrentSingletonCreation
+	 */
+	@Nullable
+	private Object getSingletonConcurrently(String beanName, ObjectFactory<?> singletonFactory) {
+		Thread currentThread = Thread.currentThread();
+		synchronized (this.singletonObjects) {
+			Object singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject == null && !isCreatedByCurrentThread(beanName)) {
+				singletonObject = awaitSingleton(beanName, currentThread);
+			}
+			if (singletonObject != null) {
+				return (singletonObject != NULL_OBJECT ? singletonObject : null);
+			}
+			if (this.singletonsCurrentlyInDestruction) {
+				throw new BeanCreationNotAllowedException(beanName,
+						"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+						"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Creating shared instance of singleton bean '" + beanName + "' in thread [" +
+						currentThread.getName() + "]");
+			}
+			beforeSingletonCreation(beanName);
+			this.singletonCreationThreads.put(beanName, currentThread);
+		}
+
+		Object singletonObject = null;
+		boolean newSingleton = false;
+		try {
+			singletonObject = singletonFactory.getObject();
+			newSingleton = true;
+		}
+		catch (IllegalStateException ex) {
+			// Has the singleton object implicitly appeared in the meantime ->
+			// if yes, proceed with it since the exception indicates that state.
+			singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject == null) {
+				throw ex;
+			}
+		}
+		finally {
+			synchronized (this.singletonObjects) {
+				if (newSingleton) {
+					addSingleton(beanName, singletonObject);
+				}
+				this.singletonCreationThreads.remove(beanName);
+				afterSingletonCreation(beanName);
+				// Wake up threads waiting for this singleton (or for its failure)
+				this.singletonObjects.notifyAll();
+			}
+		}
+		return (singletonObject != NULL_OBJECT ? singletonObject : null);
+	}
+
+	/**
+	 * Wait for the given singleton to be created by another thread, if any.
+	 * <p>To be called with the singleton lock held.
+	 * @param beanName the name of the bean
+	 * @param currentThread the current thread
+	 * @return the created singleton object or an early reference to it,
+	 * or {@code null} if the current thread is supposed to create it
+	 */
+	@Nullable
+	private Object awaitSingleton(String beanName, Thread currentThread) {
+		try {
+			while (true) {
+				Object singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject != null || !this.singletonCreationThreads.containsKey(beanName)) {
+					return singletonObject;
+				}
+				if (this.awaitedSingletons.put(currentThread, beanName) == null) {
+					// Let other waiting threads re-check for circular waiting
+					this.singletonObjects.notifyAll();
+				}
+				List<String> cycle = getCircularlyAwaitedSingletons(currentThread);
+				if (cycle != null) {
+					Object earlyReference = getEarlySingletonReference(beanName);
+					if (earlyReference != null) {
+						return earlyReference;
+					}
+					boolean resolvable = false;
+					for (String awaitedName : cycle) {
+						resolvable |= (this.earlySingletonObjects.containsKey(awaitedName) ||
+								this.singletonFactories.containsKey(awaitedName));
+					}
+					if (!resolvable) {
+						throw new BeanCurrentlyInCreationException(beanName, "Requested bean is currently " +
+								"in creation in another thread which in turn waits for " + cycle + ": " +
+								"Is there an unresolvable circular reference?");
+					}
+				}
+				try {
+					this.singletonObjects.wait();
+				}
+				catch (InterruptedException ex) {
+					currentThread.interrupt();
+					throw new BeanCreationException(beanName,
+							"Interrupted while waiting for singleton creation in another thread");
+				}
+			}
+		}
+		finally {
+			this.awaitedSingletons.remove(currentThread);
+		}
+	}
+
+	/**
+	 * Determine whether the given thread transitively waits for itself.
+	 * <p>To be called with the singleton lock held.
+	 * @param currentThread the waiting thread
+	 * @return the names of the singletons awaited along the cycle,
+	 * or {@code null} if there is no such cycle
+	 */
+	@Nullable
+	private List<String> getCircularlyAwaitedSingletons(Thread currentThread) {
+		List<String> cycle = new ArrayList<>();
+		Thread thread = currentThread;
+		while (true) {
+			String awaitedName = this.awaitedSingletons.get(thread);
+			if (awaitedName == null || cycle.contains(awaitedName)) {
+				return null;
+			}
+			cycle.add(awaitedName);
+			thread = this.singletonCreationThreads.get(awaitedName);
+			if (thread == null) {
+				return null;
+			}
+			if (thread == currentThread) {
+				return cycle;
+			}
+		}
+	}
+
+	/**
+	 * Obtain an early reference to the specified singleton, if exposed already.
+	 * <p>To be called with the singleton lock held.
+	 * @param beanName the name of the bean
+	 */
+	@Nullable
+	private Object getEarlySingletonReference(String beanName) {
+		Object singletonObject = this.earlySingletonObjects.get(beanName);
+		if (singletonObject == null) {
+			ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
+			if (singletonFactory != null) {
+				singletonObject = singletonFactory.getObject();
+				this.earlySingletonObjects.put(beanName, singletonObject);
+				this.singletonFactories.remove(beanName);
+			}
+		}
+		return singletonObject;
+	}
+
+	/**
+	 * Determine whether the specified singleton is in creation by the current
+	 * thread, or not known to be in creation by any other thread.
+	 * @param beanName the name of the bean
+	 */
+	private boolean isCreatedByCurrentThread(String beanName) {
+		Thread thread = this.singletonCreationThreads.get(beanName);
+		return (thread == null || thread == Thread.currentThread());
+	}
+
+	/**
+	 * Switch concurrent singleton creation mode on or off.
+	 * <p>In concurrent mode, the singleton lock is not held while a singleton
+	 * is being created, allowing several threads to create distinct singletons
+	 * in parallel. A thread requesting a singleton that is currently in creation
+	 * by another thread waits for it to be fully initialized. The default mode
+	 * creates singletons one at a time, which is preferable outside of dedicated
+	 * bootstrap phases.
+	 * @param concurrentSingletonCreation whether to create singletons concurrently
+	 * @since 5.0
+	 * @see DefaultListableBeanFactory#setBootstrapExecutor
+	 */
+	protected void setConcurrentSingletonCreation(boolean concurrentSingletonCreation) {
+		this.concurrentSingletonCreation = concurrentSingletonCreation;
+	}
+
 	/**
 	 * Register an Exception that happened to get suppressed during the creation of a
 	 * singleton bean instance, e.g. a temporary circular reference resolution problem.
@@ -284,6 +494,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 */
 	protected void removeSingleton(String beanName) {
 		synchronized (this.singletonObjects) {
+			this.frozenSingletonLookup = null;
 			this.singletonObjects.remove(beanName);
 			this.singletonFactories.remove(beanName);
 			this.earlySingletonObjects.remove(beanName);
@@ -291,6 +502,91 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		}
 	}
 
+	/**
+	 * Build an immutable lookup table for all singletons that are fully
+	 * initialized at this point, keyed by bean name as well as by alias,
+	 * to be served by {@link #getFrozenSingleton} without any locking.
+	 * <p>The table gets discarded as soon as a singleton is removed or an
+	 * alias is modified. Singletons registered afterwards are simply served
+	 * through the regular singleton lookup.
+	 * @since 5.0
+	 * @see #getFrozenSingleton
+	 */
+	protected void freezeSingletonLookup() {
+		synchronized (this.singletonObjects) {
+			Map<String, Object> lookup = new HashMap<>(this.singletonObjects.size() * 2);
+			for (Map.Entry<String, Object> entry : this.singletonObjects.entrySet()) {
+				String beanName = entry.getKey();
+				if (!isSingletonCurrentlyInCreation(beanName)) {
+					Object exposedObject = getExposedSingletonForLookup(beanName, entry.getValue());
+					if (exposedObject != null) {
+						lookup.put(beanName, exposedObject);
+						for (String alias : getAliases(beanName)) {
+							// Only if the alias actually resolves to this bean, just like in the regular lookup
+							if (canonicalName(alias).equals(beanName)) {
+								lookup.put(alias, exposedObject);
+							}
+						}
+					}
+				}
+			}
+			this.frozenSingletonLookup = Collections.unmodifiableMap(lookup);
+		}
+	}
+
+	/**
+	 * Determine the object to expose for the given singleton in the frozen
+	 * singleton lookup table, if any.
+	 * <p>The default implementation exposes the singleton object itself.
+	 * @param beanName the name of the bean
+	 * @param singletonObject the registered singleton object
+	 * @return the object to expose for the given bean name and its aliases,
+	 * or {@code null} if the bean is not eligible for the frozen lookup
+	 * @since 5.0
+	 * @see #freezeSingletonLookup()
+	 */
+	@Nullable
+	protected Object getExposedSingletonForLookup(String beanName, Object singletonObject) {
+		return (singletonObject != NULL_OBJECT ? singletonObject : null);
+	}
+
+	/**
+	 * Return the object exposed for the given bean name or alias in the frozen
+	 * singleton lookup table, without any locking or alias resolution.
+	 * @param name the bean name or alias to look up
+	 * @return the exposed object, or {@code null} if the lookup has not been
+	 * frozen or the name is not contained in the lookup table
+	 * @since 5.0
+	 * @see #freezeSingletonLookup()
+	 */
+	@Nullable
+	protected Object getFrozenSingleton(String name) {
+		Map<String, Object> lookup = this.frozenSingletonLookup;
+		return (lookup != null ? lookup.get(name) : null);
+	}
+
+	/**
+	 * Overridden to discard the frozen singleton lookup table.
+	 */
+	@Override
+	public void registerAlias(String name, String alias) {
+		super.registerAlias(name, alias);
+		synchronized (this.singletonObjects) {
+			this.frozenSingletonLookup = null;
+		}
+	}
+
+	/**
+	 * Overridden to discard the frozen singleton lookup table.
+	 */
+	@Override
+	public void removeAlias(String alias) {
+		super.removeAlias(alias);
+		synchronized (this.singletonObjects) {
+			this.frozenSingletonLookup = null;
+		}
+	}
+
 	@Override
 	public boolean containsSingleton(String beanName) {
 		return this.singletonObjects.containsKey(beanName);
@@ -516,6 +812,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		}
 		synchronized (this.singletonObjects) {
 			this.singletonsCurrentlyInDestruction = true;
+			this.frozenSingletonLookup = null;
 		}
 
 		String[] disposableBeanNames;
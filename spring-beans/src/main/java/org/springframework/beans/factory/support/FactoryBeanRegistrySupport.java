@@ -211,6 +211,18 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 		return (FactoryBean<?>) beanInstance;
 	}
 
+	/**
+	 * Overridden to expose the cached object of a singleton FactoryBean, if any.
+	 */
+	@Override
+	@Nullable
+	protected Object getExposedSingletonForLookup(String beanName, Object singletonObject) {
+		if (singletonObject instanceof FactoryBean) {
+			return getCachedObjectForFactoryBean(beanName);
+		}
+		return super.getExposedSingletonForLookup(beanName, singletonObject);
+	}
+
 	/**
 	 * Overridden to clear the FactoryBean object cache as well.
 	 */
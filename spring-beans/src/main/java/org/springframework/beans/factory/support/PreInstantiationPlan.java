@@ -0,0 +1,244 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.lang.Nullable;
+
+/**
+ * Plan for pre-instantiating singletons in parallel, derived from the
+ * dependencies declared in their merged bean definitions: "depends-on"
+ * relationships, factory beans, as well as bean references in property
+ * values and constructor arguments (including inner beans and collections).
+ *
+ * <p>The declared dependency graph is split into independent subgraphs which
+ * can be instantiated concurrently, each in dependency order. Subgraphs that
+ * contain a circular reference are not split up at all; their beans are to be
+ * instantiated sequentially, in registration order, just like without a plan.
+ *
+ * <p>Dependencies that are not declared in bean definitions (e.g. autowired
+ * fields) are not reflected here; they are resolved at creation time, with
+ * {@link DefaultSingletonBeanRegistry} coordinating threads that happen to
+ * request the same singleton.
+ *
+ * @since 5.0
+ * @see DefaultListableBeanFactory#setBootstrapExecutor
+ */
+class PreInstantiationPlan {
+
+	private final List<List<String>> independentSubgraphs = new ArrayList<>();
+
+	private final List<String> sequentialBeanNames = new ArrayList<>();
+
+
+	/**
+	 * Create a plan for the given singletons.
+	 * @param beanFactory the BeanFactory that defines the singletons
+	 * @param beanNames the names of the singletons, in registration order
+	 */
+	public PreInstantiationPlan(DefaultListableBeanFactory beanFactory, List<String> beanNames) {
+		Map<String, Integer> indexes = new HashMap<>(beanNames.size() * 2);
+		for (String beanName : beanNames) {
+			indexes.put(beanName, indexes.size());
+		}
+
+		// Declared dependencies between the given singletons, as well as
+		// their undirected connectivity (union-find over bean indexes)
+		List<Set<Integer>> dependencies = new ArrayList<>(beanNames.size());
+		int[] roots = new int[beanNames.size()];
+		for (int i = 0; i < roots.length; i++) {
+			roots[i] = i;
+		}
+		for (int i = 0; i < beanNames.size(); i++) {
+			Set<Integer> declared = new LinkedHashSet<>();
+			for (String dependency : getDeclaredDependencies(beanFactory, beanNames.get(i))) {
+				Integer index = indexes.get(beanFactory.transformedBeanName(dependency));
+				if (index != null) {
+					declared.add(index);
+					roots[findRoot(roots, i)] = findRoot(roots, index);
+				}
+			}
+			dependencies.add(declared);
+		}
+
+		Map<Integer, List<Integer>> subgraphs = new LinkedHashMap<>();
+		for (int i = 0; i < roots.length; i++) {
+			subgraphs.computeIfAbsent(findRoot(roots, i), key -> new ArrayList<>()).add(i);
+		}
+		for (List<Integer> subgraph : subgraphs.values()) {
+			List<Integer> ordered = sortByDependencies(subgraph, dependencies);
+			if (ordered != null) {
+				List<String> names = new ArrayList<>(ordered.size());
+				for (Integer index : ordered) {
+					names.add(beanNames.get(index));
+				}
+				this.independentSubgraphs.add(names);
+			}
+			else {
+				for (Integer index : subgraph) {
+					this.sequentialBeanNames.add(beanNames.get(index));
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Return the independent subgraphs to be instantiated concurrently,
+	 * each listing its bean names in dependency order.
+	 */
+	public List<List<String>> getIndependentSubgraphs() {
+		return this.independentSubgraphs;
+	}
+
+	/**
+	 * Return the names of the beans involved in declared circular references,
+	 * to be instantiated sequentially.
+	 */
+	public List<String> getSequentialBeanNames() {
+		return this.sequentialBeanNames;
+	}
+
+
+	private static int findRoot(int[] roots, int index) {
+		int root = index;
+		while (roots[root] != root) {
+			root = roots[root];
+		}
+		while (roots[index] != root) {
+			int next = roots[index];
+			roots[index] = root;
+			index = next;
+		}
+		return root;
+	}
+
+	/**
+	 * Topologically sort the given subgraph, preferring registration order.
+	 * @return the sorted bean indexes, or {@code null} in case of a cycle
+	 */
+	@Nullable
+	private static List<Integer> sortByDependencies(List<Integer> subgraph, List<Set<Integer>> dependencies) {
+		if (subgraph.size() == 1) {
+			Integer index = subgraph.get(0);
+			return (dependencies.get(index).contains(index) ? null : subgraph);
+		}
+		Map<Integer, Integer> pendingCounts = new HashMap<>(subgraph.size() * 2);
+		Map<Integer, List<Integer>> dependents = new HashMap<>(subgraph.size() * 2);
+		PriorityQueue<Integer> ready = new PriorityQueue<>();
+		for (Integer index : subgraph) {
+			Set<Integer> declared = dependencies.get(index);
+			pendingCounts.put(index, declared.size());
+			for (Integer dependency : declared) {
+				dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(index);
+			}
+			if (declared.isEmpty()) {
+				ready.add(index);
+			}
+		}
+		List<Integer> result = new ArrayList<>(subgraph.size());
+		while (!ready.isEmpty()) {
+			Integer index = ready.poll();
+			result.add(index);
+			List<Integer> waiting = dependents.get(index);
+			if (waiting != null) {
+				for (Integer dependent : waiting) {
+					if (pendingCounts.merge(dependent, -1, Integer::sum) == 0) {
+						ready.add(dependent);
+					}
+				}
+			}
+		}
+		return (result.size() == subgraph.size() ? result : null);
+	}
+
+	/**
+	 * Collect the names of the beans that the given bean declares dependencies on.
+	 */
+	private static Set<String> getDeclaredDependencies(DefaultListableBeanFactory beanFactory, String beanName) {
+		Set<String> result = new LinkedHashSet<>();
+		collectDependencies(beanFactory.getMergedLocalBeanDefinition(beanName), result);
+		return result;
+	}
+
+	private static void collectDependencies(BeanDefinition bd, Set<String> result) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			for (String dependency : dependsOn) {
+				result.add(dependency);
+			}
+		}
+		if (bd.getFactoryBeanName() != null) {
+			result.add(bd.getFactoryBeanName());
+		}
+		for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+			collectReferences(pv.getValue(), result);
+		}
+		for (ValueHolder valueHolder : bd.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+			collectReferences(valueHolder.getValue(), result);
+		}
+		for (ValueHolder valueHolder : bd.getConstructorArgumentValues().getGenericArgumentValues()) {
+			collectReferences(valueHolder.getValue(), result);
+		}
+	}
+
+	private static void collectReferences(@Nullable Object value, Set<String> result) {
+		if (value instanceof RuntimeBeanReference) {
+			RuntimeBeanReference ref = (RuntimeBeanReference) value;
+			if (!ref.isToParent()) {
+				result.add(ref.getBeanName());
+			}
+		}
+		else if (value instanceof BeanDefinitionHolder) {
+			collectDependencies(((BeanDefinitionHolder) value).getBeanDefinition(), result);
+		}
+		else if (value instanceof BeanDefinition) {
+			collectDependencies((BeanDefinition) value, result);
+		}
+		else if (value instanceof Collection) {
+			for (Object element : (Collection<?>) value) {
+				collectReferences(element, result);
+			}
+		}
+		else if (value instanceof Map) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				collectReferences(entry.getKey(), result);
+				collectReferences(entry.getValue(), result);
+			}
+		}
+		else if (value instanceof Object[]) {
+			for (Object element : (Object[]) value) {
+				collectReferences(element, result);
+			}
+		}
+	}
+
+}
@@ -27,6 +27,8 @@ import java.security.PrivilegedAction;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -35,6 +37,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
 import javax.annotation.Priority;
 import javax.security.auth.Subject;
 
@@ -83,6 +86,8 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.metrics.RecordingApplicationStartup;
+import org.springframework.core.metrics.RecordingApplicationStartup.RecordedStep;
 import org.springframework.lang.Nullable;
 import org.springframework.tests.Assume;
 import org.springframework.tests.TestGroup;
@@ -1407,6 +1412,211 @@ public class DefaultListableBeanFactoryTests {
 		}
 	}
 
+	@Test
+	public void testParallelPreInstantiation() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setBootstrapExecutor(new ForkJoinPool(4));
+		for (int i = 0; i < 40; i++) {
+			RootBeanDefinition bd = new RootBeanDefinition(TestBean.class);
+			if (i % 4 != 0) {
+				bd.getPropertyValues().add("spouse", new RuntimeBeanReference("tb" + (i - 1)));
+			}
+			lbf.registerBeanDefinition("tb" + i, bd);
+		}
+		RootBeanDefinition lazy = new RootBeanDefinition(TestBean.class);
+		lazy.setLazyInit(true);
+		lbf.registerBeanDefinition("lazy", lazy);
+		lbf.preInstantiateSingletons();
+
+		for (int i = 0; i < 40; i++) {
+			assertTrue(lbf.containsSingleton("tb" + i));
+			if (i % 4 != 0) {
+				assertSame(lbf.getBean("tb" + (i - 1)), lbf.getBean("tb" + i, TestBean.class).getSpouse());
+			}
+		}
+		assertFalse(lbf.containsSingleton("lazy"));
+	}
+
+	@Test
+	public void testParallelPreInstantiationRecordsStartupSteps() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		RecordingApplicationStartup applicationStartup = new RecordingApplicationStartup();
+		lbf.setApplicationStartup(applicationStartup);
+		lbf.setBootstrapExecutor(new ForkJoinPool(2));
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.getPropertyValues().add("spouse", new RuntimeBeanReference("tb1"));
+		lbf.registerBeanDefinition("tb2", bd2);
+		lbf.registerBeanDefinition("tb3", new RootBeanDefinition(TestBean.class));
+		lbf.preInstantiateSingletons();
+
+		RecordedStep parallelStep = null;
+		Map<String, RecordedStep> subgraphSteps = new HashMap<>();
+		for (RecordedStep step : applicationStartup.getRecordedSteps()) {
+			if (step.getName().equals("spring.beans.preinstantiate-parallel")) {
+				parallelStep = step;
+			}
+			else if (step.getName().equals("spring.beans.preinstantiate-subgraph")) {
+				subgraphSteps.put(step.getTags().iterator().next().getValue(), step);
+			}
+		}
+		assertNotNull(parallelStep);
+		assertEquals("2", parallelStep.getTags().iterator().next().getValue());
+		assertEquals(new HashSet<>(Arrays.asList("[tb1, tb2]", "[tb3]")), subgraphSteps.keySet());
+		for (RecordedStep step : subgraphSteps.values()) {
+			assertTrue(step.getThreadName().startsWith("ForkJoinPool"));
+			assertTrue(step.getStartTime() >= parallelStep.getStartTime());
+			assertTrue(step.getDuration() >= 0);
+			assertTrue(step.getStartTime() + step.getDuration() <=
+					parallelStep.getStartTime() + parallelStep.getDuration());
+		}
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithCircularReference() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setBootstrapExecutor(new ForkJoinPool(2));
+		RootBeanDefinition bd1 = new RootBeanDefinition(TestBean.class);
+		bd1.getPropertyValues().add("spouse", new RuntimeBeanReference("tb2"));
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.getPropertyValues().add("spouse", new RuntimeBeanReference("tb1"));
+		lbf.registerBeanDefinition("tb2", bd2);
+		lbf.registerBeanDefinition("tb3", new RootBeanDefinition(TestBean.class));
+		lbf.preInstantiateSingletons();
+
+		TestBean tb1 = lbf.getBean("tb1", TestBean.class);
+		TestBean tb2 = lbf.getBean("tb2", TestBean.class);
+		assertSame(tb2, tb1.getSpouse());
+		assertSame(tb1, tb2.getSpouse());
+		assertTrue(lbf.containsSingleton("tb3"));
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithUndeclaredCircularReference() {
+		for (int i = 0; i < 20; i++) {
+			DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+			lbf.setBootstrapExecutor(new ForkJoinPool(2));
+			RootBeanDefinition bd1 = new RootBeanDefinition(CircularA.class);
+			bd1.setAutowireMode(RootBeanDefinition.AUTOWIRE_BY_TYPE);
+			lbf.registerBeanDefinition("a", bd1);
+			RootBeanDefinition bd2 = new RootBeanDefinition(CircularB.class);
+			bd2.setAutowireMode(RootBeanDefinition.AUTOWIRE_BY_TYPE);
+			lbf.registerBeanDefinition("b", bd2);
+			lbf.preInstantiateSingletons();
+
+			CircularA a = lbf.getBean(CircularA.class);
+			CircularB b = lbf.getBean(CircularB.class);
+			assertSame(b, a.getB());
+			assertSame(a, b.getA());
+		}
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithDependsOnCycle() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setBootstrapExecutor(new ForkJoinPool(2));
+		RootBeanDefinition bd1 = new RootBeanDefinition(TestBean.class);
+		bd1.setDependsOn("tb2");
+		lbf.registerBeanDefinition("tb1", bd1);
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.setDependsOn("tb1");
+		lbf.registerBeanDefinition("tb2", bd2);
+		try {
+			lbf.preInstantiateSingletons();
+			fail("Should have thrown BeanCreationException");
+		}
+		catch (BeanCreationException ex) {
+			// expected
+			assertTrue(ex.getMessage().contains("Circular"));
+		}
+	}
+
+	@Test
+	public void testParallelPreInstantiationWithFailure() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.setBootstrapExecutor(new ForkJoinPool(2));
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(TestBean.class));
+		RootBeanDefinition bd2 = new RootBeanDefinition(TestBean.class);
+		bd2.setInitMethodName("nonExistingInitMethod");
+		lbf.registerBeanDefinition("tb2", bd2);
+		try {
+			lbf.preInstantiateSingletons();
+			fail("Should have thrown BeanCreationException");
+		}
+		catch (BeanCreationException ex) {
+			assertEquals("tb2", ex.getBeanName());
+		}
+	}
+
+	@Test
+	public void testFrozenSingletonLookup() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(TestBean.class));
+		lbf.registerAlias("tb1", "alias1");
+		lbf.registerBeanDefinition("fb", new RootBeanDefinition(DummyFactory.class));
+		RootBeanDefinition bd3 = new RootBeanDefinition(TestBean.class);
+		bd3.setLazyInit(true);
+		lbf.registerBeanDefinition("tb3", bd3);
+		lbf.freezeConfiguration();
+		lbf.preInstantiateSingletons();
+
+		Object tb1 = lbf.getBean("tb1");
+		assertSame(tb1, lbf.getBean("alias1"));
+		assertSame(tb1, lbf.getBean("tb1", TestBean.class));
+		assertTrue(lbf.getBean("fb") instanceof TestBean);
+		assertSame(lbf.getBean("fb"), lbf.getBean("fb"));
+		assertTrue(lbf.getBean("&fb") instanceof DummyFactory);
+		assertFalse(lbf.containsSingleton("tb3"));
+		assertSame(lbf.getBean("tb3"), lbf.getBean("tb3"));
+		try {
+			lbf.getBean("tb1", DerivedTestBean.class);
+			fail("Should have thrown BeanNotOfRequiredTypeException");
+		}
+		catch (BeanNotOfRequiredTypeException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testFrozenSingletonLookupWithAliasChange() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("tb2", new RootBeanDefinition(TestBean.class));
+		lbf.registerAlias("tb1", "alias");
+		lbf.freezeConfiguration();
+		lbf.preInstantiateSingletons();
+		assertSame(lbf.getBean("tb1"), lbf.getBean("alias"));
+
+		lbf.registerAlias("tb2", "alias");
+		assertSame(lbf.getBean("tb2"), lbf.getBean("alias"));
+		lbf.removeAlias("alias");
+		try {
+			lbf.getBean("alias");
+			fail("Should have thrown NoSuchBeanDefinitionException");
+		}
+		catch (NoSuchBeanDefinitionException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testFrozenSingletonLookupWithDestroyedSingleton() {
+		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(TestBean.class));
+		lbf.freezeConfiguration();
+		lbf.preInstantiateSingletons();
+		Object tb1 = lbf.getBean("tb1");
+
+		lbf.destroySingleton("tb1");
+		Object recreated = lbf.getBean("tb1");
+		assertNotSame(tb1, recreated);
+		assertSame(recreated, lbf.getBean("tb1"));
+
+		lbf.registerBeanDefinition("tb1", new RootBeanDefinition(DerivedTestBean.class));
+		assertTrue(lbf.getBean("tb1") instanceof DerivedTestBean);
+	}
+
 	@Test(expected = NoSuchBeanDefinitionException.class)
 	public void testGetBeanByTypeWithNoneFound() {
 		DefaultListableBeanFactory lbf = new DefaultListableBeanFactory();
@@ -2790,6 +3000,32 @@ public class DefaultListableBeanFactoryTests {
 
 	static class A { }
 
+	public static class CircularA {
+
+		private CircularB b;
+
+		public CircularB getB() {
+			return this.b;
+		}
+
+		public void setB(CircularB b) {
+			this.b = b;
+		}
+	}
+
+	public static class CircularB {
+
+		private CircularA a;
+
+		public CircularA getA() {
+			return this.a;
+		}
+
+		public void setA(CircularA a) {
+			this.a = a;
+		}
+	}
+
 	static class B { }
 
 
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Encode the class-level metadata of a candidate component into a record
+ * that {@code org.springframework.core.type.classreading.IndexedMetadataReaderFactory}
+ * replays at runtime instead of parsing the class file: access flags, type
+ * hierarchy, retained type-level annotations, member classes (sorted by name)
+ * and annotated methods (in declaration order).
+ *
+ * <p>Returns {@code null} for types that cannot be reliably described at
+ * compile time, in which case the class file remains the source of truth.
+ *
+ * @since 5.0
+ */
+class ClassMetadataEncoder {
+
+	private static final int ACC_PUBLIC = 0x0001;
+	private static final int ACC_PRIVATE = 0x0002;
+	private static final int ACC_PROTECTED = 0x0004;
+	private static final int ACC_STATIC = 0x0008;
+	private static final int ACC_FINAL = 0x0010;
+	private static final int ACC_SUPER = 0x0020;
+	private static final int ACC_SYNCHRONIZED = 0x0020;
+	private static final int ACC_VARARGS = 0x0080;
+	private static final int ACC_NATIVE = 0x0100;
+	private static final int ACC_INTERFACE = 0x0200;
+	private static final int ACC_ABSTRACT = 0x0400;
+	private static final int ACC_STRICT = 0x0800;
+	private static final int ACC_ANNOTATION = 0x2000;
+
+	private final Elements elements;
+
+	private final Types types;
+
+
+	public ClassMetadataEncoder(ProcessingEnvironment env) {
+		this.elements = env.getElementUtils();
+		this.types = env.getTypeUtils();
+	}
+
+
+	/**
+	 * Encode the metadata of the specified type.
+	 * @param element the type to encode
+	 * @return the metadata record, or {@code null} if the type is not supported
+	 */
+	public String encode(Element element) {
+		if (!(element instanceof TypeElement) || element.getKind() == ElementKind.ENUM) {
+			return null;
+		}
+		TypeElement type = (TypeElement) element;
+		try {
+			StringBuilder sb = new StringBuilder();
+			sb.append('C').append(getClassAccess(type)).append(' ').append(getInternalName(type)).append(' ');
+			TypeMirror superclass = type.getSuperclass();
+			if (superclass.getKind() == TypeKind.NONE) {
+				sb.append(type.getKind().isInterface() ? "java/lang/Object" : "-");
+			}
+			else {
+				sb.append(getInternalName(superclass));
+			}
+			List<? extends TypeMirror> interfaces = type.getInterfaces();
+			sb.append(' ').append(interfaces.size());
+			for (TypeMirror ifc : interfaces) {
+				sb.append(' ').append(getInternalName(ifc));
+			}
+			appendAnnotations(sb, type);
+			// Member classes sorted by name: their order in the class file
+			// differs between compilers and is not part of the metadata contract
+			Map<String, TypeElement> memberTypes = new TreeMap<>();
+			for (Element enclosed : type.getEnclosedElements()) {
+				if (enclosed instanceof TypeElement) {
+					TypeElement memberType = (TypeElement) enclosed;
+					memberTypes.put(getInternalName(memberType), memberType);
+				}
+			}
+			for (Map.Entry<String, TypeElement> entry : memberTypes.entrySet()) {
+				sb.append(" I").append(getMemberAccess(entry.getValue())).append(' ')
+						.append(entry.getKey()).append(' ').append(getInternalName(type));
+			}
+			for (Element enclosed : type.getEnclosedElements()) {
+				if (enclosed instanceof ExecutableElement && hasRetainedAnnotations(enclosed)) {
+					appendMethod(sb, (ExecutableElement) enclosed);
+				}
+			}
+			return sb.toString();
+		}
+		catch (UnsupportedTypeException ex) {
+			return null;
+		}
+	}
+
+	private void appendMethod(StringBuilder sb, ExecutableElement method) {
+		String name = (method.getKind() == ElementKind.CONSTRUCTOR ? "<init>" : method.getSimpleName().toString());
+		int access = getMemberAccess(method);
+		if (method.isVarArgs()) {
+			access |= ACC_VARARGS;
+		}
+		sb.append(" M").append(access).append(' ').append(name).append(" (");
+		for (VariableElement parameter : method.getParameters()) {
+			sb.append(getDescriptor(parameter.asType()));
+		}
+		sb.append(')').append(getDescriptor(method.getReturnType()));
+		appendAnnotations(sb, method);
+		sb.append(" )");
+	}
+
+	private void appendAnnotations(StringBuilder sb, Element element) {
+		// Runtime-visible annotations come first in the class file, then invisible ones
+		for (RetentionPolicy retention : new RetentionPolicy[] {RetentionPolicy.RUNTIME, RetentionPolicy.CLASS}) {
+			for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+				if (getRetention(annotation) == retention) {
+					sb.append(" A");
+					appendAnnotationBody(sb, annotation);
+				}
+			}
+		}
+	}
+
+	private boolean hasRetainedAnnotations(Element element) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (getRetention(annotation) != RetentionPolicy.SOURCE) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void appendAnnotationBody(StringBuilder sb, AnnotationMirror annotation) {
+		sb.append(getDescriptor(annotation.getAnnotationType()));
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+			sb.append(' ').append(entry.getKey().getSimpleName());
+			appendValue(sb, entry.getKey().getReturnType(), entry.getValue().getValue());
+		}
+		sb.append(" )");
+	}
+
+	private void appendValue(StringBuilder sb, TypeMirror type, Object value) {
+		if (type.getKind() == TypeKind.ARRAY) {
+			TypeMirror componentType = ((ArrayType) type).getComponentType();
+			List<?> elements = (value instanceof List ? (List<?>) value : Collections.singletonList(value));
+			if (componentType.getKind().isPrimitive() && !elements.isEmpty()) {
+				sb.append(" [").append(getDescriptor(componentType));
+			}
+			else {
+				sb.append(" [");
+			}
+			for (Object element : elements) {
+				appendValue(sb, componentType, (element instanceof AnnotationValue ?
+						((AnnotationValue) element).getValue() : element));
+			}
+			sb.append(" )");
+			return;
+		}
+		sb.append(' ');
+		switch (type.getKind()) {
+			case BOOLEAN:
+				sb.append('Z').append(Boolean.TRUE.equals(value) ? '1' : '0');
+				return;
+			case BYTE:
+				sb.append('B').append(((Number) value).byteValue());
+				return;
+			case CHAR:
+				sb.append('C').append((int) (Character) value);
+				return;
+			case SHORT:
+				sb.append('S').append(((Number) value).shortValue());
+				return;
+			case INT:
+				sb.append('I').append(((Number) value).intValue());
+				return;
+			case LONG:
+				sb.append('J').append(((Number) value).longValue());
+				return;
+			case FLOAT:
+				sb.append('F').append(((Number) value).floatValue());
+				return;
+			case DOUBLE:
+				sb.append('D').append(((Number) value).doubleValue());
+				return;
+			default:
+		}
+		if (value instanceof String) {
+			sb.append('\'');
+			appendEscaped(sb, (String) value);
+		}
+		else if (value instanceof TypeMirror) {
+			sb.append('T').append(getDescriptor((TypeMirror) value));
+		}
+		else if (value instanceof VariableElement) {
+			VariableElement constant = (VariableElement) value;
+			sb.append('N').append(getDescriptor(constant.getEnclosingElement().asType()))
+					.append(' ').append(constant.getSimpleName());
+		}
+		else if (value instanceof AnnotationMirror) {
+			sb.append('@');
+			appendAnnotationBody(sb, (AnnotationMirror) value);
+		}
+		else {
+			throw new UnsupportedTypeException();
+		}
+	}
+
+	private void appendEscaped(StringBuilder sb, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == '%' || ch <= ' ' || ch == 0x7f) {
+				sb.append('%').append(Character.forDigit(ch >> 4, 16)).append(Character.forDigit(ch & 0xf, 16));
+			}
+			else {
+				sb.append(ch);
+			}
+		}
+	}
+
+	private RetentionPolicy getRetention(AnnotationMirror annotation) {
+		Element annotationType = annotation.getAnnotationType().asElement();
+		Retention retention = annotationType.getAnnotation(Retention.class);
+		return (retention != null ? retention.value() : RetentionPolicy.CLASS);
+	}
+
+	private int getClassAccess(TypeElement type) {
+		Set<Modifier> modifiers = type.getModifiers();
+		int access = (modifiers.contains(Modifier.PUBLIC) ? ACC_PUBLIC : 0);
+		if (type.getKind() == ElementKind.ANNOTATION_TYPE) {
+			access |= ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION;
+		}
+		else if (type.getKind() == ElementKind.INTERFACE) {
+			access |= ACC_INTERFACE | ACC_ABSTRACT;
+		}
+		else {
+			access |= ACC_SUPER;
+			if (modifiers.contains(Modifier.ABSTRACT)) {
+				access |= ACC_ABSTRACT;
+			}
+			if (modifiers.contains(Modifier.FINAL)) {
+				access |= ACC_FINAL;
+			}
+		}
+		return access;
+	}
+
+	private int getMemberAccess(Element member) {
+		Set<Modifier> modifiers = member.getModifiers();
+		int access = (modifiers.contains(Modifier.PUBLIC) ? ACC_PUBLIC : 0);
+		access |= (modifiers.contains(Modifier.PRIVATE) ? ACC_PRIVATE : 0);
+		access |= (modifiers.contains(Modifier.PROTECTED) ? ACC_PROTECTED : 0);
+		access |= (modifiers.contains(Modifier.STATIC) ? ACC_STATIC : 0);
+		access |= (modifiers.contains(Modifier.FINAL) ? ACC_FINAL : 0);
+		access |= (modifiers.contains(Modifier.SYNCHRONIZED) ? ACC_SYNCHRONIZED : 0);
+		access |= (modifiers.contains(Modifier.NATIVE) ? ACC_NATIVE : 0);
+		access |= (modifiers.contains(Modifier.ABSTRACT) ? ACC_ABSTRACT : 0);
+		access |= (modifiers.contains(Modifier.STRICTFP) ? ACC_STRICT : 0);
+		if (member.getKind().isInterface()) {
+			access |= ACC_INTERFACE | ACC_ABSTRACT;
+			if (member.getKind() == ElementKind.ANNOTATION_TYPE) {
+				access |= ACC_ANNOTATION;
+			}
+		}
+		return access;
+	}
+
+	private String getInternalName(TypeElement type) {
+		return this.elements.getBinaryName(type).toString().replace('.', '/');
+	}
+
+	private String getInternalName(TypeMirror type) {
+		TypeMirror erasure = this.types.erasure(type);
+		if (erasure.getKind() != TypeKind.DECLARED) {
+			throw new UnsupportedTypeException();
+		}
+		return getInternalName((TypeElement) ((DeclaredType) erasure).asElement());
+	}
+
+	private String getDescriptor(TypeMirror type) {
+		switch (type.getKind()) {
+			case BOOLEAN: return "Z";
+			case BYTE: return "B";
+			case CHAR: return "C";
+			case SHORT: return "S";
+			case INT: return "I";
+			case LONG: return "J";
+			case FLOAT: return "F";
+			case DOUBLE: return "D";
+			case VOID: return "V";
+			case ARRAY: return "[" + getDescriptor(((ArrayType) type).getComponentType());
+			default: return "L" + getInternalName(type) + ";";
+		}
+	}
+
+
+	/**
+	 * Signals a construct that cannot be described at compile time,
+	 * typically an unresolved type.
+	 */
+	@SuppressWarnings("serial")
+	private static class UnsupportedTypeException extends RuntimeException {
+	}
+
+}
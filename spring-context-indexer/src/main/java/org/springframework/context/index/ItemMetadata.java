@@ -34,10 +34,17 @@ class ItemMetadata {
 
 	private final Set<String> stereotypes;
 
+	private final String classMetadata;
+
 
 	public ItemMetadata(String type, Set<String> stereotypes) {
+		this(type, stereotypes, null);
+	}
+
+	public ItemMetadata(String type, Set<String> stereotypes, String classMetadata) {
 		this.type = type;
 		this.stereotypes = new HashSet<>(stereotypes);
+		this.classMetadata = classMetadata;
 	}
 
 
@@ -49,4 +56,12 @@ class ItemMetadata {
 		return this.stereotypes;
 	}
 
+	/**
+	 * Return the encoded class metadata of the candidate, if any.
+	 * @see ClassMetadataEncoder
+	 */
+	public String getClassMetadata() {
+		return this.classMetadata;
+	}
+
 }
@@ -33,6 +33,8 @@ class MetadataStore {
 
 	static final String METADATA_PATH = "META-INF/spring.components";
 
+	static final String CLASS_METADATA_PATH = "META-INF/spring.components.metadata";
+
 	private final ProcessingEnvironment environment;
 
 
@@ -43,7 +45,7 @@ class MetadataStore {
 
 	public CandidateComponentsMetadata readMetadata() {
 		try {
-			return readMetadata(getMetadataResource().openInputStream());
+			return readMetadata(getMetadataResource(METADATA_PATH).openInputStream());
 		}
 		catch (IOException ex) {
 			// Failed to read metadata -> ignore.
@@ -53,28 +55,43 @@ class MetadataStore {
 
 	public void writeMetadata(CandidateComponentsMetadata metadata) throws IOException {
 		if (!metadata.getItems().isEmpty()) {
-			try (OutputStream outputStream = createMetadataResource().openOutputStream()) {
+			try (OutputStream outputStream = createMetadataResource(METADATA_PATH).openOutputStream()) {
 				PropertiesMarshaller.write(metadata, outputStream);
 			}
+			if (metadata.getItems().stream().anyMatch(item -> item.getClassMetadata() != null)) {
+				try (OutputStream outputStream = createMetadataResource(CLASS_METADATA_PATH).openOutputStream()) {
+					PropertiesMarshaller.writeClassMetadata(metadata, outputStream);
+				}
+			}
 		}
 	}
 
 
 	private CandidateComponentsMetadata readMetadata(InputStream in) throws IOException {
+		InputStream classMetadataIn = null;
 		try {
-			return PropertiesMarshaller.read(in);
+			classMetadataIn = getMetadataResource(CLASS_METADATA_PATH).openInputStream();
+		}
+		catch (IOException ex) {
+			// No class metadata from a previous build -> components only.
+		}
+		try {
+			return PropertiesMarshaller.read(in, classMetadataIn);
 		}
 		finally {
 			in.close();
+			if (classMetadataIn != null) {
+				classMetadataIn.close();
+			}
 		}
 	}
 
-	private FileObject getMetadataResource() throws IOException {
-		return this.environment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", METADATA_PATH);
+	private FileObject getMetadataResource(String path) throws IOException {
+		return this.environment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
 	}
 
-	private FileObject createMetadataResource() throws IOException {
-		return this.environment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", METADATA_PATH);
+	private FileObject createMetadataResource(String path) throws IOException {
+		return this.environment.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
 	}
 
 }
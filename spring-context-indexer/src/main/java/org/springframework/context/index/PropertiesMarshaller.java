@@ -38,13 +38,32 @@ abstract class PropertiesMarshaller {
 		props.store(out, "");
 	}
 
+	public static void writeClassMetadata(CandidateComponentsMetadata metadata, OutputStream out) throws IOException {
+		Properties props = new Properties();
+		metadata.getItems().stream().filter(m -> m.getClassMetadata() != null)
+				.forEach(m -> props.put(m.getType(), m.getClassMetadata()));
+		props.store(out, "");
+	}
+
 	public static CandidateComponentsMetadata read(InputStream in) throws IOException {
+		return read(in, null);
+	}
+
+	/**
+	 * Read the candidate components, along with their class metadata
+	 * from the given {@code classMetadataIn} stream, if any.
+	 */
+	public static CandidateComponentsMetadata read(InputStream in, InputStream classMetadataIn) throws IOException {
 		CandidateComponentsMetadata result = new CandidateComponentsMetadata();
 		Properties props = new Properties();
 		props.load(in);
+		Properties classMetadata = new Properties();
+		if (classMetadataIn != null) {
+			classMetadata.load(classMetadataIn);
+		}
 		props.forEach((type, value) -> {
 			Set<String> candidates = new HashSet<>(Arrays.asList(((String) value).split(",")));
-			result.add(new ItemMetadata((String) type, candidates));
+			result.add(new ItemMetadata((String) type, candidates, classMetadata.getProperty((String) type)));
 		});
 		return result;
 	}
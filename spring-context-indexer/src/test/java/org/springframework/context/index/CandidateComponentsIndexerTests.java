@@ -19,6 +19,10 @@ package org.springframework.context.index;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import javax.annotation.ManagedBean;
 import javax.inject.Named;
 import javax.persistence.Converter;
@@ -34,7 +38,11 @@ import org.junit.rules.TemporaryFolder;
 
 import org.springframework.context.index.sample.AbstractController;
 import org.springframework.context.index.sample.MetaControllerIndexed;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Scope;
 import org.springframework.context.index.sample.SampleComponent;
+import org.springframework.context.index.sample.SampleConfiguration;
 import org.springframework.context.index.sample.SampleController;
 import org.springframework.context.index.sample.SampleMetaController;
 import org.springframework.context.index.sample.SampleMetaIndexedController;
@@ -54,6 +62,13 @@ import org.springframework.context.index.sample.type.SampleSpecializedRepo;
 import org.springframework.context.index.sample.type.SmartRepo;
 import org.springframework.context.index.sample.type.SpecializedRepo;
 import org.springframework.context.index.test.TestCompiler;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.IndexedMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.stereotype.Component;
 
 import static org.hamcrest.Matchers.*;
@@ -198,6 +213,57 @@ public class CandidateComponentsIndexerTests {
 		testSingleComponent(Repo.class, Repo.class);
 	}
 
+	@Test
+	public void classMetadataMatchesClassFile() throws IOException {
+		CandidateComponentsMetadata metadata = compile(SampleConfiguration.class);
+		assertThat(metadata, hasComponent(SampleConfiguration.class, Component.class));
+		String record = metadata.getItems().get(0).getClassMetadata();
+		assertNotNull(record);
+
+		String className = SampleConfiguration.class.getName();
+		MetadataReader indexed = new IndexedMetadataReaderFactory(getClass().getClassLoader(),
+				Collections.singletonMap(className, record)).getMetadataReader(className);
+		MetadataReader parsed = new SimpleMetadataReaderFactory().getMetadataReader(new FileSystemResource(
+				new File(this.compiler.getOutputLocation(), className.replace('.', '/') + ".class")));
+
+		ClassMetadata expectedClass = parsed.getClassMetadata();
+		ClassMetadata actualClass = indexed.getClassMetadata();
+		assertEquals(expectedClass.getClassName(), actualClass.getClassName());
+		assertEquals(expectedClass.isInterface(), actualClass.isInterface());
+		assertEquals(expectedClass.isAbstract(), actualClass.isAbstract());
+		assertEquals(expectedClass.isFinal(), actualClass.isFinal());
+		assertEquals(expectedClass.isIndependent(), actualClass.isIndependent());
+		assertEquals(expectedClass.getSuperClassName(), actualClass.getSuperClassName());
+		assertArrayEquals(expectedClass.getInterfaceNames(), actualClass.getInterfaceNames());
+		// Member classes are recorded sorted by name, independent of the compiler's order
+		String[] expectedMemberClassNames = expectedClass.getMemberClassNames();
+		Arrays.sort(expectedMemberClassNames);
+		assertArrayEquals(expectedMemberClassNames, actualClass.getMemberClassNames());
+
+		AnnotationMetadata expected = parsed.getAnnotationMetadata();
+		AnnotationMetadata actual = indexed.getAnnotationMetadata();
+		assertEquals(new ArrayList<>(expected.getAnnotationTypes()), new ArrayList<>(actual.getAnnotationTypes()));
+		for (String annotationType : expected.getAnnotationTypes()) {
+			assertEquals(expected.getMetaAnnotationTypes(annotationType), actual.getMetaAnnotationTypes(annotationType));
+			assertEquals(String.valueOf(expected.getAnnotationAttributes(annotationType, true)),
+					String.valueOf(actual.getAnnotationAttributes(annotationType, true)));
+		}
+		for (String annotationType : Arrays.asList(Bean.class.getName(), Scope.class.getName(), Lazy.class.getName())) {
+			List<String> expectedMethods = new ArrayList<>();
+			for (MethodMetadata method : expected.getAnnotatedMethods(annotationType)) {
+				expectedMethods.add(method.getMethodName() + method.getReturnTypeName() + method.isStatic() +
+						method.getAnnotationAttributes(annotationType, true));
+			}
+			List<String> actualMethods = new ArrayList<>();
+			for (MethodMetadata method : actual.getAnnotatedMethods(annotationType)) {
+				actualMethods.add(method.getMethodName() + method.getReturnTypeName() + method.isStatic() +
+						method.getAnnotationAttributes(annotationType, true));
+			}
+			assertFalse(expectedMethods.isEmpty());
+			assertEquals(expectedMethods, actualMethods);
+		}
+	}
+
 
 	private void testComponent(Class<?>... classes) throws IOException {
 		CandidateComponentsMetadata metadata = compile(classes);
@@ -229,8 +295,11 @@ public class CandidateComponentsIndexerTests {
 		try {
 			File metadataFile = new File(outputLocation,
 					MetadataStore.METADATA_PATH);
+			File classMetadataFile = new File(outputLocation,
+					MetadataStore.CLASS_METADATA_PATH);
 			if (metadataFile.isFile()) {
-				return PropertiesMarshaller.read(new FileInputStream(metadataFile));
+				return PropertiesMarshaller.read(new FileInputStream(metadataFile),
+						(classMetadataFile.isFile() ? new FileInputStream(classMetadataFile) : null));
 			}
 			else {
 				return new CandidateComponentsMetadata();
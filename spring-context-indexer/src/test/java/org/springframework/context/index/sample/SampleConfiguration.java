@@ -0,0 +1,68 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.index.sample;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Test candidate for {@link Configuration} whose class metadata exercises
+ * the various kinds of annotation values.
+ */
+@Configuration
+@Import({SampleComponent.class, SampleConfiguration.Nested.class})
+@ComponentScan(basePackages = "org.springframework.context.index.sample  %test",
+		excludeFilters = @ComponentScan.Filter(classes = SampleController.class), lazyInit = true)
+@Order(5)
+@SuppressWarnings("serial")
+public class SampleConfiguration extends AbstractController implements Serializable {
+
+	@Bean(name = {"first", "second"}, initMethod = "init")
+	@Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
+	public static String sample(List<String> values, int[] indexes) {
+		return "sample";
+	}
+
+	@Bean
+	@Lazy(false)
+	protected Object[] lazySample() {
+		return new Object[0];
+	}
+
+	public void notAnnotated() {
+	}
+
+
+	@Component
+	static class Nested {
+	}
+
+
+	interface NestedInterface {
+	}
+
+}
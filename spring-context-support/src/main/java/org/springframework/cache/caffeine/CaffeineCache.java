@@ -20,7 +20,9 @@ import java.util.concurrent.Callable;
 import java.util.function.Function;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
+import org.springframework.cache.CacheStatistics;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -126,6 +128,22 @@ public class CaffeineCache extends AbstractValueAdaptingCache {
 		this.cache.invalidateAll();
 	}
 
+	/**
+	 * Return a snapshot of the Caffeine {@link CacheStats}, provided that the
+	 * native cache has been built with {@code recordStats()}. Caffeine does not
+	 * track puts, so the put count is always reported as {@code -1}.
+	 * @since 5.0
+	 * @see com.github.benmanes.caffeine.cache.Caffeine#recordStats()
+	 */
+	@Override
+	@Nullable
+	public CacheStatistics getStatistics() {
+		if (!this.cache.policy().isRecordingStats()) {
+			return null;
+		}
+		return new CaffeineCacheStatistics(this.cache.stats());
+	}
+
 
 	private class PutIfAbsentFunction implements Function<Object, Object> {
 
@@ -164,4 +182,49 @@ public class CaffeineCache extends AbstractValueAdaptingCache {
 		}
 	}
 
+
+	private static class CaffeineCacheStatistics implements CacheStatistics {
+
+		private final CacheStats stats;
+
+		public CaffeineCacheStatistics(CacheStats stats) {
+			this.stats = stats;
+		}
+
+		@Override
+		public long getHitCount() {
+			return this.stats.hitCount();
+		}
+
+		@Override
+		public long getMissCount() {
+			return this.stats.missCount();
+		}
+
+		@Override
+		public long getPutCount() {
+			return -1;
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return this.stats.evictionCount();
+		}
+
+		@Override
+		public long getLoadCount() {
+			return this.stats.loadCount();
+		}
+
+		@Override
+		public long getTotalLoadTime() {
+			return this.stats.totalLoadTime();
+		}
+
+		@Override
+		public double getHitRatio() {
+			return this.stats.hitRate();
+		}
+	}
+
 }
@@ -21,8 +21,10 @@ import java.util.concurrent.Callable;
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
 import net.sf.ehcache.Status;
+import net.sf.ehcache.statistics.StatisticsGateway;
 
 import org.springframework.cache.Cache;
+import org.springframework.cache.CacheStatistics;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -140,6 +142,17 @@ public class EhCacheCache implements Cache {
 		this.cache.removeAll();
 	}
 
+	/**
+	 * Return a live view of the EhCache {@link StatisticsGateway}, with expired
+	 * entries counted as evictions. EhCache does not track loads through
+	 * {@link #get(Object, Callable)}, so load count and time are reported as {@code -1}.
+	 * @since 5.0
+	 */
+	@Override
+	public CacheStatistics getStatistics() {
+		return new EhCacheStatistics(this.cache.getStatistics());
+	}
+
 
 	@Nullable
 	private Element lookup(Object key) {
@@ -151,4 +164,44 @@ public class EhCacheCache implements Cache {
 		return (element != null ? new SimpleValueWrapper(element.getObjectValue()) : null);
 	}
 
+
+	private static class EhCacheStatistics implements CacheStatistics {
+
+		private final StatisticsGateway statistics;
+
+		public EhCacheStatistics(StatisticsGateway statistics) {
+			this.statistics = statistics;
+		}
+
+		@Override
+		public long getHitCount() {
+			return this.statistics.cacheHitCount();
+		}
+
+		@Override
+		public long getMissCount() {
+			return this.statistics.cacheMissCount();
+		}
+
+		@Override
+		public long getPutCount() {
+			return this.statistics.cachePutCount();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return this.statistics.cacheEvictedCount() + this.statistics.cacheExpiredCount();
+		}
+
+		@Override
+		public long getLoadCount() {
+			return -1;
+		}
+
+		@Override
+		public long getTotalLoadTime() {
+			return -1;
+		}
+	}
+
 }
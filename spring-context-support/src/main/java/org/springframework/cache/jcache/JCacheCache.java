@@ -16,11 +16,19 @@
 
 package org.springframework.cache.jcache;
 
+import java.lang.management.ManagementFactory;
 import java.util.concurrent.Callable;
+import javax.cache.configuration.CompleteConfiguration;
+import javax.cache.management.CacheStatisticsMXBean;
 import javax.cache.processor.EntryProcessor;
 import javax.cache.processor.EntryProcessorException;
 import javax.cache.processor.MutableEntry;
+import javax.management.JMException;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
+import org.springframework.cache.CacheStatistics;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -39,6 +47,8 @@ public class JCacheCache extends AbstractValueAdaptingCache {
 
 	private final javax.cache.Cache<Object, Object> cache;
 
+	private volatile CacheStatistics statistics;
+
 
 	/**
 	 * Create an {@link org.springframework.cache.jcache.JCacheCache} instance.
@@ -106,6 +116,58 @@ public class JCacheCache extends AbstractValueAdaptingCache {
 		this.cache.removeAll();
 	}
 
+	/**
+	 * Return a live view of the {@link CacheStatisticsMXBean} that the JCache
+	 * provider registers in the platform MBeanServer, provided that statistics
+	 * have been enabled for the cache. JCache does not track loads through
+	 * {@link #get(Object, Callable)}, so load count and time are reported as {@code -1}.
+	 * @since 5.0
+	 * @see javax.cache.configuration.MutableConfiguration#setStatisticsEnabled
+	 * @see javax.cache.CacheManager#enableStatistics
+	 */
+	@Override
+	@Nullable
+	public CacheStatistics getStatistics() {
+		CacheStatistics statistics = this.statistics;
+		if (statistics == null) {
+			if (!isStatisticsEnabled()) {
+				return null;
+			}
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			try {
+				ObjectName objectName = new ObjectName("javax.cache:type=CacheStatistics" +
+						",CacheManager=" + sanitize(this.cache.getCacheManager().getURI().toString()) +
+						",Cache=" + sanitize(this.cache.getName()));
+				if (!server.isRegistered(objectName)) {
+					return null;
+				}
+				statistics = new JCacheStatistics(JMX.newMXBeanProxy(server, objectName, CacheStatisticsMXBean.class));
+			}
+			catch (JMException ex) {
+				return null;
+			}
+			this.statistics = statistics;
+		}
+		return statistics;
+	}
+
+	private boolean isStatisticsEnabled() {
+		@SuppressWarnings("unchecked")
+		Class<CompleteConfiguration<Object, Object>> configurationType =
+				(Class<CompleteConfiguration<Object, Object>>) (Class<?>) CompleteConfiguration.class;
+		try {
+			return this.cache.getConfiguration(configurationType).isStatisticsEnabled();
+		}
+		catch (IllegalArgumentException ex) {
+			// Provider does not expose a CompleteConfiguration
+			return false;
+		}
+	}
+
+	private static String sanitize(String value) {
+		return value.replaceAll("[,:=\n]", ".");
+	}
+
 
 	private class ValueLoaderEntryProcessor<T> implements EntryProcessor<Object, Object, T> {
 
@@ -132,4 +194,44 @@ public class JCacheCache extends AbstractValueAdaptingCache {
 		}
 	}
 
+
+	private static class JCacheStatistics implements CacheStatistics {
+
+		private final CacheStatisticsMXBean mxBean;
+
+		public JCacheStatistics(CacheStatisticsMXBean mxBean) {
+			this.mxBean = mxBean;
+		}
+
+		@Override
+		public long getHitCount() {
+			return this.mxBean.getCacheHits();
+		}
+
+		@Override
+		public long getMissCount() {
+			return this.mxBean.getCacheMisses();
+		}
+
+		@Override
+		public long getPutCount() {
+			return this.mxBean.getCachePuts();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return this.mxBean.getCacheEvictions();
+		}
+
+		@Override
+		public long getLoadCount() {
+			return -1;
+		}
+
+		@Override
+		public long getTotalLoadTime() {
+			return -1;
+		}
+	}
+
 }
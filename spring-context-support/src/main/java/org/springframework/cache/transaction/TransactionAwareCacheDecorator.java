@@ -19,6 +19,7 @@ package org.springframework.cache.transaction;
 import java.util.concurrent.Callable;
 
 import org.springframework.cache.Cache;
+import org.springframework.cache.CacheStatistics;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -136,4 +137,10 @@ public class TransactionAwareCacheDecorator implements Cache {
 		}
 	}
 
+	@Override
+	@Nullable
+	public CacheStatistics getStatistics() {
+		return this.targetCache.getStatistics();
+	}
+
 }
@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import org.springframework.cache.AbstractValueAdaptingCacheTests;
 import org.springframework.cache.Cache;
+import org.springframework.cache.CacheStatistics;
 
 import static org.junit.Assert.*;
 
@@ -77,4 +78,25 @@ public class CaffeineCacheTests extends AbstractValueAdaptingCacheTests<Caffeine
 		assertEquals(value, cache.get(key).get()); // not changed
 	}
 
+	@Test
+	public void testStatisticsNotRecorded() {
+		assertNull(getCache().getStatistics());
+	}
+
+	@Test
+	public void testStatistics() {
+		CaffeineCache cache = new CaffeineCache(CACHE_NAME, Caffeine.newBuilder().recordStats().build());
+		cache.put("a", 1);
+		assertEquals(1, cache.get("a").get());
+		assertNull(cache.get("b"));
+		assertEquals(2, cache.get("c", () -> 2).intValue());
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(-1, statistics.getPutCount());
+		assertEquals(1, statistics.getLoadCount());
+		assertEquals(1.0 / 3, statistics.getHitRatio(), 0.001);
+	}
+
 }
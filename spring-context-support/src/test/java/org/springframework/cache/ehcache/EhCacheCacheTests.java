@@ -26,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.cache.AbstractCacheTests;
+import org.springframework.cache.CacheStatistics;
 import org.springframework.tests.Assume;
 import org.springframework.tests.TestGroup;
 
@@ -83,4 +84,18 @@ public class EhCacheCacheTests extends AbstractCacheTests<EhCacheCache> {
 		assertNull(cache.get(key));
 	}
 
+	@Test
+	public void testStatistics() {
+		cache.put("a", 1);
+		assertEquals(1, cache.get("a").get());
+		assertNull(cache.get("b"));
+
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(1, statistics.getPutCount());
+		assertEquals(0, statistics.getEvictionCount());
+		assertEquals(-1, statistics.getLoadCount());
+	}
+
 }
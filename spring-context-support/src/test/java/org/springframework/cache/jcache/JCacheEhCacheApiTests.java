@@ -24,8 +24,12 @@ import javax.cache.spi.CachingProvider;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Test;
 
 import org.springframework.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.cache.CacheStatistics;
+
+import static org.junit.Assert.*;
 
 /**
  * @author Stephane Nicoll
@@ -79,4 +83,25 @@ public class JCacheEhCacheApiTests extends AbstractValueAdaptingCacheTests<JCach
 		return this.nativeCache;
 	}
 
+
+	@Test
+	public void statisticsNotEnabled() {
+		assertNull(this.cache.getStatistics());
+	}
+
+	@Test
+	public void statistics() {
+		this.cacheManager.enableStatistics(CACHE_NAME, true);
+		this.cache.put("a", 1);
+		assertEquals(1, this.cache.get("a").get());
+		assertNull(this.cache.get("b"));
+
+		CacheStatistics statistics = this.cache.getStatistics();
+		assertNotNull(statistics);
+		assertEquals(1, statistics.getHitCount());
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(1, statistics.getPutCount());
+		assertEquals(-1, statistics.getLoadCount());
+	}
+
 }
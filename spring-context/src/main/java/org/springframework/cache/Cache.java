@@ -17,6 +17,8 @@
 package org.springframework.cache;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.springframework.lang.Nullable;
 
@@ -98,6 +100,51 @@ public interface Cache {
 	@Nullable
 	<T> T get(Object key, Callable<T> valueLoader);
 
+	/**
+	 * Return the value to which this cache maps the specified key,
+	 * wrapped in a {@link CompletableFuture}. This operation must not block
+	 * but is allowed to return a completed {@link CompletableFuture} if the
+	 * corresponding value is immediately available.
+	 * <p>The default implementation delegates to {@link #get(Object)}, which is
+	 * fine for in-memory caches. Caches backed by a remote or otherwise blocking
+	 * store should override this method with a non-blocking variant.
+	 * @param key the key whose associated value is to be returned
+	 * @return a future for the value to which this cache maps the specified key,
+	 * contained within a {@link ValueWrapper} which may also hold a cached
+	 * {@code null} value; a future completing with a straight {@code null}
+	 * means that the cache contains no mapping for this key
+	 * @since 5.0
+	 * @see #get(Object)
+	 */
+	default CompletableFuture<ValueWrapper> retrieve(Object key) {
+		return CompletableFuture.completedFuture(get(key));
+	}
+
+	/**
+	 * Return the value to which this cache maps the specified key, obtaining
+	 * that value from {@code valueLoader} if necessary. This is the non-blocking
+	 * counterpart of {@link #get(Object, Callable)}, with the loaded value to be
+	 * cached once the future returned by the {@code valueLoader} completes.
+	 * <p>The default implementation delegates to {@link #retrieve(Object)} and
+	 * {@link #store}. Implementations may override it in order to ensure that
+	 * the {@code valueLoader} is only called once in case of concurrent access
+	 * on the same key.
+	 * @param key the key whose associated value is to be returned
+	 * @param valueLoader the loader for a future to obtain the value from
+	 * @return a future for the value to which this cache maps the specified key
+	 * @since 5.0
+	 * @see #get(Object, Callable)
+	 */
+	@SuppressWarnings("unchecked")
+	default <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return retrieve(key).thenCompose(wrapper -> {
+			if (wrapper != null) {
+				return CompletableFuture.completedFuture((T) wrapper.get());
+			}
+			return valueLoader.get().thenCompose(value -> store(key, value).thenApply(stored -> value));
+		});
+	}
+
 	/**
 	 * Associate the specified value with the specified key in this cache.
 	 * <p>If the cache previously contained a mapping for this key, the old
@@ -107,6 +154,23 @@ public interface Cache {
 	 */
 	void put(Object key, @Nullable Object value);
 
+	/**
+	 * Associate the specified value with the specified key in this cache,
+	 * in a non-blocking fashion.
+	 * <p>The default implementation delegates to {@link #put(Object, Object)}.
+	 * Caches backed by a remote or otherwise blocking store should override
+	 * this method with a non-blocking variant.
+	 * @param key the key with which the specified value is to be associated
+	 * @param value the value to be associated with the specified key
+	 * @return a future completing once the value has been stored
+	 * @since 5.0
+	 * @see #put(Object, Object)
+	 */
+	default CompletableFuture<Void> store(Object key, @Nullable Object value) {
+		put(key, value);
+		return CompletableFuture.completedFuture(null);
+	}
+
 	/**
 	 * Atomically associate the specified value with the specified key in this cache
 	 * if it is not set already.
@@ -147,6 +211,18 @@ public interface Cache {
 	 */
 	void clear();
 
+	/**
+	 * Return the statistics of this cache, if tracked.
+	 * <p>The default implementation returns {@code null}.
+	 * @return the current statistics (a live view or a snapshot, depending on
+	 * the provider), or {@code null} if this cache does not track statistics
+	 * @since 5.0
+	 */
+	@Nullable
+	default CacheStatistics getStatistics() {
+		return null;
+	}
+
 
 	/**
 	 * A (wrapper) object representing a cache value.
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache;
+
+/**
+ * Statistics of a {@link Cache}, as exposed through {@link Cache#getStatistics()}.
+ *
+ * <p>Depending on the provider, an instance may be a live view of the counters or
+ * a snapshot taken when calling {@link Cache#getStatistics()}. Counters that are
+ * not tracked by the underlying provider are reported as {@code -1}.
+ *
+ * @since 5.0
+ * @see Cache#getStatistics()
+ */
+public interface CacheStatistics {
+
+	/**
+	 * Return the number of lookups that found a cached value.
+	 */
+	long getHitCount();
+
+	/**
+	 * Return the number of lookups that did not find a cached value.
+	 */
+	long getMissCount();
+
+	/**
+	 * Return the number of values put into the cache, or {@code -1} if not tracked.
+	 */
+	long getPutCount();
+
+	/**
+	 * Return the number of entries removed by the cache itself, because of its
+	 * size bound or because of expiration, or {@code -1} if not tracked.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * Return the number of values loaded through a value loader on a cache miss,
+	 * or {@code -1} if not tracked.
+	 * @see Cache#get(Object, java.util.concurrent.Callable)
+	 */
+	long getLoadCount();
+
+	/**
+	 * Return the total time spent loading values on a cache miss, in nanoseconds,
+	 * or {@code -1} if not tracked.
+	 * @see #getLoadCount()
+	 */
+	long getTotalLoadTime();
+
+	/**
+	 * Return the ratio of lookups that found a cached value, between 0.0 and 1.0.
+	 * <p>Returns 1.0 if there have not been any lookups yet.
+	 */
+	default double getHitRatio() {
+		long hitCount = getHitCount();
+		long requestCount = hitCount + getMissCount();
+		return (requestCount != 0 ? (double) hitCount / requestCount : 1.0);
+	}
+
+}
@@ -196,4 +196,22 @@ public @interface EnableCaching {
 	 */
 	int order() default Ordered.LOWEST_PRECEDENCE;
 
+	/**
+	 * Indicate whether methods returning a {@code CompletableFuture} or a reactive
+	 * type should cache their resolved values rather than the returned objects.
+	 * The default is {@code false}.
+	 * @since 5.0
+	 * @see org.springframework.cache.interceptor.CacheAspectSupport#setResolveAsyncResults
+	 */
+	boolean resolveAsyncResults() default false;
+
+	/**
+	 * Indicate whether concurrent cache misses for the same key should be
+	 * coalesced into a single invocation of the underlying method, with the
+	 * other callers waiting for its result. The default is {@code false}.
+	 * @since 5.0
+	 * @see org.springframework.cache.interceptor.CacheAspectSupport#setCoalesceMisses
+	 */
+	boolean coalesceMisses() default false;
+
 }
@@ -71,6 +71,8 @@ public class ProxyCachingConfiguration extends AbstractCachingConfiguration {
 		if (this.errorHandler != null) {
 			interceptor.setErrorHandler(this.errorHandler);
 		}
+		interceptor.setResolveAsyncResults(this.enableCaching.getBoolean("resolveAsyncResults"));
+		interceptor.setCoalesceMisses(this.enableCaching.getBoolean("coalesceMisses"));
 		return interceptor;
 	}
 
@@ -0,0 +1,466 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntBiFunction;
+
+import org.springframework.cache.CacheStatistics;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleCacheStatistics;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.cache.Cache} implementation based on the core JDK
+ * {@code java.util.concurrent} package, holding a bounded number of entries:
+ * once the configured maximum size (or total weight) is exceeded, the least
+ * recently used entries get evicted. Entries may also expire after a fixed
+ * time-to-live since their creation or last update, and/or after a fixed
+ * time-to-idle since their last access.
+ *
+ * <p>Lookups are lock-free; the recency order is only updated when the internal
+ * eviction lock is not contended, turning the eviction policy into an approximate
+ * LRU under heavy concurrent read access. Expired entries are removed lazily,
+ * on access or when making room for new entries.
+ *
+ * <p>Keeps track of hits, misses, puts, loads and evictions (including expirations),
+ * see {@link #getStatistics()}.
+ *
+ * <p>Typically used through {@link ConcurrentMapCacheManager#setMaximumSize}
+ * and related bounds on {@link ConcurrentMapCacheManager}.
+ *
+ * @since 5.0
+ * @see ConcurrentMapCache
+ */
+public class BoundedConcurrentMapCache extends AbstractValueAdaptingCache {
+
+	private final String name;
+
+	private final long maximumWeight;
+
+	private final ToIntBiFunction<Object, Object> weigher;
+
+	private final long expireAfterWriteNanos;
+
+	private final long expireAfterAccessNanos;
+
+	private final ConcurrentMap<Object, Node> store = new ConcurrentHashMap<>(256);
+
+	private final Map<Object, Node> nativeCache = Collections.unmodifiableMap(this.store);
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	/** Sentinel of the doubly-linked recency list, guarded by the eviction lock */
+	private final Node head = new Node(null, null, 0, 0);
+
+	/** Total weight of the linked entries, guarded by the eviction lock */
+	private long totalWeight;
+
+	private final SimpleCacheStatistics statistics = new SimpleCacheStatistics();
+
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name,
+	 * holding up to the given number of entries.
+	 * @param name the name of the cache
+	 * @param maximumSize the maximum number of entries
+	 */
+	public BoundedConcurrentMapCache(String name, long maximumSize) {
+		this(name, maximumSize, null, null, null, true);
+	}
+
+	/**
+	 * Create a new BoundedConcurrentMapCache with the specified name and bounds.
+	 * @param name the name of the cache
+	 * @param maximumWeight the maximum total weight of all entries, or the maximum
+	 * number of entries if no weigher is specified
+	 * @param weigher the function determining the weight of an entry from its key
+	 * and its store value (must not return a negative weight), or {@code null}
+	 * for a weight of 1 per entry
+	 * @param expireAfterWrite the time after which an entry expires once it has
+	 * been created or updated, or {@code null} for no such expiration
+	 * @param expireAfterAccess the time after which an entry expires once it has
+	 * last been accessed, or {@code null} for no such expiration
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 */
+	public BoundedConcurrentMapCache(String name, long maximumWeight,
+			@Nullable ToIntBiFunction<Object, Object> weigher, @Nullable Duration expireAfterWrite,
+			@Nullable Duration expireAfterAccess, boolean allowNullValues) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.isTrue(maximumWeight >= 0, "Maximum weight must not be negative");
+		Assert.isTrue(expireAfterWrite == null || !expireAfterWrite.isNegative(),
+				"Expire-after-write duration must not be negative");
+		Assert.isTrue(expireAfterAccess == null || !expireAfterAccess.isNegative(),
+				"Expire-after-access duration must not be negative");
+		this.name = name;
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.expireAfterWriteNanos = (expireAfterWrite != null ? expireAfterWrite.toNanos() : -1);
+		this.expireAfterAccessNanos = (expireAfterAccess != null ? expireAfterAccess.toNanos() : -1);
+		this.head.prev = this.head;
+		this.head.next = this.head;
+	}
+
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Return a read-only view of the underlying store, mapping each key
+	 * to an internal entry holder.
+	 */
+	@Override
+	public final Map<Object, ?> getNativeCache() {
+		return this.nativeCache;
+	}
+
+	/**
+	 * Return the maximum total weight of all entries in this cache
+	 * (or the maximum number of entries if no weigher has been specified).
+	 */
+	public final long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/**
+	 * Return the current number of entries in this cache,
+	 * possibly including expired entries that have not been removed yet.
+	 */
+	public long getSize() {
+		return this.store.size();
+	}
+
+	/**
+	 * Return the current total weight of all entries in this cache.
+	 */
+	public long getWeight() {
+		this.evictionLock.lock();
+		try {
+			return this.totalWeight;
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of lookups that found a live entry.
+	 * @see #getStatistics()
+	 */
+	public long getHitCount() {
+		return this.statistics.getHitCount();
+	}
+
+	/**
+	 * Return the number of lookups that found no entry or an expired one.
+	 * @see #getStatistics()
+	 */
+	public long getMissCount() {
+		return this.statistics.getMissCount();
+	}
+
+	/**
+	 * Return the number of entries removed because of the size bound or
+	 * because of expiration, as opposed to explicit eviction or clearing.
+	 * @see #getStatistics()
+	 */
+	public long getEvictionCount() {
+		return this.statistics.getEvictionCount();
+	}
+
+	@Override
+	public CacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
+
+	@Override
+	@Nullable
+	protected Object lookup(Object key) {
+		Node node = getLiveNode(key, currentTime());
+		if (node == null) {
+			this.statistics.recordMiss();
+			return null;
+		}
+		this.statistics.recordHit();
+		return node.value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		long now = currentTime();
+		Node node = getLiveNode(key, now);
+		if (node != null) {
+			this.statistics.recordHit();
+			return (T) fromStoreValue(node.value);
+		}
+		Node[] created = new Node[1];
+		Node[] replaced = new Node[1];
+		node = this.store.compute(key, (k, existing) -> {
+			if (existing != null && !isExpired(existing, now)) {
+				return existing;
+			}
+			long startTime = System.nanoTime();
+			try {
+				created[0] = createNode(k, toStoreValue(valueLoader.call()));
+				this.statistics.recordLoad(System.nanoTime() - startTime);
+				replaced[0] = existing;
+				return created[0];
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+		});
+		if (created[0] != null) {
+			this.statistics.recordMiss();
+			this.statistics.recordPut();
+			afterWrite(created[0], replaced[0], true);
+		}
+		else {
+			this.statistics.recordHit();
+			recordAccess(node, now);
+		}
+		return (T) fromStoreValue(node.value);
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		Node node = createNode(key, toStoreValue(value));
+		afterWrite(node, this.store.put(key, node), false);
+		this.statistics.recordPut();
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		long now = currentTime();
+		Node newNode = createNode(key, toStoreValue(value));
+		Node[] replaced = new Node[1];
+		Node node = this.store.compute(key, (k, existing) -> {
+			if (existing != null && !isExpired(existing, now)) {
+				return existing;
+			}
+			replaced[0] = existing;
+			return newNode;
+		});
+		if (node != newNode) {
+			recordAccess(node, now);
+			return toValueWrapper(node.value);
+		}
+		afterWrite(newNode, replaced[0], true);
+		this.statistics.recordPut();
+		return null;
+	}
+
+	@Override
+	public void evict(Object key) {
+		Node node = this.store.remove(key);
+		if (node != null) {
+			this.evictionLock.lock();
+			try {
+				unlink(node);
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		this.evictionLock.lock();
+		try {
+			this.store.clear();
+			for (Node node = this.head.next; node != this.head; node = node.next) {
+				node.linked = false;
+			}
+			this.head.prev = this.head;
+			this.head.next = this.head;
+			this.totalWeight = 0;
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the current time in nanoseconds, as a basis for expiration.
+	 * <p>The default implementation delegates to {@link System#nanoTime()}.
+	 */
+	protected long currentTime() {
+		return System.nanoTime();
+	}
+
+
+	private Node createNode(Object key, Object storeValue) {
+		int weight = (this.weigher != null ? this.weigher.applyAsInt(key, storeValue) : 1);
+		Assert.state(weight >= 0, "Weigher must not return a negative weight");
+		return new Node(key, storeValue, weight, currentTime());
+	}
+
+	/**
+	 * Return the live entry for the given key, removing it if expired.
+	 */
+	@Nullable
+	private Node getLiveNode(Object key, long now) {
+		Node node = this.store.get(key);
+		if (node == null) {
+			return null;
+		}
+		if (isExpired(node, now)) {
+			if (this.store.remove(key, node)) {
+				this.statistics.recordEviction();
+			}
+			this.evictionLock.lock();
+			try {
+				unlink(node);
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+			return null;
+		}
+		recordAccess(node, now);
+		return node;
+	}
+
+	private boolean isExpired(Node node, long now) {
+		return ((this.expireAfterWriteNanos >= 0 && now - node.writeTime >= this.expireAfterWriteNanos) ||
+				(this.expireAfterAccessNanos >= 0 && now - node.accessTime >= this.expireAfterAccessNanos));
+	}
+
+	private void recordAccess(Node node, long now) {
+		if (this.expireAfterAccessNanos >= 0) {
+			node.accessTime = now;
+		}
+		// Reorder only if not contended: approximate LRU under concurrent access
+		if (this.evictionLock.tryLock()) {
+			try {
+				if (node.linked) {
+					unlink(node);
+					link(node);
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Link the given new entry, unlink the entry that it replaced (if any),
+	 * and evict expired as well as least recently used entries as necessary.
+	 */
+	private void afterWrite(Node node, @Nullable Node replaced, boolean replacedExpired) {
+		this.evictionLock.lock();
+		try {
+			if (replaced != null) {
+				unlink(replaced);
+				if (replacedExpired) {
+					this.statistics.recordEviction();
+				}
+			}
+			// The entry may have been removed or replaced concurrently already
+			if (this.store.get(node.key) == node) {
+				link(node);
+			}
+			long now = currentTime();
+			Node eldest = this.head.next;
+			while (eldest != this.head && (this.totalWeight > this.maximumWeight || isExpired(eldest, now))) {
+				Node next = eldest.next;
+				unlink(eldest);
+				if (this.store.remove(eldest.key, eldest)) {
+					this.statistics.recordEviction();
+				}
+				eldest = next;
+			}
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	private void link(Node node) {
+		if (!node.linked) {
+			node.prev = this.head.prev;
+			node.next = this.head;
+			this.head.prev.next = node;
+			this.head.prev = node;
+			node.linked = true;
+			this.totalWeight += node.weight;
+		}
+	}
+
+	private void unlink(Node node) {
+		if (node.linked) {
+			node.prev.next = node.next;
+			node.next.prev = node.prev;
+			node.prev = null;
+			node.next = null;
+			node.linked = false;
+			this.totalWeight -= node.weight;
+		}
+	}
+
+
+	/**
+	 * Internal holder for a cache entry, also serving as element
+	 * of the recency list.
+	 */
+	private static final class Node {
+
+		final Object key;
+
+		final Object value;
+
+		final int weight;
+
+		final long writeTime;
+
+		volatile long accessTime;
+
+		// Guarded by the eviction lock
+		Node prev;
+
+		Node next;
+
+		boolean linked;
+
+		Node(Object key, Object value, int weight, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+			this.writeTime = writeTime;
+			this.accessTime = writeTime;
+		}
+	}
+
+}
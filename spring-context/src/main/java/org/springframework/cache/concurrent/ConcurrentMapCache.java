@@ -23,7 +23,9 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.cache.CacheStatistics;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleCacheStatistics;
 import org.springframework.core.serializer.support.SerializationDelegate;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -54,6 +56,9 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 
 	private final SerializationDelegate serialization;
 
+	// null unless statistics are enabled
+	private final SimpleCacheStatistics statistics;
+
 
 	/**
 	 * Create a new ConcurrentMapCache with the specified name.
@@ -73,6 +78,19 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 		this(name, new ConcurrentHashMap<>(256), allowNullValues);
 	}
 
+	/**
+	 * Create a new ConcurrentMapCache with the specified name.
+	 * @param name the name of the cache
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 * @param statisticsEnabled whether to record hit, miss, put and load
+	 * statistics for this cache (see {@link #getStatistics()})
+	 * @since 5.0
+	 */
+	public ConcurrentMapCache(String name, boolean allowNullValues, boolean statisticsEnabled) {
+		this(name, new ConcurrentHashMap<>(256), allowNullValues, null, statisticsEnabled);
+	}
+
 	/**
 	 * Create a new ConcurrentMapCache with the specified name and the
 	 * given internal {@link ConcurrentMap} to use.
@@ -101,12 +119,34 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 	protected ConcurrentMapCache(String name, ConcurrentMap<Object, Object> store,
 			boolean allowNullValues, @Nullable SerializationDelegate serialization) {
 
+		this(name, store, allowNullValues, serialization, false);
+	}
+
+	/**
+	 * Create a new ConcurrentMapCache with the specified name and the
+	 * given internal {@link ConcurrentMap} to use. If the
+	 * {@link SerializationDelegate} is specified,
+	 * {@link #isStoreByValue() store-by-value} is enabled
+	 * @param name the name of the cache
+	 * @param store the ConcurrentMap to use as an internal store
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache entry or {@code null} to store the reference
+	 * @param statisticsEnabled whether to record hit, miss, put and load
+	 * statistics for this cache (see {@link #getStatistics()})
+	 * @since 5.0
+	 */
+	protected ConcurrentMapCache(String name, ConcurrentMap<Object, Object> store,
+			boolean allowNullValues, @Nullable SerializationDelegate serialization, boolean statisticsEnabled) {
+
 		super(allowNullValues);
 		Assert.notNull(name, "Name must not be null");
 		Assert.notNull(store, "Store must not be null");
 		this.name = name;
 		this.store = store;
 		this.serialization = serialization;
+		this.statistics = (statisticsEnabled ? new SimpleCacheStatistics() : null);
 	}
 
 
@@ -132,35 +172,88 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 
 	@Override
 	protected Object lookup(Object key) {
-		return this.store.get(key);
+		Object value = this.store.get(key);
+		if (this.statistics != null) {
+			if (value != null) {
+				this.statistics.recordHit();
+			}
+			else {
+				this.statistics.recordMiss();
+			}
+		}
+		return value;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	@Nullable
 	public <T> T get(Object key, Callable<T> valueLoader) {
-		return (T) fromStoreValue(this.store.computeIfAbsent(key, r -> {
+		if (this.statistics == null) {
+			return (T) fromStoreValue(this.store.computeIfAbsent(key, r -> {
+				try {
+					return toStoreValue(valueLoader.call());
+				}
+				catch (Throwable ex) {
+					throw new ValueRetrievalException(key, valueLoader, ex);
+				}
+			}));
+		}
+
+		boolean[] loaded = new boolean[1];
+		Object storeValue = this.store.computeIfAbsent(key, r -> {
+			long startTime = System.nanoTime();
 			try {
-				return toStoreValue(valueLoader.call());
+				Object value = toStoreValue(valueLoader.call());
+				this.statistics.recordLoad(System.nanoTime() - startTime);
+				loaded[0] = true;
+				return value;
 			}
 			catch (Throwable ex) {
 				throw new ValueRetrievalException(key, valueLoader, ex);
 			}
-		}));
+		});
+		if (loaded[0]) {
+			this.statistics.recordMiss();
+			this.statistics.recordPut();
+		}
+		else {
+			this.statistics.recordHit();
+		}
+		return (T) fromStoreValue(storeValue);
 	}
 
 	@Override
 	public void put(Object key, @Nullable Object value) {
 		this.store.put(key, toStoreValue(value));
+		if (this.statistics != null) {
+			this.statistics.recordPut();
+		}
 	}
 
 	@Override
 	@Nullable
 	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
 		Object existing = this.store.putIfAbsent(key, toStoreValue(value));
+		if (existing == null && this.statistics != null) {
+			this.statistics.recordPut();
+		}
 		return toValueWrapper(existing);
 	}
 
+	/**
+	 * Return the statistics of this cache if enabled: hits, misses, puts and
+	 * loads, whereas the eviction count always remains zero since this cache
+	 * does not evict entries by itself.
+	 * @return the statistics, or {@code null} if not enabled for this cache
+	 * @since 5.0
+	 * @see #ConcurrentMapCache(String, boolean, boolean)
+	 */
+	@Override
+	@Nullable
+	public CacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	@Override
 	public void evict(Object key) {
 		this.store.remove(key);
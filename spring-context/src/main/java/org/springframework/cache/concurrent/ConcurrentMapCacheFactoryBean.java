@@ -16,6 +16,7 @@
 
 package org.springframework.cache.concurrent;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.beans.factory.BeanNameAware;
@@ -45,6 +46,8 @@ public class ConcurrentMapCacheFactoryBean
 
 	private boolean allowNullValues = true;
 
+	private boolean statisticsEnabled = false;
+
 	private ConcurrentMapCache cache;
 
 
@@ -74,6 +77,16 @@ public class ConcurrentMapCacheFactoryBean
 		this.allowNullValues = allowNullValues;
 	}
 
+	/**
+	 * Set whether to record hit, miss, put and load statistics,
+	 * as exposed through {@link ConcurrentMapCache#getStatistics()}.
+	 * <p>Default is "false".
+	 * @since 5.0
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
 	@Override
 	public void setBeanName(String beanName) {
 		if (!StringUtils.hasLength(this.name)) {
@@ -83,8 +96,9 @@ public class ConcurrentMapCacheFactoryBean
 
 	@Override
 	public void afterPropertiesSet() {
-		this.cache = (this.store != null ? new ConcurrentMapCache(this.name, this.store, this.allowNullValues) :
-				new ConcurrentMapCache(this.name, this.allowNullValues));
+		this.cache = new ConcurrentMapCache(this.name,
+				(this.store != null ? this.store : new ConcurrentHashMap<>(256)),
+				this.allowNullValues, null, this.statisticsEnabled);
 	}
 
 
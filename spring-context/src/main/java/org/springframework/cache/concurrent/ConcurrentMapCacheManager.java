@@ -16,18 +16,21 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToIntBiFunction;
 
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.serializer.support.SerializationDelegate;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * {@link CacheManager} implementation that lazily builds {@link ConcurrentMapCache}
@@ -35,9 +38,13 @@ import org.springframework.lang.Nullable;
  * the set of cache names is pre-defined through {@link #setCacheNames}, with no
  * dynamic creation of further cache regions at runtime.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
- * cache configuration options. However, it may be useful for testing or simple
- * caching scenarios. For advanced local caching needs, consider
+ * <p>Caches are unbounded by default. As of 5.0, a maximum size (or weight) and
+ * expiration policies may be specified, building {@link BoundedConcurrentMapCache}
+ * instances which evict least recently used as well as expired entries.
+ *
+ * <p>Note: This is by no means a sophisticated CacheManager. However, it may be
+ * useful for testing or simple caching scenarios. For advanced local caching needs,
+ * consider
  * {@link org.springframework.cache.jcache.JCacheCacheManager},
  * {@link org.springframework.cache.ehcache.EhCacheCacheManager},
  * {@link org.springframework.cache.caffeine.CaffeineCacheManager}.
@@ -45,6 +52,7 @@ import org.springframework.lang.Nullable;
  * @author Juergen Hoeller
  * @since 3.1
  * @see ConcurrentMapCache
+ * @see BoundedConcurrentMapCache
  */
 public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderAware {
 
@@ -58,6 +66,18 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 
 	private SerializationDelegate serialization;
 
+	private boolean statisticsEnabled = false;
+
+	private long maximumSize = -1;
+
+	private long maximumWeight = -1;
+
+	private ToIntBiFunction<Object, Object> weigher;
+
+	private Duration expireAfterWrite;
+
+	private Duration expireAfterAccess;
+
 
 	/**
 	 * Construct a dynamic ConcurrentMapCacheManager,
@@ -145,6 +165,107 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify whether the unbounded caches of this cache manager record hit,
+	 * miss, put and load statistics, as exposed through
+	 * {@link ConcurrentMapCache#getStatistics()}.
+	 * <p>Default is "false", avoiding the statistics overhead on every cache access.
+	 * Bounded caches (see {@link #setMaximumSize} etc) always record statistics.
+	 * <p>Note: A change of the statistics setting will reset all existing caches,
+	 * if any, to reconfigure them with the new statistics setting.
+	 * @since 5.0
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		if (statisticsEnabled != this.statisticsEnabled) {
+			this.statisticsEnabled = statisticsEnabled;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return whether the unbounded caches of this cache manager record statistics.
+	 * @since 5.0
+	 */
+	public boolean isStatisticsEnabled() {
+		return this.statisticsEnabled;
+	}
+
+	/**
+	 * Specify the maximum number of entries for each cache,
+	 * evicting least recently used entries beyond that limit.
+	 * <p>Default is none, i.e. unbounded caches. Mutually exclusive with
+	 * {@link #setMaximumWeight}; not supported in {@link #setStoreByValue
+	 * store-by-value} mode.
+	 * <p>Note: A change of the bounds will reset all existing caches,
+	 * if any, to reconfigure them with the new bounds.
+	 * @since 5.0
+	 * @see BoundedConcurrentMapCache
+	 */
+	public void setMaximumSize(long maximumSize) {
+		Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+		this.maximumSize = maximumSize;
+		recreateCaches();
+	}
+
+	/**
+	 * Specify the maximum total weight of the entries in each cache,
+	 * as determined by the {@link #setWeigher weigher}, evicting least
+	 * recently used entries beyond that limit.
+	 * <p>Default is none, i.e. unbounded caches. Mutually exclusive with
+	 * {@link #setMaximumSize}.
+	 * @since 5.0
+	 * @see #setWeigher
+	 */
+	public void setMaximumWeight(long maximumWeight) {
+		Assert.isTrue(maximumWeight >= 0, "Maximum weight must not be negative");
+		this.maximumWeight = maximumWeight;
+		recreateCaches();
+	}
+
+	/**
+	 * Specify the function determining the weight of each cache entry
+	 * from its key and its store value, to be applied against the
+	 * {@link #setMaximumWeight maximum weight}.
+	 * <p>Default is none, i.e. a weight of 1 per entry.
+	 * @since 5.0
+	 */
+	public void setWeigher(@Nullable ToIntBiFunction<Object, Object> weigher) {
+		this.weigher = weigher;
+		recreateCaches();
+	}
+
+	/**
+	 * Specify the time after which each cache entry expires once it has
+	 * been created or updated (time-to-live).
+	 * <p>Default is none.
+	 * @since 5.0
+	 */
+	public void setExpireAfterWrite(@Nullable Duration expireAfterWrite) {
+		this.expireAfterWrite = expireAfterWrite;
+		recreateCaches();
+	}
+
+	/**
+	 * Specify the time after which each cache entry expires once it has
+	 * last been accessed (time-to-idle).
+	 * <p>Default is none.
+	 * @since 5.0
+	 */
+	public void setExpireAfterAccess(@Nullable Duration expireAfterAccess) {
+		this.expireAfterAccess = expireAfterAccess;
+		recreateCaches();
+	}
+
+	/**
+	 * Return whether this cache manager builds bounded caches, i.e. whether
+	 * a maximum size or weight or an expiration policy has been specified.
+	 * @since 5.0
+	 */
+	public boolean isBounded() {
+		return (this.maximumSize >= 0 || this.maximumWeight >= 0 ||
+				this.expireAfterWrite != null || this.expireAfterAccess != null);
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -187,10 +308,30 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	 * @return the ConcurrentMapCache (or a decorator thereof)
 	 */
 	protected Cache createConcurrentMapCache(String name) {
+		if (isBounded()) {
+			return createBoundedConcurrentMapCache(name);
+		}
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
 		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256),
-				isAllowNullValues(), actualSerialization);
+				isAllowNullValues(), actualSerialization, isStatisticsEnabled());
+	}
 
+	/**
+	 * Create a new BoundedConcurrentMapCache instance for the specified cache name,
+	 * according to the bounds specified on this cache manager.
+	 * @param name the name of the cache
+	 * @return the BoundedConcurrentMapCache (or a decorator thereof)
+	 * @since 5.0
+	 */
+	protected Cache createBoundedConcurrentMapCache(String name) {
+		Assert.state(!isStoreByValue(), "Store-by-value is not supported for bounded caches");
+		Assert.state(this.maximumSize < 0 || this.maximumWeight < 0,
+				"Maximum size and maximum weight are mutually exclusive");
+		long maximum = (this.maximumWeight >= 0 ? this.maximumWeight :
+				(this.maximumSize >= 0 ? this.maximumSize : Long.MAX_VALUE));
+		ToIntBiFunction<Object, Object> actualWeigher = (this.maximumWeight >= 0 ? this.weigher : null);
+		return new BoundedConcurrentMapCache(name, maximum, actualWeigher,
+				this.expireAfterWrite, this.expireAfterAccess, isAllowNullValues());
 	}
 
 }
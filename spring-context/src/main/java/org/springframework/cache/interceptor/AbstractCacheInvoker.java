@@ -16,6 +16,12 @@
 
 package org.springframework.cache.interceptor;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import org.springframework.cache.Cache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -91,6 +97,89 @@ public abstract class AbstractCacheInvoker {
 		}
 	}
 
+	/**
+	 * Execute {@link Cache#retrieve(Object)} on the specified {@link Cache} and
+	 * invoke the error handler if an exception occurs, either immediately or
+	 * through the returned future. The resulting future completes with
+	 * {@code null} if the handler does not throw any exception, which
+	 * simulates a cache miss in case of error.
+	 * @since 5.0
+	 * @see Cache#retrieve(Object)
+	 */
+	protected CompletableFuture<Cache.ValueWrapper> doRetrieve(Cache cache, Object key) {
+		try {
+			return cache.retrieve(key).exceptionally(ex -> {
+				getErrorHandler().handleCacheGetError(asRuntimeException(ex), cache, key);
+				return null;
+			});
+		}
+		catch (RuntimeException ex) {
+			getErrorHandler().handleCacheGetError(ex, cache, key);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	/**
+	 * Execute {@link Cache#retrieve(Object, Supplier)} on the specified {@link Cache}
+	 * and invoke the error handler if an exception occurs, either immediately or
+	 * through the returned future. If the handler does not throw any exception,
+	 * the value loader gets invoked (unless it has been already), which simulates
+	 * a cache miss in case of error. A failure of the value loader itself is
+	 * propagated as-is, without going through the error handler.
+	 * @since 5.0
+	 * @see Cache#retrieve(Object, Supplier)
+	 */
+	protected <T> CompletableFuture<T> doRetrieve(Cache cache, Object key,
+			Supplier<CompletableFuture<T>> valueLoader) {
+
+		AtomicReference<CompletableFuture<T>> loaded = new AtomicReference<>();
+		Supplier<CompletableFuture<T>> trackingLoader = () -> {
+			CompletableFuture<T> future = valueLoader.get();
+			loaded.set(future);
+			return future;
+		};
+		try {
+			return cache.retrieve(key, trackingLoader)
+					.handle((value, ex) -> (ex != null ?
+							handleRetrieveError(ex, cache, key, valueLoader, loaded.get()) :
+							CompletableFuture.completedFuture(value)))
+					.thenCompose(Function.identity());
+		}
+		catch (RuntimeException ex) {
+			return handleRetrieveError(ex, cache, key, valueLoader, loaded.get());
+		}
+	}
+
+	private <T> CompletableFuture<T> handleRetrieveError(Throwable ex, Cache cache, Object key,
+			Supplier<CompletableFuture<T>> valueLoader, @Nullable CompletableFuture<T> loaded) {
+
+		if (loaded != null && loaded.isCompletedExceptionally()) {
+			return loaded;
+		}
+		getErrorHandler().handleCacheGetError(asRuntimeException(ex), cache, key);
+		return (loaded != null ? loaded : valueLoader.get());
+	}
+
+	/**
+	 * Execute {@link Cache#store(Object, Object)} on the specified {@link Cache}
+	 * and invoke the error handler if an exception occurs, either immediately
+	 * or through the returned future.
+	 * @since 5.0
+	 * @see Cache#store(Object, Object)
+	 */
+	protected CompletableFuture<Void> doStore(Cache cache, Object key, @Nullable Object result) {
+		try {
+			return cache.store(key, result).exceptionally(ex -> {
+				getErrorHandler().handleCachePutError(asRuntimeException(ex), cache, key, result);
+				return null;
+			});
+		}
+		catch (RuntimeException ex) {
+			getErrorHandler().handleCachePutError(ex, cache, key, result);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
 	/**
 	 * Execute {@link Cache#evict(Object)} on the specified {@link Cache} and
 	 * invoke the error handler if an exception occurs.
@@ -117,4 +206,9 @@ public abstract class AbstractCacheInvoker {
 		}
 	}
 
+	private static RuntimeException asRuntimeException(Throwable ex) {
+		Throwable cause = (ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+		return (cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause));
+	}
+
 }
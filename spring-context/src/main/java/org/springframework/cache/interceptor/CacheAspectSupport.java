@@ -24,10 +24,22 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.beans.factory.BeanFactory;
@@ -40,6 +52,8 @@ import org.springframework.beans.factory.annotation.BeanFactoryAnnotationUtils;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -65,6 +79,16 @@ import org.springframework.util.StringUtils;
  * {@link CacheOperationSource} is used for determining caching
  * operations.
  *
+ * <p>As of 5.0, methods returning a {@link CompletableFuture} (or a
+ * {@link CompletionStage}) as well as reactive types supported by the
+ * {@link ReactiveAdapterRegistry} (with Reactor on the classpath) may cache
+ * their resolved values rather than the returned handles, going through the
+ * non-blocking {@link Cache#retrieve} and {@link Cache#store} operations:
+ * see {@link #setResolveAsyncResults}. Concurrent cache misses for the same
+ * key are coalesced into a single in-flight invocation in that case. For
+ * regular (blocking) methods, the same can be activated through
+ * {@link #setCoalesceMisses}.
+ *
  * <p>A cache aspect is serializable if its {@code CacheResolver} and
  * {@code CacheOperationSource} are serializable.
  *
@@ -79,6 +103,10 @@ import org.springframework.util.StringUtils;
 public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		implements BeanFactoryAware, InitializingBean, SmartInitializingSingleton {
 
+	private static final boolean reactorPresent =
+			ClassUtils.isPresent("reactor.core.publisher.Mono", CacheAspectSupport.class.getClassLoader());
+
+
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private final Map<CacheOperationCacheKey, CacheOperationMetadata> metadataCache =
@@ -86,6 +114,17 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	private final CacheOperationExpressionEvaluator evaluator = new CacheOperationExpressionEvaluator();
 
+	private final ReactiveAdapterRegistry reactiveAdapterRegistry =
+			(reactorPresent ? new ReactiveAdapterRegistry() : null);
+
+	private final Map<Class<?>, Optional<AsyncResultAdapter>> asyncResultAdapterCache =
+			new ConcurrentHashMap<>(64);
+
+	private final ConcurrentMap<InFlightKey, InFlightInvocation> inFlightInvocations =
+			new ConcurrentHashMap<>(64);
+
+	private final LongAdder coalescedInvocationCount = new LongAdder();
+
 	private CacheOperationSource cacheOperationSource;
 
 	private KeyGenerator keyGenerator = new SimpleKeyGenerator();
@@ -94,6 +133,12 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	private BeanFactory beanFactory;
 
+	private boolean resolveAsyncResults = false;
+
+	private boolean coalesceMisses = false;
+
+	private long coalesceTimeout = 10000;
+
 	private boolean initialized = false;
 
 
@@ -163,6 +208,94 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return this.cacheResolver;
 	}
 
+	/**
+	 * Specify whether methods returning a {@link CompletableFuture}, a
+	 * {@link CompletionStage} or a reactive type (with Reactor on the classpath)
+	 * should cache their resolved values rather than the returned objects,
+	 * returning a corresponding handle for the cached value on a cache hit.
+	 * <p>Default is "false", caching the returned object as-is, like for any
+	 * other return type. Switch this to "true" for asynchronous methods whose
+	 * returned handles are not meant to be shared, e.g. a {@code Mono} that
+	 * performs a remote call on every subscription.
+	 * @since 5.0
+	 * @see Cache#retrieve
+	 * @see Cache#store
+	 */
+	public void setResolveAsyncResults(boolean resolveAsyncResults) {
+		this.resolveAsyncResults = resolveAsyncResults;
+	}
+
+	/**
+	 * Return whether methods with asynchronous results cache their resolved values.
+	 * @since 5.0
+	 */
+	public boolean isResolveAsyncResults() {
+		return this.resolveAsyncResults;
+	}
+
+	/**
+	 * Specify whether concurrent cache misses for the same key should be coalesced
+	 * into a single invocation of the underlying method, with the other callers
+	 * waiting for its result instead of invoking the method themselves.
+	 * <p>Default is "false". Applies to {@code @Cacheable} misses of regular methods
+	 * without {@code @CachePut} operations, for any number of caches and conditions,
+	 * keyed by the first cache and key that the result is going to be put into.
+	 * Methods with asynchronous results always coalesce their misses when caching
+	 * their resolved values, since the other callers do not need to block for
+	 * sharing the in-flight result.
+	 * <p>In contrast to {@code @Cacheable(sync=true)}, this does not depend on the
+	 * locking semantics of the {@link Cache#get(Object, java.util.concurrent.Callable)}
+	 * implementation but only on cache and key within this cache aspect.
+	 * @since 5.0
+	 * @see #getCoalescedInvocationCount()
+	 */
+	public void setCoalesceMisses(boolean coalesceMisses) {
+		this.coalesceMisses = coalesceMisses;
+	}
+
+	/**
+	 * Return whether concurrent cache misses for the same key are coalesced
+	 * into a single invocation of the underlying method.
+	 * @since 5.0
+	 */
+	public boolean isCoalesceMisses() {
+		return this.coalesceMisses;
+	}
+
+	/**
+	 * Specify the maximum time (in milliseconds) that a regular method call
+	 * waits for a coalesced in-flight invocation, after which it invokes the
+	 * underlying method itself.
+	 * <p>Default is 10000 ms. Does not apply to methods with asynchronous
+	 * results, which do not block while sharing an in-flight invocation.
+	 * @since 5.0
+	 * @see #setCoalesceMisses
+	 */
+	public void setCoalesceTimeout(long coalesceTimeout) {
+		Assert.isTrue(coalesceTimeout > 0, "'coalesceTimeout' must be greater than 0");
+		this.coalesceTimeout = coalesceTimeout;
+	}
+
+	/**
+	 * Return the maximum time (in milliseconds) that a regular method call
+	 * waits for a coalesced in-flight invocation.
+	 * @since 5.0
+	 */
+	public long getCoalesceTimeout() {
+		return this.coalesceTimeout;
+	}
+
+	/**
+	 * Return the number of calls that have been served by joining an in-flight
+	 * invocation for the same cache and key, rather than invoking the underlying
+	 * method themselves.
+	 * @since 5.0
+	 * @see #setCoalesceMisses
+	 */
+	public long getCoalescedInvocationCount() {
+		return this.coalescedInvocationCount.sum();
+	}
+
 	/**
 	 * Set the containing {@link BeanFactory} for {@link CacheManager} and other
 	 * service lookups.
@@ -336,6 +469,12 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	@Nullable
 	private Object execute(final CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
+		// Special handling of asynchronous results, caching their resolved values
+		AsyncResultAdapter asyncResultAdapter = contexts.getAsyncResultAdapter();
+		if (asyncResultAdapter != null) {
+			return asyncResultAdapter.adaptResult(() -> executeAsync(invoker, contexts, asyncResultAdapter));
+		}
+
 		// Special handling of synchronized invocation
 		if (contexts.isSynchronized()) {
 			CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
@@ -382,6 +521,20 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			cacheValue = cacheHit.get();
 			returnValue = wrapCacheValue(method, cacheValue);
 		}
+		else if (this.coalesceMisses && cacheHit == null && !cachePutRequests.isEmpty() && !hasCachePut(contexts)) {
+			// Cache miss: share the invocation with concurrent misses for the same key,
+			// keeping it in flight until its result has been put into the caches
+			CachePutRequest cachePutRequest = cachePutRequests.get(0);
+			List<CachePutRequest> missPutRequests = new ArrayList<>(cachePutRequests);
+			cachePutRequests.clear();
+			cacheValue = invokeCoalesced(cachePutRequest.context.getCaches().iterator().next(),
+					cachePutRequest.key, invoker, value -> {
+						for (CachePutRequest missPutRequest : missPutRequests) {
+							missPutRequest.apply(value);
+						}
+					});
+			returnValue = wrapCacheValue(method, cacheValue);
+		}
 		else {
 			// Invoke the method if we don't have a cache hit
 			returnValue = invokeOperation(invoker);
@@ -402,6 +555,220 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return returnValue;
 	}
 
+	private CompletableFuture<Object> executeAsync(
+			CacheOperationInvoker invoker, CacheOperationContexts contexts, AsyncResultAdapter asyncResultAdapter) {
+
+		if (contexts.isSynchronized()) {
+			CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
+			if (isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
+				Object key = generateKey(context, CacheOperationExpressionEvaluator.NO_RESULT);
+				Cache cache = context.getCaches().iterator().next();
+				return invokeCoalesced(cache, key,
+						() -> doRetrieve(cache, key, () -> invokeAsync(invoker, asyncResultAdapter)));
+			}
+			else {
+				// No caching required, only call the underlying method
+				return invokeAsync(invoker, asyncResultAdapter);
+			}
+		}
+
+		// Process any early evictions
+		processCacheEvicts(contexts.get(CacheEvictOperation.class), true,
+				CacheOperationExpressionEvaluator.NO_RESULT);
+
+		// Check if we have a cached item matching the conditions
+		return findCachedItemAsync(contexts.get(CacheableOperation.class)).thenCompose(cacheHit -> {
+			// Collect puts from any @Cacheable miss, if no cached item is found
+			List<CachePutRequest> cachePutRequests = new LinkedList<>();
+			if (cacheHit == null) {
+				collectPutRequests(contexts.get(CacheableOperation.class),
+						CacheOperationExpressionEvaluator.NO_RESULT, cachePutRequests);
+			}
+
+			CompletableFuture<Object> cacheValue;
+			boolean hasCachePut = hasCachePut(contexts);
+			if (cacheHit != null && cachePutRequests.isEmpty() && !hasCachePut) {
+				// If there are no put requests, just use the cache hit
+				cacheValue = CompletableFuture.completedFuture(cacheHit.get());
+			}
+			else if (cacheHit == null && !cachePutRequests.isEmpty() && !hasCachePut) {
+				// Cache miss: share the invocation with concurrent misses for the same key,
+				// keeping it in flight until its result has been stored in the caches
+				CachePutRequest cachePutRequest = cachePutRequests.get(0);
+				List<CachePutRequest> missPutRequests = new ArrayList<>(cachePutRequests);
+				cachePutRequests.clear();
+				cacheValue = invokeCoalesced(cachePutRequest.context.getCaches().iterator().next(),
+						cachePutRequest.key, () -> invokeAsync(invoker, asyncResultAdapter).thenCompose(value -> {
+							List<CompletableFuture<Void>> stores = new ArrayList<>(missPutRequests.size());
+							for (CachePutRequest missPutRequest : missPutRequests) {
+								stores.addAll(missPutRequest.applyAsync(value));
+							}
+							return CompletableFuture.allOf(stores.toArray(new CompletableFuture<?>[stores.size()]))
+									.thenApply(stored -> value);
+						}));
+			}
+			else {
+				cacheValue = invokeAsync(invoker, asyncResultAdapter);
+			}
+
+			return cacheValue.thenCompose(value -> {
+				// Collect any explicit @CachePuts
+				collectPutRequests(contexts.get(CachePutOperation.class), value, cachePutRequests);
+
+				// Process any collected put requests, either from @CachePut or a @Cacheable miss
+				List<CompletableFuture<Void>> stores = new ArrayList<>(cachePutRequests.size());
+				for (CachePutRequest cachePutRequest : cachePutRequests) {
+					stores.addAll(cachePutRequest.applyAsync(value));
+				}
+
+				return CompletableFuture.allOf(stores.toArray(new CompletableFuture<?>[stores.size()]))
+						.thenApply(stored -> {
+							// Process any late evictions
+							processCacheEvicts(contexts.get(CacheEvictOperation.class), false, value);
+							return value;
+						});
+			});
+		});
+	}
+
+	/**
+	 * Invoke the underlying method, adapting its asynchronous result.
+	 * An exception thrown by the method results in a failed future.
+	 */
+	private CompletableFuture<Object> invokeAsync(CacheOperationInvoker invoker, AsyncResultAdapter asyncResultAdapter) {
+		try {
+			return asyncResultAdapter.toFuture(invokeOperation(invoker));
+		}
+		catch (CacheOperationInvoker.ThrowableWrapper ex) {
+			CompletableFuture<Object> failed = new CompletableFuture<>();
+			failed.completeExceptionally(ex.getOriginal());
+			return failed;
+		}
+	}
+
+	/**
+	 * Invoke the underlying method, put its unwrapped result through the given
+	 * callback and return it, unless an invocation for the same cache and key
+	 * is in flight already, in which case the current thread waits for its
+	 * result (or its exception) - up to the configured coalesce timeout.
+	 * An invocation stays in flight until its result has been put.
+	 */
+	@Nullable
+	private Object invokeCoalesced(Cache cache, Object key, CacheOperationInvoker invoker,
+			Consumer<Object> resultCallback) {
+
+		InFlightKey inFlightKey = new InFlightKey(cache, key);
+		InFlightInvocation promise = new InFlightInvocation();
+		InFlightInvocation inFlight = this.inFlightInvocations.putIfAbsent(inFlightKey, promise);
+		if (inFlight != null) {
+			if (inFlight.leader == Thread.currentThread()) {
+				// Re-entrant call for the same key: do not wait for ourselves
+				return invokeAndPut(invoker, resultCallback);
+			}
+			joiningInFlight(cache, key);
+			try {
+				return inFlight.get(this.coalesceTimeout, TimeUnit.MILLISECONDS);
+			}
+			catch (ExecutionException ex) {
+				Throwable cause = (ex.getCause() != null ? ex.getCause() : ex);
+				throw (cause instanceof CacheOperationInvoker.ThrowableWrapper ?
+						(CacheOperationInvoker.ThrowableWrapper) cause :
+						new CacheOperationInvoker.ThrowableWrapper(cause));
+			}
+			catch (TimeoutException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Timed out waiting for in-flight invocation for key '" + key +
+							"' in cache '" + cache.getName() + "' - invoking method directly");
+				}
+				return invokeAndPut(invoker, resultCallback);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return invokeAndPut(invoker, resultCallback);
+			}
+		}
+		try {
+			Object value = invokeAndPut(invoker, resultCallback);
+			promise.complete(value);
+			return value;
+		}
+		catch (RuntimeException | Error ex) {
+			promise.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightInvocations.remove(inFlightKey, promise);
+		}
+	}
+
+	@Nullable
+	private Object invokeAndPut(CacheOperationInvoker invoker, Consumer<Object> resultCallback) {
+		Object value = unwrapReturnValue(invokeOperation(invoker));
+		resultCallback.accept(value);
+		return value;
+	}
+
+	/**
+	 * Obtain the future from the given supplier, unless an invocation for the
+	 * same cache and key is in flight already, in which case its future is shared.
+	 */
+	private CompletableFuture<Object> invokeCoalesced(
+			Cache cache, Object key, Supplier<CompletableFuture<Object>> invocation) {
+
+		InFlightKey inFlightKey = new InFlightKey(cache, key);
+		InFlightInvocation promise = new InFlightInvocation();
+		InFlightInvocation inFlight = this.inFlightInvocations.putIfAbsent(inFlightKey, promise);
+		if (inFlight != null) {
+			joiningInFlight(cache, key);
+			return inFlight;
+		}
+		try {
+			invocation.get().whenComplete((value, ex) -> {
+				if (ex != null) {
+					promise.completeExceptionally(ex);
+				}
+				else {
+					promise.complete(value);
+				}
+				this.inFlightInvocations.remove(inFlightKey, promise);
+			});
+		}
+		catch (Throwable ex) {
+			promise.completeExceptionally(ex);
+			this.inFlightInvocations.remove(inFlightKey, promise);
+		}
+		return promise;
+	}
+
+	private void joiningInFlight(Cache cache, Object key) {
+		this.coalescedInvocationCount.increment();
+		if (logger.isTraceEnabled()) {
+			logger.trace("Joining in-flight invocation for key '" + key + "' in cache '" + cache.getName() + "'");
+		}
+	}
+
+	@Nullable
+	private AsyncResultAdapter getAsyncResultAdapter(Method method) {
+		if (!this.resolveAsyncResults) {
+			return null;
+		}
+		Class<?> returnType = method.getReturnType();
+		if (returnType == CompletableFuture.class || returnType == CompletionStage.class) {
+			return CompletableFutureResultAdapter.INSTANCE;
+		}
+		if (this.reactiveAdapterRegistry == null || returnType.isPrimitive() || returnType == Object.class) {
+			return null;
+		}
+		Optional<AsyncResultAdapter> adapter = this.asyncResultAdapterCache.get(returnType);
+		if (adapter == null) {
+			ReactiveAdapter reactiveAdapter = this.reactiveAdapterRegistry.getAdapter(returnType);
+			adapter = Optional.ofNullable(reactiveAdapter != null && !reactiveAdapter.isNoValue() ?
+					new ReactiveResultAdapter(reactiveAdapter) : null);
+			this.asyncResultAdapterCache.put(returnType, adapter);
+		}
+		return adapter.orElse(null);
+	}
+
 	@Nullable
 	private Object wrapCacheValue(Method method, @Nullable Object cacheValue) {
 		if (method.getReturnType() == Optional.class &&
@@ -497,6 +864,28 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return null;
 	}
 
+	/**
+	 * Find a cached item only for {@link CacheableOperation} that passes the condition,
+	 * going through {@link Cache#retrieve(Object)}.
+	 * @param contexts the cacheable operations
+	 * @return a future for the {@link Cache.ValueWrapper} holding the cached item,
+	 * completing with {@code null} if none is found
+	 */
+	private CompletableFuture<Cache.ValueWrapper> findCachedItemAsync(Collection<CacheOperationContext> contexts) {
+		Object result = CacheOperationExpressionEvaluator.NO_RESULT;
+		CompletableFuture<Cache.ValueWrapper> cached = CompletableFuture.completedFuture(null);
+		for (CacheOperationContext context : contexts) {
+			if (isConditionPassing(context, result)) {
+				Object key = generateKey(context, result);
+				for (Cache cache : context.getCaches()) {
+					cached = cached.thenCompose(wrapper -> (wrapper != null ?
+							CompletableFuture.completedFuture(wrapper) : doRetrieve(cache, key)));
+				}
+			}
+		}
+		return cached;
+	}
+
 	/**
 	 * Collect the {@link CachePutRequest} for all {@link CacheOperation} using
 	 * the specified result item.
@@ -558,6 +947,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final boolean sync;
 
+		private final AsyncResultAdapter asyncResultAdapter;
+
 		public CacheOperationContexts(Collection<? extends CacheOperation> operations, Method method,
 				Object[] args, Object target, Class<?> targetClass) {
 
@@ -565,6 +956,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				this.contexts.add(operation.getClass(), getOperationContext(operation, method, args, target, targetClass));
 			}
 			this.sync = determineSyncFlag(method);
+			this.asyncResultAdapter = CacheAspectSupport.this.getAsyncResultAdapter(method);
 		}
 
 		public Collection<CacheOperationContext> get(Class<? extends CacheOperation> operationClass) {
@@ -576,6 +968,11 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.sync;
 		}
 
+		@Nullable
+		public AsyncResultAdapter getAsyncResultAdapter() {
+			return this.asyncResultAdapter;
+		}
+
 		private boolean determineSyncFlag(Method method) {
 			List<CacheOperationContext> cacheOperationContexts = this.contexts.get(CacheableOperation.class);
 			if (cacheOperationContexts == null) {  // no @Cacheable operation at all
@@ -769,6 +1166,134 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 			}
 		}
+
+		public List<CompletableFuture<Void>> applyAsync(@Nullable Object result) {
+			List<CompletableFuture<Void>> stores = new ArrayList<>(this.context.getCaches().size());
+			if (this.context.canPutToCache(result)) {
+				for (Cache cache : this.context.getCaches()) {
+					stores.add(doStore(cache, this.key, result));
+				}
+			}
+			return stores;
+		}
+	}
+
+
+	/**
+	 * Key for an in-flight invocation: the target cache and the cache key.
+	 */
+	private static final class InFlightKey {
+
+		private final Cache cache;
+
+		private final Object key;
+
+		public InFlightKey(Cache cache, Object key) {
+			this.cache = cache;
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof InFlightKey)) {
+				return false;
+			}
+			InFlightKey otherKey = (InFlightKey) other;
+			return (this.cache == otherKey.cache && this.key.equals(otherKey.key));
+		}
+
+		@Override
+		public int hashCode() {
+			return (System.identityHashCode(this.cache) * 31 + this.key.hashCode());
+		}
+	}
+
+
+	/**
+	 * Result of an in-flight invocation, shared with concurrent callers.
+	 * Completes with the unwrapped (resolved) cache value.
+	 */
+	private static final class InFlightInvocation extends CompletableFuture<Object> {
+
+		private final Thread leader = Thread.currentThread();
+	}
+
+
+	/**
+	 * Strategy for adapting the asynchronous result of a cached method
+	 * from and to a {@link CompletableFuture} for its resolved value.
+	 */
+	private interface AsyncResultAdapter {
+
+		/**
+		 * Adapt the given method return value to a future for its resolved value.
+		 */
+		CompletableFuture<Object> toFuture(@Nullable Object returnValue);
+
+		/**
+		 * Adapt the future obtained from the given supplier to the return type of
+		 * the method, possibly deferring the supplier call until subscription.
+		 */
+		Object adaptResult(Supplier<CompletableFuture<Object>> resultSupplier);
+	}
+
+
+	/**
+	 * Adapter for methods returning a {@link CompletableFuture} or {@link CompletionStage}.
+	 */
+	private static class CompletableFutureResultAdapter implements AsyncResultAdapter {
+
+		public static final CompletableFutureResultAdapter INSTANCE = new CompletableFutureResultAdapter();
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public CompletableFuture<Object> toFuture(@Nullable Object returnValue) {
+			return (returnValue != null ? ((CompletionStage<Object>) returnValue).toCompletableFuture() :
+					CompletableFuture.completedFuture(null));
+		}
+
+		@Override
+		public Object adaptResult(Supplier<CompletableFuture<Object>> resultSupplier) {
+			return resultSupplier.get();
+		}
+	}
+
+
+	/**
+	 * Adapter for methods returning a reactive type, caching single values as-is
+	 * and multiple values as a {@link List}. The caching logic only runs once the
+	 * returned publisher is subscribed to.
+	 */
+	private static class ReactiveResultAdapter implements AsyncResultAdapter {
+
+		private final ReactiveAdapter adapter;
+
+		public ReactiveResultAdapter(ReactiveAdapter adapter) {
+			this.adapter = adapter;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public CompletableFuture<Object> toFuture(@Nullable Object returnValue) {
+			Publisher<Object> publisher = this.adapter.toPublisher(returnValue);
+			if (this.adapter.isMultiValue()) {
+				return (CompletableFuture<Object>) (CompletableFuture<?>) Flux.from(publisher).collectList().toFuture();
+			}
+			return Mono.from(publisher).toFuture();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object adaptResult(Supplier<CompletableFuture<Object>> resultSupplier) {
+			Mono<Object> result = Mono.defer(() -> Mono.fromFuture(resultSupplier.get()));
+			if (this.adapter.isMultiValue()) {
+				return this.adapter.fromPublisher(result.flatMapIterable(list -> (Iterable<Object>) list));
+			}
+			return this.adapter.fromPublisher(result);
+		}
 	}
 
 
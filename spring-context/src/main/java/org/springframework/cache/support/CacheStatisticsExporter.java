@@ -0,0 +1,186 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.util.Hashtable;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.CacheStatistics;
+import org.springframework.jmx.export.MBeanExportException;
+import org.springframework.jmx.export.MBeanExportOperations;
+import org.springframework.jmx.support.ObjectNameManager;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Exports the {@link CacheStatistics} of all caches of a given {@link CacheManager}
+ * to JMX, through a given {@link MBeanExportOperations} (typically an
+ * {@link org.springframework.jmx.export.MBeanExporter}).
+ *
+ * <p>Each cache that exposes statistics is registered as a read-only MBean under
+ * an {@link ObjectName} of the form
+ * {@code <domain>:type=CacheStatistics,cacheManager=<cacheManagerName>,name=<cacheName>},
+ * with the {@code cacheManager} key only present if a cache manager name has been
+ * specified. The attribute values are retrieved from the cache on every access.
+ *
+ * <p>Note that only caches known to the cache manager at initialization time are
+ * exported; caches created lazily afterwards are not picked up.
+ *
+ * @since 5.0
+ * @see Cache#getStatistics()
+ * @see org.springframework.jmx.export.MBeanExporter
+ */
+public class CacheStatisticsExporter implements InitializingBean {
+
+	/**
+	 * The default JMX domain for exported cache statistics.
+	 */
+	public static final String DEFAULT_DOMAIN = "org.springframework.cache";
+
+
+	private CacheManager cacheManager;
+
+	private MBeanExportOperations mbeanExporter;
+
+	private String domain = DEFAULT_DOMAIN;
+
+	private String cacheManagerName;
+
+
+	/**
+	 * Set the {@link CacheManager} whose caches should be exported.
+	 */
+	public void setCacheManager(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * Set the {@link MBeanExportOperations} to register the statistics MBeans with,
+	 * typically an {@link org.springframework.jmx.export.MBeanExporter}.
+	 */
+	public void setMBeanExporter(MBeanExportOperations mbeanExporter) {
+		this.mbeanExporter = mbeanExporter;
+	}
+
+	/**
+	 * Set the JMX domain to register the statistics MBeans in.
+	 * <p>Default is "org.springframework.cache".
+	 */
+	public void setDomain(String domain) {
+		Assert.hasText(domain, "Domain must not be empty");
+		this.domain = domain;
+	}
+
+	/**
+	 * Specify a name for the cache manager, to be included as {@code cacheManager}
+	 * key in the exported {@link ObjectName ObjectNames}. This is necessary for
+	 * distinguishing same-named caches of several cache managers.
+	 */
+	public void setCacheManagerName(@Nullable String cacheManagerName) {
+		this.cacheManagerName = cacheManagerName;
+	}
+
+
+	@Override
+	public void afterPropertiesSet() {
+		Assert.notNull(this.cacheManager, "Property 'cacheManager' is required");
+		Assert.notNull(this.mbeanExporter, "Property 'mbeanExporter' is required");
+		for (String cacheName : this.cacheManager.getCacheNames()) {
+			Cache cache = this.cacheManager.getCache(cacheName);
+			if (cache != null && cache.getStatistics() != null) {
+				this.mbeanExporter.registerManagedResource(new CacheStatisticsView(cache), getObjectName(cacheName));
+			}
+		}
+	}
+
+	/**
+	 * Build the {@link ObjectName} for the statistics MBean of the given cache.
+	 * @param cacheName the name of the cache
+	 * @return the corresponding {@code ObjectName}
+	 */
+	protected ObjectName getObjectName(String cacheName) {
+		Hashtable<String, String> properties = new Hashtable<>();
+		properties.put("type", "CacheStatistics");
+		if (this.cacheManagerName != null) {
+			properties.put("cacheManager", ObjectName.quote(this.cacheManagerName));
+		}
+		properties.put("name", ObjectName.quote(cacheName));
+		try {
+			return ObjectNameManager.getInstance(this.domain, properties);
+		}
+		catch (MalformedObjectNameException ex) {
+			throw new MBeanExportException("Invalid ObjectName for statistics of cache '" + cacheName + "'", ex);
+		}
+	}
+
+
+	/**
+	 * Management view on the current {@link CacheStatistics} of a given cache.
+	 */
+	public static class CacheStatisticsView {
+
+		private final Cache cache;
+
+		public CacheStatisticsView(Cache cache) {
+			this.cache = cache;
+		}
+
+		public String getCacheName() {
+			return this.cache.getName();
+		}
+
+		public long getHitCount() {
+			CacheStatistics statistics = this.cache.getStatistics();
+			return (statistics != null ? statistics.getHitCount() : -1);
+		}
+
+		public long getMissCount() {
+			CacheStatistics statistics = this.cache.getStatistics();
+			return (statistics != null ? statistics.getMissCount() : -1);
+		}
+
+		public long getPutCount() {
+			CacheStatistics statistics = this.cache.getStatistics();
+			return (statistics != null ? statistics.getPutCount() : -1);
+		}
+
+		public long getEvictionCount() {
+			CacheStatistics statistics = this.cache.getStatistics();
+			return (statistics != null ? statistics.getEvictionCount() : -1);
+		}
+
+		public long getLoadCount() {
+			CacheStatistics statistics = this.cache.getStatistics();
+			return (statistics != null ? statistics.getLoadCount() : -1);
+		}
+
+		public long getTotalLoadTime() {
+			CacheStatistics statistics = this.cache.getStatistics();
+			return (statistics != null ? statistics.getTotalLoadTime() : -1);
+		}
+
+		public double getHitRatio() {
+			CacheStatistics statistics = this.cache.getStatistics();
+			return (statistics != null ? statistics.getHitRatio() : -1);
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.CacheStatistics;
+
+/**
+ * Simple {@link CacheStatistics} implementation based on {@link LongAdder}
+ * counters, for {@link org.springframework.cache.Cache} implementations which
+ * record their statistics themselves. Instances are live views of the counters.
+ *
+ * @since 5.0
+ */
+public class SimpleCacheStatistics implements CacheStatistics {
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder putCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private final LongAdder loadCount = new LongAdder();
+
+	private final LongAdder totalLoadTime = new LongAdder();
+
+
+	/**
+	 * Record a lookup that found a cached value.
+	 */
+	public void recordHit() {
+		this.hitCount.increment();
+	}
+
+	/**
+	 * Record a lookup that did not find a cached value.
+	 */
+	public void recordMiss() {
+		this.missCount.increment();
+	}
+
+	/**
+	 * Record a value put into the cache.
+	 */
+	public void recordPut() {
+		this.putCount.increment();
+	}
+
+	/**
+	 * Record an entry removed by the cache itself.
+	 */
+	public void recordEviction() {
+		this.evictionCount.increment();
+	}
+
+	/**
+	 * Record a value loaded on a cache miss.
+	 * @param loadTime the time spent loading the value, in nanoseconds
+	 */
+	public void recordLoad(long loadTime) {
+		this.loadCount.increment();
+		this.totalLoadTime.add(loadTime);
+	}
+
+	/**
+	 * Reset all counters to zero.
+	 */
+	public void reset() {
+		this.hitCount.reset();
+		this.missCount.reset();
+		this.putCount.reset();
+		this.evictionCount.reset();
+		this.loadCount.reset();
+		this.totalLoadTime.reset();
+	}
+
+
+	@Override
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	@Override
+	public long getPutCount() {
+		return this.putCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	@Override
+	public long getLoadCount() {
+		return this.loadCount.sum();
+	}
+
+	@Override
+	public long getTotalLoadTime() {
+		return this.totalLoadTime.sum();
+	}
+
+
+	@Override
+	public String toString() {
+		return "CacheStatistics: hits=" + getHitCount() + ", misses=" + getMissCount() + ", puts=" + getPutCount() +
+				", evictions=" + getEvictionCount() + ", loads=" + getLoadCount() + ", totalLoadTime=" + getTotalLoadTime();
+	}
+
+}
@@ -17,7 +17,9 @@
 package org.springframework.context.index;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -48,9 +50,16 @@ public class CandidateComponentsIndex {
 
 	private final MultiValueMap<String, String> index;
 
+	private final Map<String, String> classMetadata;
+
 
 	CandidateComponentsIndex(List<Properties> content) {
+		this(content, Collections.emptyList());
+	}
+
+	CandidateComponentsIndex(List<Properties> content, List<Properties> classMetadataContent) {
 		this.index = parseIndex(content);
+		this.classMetadata = parseClassMetadata(classMetadataContent);
 	}
 
 
@@ -71,6 +80,17 @@ public class CandidateComponentsIndex {
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the class metadata records that have been computed at build time
+	 * for the candidate types, keyed by fully qualified class name.
+	 * @return the class metadata records (never {@code null}, potentially empty
+	 * if the index has been built by a previous version of the indexer)
+	 * @see org.springframework.core.type.classreading.IndexedMetadataReaderFactory
+	 */
+	public Map<String, String> getClassMetadata() {
+		return this.classMetadata;
+	}
+
 	private static MultiValueMap<String, String> parseIndex(List<Properties> content) {
 		MultiValueMap<String, String> index = new LinkedMultiValueMap<>();
 		for (Properties entry : content) {
@@ -84,4 +104,15 @@ public class CandidateComponentsIndex {
 		return index;
 	}
 
+	private static Map<String, String> parseClassMetadata(List<Properties> content) {
+		if (content.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> classMetadata = new HashMap<>();
+		for (Properties entry : content) {
+			entry.forEach((type, record) -> classMetadata.put((String) type, (String) record));
+		}
+		return Collections.unmodifiableMap(classMetadata);
+	}
+
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.cache.Cache;
+
+import static org.junit.Assert.*;
+
+/**
+ */
+public class BoundedConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<BoundedConcurrentMapCache> {
+
+	private BoundedConcurrentMapCache cache;
+
+	private BoundedConcurrentMapCache cacheNoNull;
+
+
+	@Before
+	public void setUp() throws Exception {
+		this.cache = new BoundedConcurrentMapCache(CACHE_NAME, 1000);
+		this.cacheNoNull = new BoundedConcurrentMapCache(CACHE_NAME_NO_NULL, 1000, null, null, null, false);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected BoundedConcurrentMapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache.getNativeCache();
+	}
+
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 3);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		assertEquals(1, cache.get("a").get());
+		cache.put("d", 4);
+
+		assertEquals(3, cache.getSize());
+		assertNull(cache.get("b"));
+		assertEquals(1, cache.get("a").get());
+		assertEquals(3, cache.get("c").get());
+		assertEquals(4, cache.get("d").get());
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(4, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void evictByWeight() {
+		BoundedConcurrentMapCache cache = new BoundedConcurrentMapCache(CACHE_NAME, 10,
+				(key, value) -> ((String) value).length(), null, null, true);
+		cache.put("a", "12345");
+		cache.put("b", "1234");
+		assertEquals(9, cache.getWeight());
+		cache.put("c", "123");
+
+		assertNull(cache.get("a"));
+		assertEquals(7, cache.getWeight());
+		cache.put("b", "1");
+		assertEquals(4, cache.getWeight());
+		assertEquals(2, cache.getSize());
+		cache.evict("c");
+		assertEquals(1, cache.getWeight());
+		cache.clear();
+		assertEquals(0, cache.getWeight());
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void expireAfterWrite() {
+		TestBoundedConcurrentMapCache cache =
+				new TestBoundedConcurrentMapCache(Duration.ofSeconds(10), null);
+		cache.put("a", 1);
+		cache.time += Duration.ofSeconds(5).toNanos();
+		assertEquals(1, cache.get("a").get());
+		cache.put("b", 2);
+		cache.time += Duration.ofSeconds(5).toNanos();
+
+		assertNull(cache.get("a"));
+		assertEquals(2, cache.get("b").get());
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(2, cache.get("a", () -> 2).intValue());
+		assertEquals(2, cache.get("a").get());
+	}
+
+	@Test
+	public void expireAfterAccess() {
+		TestBoundedConcurrentMapCache cache =
+				new TestBoundedConcurrentMapCache(null, Duration.ofSeconds(10));
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.time += Duration.ofSeconds(8).toNanos();
+		assertEquals(1, cache.get("a").get());
+		cache.time += Duration.ofSeconds(8).toNanos();
+
+		assertEquals(1, cache.get("a").get());
+		assertEquals(2, cache.getSize());
+		cache.put("c", 3);
+		assertEquals(2, cache.getSize());
+		assertEquals(1, cache.getEvictionCount());
+		assertNull(cache.putIfAbsent("b", 4));
+		assertEquals(4, cache.get("b").get());
+	}
+
+	@Test
+	public void expiredEntryReplacedByPutIfAbsent() {
+		TestBoundedConcurrentMapCache cache =
+				new TestBoundedConcurrentMapCache(Duration.ofSeconds(10), null);
+		cache.put("a", 1);
+		assertEquals(1, cache.putIfAbsent("a", 2).get());
+		cache.time += Duration.ofSeconds(10).toNanos();
+
+		assertNull(cache.putIfAbsent("a", 3));
+		assertEquals(3, cache.get("a").get());
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(1, cache.getSize());
+	}
+
+	@Test
+	public void managerWithBounds() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		assertFalse(cm.isBounded());
+		assertTrue(cm.getCache("c1") instanceof ConcurrentMapCache);
+
+		cm.setMaximumSize(2);
+		cm.setExpireAfterAccess(Duration.ofMinutes(10));
+		assertTrue(cm.isBounded());
+		Cache cache = cm.getCache("c1");
+		assertTrue(cache instanceof BoundedConcurrentMapCache);
+		assertEquals(2, ((BoundedConcurrentMapCache) cache).getMaximumWeight());
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		assertNull(cache.get("a"));
+		assertEquals(2, ((BoundedConcurrentMapCache) cache).getSize());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void managerWithBoundsAndStoreByValue() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		cm.setStoreByValue(true);
+		cm.setMaximumSize(2);
+	}
+
+
+	private static class TestBoundedConcurrentMapCache extends BoundedConcurrentMapCache {
+
+		long time = 0;
+
+		TestBoundedConcurrentMapCache(Duration expireAfterWrite, Duration expireAfterAccess) {
+			super(CACHE_NAME, 100, null, expireAfterWrite, expireAfterAccess, true);
+		}
+
+		@Override
+		protected long currentTime() {
+			return this.time;
+		}
+	}
+
+}
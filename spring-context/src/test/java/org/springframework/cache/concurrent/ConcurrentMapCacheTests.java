@@ -26,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.cache.CacheStatistics;
 import org.springframework.core.serializer.support.SerializationDelegate;
 
 import static org.junit.Assert.*;
@@ -115,6 +116,34 @@ public class ConcurrentMapCacheTests
 		serializeCache.get(key);
 	}
 
+	@Test
+	public void testStatisticsDisabledByDefault() {
+		assertNull(this.cache.getStatistics());
+	}
+
+	@Test
+	public void testStatistics() {
+		ConcurrentMapCache cache = new ConcurrentMapCache(CACHE_NAME, true, true);
+		CacheStatistics statistics = cache.getStatistics();
+		assertEquals(1.0, statistics.getHitRatio(), 0.0);
+
+		cache.put("a", 1);
+		assertEquals(1, cache.get("a").get());
+		assertNull(cache.get("b"));
+		assertEquals(2, cache.get("c", () -> 2).intValue());
+		assertEquals(2, cache.get("c", () -> 3).intValue());
+		assertNull(cache.putIfAbsent("d", 4));
+		assertNotNull(cache.putIfAbsent("d", 5));
+
+		assertEquals(2, statistics.getHitCount());
+		assertEquals(2, statistics.getMissCount());
+		assertEquals(3, statistics.getPutCount());
+		assertEquals(1, statistics.getLoadCount());
+		assertTrue(statistics.getTotalLoadTime() >= 0);
+		assertEquals(0, statistics.getEvictionCount());
+		assertEquals(0.5, statistics.getHitRatio(), 0.0);
+	}
+
 
 	private ConcurrentMapCache createCacheWithStoreByValue() {
 		return new ConcurrentMapCache(CACHE_NAME, this.nativeCache, true,
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for caching the resolved values of {@link CompletableFuture} and
+ * reactive method results.
+ */
+public class CacheAsyncResultTests {
+
+	private ConfigurableApplicationContext context;
+
+	private AsyncService service;
+
+	private Cache cache;
+
+
+	@Before
+	public void setUp() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.service = this.context.getBean(AsyncService.class);
+		this.cache = this.context.getBean(CacheManager.class).getCache("testCache");
+	}
+
+	@After
+	public void closeContext() {
+		this.context.close();
+	}
+
+
+	@Test
+	public void completableFuture() throws Exception {
+		assertEquals("1", this.service.future("a").get());
+		assertEquals("1", this.service.future("a").get());
+		assertEquals("2", this.service.future("b").get());
+		assertEquals(2, this.service.getCount());
+		assertEquals("1", this.cache.get("a").get());
+	}
+
+	@Test
+	public void completableFutureWithConcurrentMiss() throws Exception {
+		CompletableFuture<String> first = this.service.pending("a");
+		CompletableFuture<String> second = this.service.pending("a");
+		assertFalse(first.isDone());
+		assertEquals(1, this.service.getCount());
+
+		this.service.completePending("value");
+		assertEquals("value", first.get());
+		assertEquals("value", second.get());
+		assertEquals("value", this.service.pending("a").get());
+		assertEquals(1, this.service.getCount());
+	}
+
+	@Test
+	public void completableFutureWithFailure() throws Exception {
+		try {
+			this.service.failing("a").get();
+			fail("Should have thrown ExecutionException");
+		}
+		catch (ExecutionException ex) {
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+		assertNull(this.cache.get("a"));
+		assertEquals("2", this.service.failing("a").get());
+	}
+
+	@Test
+	public void completableFutureWithSync() throws Exception {
+		assertEquals("1", this.service.futureSync("a").get());
+		assertEquals("1", this.service.futureSync("a").get());
+		assertEquals(1, this.service.getCount());
+		assertEquals("1", this.cache.get("a").get());
+	}
+
+	@Test
+	public void completableFutureWithEviction() throws Exception {
+		assertEquals("1", this.service.future("a").get());
+		this.service.evict("a").get();
+		assertNull(this.cache.get("a"));
+		assertEquals("2", this.service.future("a").get());
+	}
+
+	@Test
+	public void mono() {
+		Mono<String> mono = this.service.mono("a");
+		assertEquals(0, this.service.getCount());
+		assertEquals("1", mono.block());
+		assertEquals("1", this.service.mono("a").block());
+		assertEquals(1, this.service.getCount());
+		assertEquals("1", this.cache.get("a").get());
+	}
+
+	@Test
+	public void flux() {
+		assertEquals(Arrays.asList("a1", "a2"), this.service.flux("a").collectList().block());
+		assertEquals(Arrays.asList("a1", "a2"), this.service.flux("a").collectList().block());
+		assertEquals(1, this.service.getCount());
+		assertEquals(Arrays.asList("a1", "a2"), this.cache.get("a").get());
+	}
+
+
+	@Test
+	public void returnedObjectCachedByDefault() throws Exception {
+		ConfigurableApplicationContext context = new AnnotationConfigApplicationContext(DefaultConfig.class);
+		try {
+			AsyncService service = context.getBean(AsyncService.class);
+			CompletableFuture<String> future = service.future("a");
+			assertSame(future, service.future("a"));
+			assertSame(future, context.getBean(CacheManager.class).getCache("testCache").get("a").get());
+			assertEquals(1, service.getCount());
+		}
+		finally {
+			context.close();
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching(resolveAsyncResults = true)
+	static class Config {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("testCache");
+		}
+
+		@Bean
+		public AsyncService asyncService() {
+			return new AsyncService();
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class DefaultConfig {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager("testCache");
+		}
+
+		@Bean
+		public AsyncService asyncService() {
+			return new AsyncService();
+		}
+	}
+
+
+	static class AsyncService {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private final CompletableFuture<String> pendingResult = new CompletableFuture<>();
+
+		public int getCount() {
+			return this.counter.get();
+		}
+
+		public void completePending(String value) {
+			this.pendingResult.complete(value);
+		}
+
+		@Cacheable("testCache")
+		public CompletableFuture<String> future(String key) {
+			return CompletableFuture.completedFuture(String.valueOf(this.counter.incrementAndGet()));
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public CompletableFuture<String> futureSync(String key) {
+			return CompletableFuture.completedFuture(String.valueOf(this.counter.incrementAndGet()));
+		}
+
+		@Cacheable("testCache")
+		public CompletableFuture<String> pending(String key) {
+			this.counter.incrementAndGet();
+			return this.pendingResult;
+		}
+
+		@Cacheable("testCache")
+		public CompletableFuture<String> failing(String key) {
+			CompletableFuture<String> result = new CompletableFuture<>();
+			if (this.counter.incrementAndGet() == 1) {
+				result.completeExceptionally(new IllegalStateException("failed"));
+			}
+			else {
+				result.complete(String.valueOf(this.counter.get()));
+			}
+			return result;
+		}
+
+		@CacheEvict("testCache")
+		public CompletableFuture<Void> evict(String key) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Cacheable("testCache")
+		public Mono<String> mono(String key) {
+			return Mono.fromSupplier(() -> String.valueOf(this.counter.incrementAndGet()));
+		}
+
+		@Cacheable("testCache")
+		public Flux<String> flux(String key) {
+			List<String> values = Arrays.asList(key + "1", key + "2");
+			return Flux.defer(() -> {
+				this.counter.incrementAndGet();
+				return Flux.fromIterable(values);
+			});
+		}
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for coalescing concurrent cache misses into a single invocation.
+ */
+public class CacheCoalescingTests {
+
+	private ConfigurableApplicationContext context;
+
+	private SlowService service;
+
+	private CacheInterceptor interceptor;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+
+	@Before
+	public void setUp() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.service = this.context.getBean(SlowService.class);
+		this.interceptor = this.context.getBean(CacheInterceptor.class);
+	}
+
+	@After
+	public void tearDown() {
+		this.executor.shutdownNow();
+		this.context.close();
+	}
+
+
+	@Test
+	public void concurrentMissesCoalesced() throws Exception {
+		assertTrue(this.interceptor.isCoalesceMisses());
+		Future<Object> first = this.executor.submit(() -> this.service.slow("a"));
+		assertTrue(this.service.awaitEntered());
+		Future<Object> second = this.executor.submit(() -> this.service.slow("a"));
+		awaitCoalescedInvocations(1);
+
+		this.service.release();
+		assertEquals(1, first.get(5, TimeUnit.SECONDS));
+		assertEquals(1, second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, this.service.slow("a"));
+		assertEquals(1, this.service.getCount());
+		assertEquals(1, this.context.getBean(CacheManager.class).getCache("first").get("a").get());
+		assertEquals(1, this.context.getBean(CacheManager.class).getCache("second").get("a").get());
+	}
+
+	@Test
+	public void concurrentMissesCoalescedWithException() throws Exception {
+		Future<Object> first = this.executor.submit(() -> this.service.slow("fail"));
+		assertTrue(this.service.awaitEntered());
+		Future<Object> second = this.executor.submit(() -> this.service.slow("fail"));
+		awaitCoalescedInvocations(1);
+
+		this.service.release();
+		assertFailure(first);
+		assertFailure(second);
+		assertEquals(1, this.service.getCount());
+		assertNull(this.context.getBean(CacheManager.class).getCache("first").get("fail"));
+	}
+
+	@Test
+	public void invocationInFlightUntilPut() throws Exception {
+		SlowPutCacheManager cacheManager = this.context.getBean(SlowPutCacheManager.class);
+		this.service.release();
+		Future<Object> first = this.executor.submit(() -> this.service.slow("slowPut"));
+		assertTrue(cacheManager.awaitPutEntered());
+		Future<Object> second = this.executor.submit(() -> this.service.slow("slowPut"));
+		awaitCoalescedInvocations(1);
+
+		cacheManager.releasePut();
+		assertEquals(1, first.get(5, TimeUnit.SECONDS));
+		assertEquals(1, second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, this.service.getCount());
+	}
+
+	@Test
+	public void coalesceTimeout() throws Exception {
+		this.interceptor.setCoalesceTimeout(50);
+		Future<Object> first = this.executor.submit(() -> this.service.slow("a"));
+		assertTrue(this.service.awaitEntered());
+		Future<Object> second = this.executor.submit(() -> this.service.slow("a"));
+		awaitCoalescedInvocations(1);
+
+		// The second call gives up waiting and invokes the method itself
+		long deadline = System.currentTimeMillis() + 5000;
+		while (this.service.getCount() < 2) {
+			assertTrue("Timed out waiting for direct invocation", System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+		this.service.release();
+		assertEquals(1, first.get(5, TimeUnit.SECONDS));
+		assertEquals(2, second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void conditionNotPassing() throws Exception {
+		this.service.release();
+		assertEquals(1, this.service.slow("skip"));
+		assertEquals(2, this.service.slow("skip"));
+		assertEquals(0, this.interceptor.getCoalescedInvocationCount());
+	}
+
+
+	private void awaitCoalescedInvocations(long count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (this.interceptor.getCoalescedInvocationCount() < count) {
+			assertTrue("Timed out waiting for coalesced invocation", System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	private static void assertFailure(Future<Object> future) throws Exception {
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("Should have thrown IllegalStateException");
+		}
+		catch (ExecutionException ex) {
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching(coalesceMisses = true)
+	static class Config {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new SlowPutCacheManager("first", "second");
+		}
+
+		@Bean
+		public SlowService slowService() {
+			return new SlowService();
+		}
+	}
+
+
+	static class SlowPutCacheManager extends ConcurrentMapCacheManager {
+
+		private final CountDownLatch putEntered = new CountDownLatch(1);
+
+		private final CountDownLatch putRelease = new CountDownLatch(1);
+
+		public SlowPutCacheManager(String... cacheNames) {
+			super(cacheNames);
+		}
+
+		public boolean awaitPutEntered() throws InterruptedException {
+			return this.putEntered.await(5, TimeUnit.SECONDS);
+		}
+
+		public void releasePut() {
+			this.putRelease.countDown();
+		}
+
+		@Override
+		protected Cache createConcurrentMapCache(String name) {
+			return new ConcurrentMapCache(name) {
+				@Override
+				public void put(Object key, @Nullable Object value) {
+					if ("slowPut".equals(key)) {
+						putEntered.countDown();
+						try {
+							putRelease.await(5, TimeUnit.SECONDS);
+						}
+						catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+						}
+					}
+					super.put(key, value);
+				}
+			};
+		}
+	}
+
+
+	static class SlowService {
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		private final CountDownLatch entered = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		public int getCount() {
+			return this.counter.get();
+		}
+
+		public boolean awaitEntered() throws InterruptedException {
+			return this.entered.await(5, TimeUnit.SECONDS);
+		}
+
+		public void release() {
+			this.release.countDown();
+		}
+
+		@Cacheable(cacheNames = {"first", "second"}, condition = "#key != 'skip'")
+		public Object slow(String key) throws InterruptedException {
+			int count = this.counter.incrementAndGet();
+			this.entered.countDown();
+			this.release.await(5, TimeUnit.SECONDS);
+			if (key.equals("fail")) {
+				throw new IllegalStateException("failed");
+			}
+			return count;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,10 @@
 package org.springframework.cache.interceptor;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -104,6 +107,59 @@ public class CacheErrorHandlerTests {
 		this.simpleService.get(0L);
 	}
 
+	@Test
+	public void retrieveSyncFail() throws Exception {
+		UnsupportedOperationException exception = new UnsupportedOperationException("Test exception on retrieve");
+		willThrow(exception).given(this.cache).retrieve(eq(0L), any());
+
+		Object result = this.simpleService.getFuture(0L).get();
+		verify(this.errorHandler).handleCacheGetError(exception, cache, 0L);
+		assertEquals(0L, result); // result of the invocation
+	}
+
+	@Test
+	public void retrieveSyncFailedFuture() throws Exception {
+		UnsupportedOperationException exception = new UnsupportedOperationException("Test exception on retrieve");
+		CompletableFuture<Object> failed = new CompletableFuture<>();
+		failed.completeExceptionally(exception);
+		given(this.cache.retrieve(eq(0L), any())).willReturn(failed);
+
+		Object result = this.simpleService.getFuture(0L).get();
+		verify(this.errorHandler).handleCacheGetError(exception, cache, 0L);
+		assertEquals(0L, result); // result of the invocation
+	}
+
+	@Test
+	public void retrieveSyncFailProperException() throws Exception {
+		UnsupportedOperationException exception = new UnsupportedOperationException("Test exception on retrieve");
+		willThrow(exception).given(this.cache).retrieve(eq(0L), any());
+
+		this.cacheInterceptor.setErrorHandler(new SimpleCacheErrorHandler());
+
+		try {
+			this.simpleService.getFuture(0L).get();
+			fail("Should have thrown ExecutionException");
+		}
+		catch (ExecutionException ex) {
+			assertSame(exception, ex.getCause());
+		}
+	}
+
+	@Test
+	public void retrieveSyncInvocationFailureNotHandled() throws Exception {
+		given(this.cache.retrieve(eq(-1L), any())).willAnswer(
+				invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+		try {
+			this.simpleService.getFuture(-1L).get();
+			fail("Should have thrown ExecutionException");
+		}
+		catch (ExecutionException ex) {
+			assertTrue(ex.getCause() instanceof IllegalArgumentException);
+		}
+		verify(this.errorHandler, never()).handleCacheGetError(any(), any(), any());
+	}
+
 	@Test
 	public void putFail() {
 		UnsupportedOperationException exception = new UnsupportedOperationException("Test exception on put");
@@ -166,7 +222,7 @@ public class CacheErrorHandlerTests {
 
 
 	@Configuration
-	@EnableCaching
+	@EnableCaching(resolveAsyncResults = true)
 	static class Config extends CachingConfigurerSupport {
 
 		@Bean
@@ -205,6 +261,18 @@ public class CacheErrorHandlerTests {
 			return this.counter.getAndIncrement();
 		}
 
+		@Cacheable(sync = true)
+		public CompletableFuture<Object> getFuture(long id) {
+			CompletableFuture<Object> future = new CompletableFuture<>();
+			if (id < 0) {
+				future.completeExceptionally(new IllegalArgumentException("Negative id"));
+			}
+			else {
+				future.complete(this.counter.getAndIncrement());
+			}
+			return future;
+		}
+
 		@CachePut
 		public Object put(long id) {
 			return this.counter.getAndIncrement();
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.util.Arrays;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.jmx.export.MBeanExporter;
+
+import static org.junit.Assert.*;
+
+/**
+ */
+public class CacheStatisticsExporterTests {
+
+	private MBeanServer server;
+
+	private MBeanExporter mbeanExporter;
+
+
+	@Before
+	public void setUp() {
+		this.server = MBeanServerFactory.newMBeanServer();
+		this.mbeanExporter = new MBeanExporter();
+		this.mbeanExporter.setServer(this.server);
+	}
+
+	@After
+	public void tearDown() {
+		this.mbeanExporter.destroy();
+	}
+
+
+	@Test
+	public void exportStatistics() throws Exception {
+		ConcurrentMapCache cache = new ConcurrentMapCache("testCache", true, true);
+		SimpleCacheManager cacheManager = new SimpleCacheManager();
+		cacheManager.setCaches(Arrays.asList(cache, new NoOpCache("noStatistics")));
+		cacheManager.afterPropertiesSet();
+
+		CacheStatisticsExporter exporter = new CacheStatisticsExporter();
+		exporter.setCacheManager(cacheManager);
+		exporter.setMBeanExporter(this.mbeanExporter);
+		exporter.setCacheManagerName("cacheManager");
+		exporter.afterPropertiesSet();
+
+		ObjectName objectName = new ObjectName(
+				"org.springframework.cache:type=CacheStatistics,cacheManager=\"cacheManager\",name=\"testCache\"");
+		assertTrue(this.server.isRegistered(objectName));
+		assertEquals(1, this.server.queryNames(new ObjectName("org.springframework.cache:*"), null).size());
+
+		cache.put("a", 1);
+		cache.get("a");
+		cache.get("b");
+		assertEquals("testCache", this.server.getAttribute(objectName, "CacheName"));
+		assertEquals(1L, this.server.getAttribute(objectName, "HitCount"));
+		assertEquals(1L, this.server.getAttribute(objectName, "MissCount"));
+		assertEquals(1L, this.server.getAttribute(objectName, "PutCount"));
+		assertEquals(0.5, this.server.getAttribute(objectName, "HitRatio"));
+	}
+
+	@Test
+	public void exportStatisticsWithCustomDomain() throws Exception {
+		Cache cache = new ConcurrentMapCache("testCache", true, true);
+		SimpleCacheManager cacheManager = new SimpleCacheManager();
+		cacheManager.setCaches(Arrays.asList(cache));
+		cacheManager.afterPropertiesSet();
+
+		CacheStatisticsExporter exporter = new CacheStatisticsExporter();
+		exporter.setCacheManager(cacheManager);
+		exporter.setMBeanExporter(this.mbeanExporter);
+		exporter.setDomain("myDomain");
+		exporter.afterPropertiesSet();
+
+		assertTrue(this.server.isRegistered(new ObjectName("myDomain:type=CacheStatistics,name=\"testCache\"")));
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.context.annotation;
 
+import java.io.StringWriter;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -29,6 +30,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation6.ComponentForScanning;
 import org.springframework.context.annotation6.ConfigForScanning;
 import org.springframework.context.annotation6.Jsr330NamedForScanning;
+import org.springframework.core.metrics.RecordingApplicationStartup;
+import org.springframework.core.metrics.RecordingApplicationStartup.RecordedStep;
 
 import static java.lang.String.format;
 import static org.hamcrest.Matchers.*;
@@ -330,6 +333,42 @@ public class AnnotationConfigApplicationContextTests {
 		context.refresh();
 	}
 
+	@Test
+	public void refreshWithApplicationStartup() throws Exception {
+		RecordingApplicationStartup applicationStartup = new RecordingApplicationStartup();
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.setApplicationStartup(applicationStartup);
+		context.register(AutowiredConfig.class);
+		context.refresh();
+		assertSame(applicationStartup, context.getBeanFactory().getApplicationStartup());
+
+		RecordedStep refresh = null;
+		RecordedStep testBeanCreation = null;
+		boolean configClassesParsed = false;
+		for (RecordedStep step : applicationStartup.getRecordedSteps()) {
+			if (step.getName().equals("spring.context.refresh")) {
+				refresh = step;
+			}
+			else if (step.getName().equals("spring.beans.instantiate") &&
+					step.getTags().iterator().next().getValue().equals("testBean")) {
+				testBeanCreation = step;
+			}
+			else if (step.getName().equals("spring.context.config-classes.parse")) {
+				configClassesParsed = true;
+			}
+		}
+		assertNotNull(refresh);
+		assertNull(refresh.getParentId());
+		assertNotNull(testBeanCreation);
+		assertNotNull(testBeanCreation.getParentId());
+		assertTrue(configClassesParsed);
+
+		StringWriter writer = new StringWriter();
+		applicationStartup.exportFlameGraph(writer);
+		assertThat(writer.toString(), containsString(
+				"spring.context.refresh;spring.context.singletons.instantiate;spring.beans.instantiate{beanName=testBean}"));
+	}
+
 
 	@Configuration
 	static class Config {
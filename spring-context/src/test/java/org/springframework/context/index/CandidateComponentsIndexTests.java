@@ -77,6 +77,24 @@ public class CandidateComponentsIndexTests {
 				contains("com.example.Foo"));
 	}
 
+	@Test
+	public void getClassMetadata() {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				Collections.singletonList(createSampleProperties()),
+				Arrays.asList(createProperties("com.example.service.One", "C33 com/example/service/One"),
+						createProperties("com.example.domain.Four", "C33 com/example/domain/Four")));
+		assertThat(index.getClassMetadata().keySet(),
+				containsInAnyOrder("com.example.service.One", "com.example.domain.Four"));
+		assertEquals("C33 com/example/service/One", index.getClassMetadata().get("com.example.service.One"));
+	}
+
+	@Test
+	public void getClassMetadataWithoutRecords() {
+		CandidateComponentsIndex index = new CandidateComponentsIndex(
+				Collections.singletonList(createSampleProperties()));
+		assertTrue(index.getClassMetadata().isEmpty());
+	}
+
 	private static Properties createProperties(String key, String stereotypes) {
 		Properties properties = new Properties();
 		properties.put(key, String.join(",", stereotypes));
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link ResolvableType} creation and generic resolution.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ResolvableTypeBenchmark {
+
+	@Benchmark
+	public void forClass(Blackhole bh) {
+		bh.consume(ResolvableType.forClass(StringRepository.class));
+	}
+
+	@Benchmark
+	public void forClassAsGenericSupertype(Blackhole bh) {
+		ResolvableType type = ResolvableType.forClass(StringRepository.class).as(Repository.class);
+		bh.consume(type.resolveGeneric(0));
+	}
+
+	@Benchmark
+	public void forField(BenchmarkData data, Blackhole bh) {
+		bh.consume(ResolvableType.forField(data.field).resolveGeneric(1, 0));
+	}
+
+	@Benchmark
+	public void forMethodParameter(BenchmarkData data, Blackhole bh) {
+		bh.consume(ResolvableType.forMethodParameter(data.method, 0).resolveGeneric(0));
+	}
+
+	@Benchmark
+	public void isAssignableFrom(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.repositoryOfString.isAssignableFrom(StringRepository.class));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public Field field;
+
+		public Method method;
+
+		public ResolvableType repositoryOfString;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.field = Holder.class.getDeclaredField("values");
+			this.method = Holder.class.getDeclaredMethod("setRepositories", List.class);
+			this.repositoryOfString = ResolvableType.forClassWithGenerics(Repository.class, String.class);
+		}
+	}
+
+
+	public interface Repository<T> {
+	}
+
+
+	public static class StringRepository implements Repository<String> {
+	}
+
+
+	public static class Holder {
+
+		public Map<String, List<Integer>> values;
+
+		public void setRepositories(List<Repository<String>> repositories) {
+		}
+	}
+
+}
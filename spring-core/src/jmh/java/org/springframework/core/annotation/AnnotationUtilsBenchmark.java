@@ -0,0 +1,204 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for annotation lookups through {@link AnnotationUtils} and
+ * {@link AnnotatedElementUtils}, using meta-annotations and {@code @AliasFor}
+ * declarations in the style of stereotype and request mapping annotations.
+ * Synthesized annotation benchmarks come with their counterparts for the
+ * JDK's own annotation instances as a baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AnnotationUtilsBenchmark {
+
+	@Benchmark
+	public void findAnnotationOnClass(Blackhole bh) {
+		bh.consume(AnnotationUtils.findAnnotation(AnnotatedService.class, Component.class));
+	}
+
+	@Benchmark
+	public void findAnnotationOnInterfaceMethod(BenchmarkData data, Blackhole bh) {
+		bh.consume(AnnotationUtils.findAnnotation(data.method, Handler.class));
+	}
+
+	@Benchmark
+	public void findAnnotationNotPresent(Blackhole bh) {
+		bh.consume(AnnotationUtils.findAnnotation(AnnotatedService.class, Deprecated.class));
+	}
+
+	@Benchmark
+	public void findMergedAnnotation(Blackhole bh) {
+		bh.consume(AnnotatedElementUtils.findMergedAnnotation(AnnotatedService.class, Component.class));
+	}
+
+	@Benchmark
+	public void getMergedAnnotationAttributes(Blackhole bh) {
+		bh.consume(AnnotatedElementUtils.getMergedAnnotationAttributes(AnnotatedService.class, Component.class));
+	}
+
+	@Benchmark
+	public void synthesizeAnnotation(BenchmarkData data, Blackhole bh) {
+		bh.consume(AnnotationUtils.synthesizeAnnotation(data.attributes, Component.class, null));
+	}
+
+	@Benchmark
+	public void attributeAccess(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.annotation.value());
+	}
+
+	@Benchmark
+	public void arrayAttributeAccess(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.annotation.aliases());
+	}
+
+	@Benchmark
+	public void annotationHashCode(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.annotation.hashCode());
+	}
+
+	@Benchmark
+	public void annotationEquals(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.annotation.equals(data.otherAnnotation));
+	}
+
+	@Benchmark
+	public void synthesizedAttributeAccess(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.synthesized.value());
+	}
+
+	@Benchmark
+	public void synthesizedArrayAttributeAccess(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.synthesized.aliases());
+	}
+
+	@Benchmark
+	public void synthesizedHashCode(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.synthesized.hashCode());
+	}
+
+	@Benchmark
+	public void synthesizedEquals(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.synthesized.equals(data.otherSynthesized));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public Method method;
+
+		public Component synthesized;
+
+		public Component otherSynthesized;
+
+		public Component annotation;
+
+		public Component otherAnnotation;
+
+		public Map<String, Object> attributes;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.method = AnnotatedService.class.getMethod("handle");
+			this.annotation = AnnotatedComponent.class.getAnnotation(Component.class);
+			this.otherAnnotation = OtherAnnotatedComponent.class.getAnnotation(Component.class);
+			this.attributes = AnnotationUtils.getAnnotationAttributes(this.annotation);
+			this.synthesized = AnnotationUtils.synthesizeAnnotation(this.attributes, Component.class, null);
+			this.otherSynthesized = AnnotationUtils.synthesizeAnnotation(this.attributes, Component.class, null);
+		}
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+	public @interface Component {
+
+		String value() default "";
+
+		String[] aliases() default {};
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Component
+	public @interface Service {
+
+		@AliasFor(annotation = Component.class)
+		String value() default "";
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@Service
+	public @interface TransactionalService {
+
+		@AliasFor(annotation = Service.class, attribute = "value")
+		String name() default "";
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.METHOD)
+	public @interface Handler {
+	}
+
+
+	public interface HandlerContract {
+
+		@Handler
+		void handle();
+	}
+
+
+	@Component(value = "annotatedComponent", aliases = {"component", "bean"})
+	public static class AnnotatedComponent {
+	}
+
+
+	@Component(value = "annotatedComponent", aliases = {"component", "bean"})
+	public static class OtherAnnotatedComponent {
+	}
+
+
+	@TransactionalService(name = "annotatedService")
+	public static class AnnotatedService implements HandlerContract {
+
+		@Override
+		public void handle() {
+		}
+	}
+
+}
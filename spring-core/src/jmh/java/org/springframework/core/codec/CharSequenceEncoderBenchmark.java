@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.codec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Benchmarks for {@link CharSequenceEncoder}, encoding a stream of strings
+ * into heap buffers as well as into pooled Netty buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CharSequenceEncoderBenchmark {
+
+	@Benchmark
+	public void encodeStream(BenchmarkData data, Blackhole bh) {
+		data.encoder.encode(Flux.fromIterable(data.values), data.bufferFactory,
+				data.elementType, MimeTypeUtils.TEXT_PLAIN, Collections.emptyMap())
+				.doOnNext(buffer -> {
+					bh.consume(buffer.readableByteCount());
+					DataBufferUtils.release(buffer);
+				})
+				.blockLast();
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"default", "netty"})
+		public String bufferFactoryType;
+
+		@Param({"100", "10000"})
+		public int valueLength;
+
+		public CharSequenceEncoder encoder;
+
+		public DataBufferFactory bufferFactory;
+
+		public ResolvableType elementType;
+
+		public List<String> values;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.encoder = CharSequenceEncoder.textPlainOnly();
+			this.bufferFactory = ("netty".equals(this.bufferFactoryType) ?
+					new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT) : new DefaultDataBufferFactory());
+			this.elementType = ResolvableType.forClass(String.class);
+			this.values = new ArrayList<>(100);
+			for (int i = 0; i < 100; i++) {
+				StringBuilder builder = new StringBuilder(this.valueLength);
+				while (builder.length() < this.valueLength) {
+					builder.append("data: ").append(i).append(' ');
+				}
+				this.values.add(builder.toString());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.convert.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+
+/**
+ * Benchmarks for {@link GenericConversionService} conversions,
+ * comparing regular {@code convert} calls with bound converters.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class GenericConversionServiceBenchmark {
+
+	@Benchmark
+	public void convertStringToInteger(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.conversionService.convert("42", data.stringType, data.integerType));
+	}
+
+	@Benchmark
+	public void boundStringToInteger(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.stringToInteger.convert("42"));
+	}
+
+	@Benchmark
+	public void convertListOfStringToListOfInteger(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.conversionService.convert(data.strings, data.listOfStringType, data.listOfIntegerType));
+	}
+
+	@Benchmark
+	public void boundListOfStringToListOfInteger(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.listOfStringToListOfInteger.convert(data.strings));
+	}
+
+	@Benchmark
+	public void convertStringToIntArray(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.conversionService.convert("1,2,3,4,5,6,7,8", data.stringType, data.intArrayType));
+	}
+
+	@Benchmark
+	public void boundStringToIntArray(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.stringToIntArray.convert("1,2,3,4,5,6,7,8"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public GenericConversionService conversionService = new DefaultConversionService();
+
+		public TypeDescriptor stringType = TypeDescriptor.valueOf(String.class);
+
+		public TypeDescriptor integerType = TypeDescriptor.valueOf(Integer.class);
+
+		public TypeDescriptor intArrayType = TypeDescriptor.valueOf(int[].class);
+
+		public TypeDescriptor listOfStringType = TypeDescriptor.collection(List.class, this.stringType);
+
+		public TypeDescriptor listOfIntegerType = TypeDescriptor.collection(List.class, this.integerType);
+
+		public List<String> strings = new ArrayList<>();
+
+		public Converter<Object, Object> stringToInteger;
+
+		public Converter<Object, Object> listOfStringToListOfInteger;
+
+		public Converter<Object, Object> stringToIntArray;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			for (int i = 0; i < 100; i++) {
+				this.strings.add(Integer.toString(i));
+			}
+			this.stringToInteger = this.conversionService.bindConverter(this.stringType, this.integerType);
+			this.listOfStringToListOfInteger =
+					this.conversionService.bindConverter(this.listOfStringType, this.listOfIntegerType);
+			this.stringToIntArray = this.conversionService.bindConverter(this.stringType, this.intArrayType);
+		}
+	}
+
+}
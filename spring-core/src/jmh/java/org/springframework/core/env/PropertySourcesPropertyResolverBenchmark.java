@@ -0,0 +1,80 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.env;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for property resolution against a {@link StandardEnvironment},
+ * with and without caching of resolved properties.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PropertySourcesPropertyResolverBenchmark {
+
+	@Benchmark
+	public void getProperty(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.environment.getProperty("app.url"));
+	}
+
+	@Benchmark
+	public void getPropertyAsInteger(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.environment.getProperty("app.port", Integer.class));
+	}
+
+	@Benchmark
+	public void getMissingProperty(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.environment.getProperty("app.missing", "default"));
+	}
+
+	@Benchmark
+	public void resolvePlaceholders(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.environment.resolvePlaceholders("${app.host}:${app.port}/${app.missing:none}"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"false", "true"})
+		public boolean cache;
+
+		public StandardEnvironment environment;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.environment = new StandardEnvironment();
+			Map<String, Object> properties = new HashMap<>();
+			properties.put("app.host", "localhost");
+			properties.put("app.port", "8080");
+			properties.put("app.url", "http://${app.host}:${app.port}/");
+			this.environment.getPropertySources().addLast(new MapPropertySource("app", properties));
+			this.environment.setCacheResolvedProperties(this.cache);
+		}
+	}
+
+}
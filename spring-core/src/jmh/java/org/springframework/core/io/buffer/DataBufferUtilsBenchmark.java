@@ -0,0 +1,83 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+/**
+ * Benchmarks for aggregating a multi-MB body received in chunks, via
+ * {@link DataBufferUtils#join} versus successive {@link DataBuffer#write}
+ * calls, for heap buffers as well as for pooled Netty buffers.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DataBufferUtilsBenchmark {
+
+	@Benchmark
+	public void join(BenchmarkData data, Blackhole bh) {
+		DataBuffer joined = DataBufferUtils.join(data.chunks()).block();
+		bh.consume(joined.readableByteCount());
+		DataBufferUtils.release(joined);
+	}
+
+	@Benchmark
+	public void reduceWithWrite(BenchmarkData data, Blackhole bh) {
+		DataBuffer joined = data.chunks().reduce(DataBuffer::write).block();
+		bh.consume(joined.readableByteCount());
+		DataBufferUtils.release(joined);
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"default", "netty"})
+		public String bufferFactoryType;
+
+		@Param({"4194304"})
+		public int bodySize;
+
+		@Param({"8192"})
+		public int chunkSize;
+
+		public DataBufferFactory bufferFactory;
+
+		public byte[] chunk;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.bufferFactory = ("netty".equals(this.bufferFactoryType) ?
+					new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT) : new DefaultDataBufferFactory());
+			this.chunk = new byte[this.chunkSize];
+		}
+
+		public Flux<DataBuffer> chunks() {
+			return Flux.range(0, this.bodySize / this.chunkSize)
+					.map(i -> this.bufferFactory.allocateBuffer(this.chunkSize).write(this.chunk));
+		}
+	}
+
+}
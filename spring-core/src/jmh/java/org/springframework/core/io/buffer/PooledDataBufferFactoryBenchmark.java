@@ -0,0 +1,72 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for streaming a multi-MB request body through buffers obtained
+ * from a {@link PooledDataBufferFactory} versus a {@link DefaultDataBufferFactory},
+ * with each chunk released once consumed.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PooledDataBufferFactoryBenchmark {
+
+	@Benchmark
+	public void streamBody(BenchmarkData data, Blackhole bh) {
+		for (int i = 0; i < data.bodySize / data.chunkSize; i++) {
+			DataBuffer buffer = data.bufferFactory.allocateBuffer(data.chunkSize);
+			buffer.write(data.chunk);
+			bh.consume(buffer.read());
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"default", "pooled"})
+		public String bufferFactoryType;
+
+		@Param({"4194304"})
+		public int bodySize;
+
+		@Param({"8192"})
+		public int chunkSize;
+
+		public DataBufferFactory bufferFactory;
+
+		public byte[] chunk;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.bufferFactory = ("pooled".equals(this.bufferFactoryType) ?
+					new PooledDataBufferFactory() : new DefaultDataBufferFactory());
+			this.chunk = new byte[this.chunkSize];
+		}
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link AntPathMatcher}, matching a set of request paths
+ * against typical MVC-style and resource-style patterns.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class AntPathMatcherBenchmark {
+
+	@Benchmark
+	public void matchPatterns(BenchmarkData data, Blackhole bh) {
+		for (String pattern : data.patterns) {
+			for (String path : data.paths) {
+				bh.consume(data.matcher.match(pattern, path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void extractUriTemplateVariables(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.matcher.extractUriTemplateVariables("/api/{version}/users/{id}/orders/{orderId}",
+				"/api/v1/users/42/orders/1234"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"true", "false"})
+		public boolean cachePatterns;
+
+		public AntPathMatcher matcher;
+
+		public List<String> patterns = new ArrayList<>();
+
+		public List<String> paths = new ArrayList<>();
+
+		@Setup(Level.Trial)
+		public void createData() {
+			this.matcher = new AntPathMatcher();
+			this.matcher.setCachePatterns(this.cachePatterns);
+			this.patterns.add("/api/{version}/users/{id}");
+			this.patterns.add("/api/{version}/users/{id}/orders/{orderId}");
+			this.patterns.add("/static/**");
+			this.patterns.add("/resources/**/*.css");
+			this.patterns.add("/files/*.{ext:[a-z]+}");
+			this.patterns.add("/admin/*/settings");
+			this.paths.add("/api/v1/users/42");
+			this.paths.add("/api/v1/users/42/orders/1234");
+			this.paths.add("/static/js/app/main.js");
+			this.paths.add("/resources/css/theme/default.css");
+			this.paths.add("/files/report.pdf");
+			this.paths.add("/admin/global/settings");
+		}
+	}
+
+}
@@ -93,6 +93,9 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final ConcurrentReferenceHashMap<Class<?>, ResolvableType> classCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -441,14 +444,16 @@ public class ResolvableType implements Serializable {
 	 * @see #getInterfaces()
 	 */
 	public ResolvableType getSuperType() {
-		Class<?> resolved = resolve();
-		if (resolved == null || resolved.getGenericSuperclass() == null) {
-			return NONE;
-		}
-		if (this.superType == null) {
-			this.superType = forType(SerializableTypeWrapper.forGenericSuperclass(resolved), asVariableResolver());
+		ResolvableType superType = this.superType;
+		if (superType == null) {
+			Class<?> resolved = resolve();
+			if (resolved == null || resolved.getGenericSuperclass() == null) {
+				return NONE;
+			}
+			superType = forType(SerializableTypeWrapper.forGenericSuperclass(resolved), asVariableResolver());
+			this.superType = superType;
 		}
-		return this.superType;
+		return superType;
 	}
 
 	/**
@@ -458,14 +463,16 @@ public class ResolvableType implements Serializable {
 	 * @see #getSuperType()
 	 */
 	public ResolvableType[] getInterfaces() {
-		Class<?> resolved = resolve();
-		if (resolved == null || ObjectUtils.isEmpty(resolved.getGenericInterfaces())) {
-			return EMPTY_TYPES_ARRAY;
-		}
-		if (this.interfaces == null) {
-			this.interfaces = forTypes(SerializableTypeWrapper.forGenericInterfaces(resolved), asVariableResolver());
+		ResolvableType[] interfaces = this.interfaces;
+		if (interfaces == null) {
+			Class<?> resolved = resolve();
+			if (resolved == null || ObjectUtils.isEmpty(resolved.getGenericInterfaces())) {
+				return EMPTY_TYPES_ARRAY;
+			}
+			interfaces = forTypes(SerializableTypeWrapper.forGenericInterfaces(resolved), asVariableResolver());
+			this.interfaces = interfaces;
 		}
-		return this.interfaces;
+		return interfaces;
 	}
 
 	/**
@@ -943,6 +950,8 @@ public class ResolvableType implements Serializable {
 	 * Return a {@link ResolvableType} for the specified {@link Class},
 	 * using the full generic type information for assignability checks.
 	 * For example: {@code ResolvableType.forClass(MyArrayList.class)}.
+	 * <p>As of 5.0, the returned instance is shared for the given class, retaining
+	 * its lazily resolved supertype, interface and generic information across calls.
 	 * @param clazz the class to introspect ({@code null} is semantically
 	 * equivalent to {@code Object.class} for typical use cases here}
 	 * @return a {@link ResolvableType} for the specified class
@@ -950,7 +959,13 @@ public class ResolvableType implements Serializable {
 	 * @see #forClassWithGenerics(Class, Class...)
 	 */
 	public static ResolvableType forClass(@Nullable Class<?> clazz) {
-		return new ResolvableType(clazz);
+		Class<?> classToUse = (clazz != null ? clazz : Object.class);
+		ResolvableType resolvableType = classCache.get(classToUse);
+		if (resolvableType == null) {
+			resolvableType = new ResolvableType(classToUse);
+			classCache.put(classToUse, resolvableType);
+		}
+		return resolvableType;
 	}
 
 	/**
@@ -1358,9 +1373,12 @@ public class ResolvableType implements Serializable {
 			return NONE;
 		}
 
-		// For simple Class references, build the wrapper right away -
-		// no expensive resolution necessary, so not worth caching...
+		// For simple Class references, use the shared class-based instance if possible,
+		// otherwise build the wrapper right away - no expensive resolution necessary...
 		if (type instanceof Class) {
+			if (typeProvider == null && variableResolver == null) {
+				return forClass((Class<?>) type);
+			}
 			return new ResolvableType(type, typeProvider, variableResolver, (ResolvableType) null);
 		}
 
@@ -1383,6 +1401,7 @@ public class ResolvableType implements Serializable {
 	 */
 	public static void clearCache() {
 		cache.clear();
+		classCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
@@ -1561,7 +1580,9 @@ public class ResolvableType implements Serializable {
 		@Nullable
 		public static WildcardBounds get(ResolvableType type) {
 			ResolvableType resolveToWildcard = type;
-			while (!(resolveToWildcard.getType() instanceof WildcardType)) {
+			// Check the (potentially wrapped) type directly: a serializable type proxy
+			// implements the same Type interface, and unwrapping it is comparatively costly
+			while (!(resolveToWildcard.type instanceof WildcardType)) {
 				if (resolveToWildcard == NONE) {
 					return null;
 				}
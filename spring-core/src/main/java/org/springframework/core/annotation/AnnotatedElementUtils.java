@@ -18,6 +18,8 @@ package org.springframework.core.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,6 +33,7 @@ import java.util.Set;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
@@ -87,6 +90,14 @@ import org.springframework.util.MultiValueMap;
  * traverses type and method hierarchies and thereby implicitly supports
  * annotation inheritance without the need for {@code @Inherited}.
  *
+ * <h3>Caching</h3>
+ * <p>The results of {@code getMergedAnnotationAttributes()},
+ * {@code getMergedAnnotation()}, {@code findMergedAnnotationAttributes()} and
+ * {@code findMergedAnnotation()} are cached per class, method, field and
+ * constructor, with each caller receiving its own copy of returned
+ * {@code AnnotationAttributes}. The cache is cleared along with the
+ * {@code AnnotationUtils} caches, see {@link AnnotationUtils#clearCache()}.
+ *
  * @author Phillip Webb
  * @author Juergen Hoeller
  * @author Sam Brannen
@@ -107,6 +118,14 @@ public class AnnotatedElementUtils {
 
 	private static final Processor<Boolean> alwaysTrueAnnotationProcessor = new AlwaysTrueBooleanAnnotationProcessor();
 
+	/**
+	 * Cache marker for a merged annotation that has not been found.
+	 */
+	private static final Object NOT_FOUND = new Object();
+
+	private static final Map<MergedAnnotationCacheKey, Object> mergedAnnotationCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * Build an adapted {@link AnnotatedElement} for the given annotations,
@@ -323,10 +342,7 @@ public class AnnotatedElementUtils {
 			AnnotatedElement element, Class<? extends Annotation> annotationType) {
 
 		Assert.notNull(annotationType, "'annotationType' must not be null");
-		AnnotationAttributes attributes = searchWithGetSemantics(element, annotationType, null,
-				new MergedAnnotationAttributesProcessor());
-		AnnotationUtils.postProcessAnnotationAttributes(element, attributes, false, false);
-		return attributes;
+		return getCachedMergedAnnotationAttributes(element, annotationType, null, false, false, false);
 	}
 
 	/**
@@ -383,10 +399,8 @@ public class AnnotatedElementUtils {
 			String annotationName, boolean classValuesAsString, boolean nestedAnnotationsAsMap) {
 
 		Assert.hasLength(annotationName, "'annotationName' must not be null or empty");
-		AnnotationAttributes attributes = searchWithGetSemantics(element, null, annotationName,
-				new MergedAnnotationAttributesProcessor(classValuesAsString, nestedAnnotationsAsMap));
-		AnnotationUtils.postProcessAnnotationAttributes(element, attributes, classValuesAsString, nestedAnnotationsAsMap);
-		return attributes;
+		return getCachedMergedAnnotationAttributes(
+				element, null, annotationName, false, classValuesAsString, nestedAnnotationsAsMap);
 	}
 
 	/**
@@ -422,8 +436,7 @@ public class AnnotatedElementUtils {
 		}
 
 		// Exhaustive retrieval of merged annotation attributes...
-		AnnotationAttributes attributes = getMergedAnnotationAttributes(element, annotationType);
-		return (attributes != null ? AnnotationUtils.synthesizeAnnotation(attributes, annotationType, element) : null);
+		return getCachedMergedAnnotation(element, annotationType, false);
 	}
 
 	/**
@@ -647,10 +660,8 @@ public class AnnotatedElementUtils {
 	public static AnnotationAttributes findMergedAnnotationAttributes(AnnotatedElement element,
 			Class<? extends Annotation> annotationType, boolean classValuesAsString, boolean nestedAnnotationsAsMap) {
 
-		AnnotationAttributes attributes = searchWithFindSemantics(element, annotationType, null,
-				new MergedAnnotationAttributesProcessor(classValuesAsString, nestedAnnotationsAsMap));
-		AnnotationUtils.postProcessAnnotationAttributes(element, attributes, classValuesAsString, nestedAnnotationsAsMap);
-		return attributes;
+		return getCachedMergedAnnotationAttributes(
+				element, annotationType, null, true, classValuesAsString, nestedAnnotationsAsMap);
 	}
 
 	/**
@@ -684,10 +695,8 @@ public class AnnotatedElementUtils {
 	public static AnnotationAttributes findMergedAnnotationAttributes(AnnotatedElement element,
 			String annotationName, boolean classValuesAsString, boolean nestedAnnotationsAsMap) {
 
-		AnnotationAttributes attributes = searchWithFindSemantics(element, null, annotationName,
-				new MergedAnnotationAttributesProcessor(classValuesAsString, nestedAnnotationsAsMap));
-		AnnotationUtils.postProcessAnnotationAttributes(element, attributes, classValuesAsString, nestedAnnotationsAsMap);
-		return attributes;
+		return getCachedMergedAnnotationAttributes(
+				element, null, annotationName, true, classValuesAsString, nestedAnnotationsAsMap);
 	}
 
 	/**
@@ -723,8 +732,7 @@ public class AnnotatedElementUtils {
 		}
 
 		// Exhaustive retrieval of merged annotation attributes...
-		AnnotationAttributes attributes = findMergedAnnotationAttributes(element, annotationType, false, false);
-		return (attributes != null ? AnnotationUtils.synthesizeAnnotation(attributes, annotationType, element) : null);
+		return getCachedMergedAnnotation(element, annotationType, true);
 	}
 
 	/**
@@ -831,6 +839,139 @@ public class AnnotatedElementUtils {
 		return postProcessAndSynthesizeAggregatedResults(element, annotationType, processor.getAggregatedResults());
 	}
 
+	/**
+	 * Retrieve the merged attributes of the specified {@code annotationType} or
+	 * {@code annotationName} on the specified {@code element}, following
+	 * <em>get</em> or <em>find semantics</em>, from the merged annotation cache.
+	 * <p>Cached attributes are copied for each caller, so that modifications
+	 * of the returned attributes do not affect the cache.
+	 * @since 5.0
+	 * @see #searchMergedAnnotationAttributes
+	 */
+	@Nullable
+	private static AnnotationAttributes getCachedMergedAnnotationAttributes(AnnotatedElement element,
+			@Nullable Class<? extends Annotation> annotationType, @Nullable String annotationName,
+			boolean findSemantics, boolean classValuesAsString, boolean nestedAnnotationsAsMap) {
+
+		if (!isCacheable(element)) {
+			return searchMergedAnnotationAttributes(element, annotationType, annotationName,
+					findSemantics, classValuesAsString, nestedAnnotationsAsMap);
+		}
+
+		MergedAnnotationCacheKey cacheKey = new MergedAnnotationCacheKey(element,
+				(annotationType != null ? annotationType : annotationName),
+				findSemantics, classValuesAsString, nestedAnnotationsAsMap, false);
+		Object cached = mergedAnnotationCache.get(cacheKey);
+		if (cached == null) {
+			AnnotationAttributes attributes = searchMergedAnnotationAttributes(element, annotationType,
+					annotationName, findSemantics, classValuesAsString, nestedAnnotationsAsMap);
+			mergedAnnotationCache.put(cacheKey, (attributes != null ? copyAttributes(attributes) : NOT_FOUND));
+			return attributes;
+		}
+		return (cached != NOT_FOUND ? copyAttributes((AnnotationAttributes) cached) : null);
+	}
+
+	/**
+	 * Retrieve the merged, synthesized annotation of the specified
+	 * {@code annotationType} on the specified {@code element}, following
+	 * <em>get</em> or <em>find semantics</em>, from the merged annotation cache.
+	 * <p>Synthesized annotations are immutable and therefore shared between callers.
+	 * @since 5.0
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private static <A extends Annotation> A getCachedMergedAnnotation(AnnotatedElement element,
+			Class<A> annotationType, boolean findSemantics) {
+
+		MergedAnnotationCacheKey cacheKey = null;
+		if (isCacheable(element)) {
+			cacheKey = new MergedAnnotationCacheKey(element, annotationType, findSemantics, false, false, true);
+			Object cached = mergedAnnotationCache.get(cacheKey);
+			if (cached != null) {
+				return (cached != NOT_FOUND ? (A) cached : null);
+			}
+		}
+
+		AnnotationAttributes attributes =
+				searchMergedAnnotationAttributes(element, annotationType, null, findSemantics, false, false);
+		A result = (attributes != null ? AnnotationUtils.synthesizeAnnotation(attributes, annotationType, element) : null);
+		if (cacheKey != null) {
+			mergedAnnotationCache.put(cacheKey, (result != null ? result : NOT_FOUND));
+		}
+		return result;
+	}
+
+	/**
+	 * Search for the merged attributes of the specified {@code annotationType} or
+	 * {@code annotationName} on the specified {@code element}, following
+	 * <em>get</em> or <em>find semantics</em>, without going through the cache.
+	 * @since 5.0
+	 */
+	@Nullable
+	private static AnnotationAttributes searchMergedAnnotationAttributes(AnnotatedElement element,
+			@Nullable Class<? extends Annotation> annotationType, @Nullable String annotationName,
+			boolean findSemantics, boolean classValuesAsString, boolean nestedAnnotationsAsMap) {
+
+		MergedAnnotationAttributesProcessor processor =
+				new MergedAnnotationAttributesProcessor(classValuesAsString, nestedAnnotationsAsMap);
+		AnnotationAttributes attributes = (findSemantics ?
+				searchWithFindSemantics(element, annotationType, annotationName, processor) :
+				searchWithGetSemantics(element, annotationType, annotationName, processor));
+		AnnotationUtils.postProcessAnnotationAttributes(element, attributes, classValuesAsString, nestedAnnotationsAsMap);
+		return attributes;
+	}
+
+	/**
+	 * Determine whether merged annotation lookups on the given element may be cached:
+	 * only for classes and members, not for custom {@code AnnotatedElement} instances
+	 * such as the ones created by {@link #forAnnotations}.
+	 */
+	private static boolean isCacheable(AnnotatedElement element) {
+		return (element instanceof Class || element instanceof Member);
+	}
+
+	/**
+	 * Create a copy of the given attributes, including copies of nested
+	 * attributes and arrays, so that the copy can be modified independently.
+	 */
+	private static AnnotationAttributes copyAttributes(AnnotationAttributes attributes) {
+		AnnotationAttributes copy = new AnnotationAttributes(attributes);
+		for (Map.Entry<String, Object> entry : copy.entrySet()) {
+			entry.setValue(copyAttributeValue(entry.getValue()));
+		}
+		return copy;
+	}
+
+	@Nullable
+	private static Object copyAttributeValue(@Nullable Object value) {
+		if (value instanceof AnnotationAttributes) {
+			return copyAttributes((AnnotationAttributes) value);
+		}
+		if (value != null && value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			if (value instanceof AnnotationAttributes[]) {
+				for (int i = 0; i < length; i++) {
+					Array.set(copy, i, copyAttributeValue(Array.get(value, i)));
+				}
+			}
+			else {
+				System.arraycopy(value, 0, copy, 0, length);
+			}
+			return copy;
+		}
+		return value;
+	}
+
+	/**
+	 * Clear the internal merged annotation cache.
+	 * @since 5.0
+	 * @see AnnotationUtils#clearCache()
+	 */
+	static void clearCache() {
+		mergedAnnotationCache.clear();
+	}
+
 	/**
 	 * Search for annotations of the specified {@code annotationName} or
 	 * {@code annotationType} on the specified {@code element}, following
@@ -1502,6 +1643,67 @@ public class AnnotatedElementUtils {
 	}
 
 
+	/**
+	 * Cache key for the merged annotation cache.
+	 * @since 5.0
+	 */
+	private static final class MergedAnnotationCacheKey {
+
+		private final AnnotatedElement element;
+
+		private final Object annotation;
+
+		private final boolean findSemantics;
+
+		private final boolean classValuesAsString;
+
+		private final boolean nestedAnnotationsAsMap;
+
+		private final boolean synthesized;
+
+		public MergedAnnotationCacheKey(AnnotatedElement element, Object annotation, boolean findSemantics,
+				boolean classValuesAsString, boolean nestedAnnotationsAsMap, boolean synthesized) {
+
+			this.element = element;
+			this.annotation = annotation;
+			this.findSemantics = findSemantics;
+			this.classValuesAsString = classValuesAsString;
+			this.nestedAnnotationsAsMap = nestedAnnotationsAsMap;
+			this.synthesized = synthesized;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof MergedAnnotationCacheKey)) {
+				return false;
+			}
+			MergedAnnotationCacheKey otherKey = (MergedAnnotationCacheKey) other;
+			return (this.element.equals(otherKey.element) && this.annotation.equals(otherKey.annotation) &&
+					this.findSemantics == otherKey.findSemantics &&
+					this.classValuesAsString == otherKey.classValuesAsString &&
+					this.nestedAnnotationsAsMap == otherKey.nestedAnnotationsAsMap &&
+					this.synthesized == otherKey.synthesized);
+		}
+
+		@Override
+		public int hashCode() {
+			int hashCode = this.element.hashCode() * 29 + this.annotation.hashCode();
+			hashCode = hashCode * 29 + (this.findSemantics ? 1 : 0);
+			hashCode = hashCode * 29 + (this.classValuesAsString ? 1 : 0);
+			hashCode = hashCode * 29 + (this.nestedAnnotationsAsMap ? 1 : 0);
+			return hashCode * 29 + (this.synthesized ? 1 : 0);
+		}
+
+		@Override
+		public String toString() {
+			return "@" + this.annotation + " on " + this.element;
+		}
+	}
+
+
 	/**
 	 * {@link Processor} that gets the {@code AnnotationAttributes} for the
 	 * target annotation during the {@link #process} phase and then merges
@@ -1523,10 +1725,6 @@ public class AnnotatedElementUtils {
 
 		private final List<AnnotationAttributes> aggregatedResults;
 
-		MergedAnnotationAttributesProcessor() {
-			this(false, false, false);
-		}
-
 		MergedAnnotationAttributesProcessor(boolean classValuesAsString, boolean nestedAnnotationsAsMap) {
 			this(classValuesAsString, nestedAnnotationsAsMap, false);
 		}
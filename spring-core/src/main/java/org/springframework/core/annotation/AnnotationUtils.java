@@ -1868,6 +1868,22 @@ public abstract class AnnotationUtils {
 		}
 	}
 
+	/**
+	 * Clear the internal annotation metadata cache, including the merged
+	 * annotation cache of {@link AnnotatedElementUtils}.
+	 * @since 5.0
+	 */
+	public static void clearCache() {
+		findAnnotationCache.clear();
+		metaPresentCache.clear();
+		annotatedInterfaceCache.clear();
+		synthesizableCache.clear();
+		attributeAliasesCache.clear();
+		attributeMethodsCache.clear();
+		aliasDescriptorCache.clear();
+		AnnotatedElementUtils.clearCache();
+	}
+
 
 	/**
 	 * Cache key for the AnnotatedElement cache.
@@ -18,8 +18,10 @@ package org.springframework.core.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
@@ -35,6 +37,11 @@ import org.springframework.util.StringUtils;
  * <em>synthesized</em> (i.e., wrapped in a dynamic proxy) with additional
  * functionality.
  *
+ * <p>Attribute values are resolved when the handler is created and served
+ * from a cache before any other method dispatch; attributes which fail to
+ * resolve are left to report their error on access. Hash code and
+ * {@code toString()} representation are computed once.
+ *
  * @author Sam Brannen
  * @since 4.2
  * @see Annotation
@@ -47,6 +54,10 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 
 	private final Map<String, Object> valueCache = new ConcurrentHashMap<>(8);
 
+	private volatile Integer hashCode;
+
+	private volatile String string;
+
 
 	/**
 	 * Construct a new {@code SynthesizedAnnotationInvocationHandler} for
@@ -56,11 +67,28 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 	SynthesizedAnnotationInvocationHandler(AnnotationAttributeExtractor<?> attributeExtractor) {
 		Assert.notNull(attributeExtractor, "AnnotationAttributeExtractor must not be null");
 		this.attributeExtractor = attributeExtractor;
+		for (Method attributeMethod : AnnotationUtils.getAttributeMethods(annotationType())) {
+			try {
+				getInternalAttributeValue(attributeMethod);
+			}
+			catch (RuntimeException ex) {
+				// Misconfigured attribute: raise the exception on actual access only,
+				// as for lazily resolved attributes.
+			}
+		}
 	}
 
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		// Fast path for precomputed attributes: an annotation type cannot declare
+		// attributes named like Object or Annotation methods, so a cache hit is unambiguous.
+		if (args == null) {
+			Object value = this.valueCache.get(method.getName());
+			if (value != null) {
+				return cloneArrayIfNecessary(value);
+			}
+		}
 		if (ReflectionUtils.isEqualsMethod(method)) {
 			return annotationEquals(args[0]);
 		}
@@ -85,6 +113,14 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 	}
 
 	private Object getAttributeValue(Method attributeMethod) {
+		return cloneArrayIfNecessary(getInternalAttributeValue(attributeMethod));
+	}
+
+	/**
+	 * Retrieve the cached value of the given attribute, resolving it if necessary,
+	 * without cloning arrays: for internal comparison and hash code purposes only.
+	 */
+	private Object getInternalAttributeValue(Method attributeMethod) {
 		String attributeName = attributeMethod.getName();
 		Object value = this.valueCache.get(attributeName);
 		if (value == null) {
@@ -106,11 +142,18 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 			this.valueCache.put(attributeName, value);
 		}
 
-		// Clone arrays so that users cannot alter the contents of values in our cache.
-		if (value.getClass().isArray()) {
-			value = cloneArray(value);
-		}
+		return value;
+	}
 
+	/**
+	 * Clone arrays so that users cannot alter the contents of values in our cache.
+	 * Empty arrays are immutable and therefore returned as-is.
+	 * @param value the attribute value
+	 */
+	private Object cloneArrayIfNecessary(Object value) {
+		if (value.getClass().isArray() && Array.getLength(value) > 0) {
+			return cloneArray(value);
+		}
 		return value;
 	}
 
@@ -161,9 +204,21 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 			return false;
 		}
 
+		SynthesizedAnnotationInvocationHandler otherHandler = null;
+		if (Proxy.isProxyClass(other.getClass())) {
+			InvocationHandler handler = Proxy.getInvocationHandler(other);
+			if (handler == this) {
+				return true;
+			}
+			if (handler instanceof SynthesizedAnnotationInvocationHandler) {
+				otherHandler = (SynthesizedAnnotationInvocationHandler) handler;
+			}
+		}
+
 		for (Method attributeMethod : AnnotationUtils.getAttributeMethods(annotationType())) {
-			Object thisValue = getAttributeValue(attributeMethod);
-			Object otherValue = ReflectionUtils.invokeMethod(attributeMethod, other);
+			Object thisValue = getInternalAttributeValue(attributeMethod);
+			Object otherValue = (otherHandler != null ? otherHandler.getInternalAttributeValue(attributeMethod) :
+					ReflectionUtils.invokeMethod(attributeMethod, other));
 			if (!ObjectUtils.nullSafeEquals(thisValue, otherValue)) {
 				return false;
 			}
@@ -176,10 +231,19 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 	 * See {@link Annotation#hashCode()} for a definition of the required algorithm.
 	 */
 	private int annotationHashCode() {
+		Integer hashCode = this.hashCode;
+		if (hashCode == null) {
+			hashCode = computeHashCode();
+			this.hashCode = hashCode;
+		}
+		return hashCode;
+	}
+
+	private int computeHashCode() {
 		int result = 0;
 
 		for (Method attributeMethod : AnnotationUtils.getAttributeMethods(annotationType())) {
-			Object value = getAttributeValue(attributeMethod);
+			Object value = getInternalAttributeValue(attributeMethod);
 			int hashCode;
 			if (value.getClass().isArray()) {
 				hashCode = hashCodeForArray(value);
@@ -234,6 +298,15 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 	 * See {@link Annotation#toString()} for guidelines on the recommended format.
 	 */
 	private String annotationToString() {
+		String string = this.string;
+		if (string == null) {
+			string = computeToString();
+			this.string = string;
+		}
+		return string;
+	}
+
+	private String computeToString() {
 		StringBuilder sb = new StringBuilder("@").append(annotationType().getName()).append("(");
 
 		Iterator<Method> iterator = AnnotationUtils.getAttributeMethods(annotationType()).iterator();
@@ -241,7 +314,7 @@ class SynthesizedAnnotationInvocationHandler implements InvocationHandler {
 			Method attributeMethod = iterator.next();
 			sb.append(attributeMethod.getName());
 			sb.append('=');
-			sb.append(attributeValueToString(getAttributeValue(attributeMethod)));
+			sb.append(attributeValueToString(getInternalAttributeValue(attributeMethod)));
 			sb.append(iterator.hasNext() ? ", " : "");
 		}
 
@@ -16,8 +16,6 @@
 
 package org.springframework.core.codec;
 
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -69,10 +67,12 @@ public class CharSequenceEncoder extends AbstractEncoder<CharSequence> {
 		else {
 			 charset = DEFAULT_CHARSET;
 		}
+		float averageBytesPerChar = charset.newEncoder().averageBytesPerChar();
 		return Flux.from(inputStream).map(charSequence -> {
-			CharBuffer charBuffer = CharBuffer.wrap(charSequence);
-			ByteBuffer byteBuffer = charset.encode(charBuffer);
-			return bufferFactory.wrap(byteBuffer);
+			// Encode straight into a buffer from the factory (e.g. pooled), sized for the common case
+			int capacity = (int) Math.ceil(charSequence.length() * averageBytesPerChar);
+			DataBuffer dataBuffer = bufferFactory.allocateBuffer(capacity);
+			return dataBuffer.write(charSequence, charset);
 		});
 	}
 
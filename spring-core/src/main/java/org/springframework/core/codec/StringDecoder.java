@@ -91,8 +91,7 @@ public class StringDecoder extends AbstractDecoder<String> {
 	public Mono<String> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
-		return Flux.from(inputStream)
-				.reduce(DataBuffer::write)
+		return DataBufferUtils.join(inputStream)
 				.map(buffer -> decodeDataBuffer(buffer, mimeType));
 	}
 
@@ -23,7 +23,6 @@ import java.util.Set;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 
@@ -36,7 +35,7 @@ import org.springframework.util.ObjectUtils;
  * @author Phillip Webb
  * @since 3.0
  */
-final class ArrayToArrayConverter implements ConditionalGenericConverter {
+final class ArrayToArrayConverter implements ElementConvertingConverter {
 
 	private final CollectionToArrayConverter helperConverter;
 
@@ -60,7 +59,21 @@ final class ArrayToArrayConverter implements ConditionalGenericConverter {
 	}
 
 	@Override
+	public ElementConverter createElementConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return this.helperConverter.createElementConverter(sourceType, targetType);
+	}
+
+	@Override
+	@Nullable
 	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return convert(source, sourceType, targetType, createElementConverter(sourceType, targetType));
+	}
+
+	@Override
+	@Nullable
+	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable ElementConverter elementConverter) {
+
 		if (this.conversionService instanceof GenericConversionService) {
 			TypeDescriptor targetElement = targetType.getElementTypeDescriptor();
 			if (targetElement != null &&
@@ -70,7 +83,7 @@ final class ArrayToArrayConverter implements ConditionalGenericConverter {
 			}
 		}
 		List<Object> sourceList = Arrays.asList(ObjectUtils.toObjectArray(source));
-		return this.helperConverter.convert(sourceList, sourceType, targetType);
+		return this.helperConverter.convert(sourceList, sourceType, targetType, elementConverter);
 	}
 
 }
@@ -24,7 +24,6 @@ import java.util.Set;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.lang.Nullable;
 
 /**
@@ -39,7 +38,7 @@ import org.springframework.lang.Nullable;
  * @author Juergen Hoeller
  * @since 3.0
  */
-final class ArrayToCollectionConverter implements ConditionalGenericConverter {
+final class ArrayToCollectionConverter implements ElementConvertingConverter {
 
 	private final ConversionService conversionService;
 
@@ -60,9 +59,25 @@ final class ArrayToCollectionConverter implements ConditionalGenericConverter {
 				sourceType.getElementTypeDescriptor(), targetType.getElementTypeDescriptor(), this.conversionService);
 	}
 
+	@Override
+	@Nullable
+	public ElementConverter createElementConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		TypeDescriptor elementDesc = targetType.getElementTypeDescriptor();
+		return (elementDesc != null ?
+				ElementConverter.forElementsOf(this.conversionService, sourceType, elementDesc) : null);
+	}
+
 	@Override
 	@Nullable
 	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return convert(source, sourceType, targetType, createElementConverter(sourceType, targetType));
+	}
+
+	@Override
+	@Nullable
+	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable ElementConverter elementConverter) {
+
 		if (source == null) {
 			return null;
 		}
@@ -72,7 +87,7 @@ final class ArrayToCollectionConverter implements ConditionalGenericConverter {
 		Collection<Object> target = CollectionFactory.createCollection(targetType.getType(),
 				(elementDesc != null ? elementDesc.getType() : null), length);
 
-		if (elementDesc == null) {
+		if (elementConverter == null) {
 			for (int i = 0; i < length; i++) {
 				Object sourceElement = Array.get(source, i);
 				target.add(sourceElement);
@@ -81,8 +96,7 @@ final class ArrayToCollectionConverter implements ConditionalGenericConverter {
 		else {
 			for (int i = 0; i < length; i++) {
 				Object sourceElement = Array.get(source, i);
-				Object targetElement = this.conversionService.convert(sourceElement,
-						sourceType.elementTypeDescriptor(sourceElement), elementDesc);
+				Object targetElement = elementConverter.convert(sourceElement);
 				target.add(targetElement);
 			}
 		}
@@ -23,7 +23,6 @@ import java.util.Set;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -39,7 +38,7 @@ import org.springframework.util.Assert;
  * @author Juergen Hoeller
  * @since 3.0
  */
-final class CollectionToArrayConverter implements ConditionalGenericConverter {
+final class CollectionToArrayConverter implements ElementConvertingConverter {
 
 	private final ConversionService conversionService;
 
@@ -60,20 +59,34 @@ final class CollectionToArrayConverter implements ConditionalGenericConverter {
 				targetType.getElementTypeDescriptor(), this.conversionService);
 	}
 
+	@Override
+	public ElementConverter createElementConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		TypeDescriptor targetElementType = targetType.getElementTypeDescriptor();
+		Assert.state(targetElementType != null, "No target element type");
+		return ElementConverter.forElementsOf(this.conversionService, sourceType, targetElementType);
+	}
+
 	@Override
 	@Nullable
 	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return convert(source, sourceType, targetType, createElementConverter(sourceType, targetType));
+	}
+
+	@Override
+	@Nullable
+	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable ElementConverter elementConverter) {
+
 		if (source == null) {
 			return null;
 		}
 		Collection<?> sourceCollection = (Collection<?>) source;
 		TypeDescriptor targetElementType = targetType.getElementTypeDescriptor();
-		Assert.state(targetElementType != null, "No target element type");
+		Assert.state(targetElementType != null && elementConverter != null, "No target element type");
 		Object array = Array.newInstance(targetElementType.getType(), sourceCollection.size());
 		int i = 0;
 		for (Object sourceElement : sourceCollection) {
-			Object targetElement = this.conversionService.convert(sourceElement,
-					sourceType.elementTypeDescriptor(sourceElement), targetElementType);
+			Object targetElement = elementConverter.convert(sourceElement);
 			Array.set(array, i++, targetElement);
 		}
 		return array;
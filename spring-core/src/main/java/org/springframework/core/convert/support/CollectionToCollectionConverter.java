@@ -23,7 +23,6 @@ import java.util.Set;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.lang.Nullable;
 
 /**
@@ -38,7 +37,7 @@ import org.springframework.lang.Nullable;
  * @author Juergen Hoeller
  * @since 3.0
  */
-final class CollectionToCollectionConverter implements ConditionalGenericConverter {
+final class CollectionToCollectionConverter implements ElementConvertingConverter {
 
 	private final ConversionService conversionService;
 
@@ -59,9 +58,25 @@ final class CollectionToCollectionConverter implements ConditionalGenericConvert
 				sourceType.getElementTypeDescriptor(), targetType.getElementTypeDescriptor(), this.conversionService);
 	}
 
+	@Override
+	@Nullable
+	public ElementConverter createElementConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		TypeDescriptor elementDesc = targetType.getElementTypeDescriptor();
+		return (elementDesc != null ?
+				ElementConverter.forElementsOf(this.conversionService, sourceType, elementDesc) : null);
+	}
+
 	@Override
 	@Nullable
 	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return convert(source, sourceType, targetType, createElementConverter(sourceType, targetType));
+	}
+
+	@Override
+	@Nullable
+	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable ElementConverter elementConverter) {
+
 		if (source == null) {
 			return null;
 		}
@@ -73,7 +88,7 @@ final class CollectionToCollectionConverter implements ConditionalGenericConvert
 			return source;
 		}
 		TypeDescriptor elementDesc = targetType.getElementTypeDescriptor();
-		if (elementDesc == null && !copyRequired) {
+		if (elementConverter == null && !copyRequired) {
 			return source;
 		}
 
@@ -81,13 +96,12 @@ final class CollectionToCollectionConverter implements ConditionalGenericConvert
 		Collection<Object> target = CollectionFactory.createCollection(targetType.getType(),
 				(elementDesc != null ? elementDesc.getType() : null), sourceCollection.size());
 
-		if (elementDesc == null) {
+		if (elementConverter == null) {
 			target.addAll(sourceCollection);
 		}
 		else {
 			for (Object sourceElement : sourceCollection) {
-				Object targetElement = this.conversionService.convert(sourceElement,
-						sourceType.elementTypeDescriptor(sourceElement), elementDesc);
+				Object targetElement = elementConverter.convert(sourceElement);
 				target.add(targetElement);
 				if (sourceElement != targetElement) {
 					copyRequired = true;
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.convert.support;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Internal extension of {@link ConditionalGenericConverter} for collection and
+ * array converters which convert their elements through an {@link ElementConverter},
+ * allowing for the element converter to be created once and reused across calls.
+ *
+ * @since 5.0
+ * @see GenericConversionService#bindConverter
+ */
+interface ElementConvertingConverter extends ConditionalGenericConverter {
+
+	/**
+	 * Create the {@link ElementConverter} for the given source and target types.
+	 * @param sourceType the source type to convert from
+	 * @param targetType the target type to convert to
+	 * @return the element converter, or {@code null} if no element conversion
+	 * is required (i.e. if the target type does not specify an element type)
+	 */
+	@Nullable
+	ElementConverter createElementConverter(TypeDescriptor sourceType, TypeDescriptor targetType);
+
+	/**
+	 * Convert the source object to the target type, using the given element converter.
+	 * @param source the source object to convert (may be {@code null})
+	 * @param sourceType the type descriptor of the field we are converting from
+	 * @param targetType the type descriptor of the field we are converting to
+	 * @param elementConverter the element converter as created by
+	 * {@link #createElementConverter} for the same source and target types
+	 * @return the converted object
+	 */
+	@Nullable
+	Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable ElementConverter elementConverter);
+
+}
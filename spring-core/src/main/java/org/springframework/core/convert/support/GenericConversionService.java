@@ -78,6 +78,8 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	private volatile int converterCacheVersion;
+
 
 	// ConverterRegistry implementation
 
@@ -184,12 +186,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 			throw new IllegalArgumentException("Source to convert from must be an instance of [" +
 					sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
 		}
-		GenericConverter converter = getConverter(sourceType, targetType);
-		if (converter != null) {
-			Object result = ConversionUtils.invokeConverter(converter, source, sourceType, targetType);
-			return handleResult(sourceType, targetType, result);
-		}
-		return handleConverterNotFound(source, sourceType, targetType);
+		return convert(source, sourceType, targetType, getConverter(sourceType, targetType));
 	}
 
 	/**
@@ -210,6 +207,36 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return convert(source, TypeDescriptor.forObject(source), targetType);
 	}
 
+	/**
+	 * Resolve the converter for the given source and target type once, returning
+	 * a reusable {@link Converter} handle which performs the same conversion as
+	 * {@link #convert(Object, TypeDescriptor, TypeDescriptor)} for those types
+	 * without repeating the converter lookup on every call.
+	 * <p>For collection and array conversions, the converters for the individual
+	 * elements are retained by the handle as well, avoiding a lookup and a
+	 * {@link TypeDescriptor} per element. The handle re-resolves its converters
+	 * if converters are added to or removed from this conversion service later on.
+	 * <p>The returned handle is thread-safe; it is intended to be held on to for
+	 * repeated conversions between the same types, e.g. when binding many values
+	 * to the same target field.
+	 * @param sourceType context about the source type to convert from (required)
+	 * @param targetType context about the target type to convert to (required)
+	 * @return the converter handle, accepting instances of the source type
+	 * (or {@code null}) and returning instances of the target type
+	 * @throws ConverterNotFoundException if no converter is available
+	 * for the given source and target types
+	 * @since 5.0
+	 */
+	public Converter<Object, Object> bindConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		Assert.notNull(sourceType, "Source type to convert from cannot be null");
+		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		BoundConverter boundConverter = new BoundConverter(sourceType, targetType);
+		if (boundConverter.getConverter() == null) {
+			throw new ConverterNotFoundException(sourceType, targetType);
+		}
+		return boundConverter;
+	}
+
 	@Override
 	public String toString() {
 		return this.converters.toString();
@@ -285,6 +312,21 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	// Internal helpers
 
+	/**
+	 * Convert the given source object through the given (pre-resolved) converter,
+	 * applying the same result handling as {@link #convert(Object, TypeDescriptor, TypeDescriptor)}.
+	 */
+	@Nullable
+	Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable GenericConverter converter) {
+
+		if (converter != null) {
+			Object result = ConversionUtils.invokeConverter(converter, source, sourceType, targetType);
+			return handleResult(sourceType, targetType, result);
+		}
+		return handleConverterNotFound(source, sourceType, targetType);
+	}
+
 	@Nullable
 	private ResolvableType[] getRequiredTypeInfo(Class<?> converterClass, Class<?> genericIfc) {
 		ResolvableType resolvableType = ResolvableType.forClass(converterClass).as(genericIfc);
@@ -302,6 +344,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.converterCacheVersion++;
 	}
 
 	@Nullable
@@ -440,6 +483,111 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * Reusable converter handle for a specific pair of source and target types,
+	 * as returned from {@link #bindConverter}.
+	 */
+	private final class BoundConverter implements Converter<Object, Object> {
+
+		private final TypeDescriptor sourceType;
+
+		private final TypeDescriptor targetType;
+
+		private volatile Binding binding;
+
+		public BoundConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.binding = bind();
+		}
+
+		@Override
+		@Nullable
+		public Object convert(@Nullable Object source) {
+			if (source != null && !this.sourceType.getObjectType().isInstance(source)) {
+				throw new IllegalArgumentException("Source to convert from must be an instance of [" +
+						this.sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
+			}
+			return GenericConversionService.this.convert(source, this.sourceType, this.targetType, getConverter());
+		}
+
+		@Nullable
+		public GenericConverter getConverter() {
+			Binding binding = this.binding;
+			if (binding.version != converterCacheVersion) {
+				binding = bind();
+				this.binding = binding;
+			}
+			return binding.converter;
+		}
+
+		private Binding bind() {
+			int version = converterCacheVersion;
+			GenericConverter converter = GenericConversionService.this.getConverter(this.sourceType, this.targetType);
+			if (converter instanceof ElementConvertingConverter) {
+				ElementConvertingConverter elementConvertingConverter = (ElementConvertingConverter) converter;
+				converter = new ElementConverterBinding(elementConvertingConverter,
+						elementConvertingConverter.createElementConverter(this.sourceType, this.targetType));
+			}
+			return new Binding(version, converter);
+		}
+
+		@Override
+		public String toString() {
+			return (this.sourceType + " -> " + this.targetType + " : " + getConverter());
+		}
+	}
+
+
+	/**
+	 * Immutable state of a {@link BoundConverter}: the resolved converter
+	 * along with the converter cache version that it has been resolved for.
+	 */
+	private static final class Binding {
+
+		private final int version;
+
+		private final GenericConverter converter;
+
+		public Binding(int version, @Nullable GenericConverter converter) {
+			this.version = version;
+			this.converter = converter;
+		}
+	}
+
+
+	/**
+	 * Binds an {@link ElementConvertingConverter} to a pre-created {@link ElementConverter}.
+	 */
+	private static final class ElementConverterBinding implements GenericConverter {
+
+		private final ElementConvertingConverter converter;
+
+		private final ElementConverter elementConverter;
+
+		public ElementConverterBinding(ElementConvertingConverter converter, @Nullable ElementConverter elementConverter) {
+			this.converter = converter;
+			this.elementConverter = elementConverter;
+		}
+
+		@Override
+		public Set<ConvertiblePair> getConvertibleTypes() {
+			return this.converter.getConvertibleTypes();
+		}
+
+		@Override
+		@Nullable
+		public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+			return this.converter.convert(source, sourceType, targetType, this.elementConverter);
+		}
+
+		@Override
+		public String toString() {
+			return this.converter.toString();
+		}
+	}
+
+
 	/**
 	 * Key for use with the converter cache.
 	 */
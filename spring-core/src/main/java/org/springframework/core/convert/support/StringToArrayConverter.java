@@ -22,7 +22,6 @@ import java.util.Set;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -35,7 +34,7 @@ import org.springframework.util.StringUtils;
  * @author Juergen Hoeller
  * @since 3.0
  */
-final class StringToArrayConverter implements ConditionalGenericConverter {
+final class StringToArrayConverter implements ElementConvertingConverter {
 
 	private final ConversionService conversionService;
 
@@ -56,20 +55,35 @@ final class StringToArrayConverter implements ConditionalGenericConverter {
 				this.conversionService);
 	}
 
+	@Override
+	public ElementConverter createElementConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		TypeDescriptor targetElementType = targetType.getElementTypeDescriptor();
+		Assert.state(targetElementType != null, "No target element type");
+		return ElementConverter.forElementType(this.conversionService, sourceType, targetElementType);
+	}
+
 	@Override
 	@Nullable
 	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return convert(source, sourceType, targetType, createElementConverter(sourceType, targetType));
+	}
+
+	@Override
+	@Nullable
+	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable ElementConverter elementConverter) {
+
 		if (source == null) {
 			return null;
 		}
 		String string = (String) source;
 		String[] fields = StringUtils.commaDelimitedListToStringArray(string);
 		TypeDescriptor targetElementType = targetType.getElementTypeDescriptor();
-		Assert.state(targetElementType != null, "No target element type");
+		Assert.state(targetElementType != null && elementConverter != null, "No target element type");
 		Object target = Array.newInstance(targetElementType.getType(), fields.length);
 		for (int i = 0; i < fields.length; i++) {
 			String sourceElement = fields[i];
-			Object targetElement = this.conversionService.convert(sourceElement.trim(), sourceType, targetElementType);
+			Object targetElement = elementConverter.convert(sourceElement.trim());
 			Array.set(target, i, targetElement);
 		}
 		return target;
@@ -23,7 +23,6 @@ import java.util.Set;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.core.convert.converter.ConditionalGenericConverter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
@@ -36,7 +35,7 @@ import org.springframework.util.StringUtils;
  * @author Juergen Hoeller
  * @since 3.0
  */
-final class StringToCollectionConverter implements ConditionalGenericConverter {
+final class StringToCollectionConverter implements ElementConvertingConverter {
 
 	private final ConversionService conversionService;
 
@@ -57,9 +56,25 @@ final class StringToCollectionConverter implements ConditionalGenericConverter {
 				this.conversionService.canConvert(sourceType, targetType.getElementTypeDescriptor()));
 	}
 
+	@Override
+	@Nullable
+	public ElementConverter createElementConverter(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		TypeDescriptor elementDesc = targetType.getElementTypeDescriptor();
+		return (elementDesc != null ?
+				ElementConverter.forElementType(this.conversionService, sourceType, elementDesc) : null);
+	}
+
 	@Override
 	@Nullable
 	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return convert(source, sourceType, targetType, createElementConverter(sourceType, targetType));
+	}
+
+	@Override
+	@Nullable
+	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType,
+			@Nullable ElementConverter elementConverter) {
+
 		if (source == null) {
 			return null;
 		}
@@ -70,14 +85,14 @@ final class StringToCollectionConverter implements ConditionalGenericConverter {
 		Collection<Object> target = CollectionFactory.createCollection(targetType.getType(),
 				(elementDesc != null ? elementDesc.getType() : null), fields.length);
 
-		if (elementDesc == null) {
+		if (elementConverter == null) {
 			for (String field : fields) {
 				target.add(field.trim());
 			}
 		}
 		else {
 			for (String field : fields) {
-				Object targetElement = this.conversionService.convert(field.trim(), sourceType, elementDesc);
+				Object targetElement = elementConverter.convert(field.trim());
 				target.add(targetElement);
 			}
 		}
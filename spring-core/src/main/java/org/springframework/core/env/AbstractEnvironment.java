@@ -108,7 +108,7 @@ public abstract class AbstractEnvironment implements ConfigurableEnvironment {
 
 	private final MutablePropertySources propertySources = new MutablePropertySources(this.logger);
 
-	private final ConfigurablePropertyResolver propertyResolver =
+	private final PropertySourcesPropertyResolver propertyResolver =
 			new PropertySourcesPropertyResolver(this.propertySources);
 
 
@@ -516,6 +516,27 @@ public abstract class AbstractEnvironment implements ConfigurableEnvironment {
 		this.propertyResolver.validateRequiredProperties();
 	}
 
+	/**
+	 * Set whether to cache resolved property values and placeholder resolution results.
+	 * <p>The default is {@code false}. Structural changes to the
+	 * {@linkplain #getPropertySources() property sources} are detected automatically;
+	 * other changes require a call to {@link #clearResolvedPropertyCache()}.
+	 * @since 5.0
+	 * @see AbstractPropertyResolver#setCacheResolvedProperties
+	 */
+	public void setCacheResolvedProperties(boolean cacheResolvedProperties) {
+		this.propertyResolver.setCacheResolvedProperties(cacheResolvedProperties);
+	}
+
+	/**
+	 * Clear the cache of resolved property values, if any.
+	 * @since 5.0
+	 * @see #setCacheResolvedProperties
+	 */
+	public void clearResolvedPropertyCache() {
+		this.propertyResolver.clearResolvedPropertyCache();
+	}
+
 
 	//---------------------------------------------------------------------
 	// Implementation of PropertyResolver interface
@@ -17,7 +17,9 @@
 package org.springframework.core.env;
 
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -58,6 +60,10 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 
 	private final Set<String> requiredProperties = new LinkedHashSet<>();
 
+	private volatile boolean cacheResolvedProperties = false;
+
+	private volatile ResolvedPropertyCache resolvedPropertyCache;
+
 
 	@Override
 	public ConfigurableConversionService getConversionService() {
@@ -77,6 +83,7 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 	public void setConversionService(ConfigurableConversionService conversionService) {
 		Assert.notNull(conversionService, "ConversionService must not be null");
 		this.conversionService = conversionService;
+		clearResolvedPropertyCache();
 	}
 
 	/**
@@ -88,6 +95,7 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 	public void setPlaceholderPrefix(String placeholderPrefix) {
 		Assert.notNull(placeholderPrefix, "'placeholderPrefix' must not be null");
 		this.placeholderPrefix = placeholderPrefix;
+		clearResolvedPropertyCache();
 	}
 
 	/**
@@ -99,6 +107,7 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 	public void setPlaceholderSuffix(String placeholderSuffix) {
 		Assert.notNull(placeholderSuffix, "'placeholderSuffix' must not be null");
 		this.placeholderSuffix = placeholderSuffix;
+		clearResolvedPropertyCache();
 	}
 
 	/**
@@ -111,6 +120,7 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 	@Override
 	public void setValueSeparator(@Nullable String valueSeparator) {
 		this.valueSeparator = valueSeparator;
+		clearResolvedPropertyCache();
 	}
 
 	/**
@@ -125,6 +135,43 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 	@Override
 	public void setIgnoreUnresolvableNestedPlaceholders(boolean ignoreUnresolvableNestedPlaceholders) {
 		this.ignoreUnresolvableNestedPlaceholders = ignoreUnresolvableNestedPlaceholders;
+		clearResolvedPropertyCache();
+	}
+
+	/**
+	 * Set whether to cache resolved property values per property name and target
+	 * type, as well as the results of placeholder resolution for given texts.
+	 * <p>The default is {@code false}, resolving every request against the underlying
+	 * property sources. Switch this to {@code true} for repeated resolution of the
+	 * same properties at runtime. Note that structural changes to the underlying
+	 * {@link MutablePropertySources} (if any) are detected automatically, whereas
+	 * changes to the content of individual property sources as well as converters
+	 * registered with the {@link #getConversionService() ConversionService} later on
+	 * require an explicit {@link #clearResolvedPropertyCache()} call.
+	 * @since 5.0
+	 * @see #clearResolvedPropertyCache()
+	 */
+	public void setCacheResolvedProperties(boolean cacheResolvedProperties) {
+		this.cacheResolvedProperties = cacheResolvedProperties;
+		clearResolvedPropertyCache();
+	}
+
+	/**
+	 * Return whether resolved property values are being cached.
+	 * @since 5.0
+	 */
+	public boolean isCacheResolvedProperties() {
+		return this.cacheResolvedProperties;
+	}
+
+	/**
+	 * Clear the cache of resolved property values and placeholder resolution results,
+	 * e.g. after changes to the content of the underlying property sources.
+	 * @since 5.0
+	 * @see #setCacheResolvedProperties
+	 */
+	public void clearResolvedPropertyCache() {
+		this.resolvedPropertyCache = null;
 	}
 
 	@Override
@@ -189,18 +236,34 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 
 	@Override
 	public String resolvePlaceholders(String text) {
-		if (this.nonStrictHelper == null) {
-			this.nonStrictHelper = createPlaceholderHelper(true);
+		ResolvedPropertyCache cache = getResolvedPropertyCache();
+		String resolved = (cache != null && text != null ? cache.placeholders.get(text) : null);
+		if (resolved == null) {
+			if (this.nonStrictHelper == null) {
+				this.nonStrictHelper = createPlaceholderHelper(true);
+			}
+			resolved = doResolvePlaceholders(text, this.nonStrictHelper);
+			if (cache != null) {
+				cache.placeholders.put(text, resolved);
+			}
 		}
-		return doResolvePlaceholders(text, this.nonStrictHelper);
+		return resolved;
 	}
 
 	@Override
 	public String resolveRequiredPlaceholders(String text) throws IllegalArgumentException {
-		if (this.strictHelper == null) {
-			this.strictHelper = createPlaceholderHelper(false);
+		ResolvedPropertyCache cache = getResolvedPropertyCache();
+		String resolved = (cache != null && text != null ? cache.requiredPlaceholders.get(text) : null);
+		if (resolved == null) {
+			if (this.strictHelper == null) {
+				this.strictHelper = createPlaceholderHelper(false);
+			}
+			resolved = doResolvePlaceholders(text, this.strictHelper);
+			if (cache != null) {
+				cache.requiredPlaceholders.put(text, resolved);
+			}
 		}
-		return doResolvePlaceholders(text, this.strictHelper);
+		return resolved;
 	}
 
 	/**
@@ -256,6 +319,33 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 	}
 
 
+	/**
+	 * Return the currently valid cache of resolution results,
+	 * or {@code null} if resolved properties are not being cached.
+	 */
+	@Nullable
+	ResolvedPropertyCache getResolvedPropertyCache() {
+		if (!this.cacheResolvedProperties) {
+			return null;
+		}
+		int version = getPropertySourcesVersion();
+		ResolvedPropertyCache cache = this.resolvedPropertyCache;
+		if (cache == null || cache.version != version) {
+			cache = new ResolvedPropertyCache(version);
+			this.resolvedPropertyCache = cache;
+		}
+		return cache;
+	}
+
+	/**
+	 * Return the current version of the underlying property sources, with
+	 * a changed value indicating that cached resolution results are stale.
+	 * <p>The default implementation returns a constant value.
+	 */
+	int getPropertySourcesVersion() {
+		return 0;
+	}
+
 	/**
 	 * Retrieve the specified property as a raw String,
 	 * i.e. without resolution of nested placeholders.
@@ -265,4 +355,25 @@ public abstract class AbstractPropertyResolver implements ConfigurablePropertyRe
 	@Nullable
 	protected abstract String getPropertyAsRawString(String key);
 
+
+	/**
+	 * Cache of resolution results for a specific version of the property sources.
+	 */
+	static final class ResolvedPropertyCache {
+
+		static final Object NULL_VALUE = new Object();
+
+		final int version;
+
+		final Map<String, Map<Class<?>, Object>> values = new ConcurrentHashMap<>(64);
+
+		final Map<String, String> placeholders = new ConcurrentHashMap<>(64);
+
+		final Map<String, String> requiredPlaceholders = new ConcurrentHashMap<>(64);
+
+		ResolvedPropertyCache(int version) {
+			this.version = version;
+		}
+	}
+
 }
@@ -16,7 +16,14 @@
 
 package org.springframework.core.env;
 
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link PropertyResolver} implementation that resolves property values against
@@ -57,12 +64,12 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 
 	@Override
 	public String getProperty(String key) {
-		return getProperty(key, String.class, true);
+		return getCachedProperty(key, String.class);
 	}
 
 	@Override
 	public <T> T getProperty(String key, Class<T> targetValueType) {
-		return getProperty(key, targetValueType, true);
+		return getCachedProperty(key, targetValueType);
 	}
 
 	@Override
@@ -93,6 +100,66 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		return null;
 	}
 
+	/**
+	 * Resolve the given property through the resolved property cache, if active.
+	 * <p>Only immutable values and arrays of immutable elements are cached, with
+	 * every caller receiving its own copy of a cached array.
+	 * @see #setCacheResolvedProperties
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	private <T> T getCachedProperty(String key, Class<T> targetValueType) {
+		ResolvedPropertyCache cache = getResolvedPropertyCache();
+		if (cache == null || key == null) {
+			return getProperty(key, targetValueType, true);
+		}
+		Map<Class<?>, Object> valuesByType = cache.values.get(key);
+		Object value = (valuesByType != null ? valuesByType.get(targetValueType) : null);
+		if (value == null) {
+			value = getProperty(key, targetValueType, true);
+			if (value != null && !isCacheable(value)) {
+				return (T) value;
+			}
+			if (valuesByType == null) {
+				valuesByType = cache.values.computeIfAbsent(key, k -> new ConcurrentHashMap<>(4));
+			}
+			valuesByType.put(targetValueType, (value != null ? value : ResolvedPropertyCache.NULL_VALUE));
+		}
+		if (value == null || value == ResolvedPropertyCache.NULL_VALUE) {
+			return null;
+		}
+		if (value.getClass().isArray()) {
+			// Each caller gets its own copy, leaving the cached array untouched
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+			return (T) copy;
+		}
+		return (T) value;
+	}
+
+	/**
+	 * Determine whether the given resolved value can be shared between callers
+	 * through the cache: immutable values as well as arrays of immutable elements.
+	 */
+	private static boolean isCacheable(Object value) {
+		Class<?> type = value.getClass();
+		if (type.isArray()) {
+			type = type.getComponentType();
+			if (type.isPrimitive()) {
+				return true;
+			}
+		}
+		return (type == String.class || ClassUtils.isPrimitiveWrapper(type) || Enum.class.isAssignableFrom(type) ||
+				type == Class.class || type == BigInteger.class || type == BigDecimal.class);
+	}
+
+	@Override
+	int getPropertySourcesVersion() {
+		return (this.propertySources instanceof MutablePropertySources ?
+				((MutablePropertySources) this.propertySources).getModificationCount() : 0);
+	}
+
 	/**
 	 * Log the given key as found in the given {@link PropertySource}, resulting in
 	 * the given value.
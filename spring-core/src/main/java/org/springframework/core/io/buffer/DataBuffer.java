@@ -19,8 +19,12 @@ package org.springframework.core.io.buffer;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
 import java.util.function.IntPredicate;
 
+import org.springframework.util.Assert;
+
 /**
  * Basic abstraction over byte buffers.
  *
@@ -126,6 +130,25 @@ public interface DataBuffer {
 	 */
 	DataBuffer write(ByteBuffer... buffers);
 
+	/**
+	 * Write the given {@code CharSequence} into this buffer, encoded with the
+	 * given {@code Charset}, starting at the current writing position.
+	 * <p>Malformed and unmappable input is replaced. The default implementation
+	 * encodes into an intermediate {@code ByteBuffer}; implementations may
+	 * encode straight into their own memory instead.
+	 * @param charSequence the char sequence to be written into this buffer
+	 * @param charset the charset to encode the char sequence with
+	 * @return this buffer
+	 */
+	default DataBuffer write(CharSequence charSequence, Charset charset) {
+		Assert.notNull(charSequence, "'charSequence' must not be null");
+		Assert.notNull(charset, "'charset' must not be null");
+		if (charSequence.length() == 0) {
+			return this;
+		}
+		return write(charset.encode(CharBuffer.wrap(charSequence)));
+	}
+
 	/**
 	 * Create a new {@code DataBuffer} whose contents is a shared subsequence of this
 	 * data buffer's content.  Data between this data buffer and the returned buffer is
@@ -17,6 +17,9 @@
 package org.springframework.core.io.buffer;
 
 import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.springframework.util.Assert;
 
 /**
  * A factory for {@link DataBuffer}s,allowing for allocation and wrapping of
@@ -59,4 +62,35 @@ public interface DataBufferFactory {
 	 */
 	DataBuffer wrap(byte[] bytes);
 
+	/**
+	 * Return a new {@code DataBuffer} composed of the given data buffers, in order.
+	 * Depending on the implementation, the result may be a composite view of the
+	 * given buffers (avoiding a copy of their content) or a new buffer they have
+	 * been copied into.
+	 * <p>The given data buffers are handed over to the returned buffer and
+	 * must not be used (or released) afterwards: they are released as part
+	 * of releasing the returned buffer, or right away if copied.
+	 * <p>The default implementation copies the given buffers into a single new
+	 * buffer of their combined size, releasing each of them right away.
+	 * @param dataBuffers the data buffers to join
+	 * @return a buffer containing the content of all given buffers
+	 * @see DataBufferUtils#join(org.reactivestreams.Publisher)
+	 */
+	default DataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "'dataBuffers' must not be empty");
+		if (dataBuffers.size() == 1) {
+			return dataBuffers.get(0);
+		}
+		int capacity = 0;
+		for (DataBuffer dataBuffer : dataBuffers) {
+			capacity += dataBuffer.readableByteCount();
+		}
+		DataBuffer result = allocateBuffer(capacity);
+		for (DataBuffer dataBuffer : dataBuffers) {
+			result.write(dataBuffer.asByteBuffer());
+			DataBufferUtils.release(dataBuffer);
+		}
+		return result;
+	}
+
 }
@@ -18,18 +18,28 @@ package org.springframework.core.io.buffer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.SynchronousSink;
 
 import org.springframework.lang.Nullable;
@@ -123,6 +133,87 @@ public abstract class DataBufferUtils {
 		});
 	}
 
+	/**
+	 * Write the given stream of {@code DataBuffer}s to the given {@code OutputStream},
+	 * releasing each buffer once written. Does <strong>not</strong> close the output
+	 * stream when done. Note that the writes are blocking, performed on the thread
+	 * that emits each buffer.
+	 * @param source the stream of data buffers to write
+	 * @param outputStream the output stream to write to
+	 * @return a mono that completes once all buffers have been written,
+	 * or that fails with the first write error
+	 */
+	public static Mono<Void> write(Publisher<DataBuffer> source, OutputStream outputStream) {
+		Assert.notNull(source, "'source' must not be null");
+		Assert.notNull(outputStream, "'outputStream' must not be null");
+
+		WritableByteChannel channel = Channels.newChannel(outputStream);
+		return write(source, channel);
+	}
+
+	/**
+	 * Write the given stream of {@code DataBuffer}s to the given {@code WritableByteChannel},
+	 * releasing each buffer once written. Does <strong>not</strong> close the channel
+	 * when done. Note that the writes are blocking, performed on the thread that emits
+	 * each buffer: the channel is expected to be in blocking mode.
+	 * @param source the stream of data buffers to write
+	 * @param channel the channel to write to
+	 * @return a mono that completes once all buffers have been written,
+	 * or that fails with the first write error
+	 */
+	public static Mono<Void> write(Publisher<DataBuffer> source, WritableByteChannel channel) {
+		Assert.notNull(source, "'source' must not be null");
+		Assert.notNull(channel, "'channel' must not be null");
+
+		return Mono.create(sink -> {
+			WritableByteChannelWriter writer = new WritableByteChannelWriter(channel, sink);
+			sink.onCancel(writer);
+			Flux.from(source).subscribe(writer);
+		});
+	}
+
+	/**
+	 * Write the given stream of {@code DataBuffer}s to the given
+	 * {@code AsynchronousFileChannel}, starting at the beginning of the file.
+	 * Does <strong>not</strong> close the channel when done.
+	 * @param source the stream of data buffers to write
+	 * @param channel the channel to write to
+	 * @return a mono that completes once all buffers have been written,
+	 * or that fails with the first write error
+	 * @see #write(Publisher, AsynchronousFileChannel, long)
+	 */
+	public static Mono<Void> write(Publisher<DataBuffer> source, AsynchronousFileChannel channel) {
+		return write(source, channel, 0);
+	}
+
+	/**
+	 * Write the given stream of {@code DataBuffer}s to the given
+	 * {@code AsynchronousFileChannel}, starting at the given position.
+	 * Does <strong>not</strong> close the channel when done.
+	 * <p>Each buffer is written at the position following its predecessor,
+	 * without waiting for the preceding writes to complete, but with a bounded
+	 * number of buffers requested from the source and in progress at any time.
+	 * Each buffer gets released once written, or once the write has failed.
+	 * @param source the stream of data buffers to write
+	 * @param channel the channel to write to
+	 * @param position the file position to start writing at
+	 * @return a mono that completes once all buffers have been written,
+	 * or that fails with the first write error
+	 */
+	public static Mono<Void> write(Publisher<DataBuffer> source, AsynchronousFileChannel channel,
+			long position) {
+
+		Assert.notNull(source, "'source' must not be null");
+		Assert.notNull(channel, "'channel' must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+
+		return Mono.create(sink -> {
+			AsynchronousFileChannelWriter writer = new AsynchronousFileChannelWriter(channel, position, sink);
+			sink.onCancel(writer);
+			Flux.from(source).subscribe(writer);
+		});
+	}
+
 	private static void closeChannel(@Nullable Channel channel) {
 		try {
 			if (channel != null) {
@@ -201,6 +292,28 @@ public abstract class DataBufferUtils {
 				});
 	}
 
+	/**
+	 * Join all the data buffers from the given {@link Publisher} into a single
+	 * buffer, through {@link DataBufferFactory#join} of the first buffer's factory:
+	 * e.g. as a composite buffer without copying for Netty buffers, or with a
+	 * single copy into a buffer of the combined size otherwise.
+	 * <p>Buffers received before an error or cancellation are released.
+	 * @param dataBuffers the data buffers to join
+	 * @return a mono with the joined buffer, or an empty mono if there were no buffers
+	 */
+	public static Mono<DataBuffer> join(Publisher<DataBuffer> dataBuffers) {
+		Assert.notNull(dataBuffers, "'dataBuffers' must not be null");
+		return Mono.defer(() -> {
+			List<DataBuffer> collected = new ArrayList<>();
+			return Flux.from(dataBuffers)
+					.doOnNext(collected::add)
+					.doOnError(ex -> collected.forEach(DataBufferUtils::release))
+					.doOnCancel(() -> collected.forEach(DataBufferUtils::release))
+					.then(Mono.fromSupplier(() ->
+							collected.isEmpty() ? null : collected.get(0).factory().join(collected)));
+		});
+	}
+
 	/**
 	 * Retain the given data buffer, it it is a {@link PooledDataBuffer}.
 	 * @param dataBuffer the data buffer to retain
@@ -326,4 +439,191 @@ public abstract class DataBufferUtils {
 			closeChannel(channel);
 		}
 	}
+
+	/**
+	 * Subscriber that writes each received buffer to a blocking channel,
+	 * releasing buffers that arrive after a failed write or a cancellation.
+	 */
+	private static class WritableByteChannelWriter extends BaseSubscriber<DataBuffer> {
+
+		private final WritableByteChannel channel;
+
+		private final MonoSink<Void> sink;
+
+		private final AtomicBoolean terminated = new AtomicBoolean();
+
+		public WritableByteChannelWriter(WritableByteChannel channel, MonoSink<Void> sink) {
+			this.channel = channel;
+			this.sink = sink;
+		}
+
+		@Override
+		protected void hookOnNext(DataBuffer dataBuffer) {
+			if (this.terminated.get()) {
+				release(dataBuffer);
+				return;
+			}
+			try {
+				ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+				while (byteBuffer.hasRemaining()) {
+					this.channel.write(byteBuffer);
+				}
+			}
+			catch (IOException ex) {
+				if (this.terminated.compareAndSet(false, true)) {
+					cancel();
+					this.sink.error(ex);
+				}
+			}
+			finally {
+				release(dataBuffer);
+			}
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			if (this.terminated.compareAndSet(false, true)) {
+				this.sink.success();
+			}
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+			if (this.terminated.compareAndSet(false, true)) {
+				this.sink.error(throwable);
+			}
+		}
+
+		@Override
+		protected void hookOnCancel() {
+			this.terminated.set(true);
+		}
+	}
+
+	/**
+	 * Subscriber that writes each received buffer at its position in the file,
+	 * keeping up to {@link #MAX_PENDING_WRITES} writes in progress.
+	 */
+	private static class AsynchronousFileChannelWriter extends BaseSubscriber<DataBuffer> {
+
+		private static final int MAX_PENDING_WRITES = 4;
+
+		private final AsynchronousFileChannel channel;
+
+		private final MonoSink<Void> sink;
+
+		// Pending writes, plus one until the source has completed
+		private final AtomicInteger pendingCount = new AtomicInteger(1);
+
+		private final AtomicBoolean terminated = new AtomicBoolean();
+
+		private long position;
+
+		public AsynchronousFileChannelWriter(AsynchronousFileChannel channel, long position,
+				MonoSink<Void> sink) {
+
+			this.channel = channel;
+			this.position = position;
+			this.sink = sink;
+		}
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+			request(MAX_PENDING_WRITES);
+		}
+
+		@Override
+		protected void hookOnNext(DataBuffer dataBuffer) {
+			if (this.terminated.get()) {
+				release(dataBuffer);
+				return;
+			}
+			this.pendingCount.incrementAndGet();
+			ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+			long writePosition = this.position;
+			this.position += byteBuffer.remaining();
+			new WriteCompletionHandler(dataBuffer, byteBuffer, writePosition).write();
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			if (this.pendingCount.decrementAndGet() == 0 && this.terminated.compareAndSet(false, true)) {
+				this.sink.success();
+			}
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+			if (this.terminated.compareAndSet(false, true)) {
+				this.sink.error(throwable);
+			}
+		}
+
+		@Override
+		protected void hookOnCancel() {
+			this.terminated.set(true);
+		}
+
+		private void writeCompleted() {
+			if (this.pendingCount.decrementAndGet() == 0) {
+				if (this.terminated.compareAndSet(false, true)) {
+					this.sink.success();
+				}
+			}
+			else {
+				request(1);
+			}
+		}
+
+		private void writeFailed(Throwable ex) {
+			if (this.terminated.compareAndSet(false, true)) {
+				cancel();
+				this.sink.error(ex);
+			}
+		}
+
+
+		private class WriteCompletionHandler implements CompletionHandler<Integer, Void> {
+
+			private final DataBuffer dataBuffer;
+
+			private final ByteBuffer byteBuffer;
+
+			private long position;
+
+			public WriteCompletionHandler(DataBuffer dataBuffer, ByteBuffer byteBuffer, long position) {
+				this.dataBuffer = dataBuffer;
+				this.byteBuffer = byteBuffer;
+				this.position = position;
+			}
+
+			public void write() {
+				try {
+					channel.write(this.byteBuffer, this.position, null, this);
+				}
+				catch (Throwable ex) {
+					failed(ex, null);
+				}
+			}
+
+			@Override
+			public void completed(Integer written, Void attachment) {
+				if (this.byteBuffer.hasRemaining() && !terminated.get()) {
+					this.position += written;
+					write();
+				}
+				else {
+					release(this.dataBuffer);
+					writeCompleted();
+				}
+			}
+
+			@Override
+			public void failed(Throwable ex, Void attachment) {
+				release(this.dataBuffer);
+				writeFailed(ex);
+			}
+		}
+	}
+
 }
@@ -21,6 +21,12 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
@@ -209,6 +215,92 @@ public class DefaultDataBuffer implements DataBuffer {
 		return this;
 	}
 
+	@Override
+	public DefaultDataBuffer write(CharSequence charSequence, Charset charset) {
+		Assert.notNull(charSequence, "'charSequence' must not be null");
+		Assert.notNull(charset, "'charset' must not be null");
+		if (charSequence.length() == 0) {
+			return this;
+		}
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			writeUtf8(charSequence);
+			return this;
+		}
+		CharsetEncoder encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer in = CharBuffer.wrap(charSequence);
+		ensureExtraCapacity((int) Math.ceil(in.remaining() * encoder.averageBytesPerChar()));
+		while (true) {
+			// Encode straight into the backing buffer, growing it on overflow
+			ByteBuffer out = this.byteBuffer;
+			// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
+			((Buffer) out).limit(out.capacity()).position(this.writePosition);
+			CoderResult result = (in.hasRemaining() ? encoder.encode(in, out, true) : CoderResult.UNDERFLOW);
+			if (result.isUnderflow()) {
+				result = encoder.flush(out);
+			}
+			this.writePosition = out.position();
+			if (result.isUnderflow()) {
+				return this;
+			}
+			ensureExtraCapacity((int) Math.ceil((in.remaining() + 1) * encoder.maxBytesPerChar()));
+		}
+	}
+
+	/**
+	 * Encode the given {@code CharSequence} as UTF-8 straight into the backing buffer,
+	 * replacing unpaired surrogates with '?' as the JDK's UTF-8 encoder does.
+	 */
+	private void writeUtf8(CharSequence charSequence) {
+		int length = charSequence.length();
+		ensureExtraCapacity(length);
+		ByteBuffer buffer = this.byteBuffer;
+		int position = this.writePosition;
+		int i = 0;
+		for (; i < length; i++) {
+			char c = charSequence.charAt(i);
+			if (c >= 0x80) {
+				break;
+			}
+			buffer.put(position++, (byte) c);
+		}
+		if (i < length) {
+			// Non-ASCII content: at most 3 bytes per remaining char (4 per surrogate pair)
+			this.writePosition = position;
+			ensureExtraCapacity((length - i) * 3);
+			buffer = this.byteBuffer;
+			position = this.writePosition;
+			for (; i < length; i++) {
+				char c = charSequence.charAt(i);
+				if (c < 0x80) {
+					buffer.put(position++, (byte) c);
+				}
+				else if (c < 0x800) {
+					buffer.put(position++, (byte) (0xc0 | (c >> 6)));
+					buffer.put(position++, (byte) (0x80 | (c & 0x3f)));
+				}
+				else if (!Character.isSurrogate(c)) {
+					buffer.put(position++, (byte) (0xe0 | (c >> 12)));
+					buffer.put(position++, (byte) (0x80 | ((c >> 6) & 0x3f)));
+					buffer.put(position++, (byte) (0x80 | (c & 0x3f)));
+				}
+				else if (Character.isHighSurrogate(c) && i + 1 < length &&
+						Character.isLowSurrogate(charSequence.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, charSequence.charAt(++i));
+					buffer.put(position++, (byte) (0xf0 | (codePoint >> 18)));
+					buffer.put(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+					buffer.put(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+					buffer.put(position++, (byte) (0x80 | (codePoint & 0x3f)));
+				}
+				else {
+					buffer.put(position++, (byte) '?');
+				}
+			}
+		}
+		this.writePosition = position;
+	}
+
 	/**
 	 * Internal write method that keeps track of the {@link #writePosition} before and
 	 * after applying the given function on {@link #byteBuffer}.
@@ -235,13 +327,21 @@ public class DefaultDataBuffer implements DataBuffer {
 			ByteBuffer slice = this.byteBuffer.slice();
 			// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
 			((Buffer) slice).limit(length);
-			return new SlicedDefaultDataBuffer(slice, 0, length, this.dataBufferFactory);
+			return createSlice(slice, length);
 		}
 		finally {
 			buffer.position(oldPosition);
 		}
 	}
 
+	/**
+	 * Create a sliced buffer for the given {@code ByteBuffer} slice of this buffer.
+	 * @see #slice(int, int)
+	 */
+	DefaultDataBuffer createSlice(ByteBuffer slice, int length) {
+		return new SlicedDefaultDataBuffer(slice, 0, length, this.dataBufferFactory);
+	}
+
 	@Override
 	public ByteBuffer asByteBuffer() {
 		ByteBuffer duplicate = this.byteBuffer.duplicate();
@@ -264,9 +364,9 @@ public class DefaultDataBuffer implements DataBuffer {
 	}
 
 	private void ensureExtraCapacity(int extraCapacity) {
-		int neededCapacity = calculateCapacity(this.writePosition + extraCapacity);
+		int neededCapacity = this.writePosition + extraCapacity;
 		if (neededCapacity > this.byteBuffer.capacity()) {
-			grow(neededCapacity);
+			grow(calculateCapacity(neededCapacity));
 		}
 	}
 
@@ -300,9 +400,7 @@ public class DefaultDataBuffer implements DataBuffer {
 
 	void grow(int capacity) {
 		ByteBuffer oldBuffer = this.byteBuffer;
-		ByteBuffer newBuffer =
-				(oldBuffer.isDirect() ? ByteBuffer.allocateDirect(capacity) :
-						ByteBuffer.allocate(capacity));
+		ByteBuffer newBuffer = allocateNativeBuffer(capacity, oldBuffer.isDirect());
 
 		// Explicit cast for compatibility with covariant return type on JDK 9's ByteBuffer
 		final int remaining = readableByteCount();
@@ -315,6 +413,15 @@ public class DefaultDataBuffer implements DataBuffer {
 		oldBuffer.clear();
 	}
 
+	/**
+	 * Allocate a new {@code ByteBuffer} of (at least) the given capacity
+	 * when growing this buffer.
+	 * @see #grow(int)
+	 */
+	ByteBuffer allocateNativeBuffer(int capacity, boolean direct) {
+		return (direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+	}
+
 
 	@Override
 	public boolean equals(Object obj) {
@@ -387,7 +494,7 @@ public class DefaultDataBuffer implements DataBuffer {
 	}
 
 
-	private static class SlicedDefaultDataBuffer extends DefaultDataBuffer {
+	static class SlicedDefaultDataBuffer extends DefaultDataBuffer {
 
 		SlicedDefaultDataBuffer(ByteBuffer byteBuffer, int readPosition,
 				int writePosition, DefaultDataBufferFactory dataBufferFactory) {
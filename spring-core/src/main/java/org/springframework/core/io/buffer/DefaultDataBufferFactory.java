@@ -83,9 +83,15 @@ public class DefaultDataBufferFactory implements DataBufferFactory {
 
 	@Override
 	public DefaultDataBuffer allocateBuffer(int initialCapacity) {
-		return (this.preferDirect ?
-				new DefaultDataBuffer(ByteBuffer.allocateDirect(initialCapacity), this) :
-				new DefaultDataBuffer(ByteBuffer.allocate(initialCapacity), this));
+		return new DefaultDataBuffer(allocateByteBuffer(initialCapacity), this);
+	}
+
+	/**
+	 * Allocate a new heap or direct {@code ByteBuffer}, depending on the
+	 * "preferDirect" setting of this factory.
+	 */
+	ByteBuffer allocateByteBuffer(int capacity) {
+		return (this.preferDirect ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
 	}
 
 	@Override
@@ -102,7 +108,7 @@ public class DefaultDataBufferFactory implements DataBufferFactory {
 
 	@Override
 	public String toString() {
-		return "DefaultDataBufferFactory (preferDirect=" + this.preferDirect + ")";
+		return getClass().getSimpleName() + " (preferDirect=" + this.preferDirect + ")";
 	}
 
 }
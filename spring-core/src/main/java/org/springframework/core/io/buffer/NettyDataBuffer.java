@@ -19,12 +19,16 @@ package org.springframework.core.io.buffer;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.IntPredicate;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 
@@ -161,6 +165,20 @@ public class NettyDataBuffer implements PooledDataBuffer {
 		return write(wrappedBuffers);
 	}
 
+	@Override
+	public NettyDataBuffer write(CharSequence charSequence, Charset charset) {
+		Assert.notNull(charSequence, "'charSequence' must not be null");
+		Assert.notNull(charset, "'charset' must not be null");
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			ByteBufUtil.writeUtf8(this.byteBuf, charSequence);
+		}
+		else {
+			// Netty truncates rather than replaces unmappable chars for single-byte charsets
+			this.byteBuf.writeBytes(charset.encode(CharBuffer.wrap(charSequence)));
+		}
+		return this;
+	}
+
 	/**
 	 * Writes one or more Netty {@link ByteBuf}s to this buffer, starting at the current
 	 * writing position.
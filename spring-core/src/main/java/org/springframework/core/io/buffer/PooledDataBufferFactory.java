@@ -0,0 +1,341 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Pooling variant of {@link DefaultDataBufferFactory}, recycling the
+ * {@code ByteBuffer}s behind released buffers for subsequent allocations.
+ * Intended for servers without a pooling allocator of their own, e.g. for
+ * Servlet containers or Undertow.
+ *
+ * <p>Allocated buffers implement {@link PooledDataBuffer} and start with a
+ * reference count of 1; their memory goes back to the pool once the count
+ * drops to 0 through {@link DataBufferUtils#release}. As with Netty's pooled
+ * buffers, a buffer and its {@linkplain DataBuffer#slice slices} share a
+ * single reference count, and a buffer must not be accessed after its
+ * final release.
+ *
+ * <p>Capacities are rounded up to a power of two between
+ * {@link #MIN_POOLED_CAPACITY} and {@link #MAX_POOLED_CAPACITY}, with a
+ * bounded pool per size class, fronted by a small per-thread cache for the
+ * smaller size classes. Larger buffers are allocated on demand and left to
+ * the garbage collector, as are buffers that are never released: the pool
+ * does not hold on to buffers in use, so a missing release costs a pool miss
+ * but does not leak memory. To track down such missing releases, "leakDetection"
+ * mode logs the allocation stack trace of every buffer that got garbage-collected
+ * without having been released, at the expense of capturing a stack trace
+ * for every allocation.
+ *
+ * @since 5.0
+ * @see DataBufferUtils#release
+ */
+public class PooledDataBufferFactory extends DefaultDataBufferFactory {
+
+	/**
+	 * The smallest pooled capacity: smaller requests get rounded up to it.
+	 */
+	public static final int MIN_POOLED_CAPACITY = 256;
+
+	/**
+	 * The largest pooled capacity: buffers beyond it are not pooled.
+	 */
+	public static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+	private static final int MIN_POOLED_CAPACITY_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_CAPACITY);
+
+	private static final int SHARED_POOL_BYTES_PER_SIZE_CLASS = 1024 * 1024;
+
+	private static final int THREAD_CACHE_BYTES_PER_SIZE_CLASS = 16 * 1024;
+
+	private static final Log logger = LogFactory.getLog(PooledDataBufferFactory.class);
+
+
+	private final boolean leakDetection;
+
+	private final SizeClass[] sizeClasses;
+
+	private final Set<LeakTracker> leakTrackers = ConcurrentHashMap.newKeySet();
+
+	private final ReferenceQueue<Object> leakQueue = new ReferenceQueue<>();
+
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} for heap buffers,
+	 * without leak detection.
+	 */
+	public PooledDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}, without leak detection.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PooledDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, false);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param leakDetection whether to log buffers that got garbage-collected
+	 * without having been released, along with their allocation stack trace
+	 */
+	public PooledDataBufferFactory(boolean preferDirect, boolean leakDetection) {
+		super(preferDirect);
+		this.leakDetection = leakDetection;
+		int sizeClassCount = sizeClassIndex(MAX_POOLED_CAPACITY) + 1;
+		this.sizeClasses = new SizeClass[sizeClassCount];
+		for (int i = 0; i < sizeClassCount; i++) {
+			this.sizeClasses[i] = new SizeClass(MIN_POOLED_CAPACITY << i);
+		}
+	}
+
+
+	@Override
+	public DefaultDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must be 0 or higher");
+		PooledDefaultDataBuffer dataBuffer = new PooledDefaultDataBuffer(acquire(initialCapacity), this);
+		if (this.leakDetection) {
+			reportLeaks();
+			LeakTracker leakTracker = new LeakTracker(dataBuffer, this.leakQueue);
+			this.leakTrackers.add(leakTracker);
+			dataBuffer.leakTracker = leakTracker;
+		}
+		return dataBuffer;
+	}
+
+	/**
+	 * Obtain a cleared {@code ByteBuffer} of at least the given capacity,
+	 * from the pool if possible.
+	 */
+	ByteBuffer acquire(int capacity) {
+		if (capacity > MAX_POOLED_CAPACITY) {
+			return allocateByteBuffer(capacity);
+		}
+		return this.sizeClasses[sizeClassIndex(capacity)].acquire();
+	}
+
+	/**
+	 * Return the given {@code ByteBuffer} to the pool, provided that its
+	 * capacity matches one of the size classes.
+	 */
+	void recycle(ByteBuffer byteBuffer) {
+		int capacity = byteBuffer.capacity();
+		if (capacity >= MIN_POOLED_CAPACITY && capacity <= MAX_POOLED_CAPACITY &&
+				Integer.bitCount(capacity) == 1) {
+			this.sizeClasses[sizeClassIndex(capacity)].recycle(byteBuffer);
+		}
+	}
+
+	/**
+	 * Log every buffer that got garbage-collected without having been
+	 * released, along with its allocation stack trace.
+	 * @return the number of leaks reported
+	 */
+	int reportLeaks() {
+		int count = 0;
+		Reference<?> reference;
+		while ((reference = this.leakQueue.poll()) != null) {
+			if (this.leakTrackers.remove(reference)) {
+				count++;
+				logger.error("DataBuffer was garbage-collected without having been released " +
+						"(see DataBufferUtils.release) - allocated at:", ((LeakTracker) reference).allocationSite);
+			}
+		}
+		return count;
+	}
+
+	private static int sizeClassIndex(int capacity) {
+		if (capacity <= MIN_POOLED_CAPACITY) {
+			return 0;
+		}
+		return (Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1)) - MIN_POOLED_CAPACITY_SHIFT;
+	}
+
+
+	/**
+	 * Pool for {@code ByteBuffer}s of a specific capacity: a bounded queue
+	 * shared across threads, plus a per-thread cache for smaller capacities.
+	 */
+	private final class SizeClass {
+
+		private final int capacity;
+
+		private final BlockingQueue<ByteBuffer> sharedPool;
+
+		private final int threadCacheSize;
+
+		private final ThreadLocal<ArrayDeque<ByteBuffer>> threadCache;
+
+		public SizeClass(int capacity) {
+			this.capacity = capacity;
+			this.sharedPool = new ArrayBlockingQueue<>(Math.max(SHARED_POOL_BYTES_PER_SIZE_CLASS / capacity, 1));
+			this.threadCacheSize = THREAD_CACHE_BYTES_PER_SIZE_CLASS / capacity;
+			this.threadCache = ThreadLocal.withInitial(() -> new ArrayDeque<>(this.threadCacheSize));
+		}
+
+		public ByteBuffer acquire() {
+			ByteBuffer byteBuffer = null;
+			if (this.threadCacheSize > 0) {
+				byteBuffer = this.threadCache.get().pollFirst();
+			}
+			if (byteBuffer == null) {
+				byteBuffer = this.sharedPool.poll();
+			}
+			return (byteBuffer != null ? byteBuffer : allocateByteBuffer(this.capacity));
+		}
+
+		public void recycle(ByteBuffer byteBuffer) {
+			byteBuffer.clear();
+			if (this.threadCacheSize > 0) {
+				ArrayDeque<ByteBuffer> cache = this.threadCache.get();
+				if (cache.size() < this.threadCacheSize) {
+					cache.offerFirst(byteBuffer);
+					return;
+				}
+			}
+			this.sharedPool.offer(byteBuffer);
+		}
+	}
+
+
+	/**
+	 * Weak reference to an unreleased buffer, along with its allocation site.
+	 */
+	private static final class LeakTracker extends WeakReference<Object> {
+
+		private final Throwable allocationSite = new Throwable("DataBuffer allocation");
+
+		public LeakTracker(Object referent, ReferenceQueue<Object> queue) {
+			super(referent, queue);
+		}
+	}
+
+
+	/**
+	 * Reference-counted buffer that returns its memory to the pool on final release.
+	 */
+	private static class PooledDefaultDataBuffer extends DefaultDataBuffer implements PooledDataBuffer {
+
+		private static final AtomicIntegerFieldUpdater<PooledDefaultDataBuffer> REF_COUNT_UPDATER =
+				AtomicIntegerFieldUpdater.newUpdater(PooledDefaultDataBuffer.class, "refCount");
+
+		private final PooledDataBufferFactory dataBufferFactory;
+
+		private volatile int refCount = 1;
+
+		private LeakTracker leakTracker;
+
+		public PooledDefaultDataBuffer(ByteBuffer byteBuffer, PooledDataBufferFactory dataBufferFactory) {
+			super(byteBuffer, 0, 0, dataBufferFactory);
+			this.dataBufferFactory = dataBufferFactory;
+		}
+
+		@Override
+		public PooledDefaultDataBuffer retain() {
+			int count;
+			do {
+				count = this.refCount;
+				Assert.state(count > 0, "DataBuffer has already been released");
+			}
+			while (!REF_COUNT_UPDATER.compareAndSet(this, count, count + 1));
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			int count;
+			do {
+				count = this.refCount;
+				Assert.state(count > 0, "DataBuffer has already been released");
+			}
+			while (!REF_COUNT_UPDATER.compareAndSet(this, count, count - 1));
+			if (count > 1) {
+				return false;
+			}
+			LeakTracker leakTracker = this.leakTracker;
+			if (leakTracker != null) {
+				this.dataBufferFactory.leakTrackers.remove(leakTracker);
+				leakTracker.clear();
+			}
+			this.dataBufferFactory.recycle(getNativeBuffer());
+			return true;
+		}
+
+		// The previous ByteBuffer is not recycled on grow: slices and asByteBuffer()
+		// views may still refer to it, so it is left to the garbage collector.
+		@Override
+		ByteBuffer allocateNativeBuffer(int capacity, boolean direct) {
+			return this.dataBufferFactory.acquire(capacity);
+		}
+
+		@Override
+		DefaultDataBuffer createSlice(ByteBuffer slice, int length) {
+			return new SlicedPooledDataBuffer(slice, length, this);
+		}
+	}
+
+
+	/**
+	 * Slice of a {@link PooledDefaultDataBuffer}, sharing its reference count.
+	 */
+	private static class SlicedPooledDataBuffer extends DefaultDataBuffer.SlicedDefaultDataBuffer implements PooledDataBuffer {
+
+		private final PooledDefaultDataBuffer parent;
+
+		public SlicedPooledDataBuffer(ByteBuffer byteBuffer, int length, PooledDefaultDataBuffer parent) {
+			super(byteBuffer, 0, length, parent.factory());
+			this.parent = parent;
+		}
+
+		@Override
+		public SlicedPooledDataBuffer retain() {
+			this.parent.retain();
+			return this;
+		}
+
+		@Override
+		public boolean release() {
+			return this.parent.release();
+		}
+
+		@Override
+		DefaultDataBuffer createSlice(ByteBuffer slice, int length) {
+			return new SlicedPooledDataBuffer(slice, length, this.parent);
+		}
+	}
+
+}
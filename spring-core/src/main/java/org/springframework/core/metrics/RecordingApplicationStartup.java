@@ -0,0 +1,352 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ApplicationStartup} implementation that records the timing of all
+ * {@link StartupStep steps} in memory, keeping track of their nesting per thread.
+ *
+ * <p>Recorded steps can be retrieved via {@link #getRecordedSteps()} or exported
+ * in the "collapsed stacks" format understood by common flame graph tools
+ * (e.g. {@code flamegraph.pl} or speedscope) via {@link #exportFlameGraph(Writer)}.
+ *
+ * <p>Typical usage on an {@code ApplicationContext}:
+ * <pre class="code">
+ * RecordingApplicationStartup startup = new RecordingApplicationStartup();
+ * context.setApplicationStartup(startup);
+ * context.refresh();
+ * startup.exportFlameGraph(new File("startup.folded"));
+ * </pre>
+ *
+ * @since 5.0
+ */
+public class RecordingApplicationStartup implements ApplicationStartup {
+
+	private final int capacity;
+
+	private final AtomicLong idGenerator = new AtomicLong();
+
+	private final ThreadLocal<RecordedStep> currentStep = new NamedThreadLocal<>("Current startup step");
+
+	private final Queue<RecordedStep> recordedSteps = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger recordedCount = new AtomicInteger();
+
+
+	/**
+	 * Create a new {@code RecordingApplicationStartup} without a limit
+	 * on the number of recorded steps.
+	 */
+	public RecordingApplicationStartup() {
+		this(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Create a new {@code RecordingApplicationStartup} recording up to the
+	 * given number of steps. Steps ending beyond that limit get discarded.
+	 * @param capacity the maximum number of steps to record
+	 */
+	public RecordingApplicationStartup(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		this.capacity = capacity;
+	}
+
+
+	@Override
+	public StartupStep start(String name) {
+		RecordedStep parent = this.currentStep.get();
+		RecordedStep step = new RecordedStep(this.idGenerator.incrementAndGet(), name, parent);
+		this.currentStep.set(step);
+		return step;
+	}
+
+	private void record(RecordedStep step) {
+		// Restore the parent as current step, also if nested steps have not been ended
+		for (RecordedStep current = this.currentStep.get(); current != null; current = current.parent) {
+			if (current == step) {
+				if (step.parent != null) {
+					this.currentStep.set(step.parent);
+				}
+				else {
+					this.currentStep.remove();
+				}
+				break;
+			}
+		}
+		if (this.recordedCount.incrementAndGet() <= this.capacity) {
+			this.recordedSteps.add(step);
+		}
+	}
+
+	/**
+	 * Return all steps recorded so far, in the order in which they ended.
+	 */
+	public List<RecordedStep> getRecordedSteps() {
+		return new ArrayList<>(this.recordedSteps);
+	}
+
+	/**
+	 * Return the number of steps that ended beyond the configured capacity
+	 * and therefore have not been recorded.
+	 */
+	public int getDiscardedStepCount() {
+		return Math.max(0, this.recordedCount.get() - this.capacity);
+	}
+
+	/**
+	 * Remove all steps recorded so far.
+	 */
+	public void clear() {
+		this.recordedSteps.clear();
+		this.recordedCount.set(0);
+	}
+
+	/**
+	 * Export the recorded steps to the given file, in the "collapsed stacks"
+	 * flame graph format.
+	 * @param file the file to write to (will be overwritten if it exists)
+	 * @throws IOException in case of I/O errors
+	 * @see #exportFlameGraph(Writer)
+	 */
+	public void exportFlameGraph(File file) throws IOException {
+		Assert.notNull(file, "File must not be null");
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			exportFlameGraph(writer);
+		}
+	}
+
+	/**
+	 * Export the recorded steps to the given Writer, in the "collapsed stacks"
+	 * flame graph format: one line per distinct step stack, listing the frames
+	 * from the outermost step separated by {@code ';'}, followed by the time
+	 * in microseconds spent in the innermost step itself (i.e. excluding the
+	 * time spent in its nested steps).
+	 * <p>Each frame consists of the step name, followed by its tag values in
+	 * braces (if any), e.g. {@code spring.beans.instantiate{beanName=myBean}}.
+	 * <p>Leaves the Writer open.
+	 * @param writer the Writer to write to
+	 * @throws IOException in case of I/O errors
+	 */
+	public void exportFlameGraph(Writer writer) throws IOException {
+		Assert.notNull(writer, "Writer must not be null");
+		List<RecordedStep> steps = getRecordedSteps();
+		Map<RecordedStep, Long> nestedTimes = new HashMap<>(steps.size() * 2);
+		for (RecordedStep step : steps) {
+			if (step.parent != null) {
+				nestedTimes.merge(step.parent, step.getDuration(), Long::sum);
+			}
+		}
+		Map<String, Long> stacks = new LinkedHashMap<>();
+		for (RecordedStep step : steps) {
+			long selfTime = step.getDuration() - nestedTimes.getOrDefault(step, 0L);
+			long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0L, selfTime));
+			if (micros > 0) {
+				stacks.merge(getStack(step), micros, Long::sum);
+			}
+		}
+		for (Map.Entry<String, Long> entry : stacks.entrySet()) {
+			writer.write(entry.getKey());
+			writer.write(' ');
+			writer.write(Long.toString(entry.getValue()));
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	private static String getStack(RecordedStep step) {
+		LinkedList<RecordedStep> frames = new LinkedList<>();
+		for (RecordedStep current = step; current != null; current = current.parent) {
+			frames.addFirst(current);
+		}
+		StringBuilder sb = new StringBuilder();
+		for (RecordedStep frame : frames) {
+			if (sb.length() > 0) {
+				sb.append(';');
+			}
+			appendFrame(frame, sb);
+		}
+		return sb.toString();
+	}
+
+	private static void appendFrame(RecordedStep step, StringBuilder sb) {
+		sb.append(sanitize(step.getName()));
+		if (!step.tags.isEmpty()) {
+			sb.append('{');
+			for (Iterator<StartupStep.Tag> it = step.tags.iterator(); it.hasNext();) {
+				StartupStep.Tag tag = it.next();
+				sb.append(sanitize(tag.getKey())).append('=').append(sanitize(tag.getValue()));
+				if (it.hasNext()) {
+					sb.append(',');
+				}
+			}
+			sb.append('}');
+		}
+	}
+
+	private static String sanitize(String value) {
+		return value.replace(';', ':').replace('\n', ' ').replace('\r', ' ');
+	}
+
+
+	/**
+	 * {@link StartupStep} recorded by a {@link RecordingApplicationStartup},
+	 * exposing its timing and thread.
+	 */
+	public final class RecordedStep implements StartupStep {
+
+		private final long id;
+
+		private final String name;
+
+		private final RecordedStep parent;
+
+		private final String threadName;
+
+		private final long startTime;
+
+		private final List<StartupStep.Tag> tags = new ArrayList<>(2);
+
+		private volatile long endTime = -1;
+
+		private RecordedStep(long id, String name, @Nullable RecordedStep parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+			this.threadName = Thread.currentThread().getName();
+			this.startTime = System.nanoTime();
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public long getId() {
+			return this.id;
+		}
+
+		@Override
+		@Nullable
+		public Long getParentId() {
+			return (this.parent != null ? this.parent.id : null);
+		}
+
+		/**
+		 * Return the name of the thread that started this step.
+		 */
+		public String getThreadName() {
+			return this.threadName;
+		}
+
+		/**
+		 * Return the start time of this step, as a {@link System#nanoTime()} value.
+		 */
+		public long getStartTime() {
+			return this.startTime;
+		}
+
+		/**
+		 * Return the duration of this step in nanoseconds,
+		 * or {@code -1} if it has not ended yet.
+		 */
+		public long getDuration() {
+			long endTime = this.endTime;
+			return (endTime != -1 ? endTime - this.startTime : -1);
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+			Assert.state(this.endTime == -1, "StartupStep has already ended");
+			this.tags.add(new RecordedTag(key, value));
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+			return tag(key, value.get());
+		}
+
+		@Override
+		public Tags getTags() {
+			List<StartupStep.Tag> tags = Collections.unmodifiableList(this.tags);
+			return tags::iterator;
+		}
+
+		@Override
+		public void end() {
+			Assert.state(this.endTime == -1, "StartupStep has already ended");
+			this.endTime = System.nanoTime();
+			record(this);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			appendFrame(this, sb);
+			return sb.toString();
+		}
+	}
+
+
+	private static class RecordedTag implements StartupStep.Tag {
+
+		private final String key;
+
+		private final String value;
+
+		public RecordedTag(String key, String value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public String getKey() {
+			return this.key;
+		}
+
+		@Override
+		public String getValue() {
+			return this.value;
+		}
+	}
+
+}
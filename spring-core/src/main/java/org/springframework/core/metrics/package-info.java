@@ -0,0 +1,8 @@
+/**
+ * Support package for recording metrics during application startup,
+ * e.g. for identifying the slowest phases and beans of a context refresh.
+ */
+@NonNullApi
+package org.springframework.core.metrics;
+
+import org.springframework.lang.NonNullApi;
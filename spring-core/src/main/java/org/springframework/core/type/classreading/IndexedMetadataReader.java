@@ -0,0 +1,322 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.core.NestedIOException;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link MetadataReader} implementation based on a class metadata record
+ * computed at build time, typically by the {@code spring-context-indexer}
+ * annotation processor, instead of on the class file itself.
+ *
+ * <p>A record is a replay of the ASM visitor events that the regular
+ * {@link SimpleMetadataReader} would receive for the class in question, so
+ * that both readers expose exactly the same {@link AnnotationMetadata}.
+ * It is a single line of space-separated tokens where names are JVM internal
+ * names and type descriptors, and where string values are {@code '}-prefixed
+ * and percent-encoded for {@code %}, whitespace and control characters:
+ * <pre class="code">
+ * C&lt;access&gt; &lt;name&gt; &lt;superName|-&gt; &lt;interfaceCount&gt; &lt;interfaceName&gt;*
+ * A&lt;descriptor&gt; (&lt;attributeName&gt; &lt;value&gt;)* )
+ * I&lt;access&gt; &lt;name&gt; &lt;outerName&gt;
+ * M&lt;access&gt; &lt;name&gt; &lt;descriptor&gt; (A...)* )
+ * </pre>
+ * with the following value forms: {@code 'text} (String), {@code Z1},
+ * {@code B1}, {@code C65}, {@code S1}, {@code I1}, {@code J1}, {@code F1.0},
+ * {@code D1.0} (primitives), {@code T<descriptor>} (class literal),
+ * {@code N<descriptor> <constant>} (enum constant), {@code @<descriptor> ... )}
+ * (nested annotation), {@code [ <value>* )} (array) and
+ * {@code [<primitive> <value>* )} (primitive array).
+ *
+ * @since 5.0
+ * @see IndexedMetadataReaderFactory
+ */
+final class IndexedMetadataReader implements MetadataReader {
+
+	private static final String END = ")";
+
+	private final Resource resource;
+
+	private final AnnotationMetadataReadingVisitor metadata;
+
+
+	IndexedMetadataReader(String record, Resource resource, @Nullable ClassLoader classLoader) throws IOException {
+		AnnotationMetadataReadingVisitor visitor = new AnnotationMetadataReadingVisitor(classLoader);
+		try {
+			new RecordReplayer(record).accept(visitor);
+		}
+		catch (RuntimeException ex) {
+			throw new NestedIOException("Failed to replay indexed class metadata for " + resource, ex);
+		}
+		this.metadata = visitor;
+		this.resource = resource;
+	}
+
+
+	@Override
+	public Resource getResource() {
+		return this.resource;
+	}
+
+	@Override
+	public ClassMetadata getClassMetadata() {
+		return this.metadata;
+	}
+
+	@Override
+	public AnnotationMetadata getAnnotationMetadata() {
+		return this.metadata;
+	}
+
+
+	/**
+	 * Replays a class metadata record against an ASM {@link ClassVisitor}.
+	 */
+	private static class RecordReplayer {
+
+		private final String[] tokens;
+
+		private int position;
+
+		RecordReplayer(String record) {
+			this.tokens = StringUtils.tokenizeToStringArray(record, " ", false, true);
+		}
+
+		public void accept(ClassVisitor visitor) {
+			String header = next();
+			if (!header.startsWith("C")) {
+				throw new IllegalArgumentException("Class metadata record must start with a class header");
+			}
+			int access = Integer.parseInt(header.substring(1));
+			String name = next();
+			String superName = next();
+			String[] interfaces = new String[Integer.parseInt(next())];
+			for (int i = 0; i < interfaces.length; i++) {
+				interfaces[i] = next();
+			}
+			visitor.visit(0, access, name, null, ("-".equals(superName) ? null : superName), interfaces);
+			while (this.position < this.tokens.length) {
+				String token = next();
+				switch (token.charAt(0)) {
+					case 'A':
+						readAnnotation(visitor.visitAnnotation(token.substring(1), true));
+						break;
+					case 'I':
+						int innerAccess = Integer.parseInt(token.substring(1));
+						String innerName = next();
+						visitor.visitInnerClass(innerName, next(), null, innerAccess);
+						break;
+					case 'M':
+						readMethod(visitor.visitMethod(Integer.parseInt(token.substring(1)), next(), next(), null, null));
+						break;
+					default:
+						throw new IllegalArgumentException("Unexpected token in class metadata record: " + token);
+				}
+			}
+			visitor.visitEnd();
+		}
+
+		private void readMethod(@Nullable MethodVisitor visitor) {
+			if (visitor == null) {
+				// Not of interest to the target visitor (e.g. a bridge method) - skip its annotations
+				visitor = new MethodVisitor(SpringAsmInfo.ASM_VERSION) {};
+			}
+			String token = next();
+			while (!END.equals(token)) {
+				if (!token.startsWith("A")) {
+					throw new IllegalArgumentException("Unexpected token in method metadata: " + token);
+				}
+				readAnnotation(visitor.visitAnnotation(token.substring(1), true));
+				token = next();
+			}
+			visitor.visitEnd();
+		}
+
+		private void readAnnotation(@Nullable AnnotationVisitor visitor) {
+			if (visitor == null) {
+				visitor = new AnnotationVisitor(SpringAsmInfo.ASM_VERSION) {};
+			}
+			String token = next();
+			while (!END.equals(token)) {
+				readValue(visitor, token, next());
+				token = next();
+			}
+			visitor.visitEnd();
+		}
+
+		private void readArray(@Nullable AnnotationVisitor visitor) {
+			if (visitor == null) {
+				visitor = new AnnotationVisitor(SpringAsmInfo.ASM_VERSION) {};
+			}
+			String token = next();
+			while (!END.equals(token)) {
+				readValue(visitor, null, token);
+				token = next();
+			}
+			visitor.visitEnd();
+		}
+
+		private void readValue(AnnotationVisitor visitor, @Nullable String name, String token) {
+			char kind = token.charAt(0);
+			switch (kind) {
+				case 'N':
+					visitor.visitEnum(name, token.substring(1), next());
+					break;
+				case '@':
+					readAnnotation(visitor.visitAnnotation(name, token.substring(1)));
+					break;
+				case '[':
+					if (token.length() == 1) {
+						readArray(visitor.visitArray(name));
+					}
+					else {
+						visitor.visit(name, readPrimitiveArray(token.charAt(1)));
+					}
+					break;
+				default:
+					visitor.visit(name, parseScalar(token));
+			}
+		}
+
+		private Object readPrimitiveArray(char kind) {
+			int start = this.position;
+			while (!END.equals(this.tokens[this.position])) {
+				this.position++;
+			}
+			int length = this.position - start;
+			this.position++;
+			switch (kind) {
+				case 'Z':
+					boolean[] booleans = new boolean[length];
+					for (int i = 0; i < length; i++) {
+						booleans[i] = (Boolean) parseScalar(this.tokens[start + i]);
+					}
+					return booleans;
+				case 'B':
+					byte[] bytes = new byte[length];
+					for (int i = 0; i < length; i++) {
+						bytes[i] = (Byte) parseScalar(this.tokens[start + i]);
+					}
+					return bytes;
+				case 'C':
+					char[] chars = new char[length];
+					for (int i = 0; i < length; i++) {
+						chars[i] = (Character) parseScalar(this.tokens[start + i]);
+					}
+					return chars;
+				case 'S':
+					short[] shorts = new short[length];
+					for (int i = 0; i < length; i++) {
+						shorts[i] = (Short) parseScalar(this.tokens[start + i]);
+					}
+					return shorts;
+				case 'I':
+					int[] ints = new int[length];
+					for (int i = 0; i < length; i++) {
+						ints[i] = (Integer) parseScalar(this.tokens[start + i]);
+					}
+					return ints;
+				case 'J':
+					long[] longs = new long[length];
+					for (int i = 0; i < length; i++) {
+						longs[i] = (Long) parseScalar(this.tokens[start + i]);
+					}
+					return longs;
+				case 'F':
+					float[] floats = new float[length];
+					for (int i = 0; i < length; i++) {
+						floats[i] = (Float) parseScalar(this.tokens[start + i]);
+					}
+					return floats;
+				case 'D':
+					double[] doubles = new double[length];
+					for (int i = 0; i < length; i++) {
+						doubles[i] = (Double) parseScalar(this.tokens[start + i]);
+					}
+					return doubles;
+				default:
+					throw new IllegalArgumentException("Unsupported primitive array type: " + kind);
+			}
+		}
+
+		private Object parseScalar(String token) {
+			String value = token.substring(1);
+			switch (token.charAt(0)) {
+				case '\'':
+					return decode(value);
+				case 'Z':
+					return "1".equals(value);
+				case 'B':
+					return Byte.valueOf(value);
+				case 'C':
+					return (char) Integer.parseInt(value);
+				case 'S':
+					return Short.valueOf(value);
+				case 'I':
+					return Integer.valueOf(value);
+				case 'J':
+					return Long.valueOf(value);
+				case 'F':
+					return Float.valueOf(value);
+				case 'D':
+					return Double.valueOf(value);
+				case 'T':
+					return Type.getType(value);
+				default:
+					throw new IllegalArgumentException("Unexpected value in class metadata record: " + token);
+			}
+		}
+
+		private String next() {
+			if (this.position >= this.tokens.length) {
+				throw new IllegalArgumentException("Unexpected end of class metadata record");
+			}
+			return this.tokens[this.position++];
+		}
+
+		private static String decode(String value) {
+			if (value.indexOf('%') == -1) {
+				return value;
+			}
+			StringBuilder sb = new StringBuilder(value.length());
+			for (int i = 0; i < value.length(); i++) {
+				char ch = value.charAt(i);
+				if (ch == '%') {
+					sb.append((char) Integer.parseInt(value.substring(i + 1, i + 3), 16));
+					i += 2;
+				}
+				else {
+					sb.append(ch);
+				}
+			}
+			return sb.toString();
+		}
+	}
+
+}
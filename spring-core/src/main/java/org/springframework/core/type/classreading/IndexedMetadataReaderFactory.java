@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Extension of {@link CachingMetadataReaderFactory} that serves
+ * {@link MetadataReader} instances from class metadata records computed at
+ * build time (see {@code META-INF/spring.components.metadata} as generated by
+ * the {@code spring-context-indexer}), only falling back to ASM-based parsing
+ * of the actual class file for classes that have not been indexed.
+ *
+ * <p>The resulting metadata is equivalent to the one exposed by the regular
+ * ASM-based readers, just without any class file access for indexed types.
+ *
+ * @since 5.0
+ */
+public class IndexedMetadataReaderFactory extends CachingMetadataReaderFactory {
+
+	private final Map<String, String> indexedMetadata;
+
+	private final Map<String, MetadataReader> indexedReaderCache = new ConcurrentHashMap<>(64);
+
+
+	/**
+	 * Create a new IndexedMetadataReaderFactory for the given {@link ResourceLoader}.
+	 * @param resourceLoader the Spring ResourceLoader to use
+	 * (also determines the ClassLoader to use)
+	 * @param indexedMetadata the class metadata records, keyed by class name
+	 */
+	public IndexedMetadataReaderFactory(@Nullable ResourceLoader resourceLoader, Map<String, String> indexedMetadata) {
+		super(resourceLoader);
+		Assert.notNull(indexedMetadata, "Indexed metadata must not be null");
+		this.indexedMetadata = indexedMetadata;
+	}
+
+	/**
+	 * Create a new IndexedMetadataReaderFactory for the given {@link ClassLoader}.
+	 * @param classLoader the ClassLoader to use
+	 * @param indexedMetadata the class metadata records, keyed by class name
+	 */
+	public IndexedMetadataReaderFactory(@Nullable ClassLoader classLoader, Map<String, String> indexedMetadata) {
+		super(classLoader);
+		Assert.notNull(indexedMetadata, "Indexed metadata must not be null");
+		this.indexedMetadata = indexedMetadata;
+	}
+
+
+	/**
+	 * Determine whether build-time metadata is available for the given class.
+	 * @param className the fully qualified class name
+	 */
+	public boolean isIndexed(String className) {
+		return this.indexedMetadata.containsKey(className);
+	}
+
+	@Override
+	public MetadataReader getMetadataReader(String className) throws IOException {
+		String record = this.indexedMetadata.get(className);
+		if (record == null) {
+			return super.getMetadataReader(className);
+		}
+		MetadataReader metadataReader = this.indexedReaderCache.get(className);
+		if (metadataReader == null) {
+			String resourcePath = ResourceLoader.CLASSPATH_URL_PREFIX +
+					ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+			Resource resource = getResourceLoader().getResource(resourcePath);
+			metadataReader = new IndexedMetadataReader(record, resource, getResourceLoader().getClassLoader());
+			this.indexedReaderCache.put(className, metadataReader);
+		}
+		return metadataReader;
+	}
+
+	/**
+	 * Clear the local MetadataReader caches, including the readers
+	 * created from indexed class metadata.
+	 */
+	@Override
+	public void clearCache() {
+		super.clearCache();
+		this.indexedReaderCache.clear();
+	}
+
+}
@@ -21,7 +21,6 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -75,7 +74,7 @@ public class AntPathMatcher implements PathMatcher {
 	/** Default path separator: "/" */
 	public static final String DEFAULT_PATH_SEPARATOR = "/";
 
-	private static final int CACHE_TURNOFF_THRESHOLD = 65536;
+	private static final int CACHE_LIMIT = 65536;
 
 	private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{[^/]+?\\}");
 
@@ -92,9 +91,9 @@ public class AntPathMatcher implements PathMatcher {
 
 	private volatile Boolean cachePatterns;
 
-	private final Map<String, String[]> tokenizedPatternCache = new ConcurrentHashMap<>(256);
+	private volatile ConcurrentLruCache<String, String[]> tokenizedPatternCache;
 
-	final Map<String, AntPathStringMatcher> stringMatcherCache = new ConcurrentHashMap<>(256);
+	volatile ConcurrentLruCache<String, AntPathStringMatcher> stringMatcherCache;
 
 
 	/**
@@ -103,6 +102,7 @@ public class AntPathMatcher implements PathMatcher {
 	public AntPathMatcher() {
 		this.pathSeparator = DEFAULT_PATH_SEPARATOR;
 		this.pathSeparatorPatternCache = new PathSeparatorPatternCache(DEFAULT_PATH_SEPARATOR);
+		initPatternCaches();
 	}
 
 	/**
@@ -114,6 +114,7 @@ public class AntPathMatcher implements PathMatcher {
 		Assert.notNull(pathSeparator, "'pathSeparator' is required");
 		this.pathSeparator = pathSeparator;
 		this.pathSeparatorPatternCache = new PathSeparatorPatternCache(pathSeparator);
+		initPatternCaches();
 	}
 
 
@@ -124,6 +125,15 @@ public class AntPathMatcher implements PathMatcher {
 	public void setPathSeparator(@Nullable String pathSeparator) {
 		this.pathSeparator = (pathSeparator != null ? pathSeparator : DEFAULT_PATH_SEPARATOR);
 		this.pathSeparatorPatternCache = new PathSeparatorPatternCache(this.pathSeparator);
+		initPatternCaches();
+	}
+
+	/**
+	 * Return the path separator used for pattern parsing.
+	 * @since 5.0
+	 */
+	public String getPathSeparator() {
+		return this.pathSeparator;
 	}
 
 	/**
@@ -133,6 +143,7 @@ public class AntPathMatcher implements PathMatcher {
 	 */
 	public void setCaseSensitive(boolean caseSensitive) {
 		this.caseSensitive = caseSensitive;
+		initPatternCaches();
 	}
 
 	/**
@@ -141,6 +152,7 @@ public class AntPathMatcher implements PathMatcher {
 	 */
 	public void setTrimTokens(boolean trimTokens) {
 		this.trimTokens = trimTokens;
+		initPatternCaches();
 	}
 
 	/**
@@ -148,21 +160,26 @@ public class AntPathMatcher implements PathMatcher {
 	 * into this matcher's {@link #match} method. A value of {@code true}
 	 * activates an unlimited pattern cache; a value of {@code false} turns
 	 * the pattern cache off completely.
-	 * <p>Default is for the cache to be on, but with the variant to automatically
-	 * turn it off when encountering too many patterns to cache at runtime
-	 * (the threshold is 65536), assuming that arbitrary permutations of patterns
-	 * are coming in, with little chance for encountering a recurring pattern.
+	 * <p>Default is for the cache to be on, but bounded to 65536 patterns:
+	 * when encountering more patterns at runtime, the least recently used
+	 * ones get evicted, keeping frequently recurring patterns cached even
+	 * in the presence of arbitrary permutations of other patterns.
+	 * <p>Note: Before 5.0, the default cache was turned off completely
+	 * once exceeding the threshold of 65536 patterns.
 	 * @since 4.0.1
 	 * @see #getStringMatcher(String)
 	 */
 	public void setCachePatterns(boolean cachePatterns) {
 		this.cachePatterns = cachePatterns;
+		initPatternCaches();
 	}
 
-	private void deactivatePatternCache() {
-		this.cachePatterns = false;
-		this.tokenizedPatternCache.clear();
-		this.stringMatcherCache.clear();
+	private void initPatternCaches() {
+		Boolean cachePatterns = this.cachePatterns;
+		int cacheLimit = (cachePatterns == null ? CACHE_LIMIT : (cachePatterns ? Integer.MAX_VALUE : 0));
+		this.tokenizedPatternCache = new ConcurrentLruCache<>(cacheLimit, this::tokenizePath);
+		this.stringMatcherCache = new ConcurrentLruCache<>(cacheLimit,
+				pattern -> new AntPathStringMatcher(pattern, this.caseSensitive));
 	}
 
 
@@ -378,25 +395,7 @@ public class AntPathMatcher implements PathMatcher {
 	 * @return the tokenized pattern parts
 	 */
 	protected String[] tokenizePattern(String pattern) {
-		String[] tokenized = null;
-		Boolean cachePatterns = this.cachePatterns;
-		if (cachePatterns == null || cachePatterns.booleanValue()) {
-			tokenized = this.tokenizedPatternCache.get(pattern);
-		}
-		if (tokenized == null) {
-			tokenized = tokenizePath(pattern);
-			if (cachePatterns == null && this.tokenizedPatternCache.size() >= CACHE_TURNOFF_THRESHOLD) {
-				// Try to adapt to the runtime situation that we're encountering:
-				// There are obviously too many different patterns coming in here...
-				// So let's turn off the cache since the patterns are unlikely to be reoccurring.
-				deactivatePatternCache();
-				return tokenized;
-			}
-			if (cachePatterns == null || cachePatterns.booleanValue()) {
-				this.tokenizedPatternCache.put(pattern, tokenized);
-			}
-		}
-		return tokenized;
+		return this.tokenizedPatternCache.get(pattern);
 	}
 
 	/**
@@ -425,34 +424,15 @@ public class AntPathMatcher implements PathMatcher {
 	 * <p>The default implementation checks this AntPathMatcher's internal cache
 	 * (see {@link #setCachePatterns}), creating a new AntPathStringMatcher instance
 	 * if no cached copy is found.
-	 * <p>When encountering too many patterns to cache at runtime (the threshold is 65536),
-	 * it turns the default cache off, assuming that arbitrary permutations of patterns
-	 * are coming in, with little chance for encountering a recurring pattern.
+	 * <p>By default, the cache is bounded to 65536 patterns, evicting the least
+	 * recently used patterns when encountering more patterns at runtime.
 	 * <p>This method may be overridden to implement a custom cache strategy.
 	 * @param pattern the pattern to match against (never {@code null})
 	 * @return a corresponding AntPathStringMatcher (never {@code null})
 	 * @see #setCachePatterns
 	 */
 	protected AntPathStringMatcher getStringMatcher(String pattern) {
-		AntPathStringMatcher matcher = null;
-		Boolean cachePatterns = this.cachePatterns;
-		if (cachePatterns == null || cachePatterns.booleanValue()) {
-			matcher = this.stringMatcherCache.get(pattern);
-		}
-		if (matcher == null) {
-			matcher = new AntPathStringMatcher(pattern, this.caseSensitive);
-			if (cachePatterns == null && this.stringMatcherCache.size() >= CACHE_TURNOFF_THRESHOLD) {
-				// Try to adapt to the runtime situation that we're encountering:
-				// There are obviously too many different patterns coming in here...
-				// So let's turn off the cache since the patterns are unlikely to be reoccurring.
-				deactivatePatternCache();
-				return matcher;
-			}
-			if (cachePatterns == null || cachePatterns.booleanValue()) {
-				this.stringMatcherCache.put(pattern, matcher);
-			}
-		}
-		return matcher;
+		return this.stringMatcherCache.get(pattern);
 	}
 
 	/**
@@ -627,6 +607,16 @@ public class AntPathMatcher implements PathMatcher {
 
 		private static final String DEFAULT_VARIABLE_PATTERN = "(.*)";
 
+		private final String rawPattern;
+
+		private final boolean caseSensitive;
+
+		private final boolean exactMatch;
+
+		private final boolean wildcardMatch;
+
+		private final String literalPrefix;
+
 		private final Pattern pattern;
 
 		private final List<String> variableNames = new LinkedList<>();
@@ -636,6 +626,13 @@ public class AntPathMatcher implements PathMatcher {
 		}
 
 		public AntPathStringMatcher(String pattern, boolean caseSensitive) {
+			this.rawPattern = pattern;
+			this.caseSensitive = caseSensitive;
+			int wildcardIndex = indexOfWildcard(pattern);
+			boolean templateVariables = (pattern.indexOf('{') != -1);
+			this.exactMatch = (wildcardIndex == -1);
+			this.wildcardMatch = (!this.exactMatch && !templateVariables);
+			this.literalPrefix = (this.exactMatch ? pattern : pattern.substring(0, wildcardIndex));
 			StringBuilder patternBuilder = new StringBuilder();
 			Matcher matcher = GLOB_PATTERN.matcher(pattern);
 			int end = 0;
@@ -677,11 +674,31 @@ public class AntPathMatcher implements PathMatcher {
 			return Pattern.quote(s.substring(start, end));
 		}
 
+		private static int indexOfWildcard(String pattern) {
+			for (int i = 0; i < pattern.length(); i++) {
+				char c = pattern.charAt(i);
+				if (c == '*' || c == '?' || c == '{') {
+					return i;
+				}
+			}
+			return -1;
+		}
+
 		/**
 		 * Main entry point.
 		 * @return {@code true} if the string matches against the pattern, or {@code false} otherwise.
 		 */
 		public boolean matchStrings(String str, @Nullable Map<String, String> uriTemplateVariables) {
+			// Fast paths for plain segments, not requiring the regular expression
+			if (this.exactMatch) {
+				return (str.length() == this.rawPattern.length() && matchLiteral(str));
+			}
+			if (!str.regionMatches(!this.caseSensitive, 0, this.literalPrefix, 0, this.literalPrefix.length())) {
+				return false;
+			}
+			if (this.wildcardMatch && !containsLineTerminator(str)) {
+				return matchWildcards(str);
+			}
 			Matcher matcher = this.pattern.matcher(str);
 			if (matcher.matches()) {
 				if (uriTemplateVariables != null) {
@@ -704,6 +721,80 @@ public class AntPathMatcher implements PathMatcher {
 				return false;
 			}
 		}
+
+		/**
+		 * Match the given String against a pattern consisting of literal characters
+		 * as well as '?' and '*' wildcards, equivalent to the regular expression
+		 * for Strings without line terminators.
+		 */
+		private boolean matchWildcards(String str) {
+			String pattern = this.rawPattern;
+			int patternIdx = 0;
+			int strIdx = 0;
+			int starIdx = -1;
+			int starMatchIdx = 0;
+			while (strIdx < str.length()) {
+				if (patternIdx < pattern.length()) {
+					char c = pattern.charAt(patternIdx);
+					if (c == '*') {
+						starIdx = patternIdx++;
+						starMatchIdx = strIdx;
+						continue;
+					}
+					if (c == '?' || matchChar(c, str.charAt(strIdx))) {
+						patternIdx++;
+						strIdx++;
+						continue;
+					}
+				}
+				if (starIdx == -1) {
+					return false;
+				}
+				// Let the last '*' consume one more character and retry
+				patternIdx = starIdx + 1;
+				strIdx = ++starMatchIdx;
+			}
+			while (patternIdx < pattern.length() && pattern.charAt(patternIdx) == '*') {
+				patternIdx++;
+			}
+			return (patternIdx == pattern.length());
+		}
+
+		private boolean matchLiteral(String str) {
+			if (this.caseSensitive) {
+				return str.equals(this.rawPattern);
+			}
+			for (int i = 0; i < this.rawPattern.length(); i++) {
+				if (!matchChar(this.rawPattern.charAt(i), str.charAt(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Match the given characters, ignoring case for US-ASCII characters
+		 * only if not case-sensitive (analogous to {@link Pattern#CASE_INSENSITIVE}).
+		 */
+		private boolean matchChar(char patternChar, char strChar) {
+			if (patternChar == strChar) {
+				return true;
+			}
+			if (this.caseSensitive || patternChar >= 128 || strChar >= 128) {
+				return false;
+			}
+			return (Character.toLowerCase(patternChar) == Character.toLowerCase(strChar));
+		}
+
+		private static boolean containsLineTerminator(String str) {
+			for (int i = 0; i < str.length(); i++) {
+				char c = str.charAt(i);
+				if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+					return true;
+				}
+			}
+			return false;
+		}
 	}
 
 
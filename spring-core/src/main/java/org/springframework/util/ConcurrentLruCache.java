@@ -0,0 +1,232 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Simple LRU (Least Recently Used) cache, bounded by a specified cache limit,
+ * computing values for missing keys through a given generator function.
+ *
+ * <p>This implementation is backed by a {@code ConcurrentHashMap} for storing
+ * the cached values and a doubly-linked list for keeping track of their recency.
+ * Lookups are lock-free; the recency order is only maintained once the cache is
+ * full and only when the internal lock is not contended, turning the eviction
+ * policy into an approximate LRU under heavy concurrent read access.
+ *
+ * <p>Values are generated outside of the lock, so concurrent misses for the
+ * same key may generate the value more than once; only one of them is cached.
+ * This cache is therefore meant for side-effect free generator functions, e.g.
+ * for parsing or compiling values from a given String representation.
+ *
+ * @since 5.0
+ * @param <K> the type of the key used for cache retrieval
+ * @param <V> the type of the cached values
+ * @see #get
+ */
+public class ConcurrentLruCache<K, V> {
+
+	private final int sizeLimit;
+
+	private final Function<K, V> generator;
+
+	private final ConcurrentMap<K, Node<K, V>> cache = new ConcurrentHashMap<>(64);
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** Sentinel of the doubly-linked recency list, guarded by the lock */
+	private final Node<K, V> head = new Node<>(null, null);
+
+	private volatile int size;
+
+
+	/**
+	 * Create a new cache instance with the given limit and generator function.
+	 * @param sizeLimit the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 */
+	public ConcurrentLruCache(int sizeLimit, Function<K, V> generator) {
+		Assert.isTrue(sizeLimit >= 0, "Cache size limit must not be negative");
+		Assert.notNull(generator, "Generator function must not be null");
+		this.sizeLimit = sizeLimit;
+		this.generator = generator;
+		this.head.prev = this.head;
+		this.head.next = this.head;
+	}
+
+
+	/**
+	 * Retrieve an entry from the cache, potentially triggering generation
+	 * of the value.
+	 * @param key the key to retrieve the entry for
+	 * @return the cached or newly generated value
+	 */
+	public V get(K key) {
+		if (this.sizeLimit == 0) {
+			return this.generator.apply(key);
+		}
+		Node<K, V> node = this.cache.get(key);
+		if (node != null) {
+			// Reorder only if full and not contended: approximate LRU
+			if (this.size >= this.sizeLimit && this.lock.tryLock()) {
+				try {
+					if (node.linked) {
+						unlink(node);
+						link(node);
+					}
+				}
+				finally {
+					this.lock.unlock();
+				}
+			}
+			return node.value;
+		}
+		V value = this.generator.apply(key);
+		Node<K, V> newNode = new Node<>(key, value);
+		this.lock.lock();
+		try {
+			node = this.cache.putIfAbsent(key, newNode);
+			if (node != null) {
+				// Concurrently generated: use the existing entry
+				return node.value;
+			}
+			link(newNode);
+			while (this.size > this.sizeLimit) {
+				Node<K, V> eldest = this.head.next;
+				unlink(eldest);
+				this.cache.remove(eldest.key, eldest);
+			}
+			return value;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Determine whether the given key is present in this cache.
+	 * @param key the key to check for
+	 * @return {@code true} if the key is present, {@code false} if there was no matching key
+	 */
+	public boolean contains(K key) {
+		return this.cache.containsKey(key);
+	}
+
+	/**
+	 * Immediately remove the given key and any associated value.
+	 * @param key the key to evict the entry for
+	 * @return {@code true} if the key was present before, {@code false} if there was no matching key
+	 */
+	public boolean remove(K key) {
+		this.lock.lock();
+		try {
+			Node<K, V> node = this.cache.remove(key);
+			if (node != null) {
+				unlink(node);
+				return true;
+			}
+			return false;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Immediately remove all entries from this cache.
+	 */
+	public void clear() {
+		this.lock.lock();
+		try {
+			this.cache.clear();
+			for (Node<K, V> node = this.head.next; node != this.head; node = node.next) {
+				node.linked = false;
+			}
+			this.head.prev = this.head;
+			this.head.next = this.head;
+			this.size = 0;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the current size of the cache.
+	 * @see #sizeLimit()
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Return the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value).
+	 * @see #size()
+	 */
+	public int sizeLimit() {
+		return this.sizeLimit;
+	}
+
+
+	private void link(Node<K, V> node) {
+		node.prev = this.head.prev;
+		node.next = this.head;
+		this.head.prev.next = node;
+		this.head.prev = node;
+		node.linked = true;
+		this.size++;
+	}
+
+	private void unlink(Node<K, V> node) {
+		if (node.linked) {
+			node.prev.next = node.next;
+			node.next.prev = node.prev;
+			node.prev = null;
+			node.next = null;
+			node.linked = false;
+			this.size--;
+		}
+	}
+
+
+	/**
+	 * Cache entry, linked into the recency list while guarded by the lock.
+	 */
+	private static final class Node<K, V> {
+
+		final K key;
+
+		final V value;
+
+		Node<K, V> prev;
+
+		Node<K, V> next;
+
+		boolean linked;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+}
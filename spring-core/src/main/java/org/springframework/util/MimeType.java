@@ -102,6 +102,10 @@ public class MimeType implements Comparable<MimeType>, Serializable {
 
 	private final Map<String, String> parameters;
 
+	private transient int hashCode;
+
+	private transient String toStringValue;
+
 
 	/**
 	 * Create a new {@code MimeType} for the given primary type.
@@ -327,13 +331,9 @@ public class MimeType implements Comparable<MimeType>, Serializable {
 				else {
 					// application/*+xml includes application/soap+xml
 					int otherPlusIdx = other.getSubtype().indexOf('+');
-					if (otherPlusIdx != -1) {
-						String thisSubtypeNoSuffix = getSubtype().substring(0, thisPlusIdx);
-						String thisSubtypeSuffix = getSubtype().substring(thisPlusIdx + 1);
-						String otherSubtypeSuffix = other.getSubtype().substring(otherPlusIdx + 1);
-						if (thisSubtypeSuffix.equals(otherSubtypeSuffix) && WILDCARD_TYPE.equals(thisSubtypeNoSuffix)) {
-							return true;
-						}
+					if (otherPlusIdx != -1 && isWildcardPrefix(getSubtype(), thisPlusIdx) &&
+							suffixesMatch(getSubtype(), thisPlusIdx, other.getSubtype(), otherPlusIdx)) {
+						return true;
 					}
 				}
 			}
@@ -371,14 +371,9 @@ public class MimeType implements Comparable<MimeType>, Serializable {
 					return true;
 				}
 				else if (thisPlusIdx != -1 && otherPlusIdx != -1) {
-					String thisSubtypeNoSuffix = getSubtype().substring(0, thisPlusIdx);
-					String otherSubtypeNoSuffix = other.getSubtype().substring(0, otherPlusIdx);
-
-					String thisSubtypeSuffix = getSubtype().substring(thisPlusIdx + 1);
-					String otherSubtypeSuffix = other.getSubtype().substring(otherPlusIdx + 1);
-
-					if (thisSubtypeSuffix.equals(otherSubtypeSuffix) &&
-							(WILDCARD_TYPE.equals(thisSubtypeNoSuffix) || WILDCARD_TYPE.equals(otherSubtypeNoSuffix))) {
+					if (suffixesMatch(getSubtype(), thisPlusIdx, other.getSubtype(), otherPlusIdx) &&
+							(isWildcardPrefix(getSubtype(), thisPlusIdx) ||
+									isWildcardPrefix(other.getSubtype(), otherPlusIdx))) {
 						return true;
 					}
 				}
@@ -388,6 +383,24 @@ public class MimeType implements Comparable<MimeType>, Serializable {
 	}
 
 
+	/**
+	 * Check whether the given subtype consists of the wildcard character up to the
+	 * given '+' index, without extracting the prefix as a separate String.
+	 */
+	private static boolean isWildcardPrefix(String subtype, int plusIdx) {
+		return (plusIdx == 1 && subtype.charAt(0) == '*');
+	}
+
+	/**
+	 * Check whether the given subtypes have the same suffix after the given '+' indexes,
+	 * without extracting the suffixes as separate Strings.
+	 */
+	private static boolean suffixesMatch(String subtype, int plusIdx, String otherSubtype, int otherPlusIdx) {
+		int suffixLength = subtype.length() - plusIdx;
+		return (suffixLength == otherSubtype.length() - otherPlusIdx &&
+				subtype.regionMatches(plusIdx, otherSubtype, otherPlusIdx, suffixLength));
+	}
+
 	@Override
 	public boolean equals(Object other) {
 		if (this == other) {
@@ -433,17 +446,26 @@ public class MimeType implements Comparable<MimeType>, Serializable {
 
 	@Override
 	public int hashCode() {
-		int result = this.type.hashCode();
-		result = 31 * result + this.subtype.hashCode();
-		result = 31 * result + this.parameters.hashCode();
+		int result = this.hashCode;
+		if (result == 0) {
+			result = this.type.hashCode();
+			result = 31 * result + this.subtype.hashCode();
+			result = 31 * result + this.parameters.hashCode();
+			this.hashCode = result;
+		}
 		return result;
 	}
 
 	@Override
 	public String toString() {
-		StringBuilder builder = new StringBuilder();
-		appendTo(builder);
-		return builder.toString();
+		String value = this.toStringValue;
+		if (value == null) {
+			StringBuilder builder = new StringBuilder();
+			appendTo(builder);
+			value = builder.toString();
+			this.toStringValue = value;
+		}
+		return value;
 	}
 
 	protected void appendTo(StringBuilder builder) {
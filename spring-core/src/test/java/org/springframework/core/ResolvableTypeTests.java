@@ -108,6 +108,16 @@ public class ResolvableTypeTests {
 		assertFalse(type.isAssignableFrom(ArrayList.class));
 	}
 
+	@Test
+	public void forClassReturnsSharedInstance() throws Exception {
+		ResolvableType type = ResolvableType.forClass(ExtendsList.class);
+		assertSame(type, ResolvableType.forClass(ExtendsList.class));
+		assertSame(type.getSuperType(), ResolvableType.forClass(ExtendsList.class).getSuperType());
+		ResolvableType.clearCache();
+		assertNotSame(type, ResolvableType.forClass(ExtendsList.class));
+		assertEquals(type, ResolvableType.forClass(ExtendsList.class));
+	}
+
 	@Test
 	public void forClassWithNull() throws Exception {
 		ResolvableType type = ResolvableType.forClass(null);
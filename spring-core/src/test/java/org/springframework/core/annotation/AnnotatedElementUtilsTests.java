@@ -733,6 +733,38 @@ public class AnnotatedElementUtilsTests {
 		assertEquals(1, allMergedAnnotations.size());
 	}
 
+	@Test
+	public void findMergedAnnotationAttributesReturnsIndependentCopies() {
+		AnnotationAttributes attributes = findMergedAnnotationAttributes(TestComponentScanClass.class, ComponentScan.class);
+		attributes.getStringArray("basePackages")[0] = "modified";
+		attributes.put("value", new String[0]);
+
+		attributes = findMergedAnnotationAttributes(TestComponentScanClass.class, ComponentScan.class);
+		assertArrayEquals(asArray("com.example.app.test"), attributes.getStringArray("basePackages"));
+		assertArrayEquals(asArray("com.example.app.test"), attributes.getStringArray("value"));
+	}
+
+	@Test
+	public void getMergedAnnotationAttributesReturnsIndependentCopies() {
+		AnnotationAttributes attributes = getMergedAnnotationAttributes(TxConfig.class, Transactional.class);
+		attributes.put("value", "modified");
+		assertEquals("TxConfig", getMergedAnnotationAttributes(TxConfig.class, Transactional.class).getString("value"));
+	}
+
+	@Test
+	public void findMergedAnnotationIsCached() {
+		Transactional annotation = findMergedAnnotation(ComposedTransactionalComponentClass.class, Transactional.class);
+		assertNotNull(annotation);
+		assertSame(annotation, findMergedAnnotation(ComposedTransactionalComponentClass.class, Transactional.class));
+		assertNull(findMergedAnnotation(NonAnnotatedClass.class, Transactional.class));
+		assertNull(findMergedAnnotation(NonAnnotatedClass.class, Transactional.class));
+
+		AnnotationUtils.clearCache();
+		Transactional recomputed = findMergedAnnotation(ComposedTransactionalComponentClass.class, Transactional.class);
+		assertNotSame(annotation, recomputed);
+		assertEquals(annotation, recomputed);
+	}
+
 
 	// -------------------------------------------------------------------------
 
@@ -1541,6 +1541,20 @@ public class AnnotationUtilsTests {
 		assertArrayEquals(new char[] { 'x', 'y', 'z' }, chars);
 	}
 
+	@Test
+	public void hashCodeAndEqualsForSynthesizedAnnotationUnaffectedByArrayModification() throws Exception {
+		CharsContainer charsContainer = GroupOfCharsClass.class.getAnnotation(CharsContainer.class);
+		CharsContainer synthesizedCharsContainer = synthesizeAnnotation(charsContainer);
+		CharsContainer otherSynthesizedCharsContainer = synthesizeAnnotation(charsContainer);
+		synthesizedCharsContainer.chars()[0] = '?';
+		synthesizedCharsContainer.value()[0] = '?';
+
+		int hashCode = otherSynthesizedCharsContainer.hashCode();
+		assertEquals(hashCode, synthesizedCharsContainer.hashCode());
+		assertEquals(hashCode, synthesizedCharsContainer.hashCode());
+		assertEquals(otherSynthesizedCharsContainer, synthesizedCharsContainer);
+	}
+
 
 	@SafeVarargs
 	static <T> T[] asArray(T... arr) {
@@ -16,6 +16,7 @@
 
 package org.springframework.core.codec;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -28,8 +29,11 @@ import reactor.test.StepVerifier;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -85,4 +89,32 @@ public class CharSequenceEncoderTests extends AbstractDataBufferAllocatingTestCa
 				.verify();
 	}
 
+	@Test
+	public void writeMultiByteCharactersAndEmptyString() {
+		Flux<String> stringFlux = Flux.just("f\u00f6\u00f6 \u20ac", "");
+		Flux<DataBuffer> output = Flux.from(
+				this.encoder.encode(stringFlux, this.bufferFactory, null, null, Collections.emptyMap()));
+		StepVerifier.create(output)
+				.consumeNextWith(stringConsumer("f\u00f6\u00f6 \u20ac"))
+				.consumeNextWith(stringConsumer(""))
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void writeWithMimeTypeCharset() {
+		Flux<String> stringFlux = Flux.just("f\u00f6\u00f6");
+		Flux<DataBuffer> output = Flux.from(this.encoder.encode(stringFlux, this.bufferFactory, null,
+				new MimeType("text", "plain", StandardCharsets.ISO_8859_1), Collections.emptyMap()));
+		StepVerifier.create(output)
+				.consumeNextWith(dataBuffer -> {
+					byte[] bytes = new byte[dataBuffer.readableByteCount()];
+					dataBuffer.read(bytes);
+					assertArrayEquals(new byte[] {'f', (byte) 0xf6, (byte) 0xf6}, bytes);
+					DataBufferUtils.release(dataBuffer);
+				})
+				.expectComplete()
+				.verify();
+	}
+
 }
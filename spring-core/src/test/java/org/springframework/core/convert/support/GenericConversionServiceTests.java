@@ -640,6 +640,68 @@ public class GenericConversionServiceTests {
 				conversionService.convert("test", TypeDescriptor.valueOf(String.class), new TypeDescriptor(getClass().getField("integerCollection"))));
 	}
 
+	@Test
+	public void bindConverter() {
+		conversionService.addConverter(String.class, Integer.class, Integer::valueOf);
+		Converter<Object, Object> converter =
+				conversionService.bindConverter(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class));
+		assertEquals(3, converter.convert("3"));
+		assertEquals(4, converter.convert("4"));
+		assertNull(converter.convert(null));
+	}
+
+	@Test(expected = ConverterNotFoundException.class)
+	public void bindConverterNotFound() {
+		conversionService.bindConverter(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void bindConverterWithWrongSourceType() {
+		conversionService.addConverter(String.class, Integer.class, Integer::valueOf);
+		conversionService.bindConverter(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class))
+				.convert(3L);
+	}
+
+	@Test
+	public void bindConverterReflectsLaterRegistrations() {
+		conversionService.addConverter(String.class, Integer.class, Integer::valueOf);
+		Converter<Object, Object> converter =
+				conversionService.bindConverter(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Integer.class));
+		assertEquals(3, converter.convert("3"));
+		conversionService.addConverter(String.class, Integer.class, source -> Integer.valueOf(source) * 2);
+		assertEquals(6, converter.convert("3"));
+	}
+
+	@Test
+	public void bindConverterForStringToArray() {
+		DefaultConversionService.addDefaultConverters(conversionService);
+		Converter<Object, Object> converter =
+				conversionService.bindConverter(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(int[].class));
+		assertArrayEquals(new int[] {1, 2, 3}, (int[]) converter.convert("1, 2,3"));
+		assertArrayEquals(new int[] {4}, (int[]) converter.convert("4"));
+	}
+
+	@Test
+	public void bindConverterForCollectionWithMixedElements() throws Exception {
+		DefaultConversionService.addDefaultConverters(conversionService);
+		Converter<Object, Object> converter = conversionService.bindConverter(
+				TypeDescriptor.valueOf(List.class), new TypeDescriptor(getClass().getField("list")));
+		assertEquals(Arrays.asList(1, 2, 3), converter.convert(Arrays.asList("1", 2L, "3")));
+		assertEquals(Arrays.asList(4, 5), converter.convert(Arrays.asList(4L, "5")));
+		List<Integer> integers = Arrays.asList(6, 7);
+		assertSame(integers, converter.convert(integers));
+	}
+
+	@Test
+	public void bindConverterForArrayToCollection() throws Exception {
+		DefaultConversionService.addDefaultConverters(conversionService);
+		Converter<Object, Object> converter = conversionService.bindConverter(
+				TypeDescriptor.valueOf(String[].class), new TypeDescriptor(getClass().getField("list")));
+		assertEquals(Arrays.asList(1, 2), converter.convert(new String[] {"1", "2"}));
+		conversionService.addConverter(String.class, Integer.class, source -> Integer.valueOf(source) * 2);
+		assertEquals(Arrays.asList(2, 4), converter.convert(new String[] {"1", "2"}));
+	}
+
 
 	@ExampleAnnotation(active = true)
 	public String annotatedString;
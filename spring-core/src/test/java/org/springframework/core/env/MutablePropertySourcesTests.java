@@ -16,6 +16,12 @@
 
 package org.springframework.core.env;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 
 import org.springframework.mock.env.MockPropertySource;
@@ -153,4 +159,42 @@ public class MutablePropertySourcesTests {
 		assertThat(sources.get("bogus"), nullValue());
 	}
 
+	@Test
+	public void modificationCount() {
+		MutablePropertySources sources = new MutablePropertySources();
+		int count = sources.getModificationCount();
+		sources.addLast(new MockPropertySource("a"));
+		assertTrue(sources.getModificationCount() > count);
+		count = sources.getModificationCount();
+		sources.replace("a", new MockPropertySource("b"));
+		assertTrue(sources.getModificationCount() > count);
+		count = sources.getModificationCount();
+		sources.remove("bogus");
+		assertThat(sources.getModificationCount(), equalTo(count));
+		sources.remove("b");
+		assertTrue(sources.getModificationCount() > count);
+	}
+
+	@Test
+	public void modificationCountWithConcurrentModifications() throws Exception {
+		MutablePropertySources sources = new MutablePropertySources();
+		int count = sources.getModificationCount();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			String prefix = "ps" + i + "-";
+			futures.add(executor.submit(() -> {
+				for (int j = 0; j < 500; j++) {
+					sources.addLast(new MockPropertySource(prefix + j));
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+		assertEquals(2000, sources.size());
+		assertEquals(count + 2000, sources.getModificationCount());
+	}
+
 }
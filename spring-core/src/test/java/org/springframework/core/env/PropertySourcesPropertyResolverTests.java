@@ -16,7 +16,9 @@
 
 package org.springframework.core.env;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -367,4 +369,88 @@ public class PropertySourcesPropertyResolverTests {
 		}
 	}
 
+	@Test
+	public void cacheResolvedProperties() {
+		MutablePropertySources ps = new MutablePropertySources();
+		MockPropertySource source = new MockPropertySource()
+				.withProperty("p1", "v1")
+				.withProperty("p2", "${p1}:2")
+				.withProperty("number", "42");
+		ps.addFirst(source);
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setCacheResolvedProperties(true);
+		assertThat(pr.getProperty("p2"), equalTo("v1:2"));
+		assertThat(pr.getProperty("number", Integer.class), equalTo(42));
+		assertThat(pr.getProperty("number"), equalTo("42"));
+		assertThat(pr.getProperty("bogus"), nullValue());
+		assertThat(pr.resolvePlaceholders("${p1}-${bogus}"), equalTo("v1-${bogus}"));
+
+		// content changes are not visible until the cache gets cleared
+		source.setProperty("p1", "w1");
+		source.setProperty("bogus", "b");
+		assertThat(pr.getProperty("p2"), equalTo("v1:2"));
+		assertThat(pr.getProperty("bogus"), nullValue());
+		assertThat(pr.resolvePlaceholders("${p1}-${bogus}"), equalTo("v1-${bogus}"));
+		pr.clearResolvedPropertyCache();
+		assertThat(pr.getProperty("p2"), equalTo("w1:2"));
+		assertThat(pr.getProperty("bogus"), equalTo("b"));
+		assertThat(pr.resolvePlaceholders("${p1}-${bogus}"), equalTo("w1-b"));
+	}
+
+	@Test
+	public void cacheResolvedPropertiesInvalidatedOnPropertySourcesChange() {
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addFirst(new MockPropertySource("ps1").withProperty("p1", "v1"));
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setCacheResolvedProperties(true);
+		assertThat(pr.getProperty("p1"), equalTo("v1"));
+		assertThat(pr.resolveRequiredPlaceholders("${p1}"), equalTo("v1"));
+
+		ps.addFirst(new MockPropertySource("ps2").withProperty("p1", "v2"));
+		assertThat(pr.getProperty("p1"), equalTo("v2"));
+		assertThat(pr.resolveRequiredPlaceholders("${p1}"), equalTo("v2"));
+
+		ps.replace("ps2", new MockPropertySource("ps3").withProperty("p1", "v3"));
+		assertThat(pr.getProperty("p1"), equalTo("v3"));
+
+		ps.remove("ps3");
+		assertThat(pr.getProperty("p1"), equalTo("v1"));
+	}
+
+	@Test
+	public void cachedArrayValuesAreCopiedPerCaller() {
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addFirst(new MockPropertySource().withProperty("names", "a,b"));
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setCacheResolvedProperties(true);
+		String[] names = pr.getProperty("names", String[].class);
+		assertArrayEquals(new String[] {"a", "b"}, names);
+		names[0] = "x";
+		String[] otherNames = pr.getProperty("names", String[].class);
+		assertArrayEquals(new String[] {"a", "b"}, otherNames);
+		assertNotSame(otherNames, pr.getProperty("names", String[].class));
+	}
+
+	@Test
+	public void mutableValuesAreNotCached() {
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addFirst(new MockPropertySource().withProperty("names", "a,b"));
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		pr.setCacheResolvedProperties(true);
+		List<?> names = pr.getProperty("names", List.class);
+		assertEquals(Arrays.asList("a", "b"), names);
+		assertNotSame(names, pr.getProperty("names", List.class));
+	}
+
+	@Test
+	public void resolvedPropertiesNotCachedByDefault() {
+		MockPropertySource source = new MockPropertySource().withProperty("p1", "v1");
+		MutablePropertySources ps = new MutablePropertySources();
+		ps.addFirst(source);
+		PropertySourcesPropertyResolver pr = new PropertySourcesPropertyResolver(ps);
+		assertThat(pr.getProperty("p1"), equalTo("v1"));
+		source.setProperty("p1", "v2");
+		assertThat(pr.getProperty("p1"), equalTo("v2"));
+	}
+
 }
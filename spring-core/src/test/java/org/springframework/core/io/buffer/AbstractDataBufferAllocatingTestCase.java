@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import org.junit.runners.Parameterized;
 import org.springframework.core.io.buffer.support.DataBufferTestUtils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * @author Arjen Poutsma
@@ -46,8 +47,9 @@ public abstract class AbstractDataBufferAllocatingTestCase {
 				{new NettyDataBufferFactory(new PooledByteBufAllocator(true))},
 				{new NettyDataBufferFactory(new PooledByteBufAllocator(false))},
 				{new DefaultDataBufferFactory(true)},
-				{new DefaultDataBufferFactory(false)}
-
+				{new DefaultDataBufferFactory(false)},
+				{new PooledDataBufferFactory(true, true)},
+				{new PooledDataBufferFactory(false, true)}
 		};
 	}
 
@@ -75,4 +77,23 @@ public abstract class AbstractDataBufferAllocatingTestCase {
 		};
 	}
 
+	/**
+	 * Assert that the given buffer has been released, provided that it is
+	 * reference-counted.
+	 */
+	protected static void assertReleased(DataBuffer dataBuffer) {
+		if (dataBuffer instanceof NettyDataBuffer) {
+			assertEquals(0, ((NettyDataBuffer) dataBuffer).getNativeBuffer().refCnt());
+		}
+		else if (dataBuffer instanceof PooledDataBuffer) {
+			try {
+				DataBufferUtils.release(dataBuffer);
+				fail("IllegalStateException expected");
+			}
+			catch (IllegalStateException ex) {
+				// expected
+			}
+		}
+	}
+
 }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -144,6 +145,47 @@ public class DataBufferTests extends AbstractDataBufferAllocatingTestCase {
 		release(buffer1);
 	}
 
+	@Test
+	public void writeCharSequence() {
+		DataBuffer buffer = createDataBuffer(1);
+		buffer.write((byte) 'a');
+		buffer.write("bcä€", StandardCharsets.UTF_8);
+		buffer.write("", StandardCharsets.UTF_8);
+		buffer.write(new StringBuilder("😀d"), StandardCharsets.UTF_8);
+		buffer.write("ä", StandardCharsets.ISO_8859_1);
+		buffer.write((byte) 'e'); // make sure the write index is correctly set
+
+		byte[] result = new byte[buffer.readableByteCount()];
+		buffer.read(result);
+		byte[] expected = "abcä€😀d".getBytes(StandardCharsets.UTF_8);
+		expected = Arrays.copyOf(expected, expected.length + 2);
+		expected[expected.length - 2] = (byte) 0xe4;
+		expected[expected.length - 1] = 'e';
+		assertArrayEquals(expected, result);
+
+		release(buffer);
+	}
+
+	@Test
+	public void writeLongCharSequence() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			builder.append("abc\u00e4\u20ac\ud83d\ude00");
+		}
+		builder.append("\ud83d!\ude00");  // unpaired surrogates
+		String value = builder.toString();
+		for (Charset charset : Arrays.asList(StandardCharsets.UTF_8, StandardCharsets.UTF_16, StandardCharsets.US_ASCII)) {
+			DataBuffer buffer = createDataBuffer(1);
+			buffer.write(value, charset);
+
+			byte[] result = new byte[buffer.readableByteCount()];
+			buffer.read(result);
+			assertArrayEquals(value.getBytes(charset), result);
+
+			release(buffer);
+		}
+	}
+
 	private ByteBuffer createByteBuffer(int capacity) {
 		return ByteBuffer.allocate(capacity);
 	}
@@ -16,18 +16,36 @@
 
 package org.springframework.core.io.buffer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
+import io.netty.buffer.CompositeByteBuf;
 import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Arjen Poutsma
@@ -112,6 +130,174 @@ public class DataBufferUtilsTests extends AbstractDataBufferAllocatingTestCase {
 				.verify();
 	}
 
+	@Test
+	public void writeOutputStream() throws Exception {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		DataBuffer baz = stringBuffer("baz");
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+		StepVerifier.create(DataBufferUtils.write(Flux.just(foo, bar, baz), os))
+				.expectComplete()
+				.verify();
+
+		assertEquals("foobarbaz", os.toString("UTF-8"));
+		assertReleased(foo);
+		assertReleased(bar);
+		assertReleased(baz);
+	}
+
+	@Test
+	public void writeOutputStreamError() throws Exception {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		ByteArrayOutputStream written = new ByteArrayOutputStream();
+		OutputStream os = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				if (written.size() == 3) {
+					throw new IOException();
+				}
+				written.write(b);
+			}
+		};
+
+		StepVerifier.create(DataBufferUtils.write(Flux.just(foo, bar), os))
+				.expectError(IOException.class)
+				.verify();
+
+		assertEquals("foo", written.toString("UTF-8"));
+		assertReleased(foo);
+		assertReleased(bar);
+	}
+
+	@Test
+	public void writeWritableByteChannelErrorReleasesLateBuffers() throws Exception {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		DataBuffer baz = stringBuffer("baz");
+		// Source that keeps emitting after having been cancelled
+		Publisher<DataBuffer> source = subscriber -> {
+			subscriber.onSubscribe(new Subscription() {
+				@Override
+				public void request(long n) {
+				}
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onNext(foo);
+			subscriber.onNext(bar);
+			subscriber.onNext(baz);
+			subscriber.onComplete();
+		};
+		WritableByteChannel channel = new WritableByteChannel() {
+			@Override
+			public int write(ByteBuffer src) throws IOException {
+				throw new IOException();
+			}
+			@Override
+			public boolean isOpen() {
+				return true;
+			}
+			@Override
+			public void close() {
+			}
+		};
+
+		StepVerifier.create(DataBufferUtils.write(source, channel))
+				.expectError(IOException.class)
+				.verify();
+
+		assertReleased(foo);
+		assertReleased(bar);
+		assertReleased(baz);
+	}
+
+	@Test
+	public void writeWritableByteChannel() throws Exception {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		Path tempFile = Files.createTempFile("DataBufferUtilsTests", null);
+		try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+			StepVerifier.create(DataBufferUtils.write(Flux.just(foo, bar), channel))
+					.expectComplete()
+					.verify();
+
+			assertTrue(channel.isOpen());
+			assertEquals("foobar", new String(Files.readAllBytes(tempFile), StandardCharsets.UTF_8));
+			assertReleased(foo);
+			assertReleased(bar);
+		}
+		finally {
+			Files.delete(tempFile);
+		}
+	}
+
+	@Test
+	public void writeAsynchronousFileChannel() throws Exception {
+		StringBuilder expected = new StringBuilder();
+		List<DataBuffer> buffers = new ArrayList<>();
+		Flux<DataBuffer> flux = Flux.range(0, 100).map(i -> {
+			String value = "foo" + i + "bar" + i + "baz";
+			expected.append(value);
+			DataBuffer buffer = stringBuffer(value);
+			buffers.add(buffer);
+			return buffer;
+		});
+		Path tempFile = Files.createTempFile("DataBufferUtilsTests", null);
+		try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+			StepVerifier.create(DataBufferUtils.write(flux, channel))
+					.expectComplete()
+					.verify();
+
+			assertEquals(expected.toString(), new String(Files.readAllBytes(tempFile), StandardCharsets.UTF_8));
+			assertEquals(100, buffers.size());
+			buffers.forEach(AbstractDataBufferAllocatingTestCase::assertReleased);
+		}
+		finally {
+			Files.delete(tempFile);
+		}
+	}
+
+	@Test
+	public void writeAsynchronousFileChannelPosition() throws Exception {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		Path tempFile = Files.createTempFile("DataBufferUtilsTests", null);
+		try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+			StepVerifier.create(DataBufferUtils.write(Flux.just(foo, bar), channel, 3))
+					.expectComplete()
+					.verify();
+
+			assertArrayEquals(new byte[] {0, 0, 0, 'f', 'o', 'o', 'b', 'a', 'r'}, Files.readAllBytes(tempFile));
+			assertReleased(foo);
+			assertReleased(bar);
+		}
+		finally {
+			Files.delete(tempFile);
+		}
+	}
+
+	@Test
+	public void writeAsynchronousFileChannelError() throws Exception {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		Path tempFile = Files.createTempFile("DataBufferUtilsTests", null);
+		try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(tempFile, StandardOpenOption.READ)) {
+			StepVerifier.create(DataBufferUtils.write(Flux.just(foo, bar), channel))
+					.expectError()
+					.verify();
+
+			assertReleased(foo);
+			// bar never got emitted, the source having been cancelled on the failed write
+			assertEquals(bar instanceof PooledDataBuffer, DataBufferUtils.release(bar));
+		}
+		finally {
+			Files.delete(tempFile);
+		}
+	}
+
 	@Test
 	public void takeUntilByteCount() throws Exception {
 		DataBuffer foo = stringBuffer("foo");
@@ -157,4 +343,54 @@ public class DataBufferUtilsTests extends AbstractDataBufferAllocatingTestCase {
 				.verify();
 	}
 
+	@Test
+	public void join() {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		DataBuffer baz = stringBuffer("baz");
+		foo.read();  // only the readable bytes get joined
+		Mono<DataBuffer> result = DataBufferUtils.join(Flux.just(foo, bar, baz));
+
+		StepVerifier.create(result)
+				.consumeNextWith(dataBuffer -> {
+					if (dataBuffer instanceof NettyDataBuffer) {
+						// Composite view rather than a copy
+						assertTrue(((NettyDataBuffer) dataBuffer).getNativeBuffer() instanceof CompositeByteBuf);
+					}
+					stringConsumer("oobarbaz").accept(dataBuffer);
+				})
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void joinSingleAndEmpty() {
+		DataBuffer foo = stringBuffer("foo");
+		StepVerifier.create(DataBufferUtils.join(Flux.just(foo)))
+				.consumeNextWith(dataBuffer -> {
+					assertSame(foo, dataBuffer);
+					stringConsumer("foo").accept(dataBuffer);
+				})
+				.expectComplete()
+				.verify();
+
+		StepVerifier.create(DataBufferUtils.join(Flux.empty()))
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void joinErrorReleasesBuffers() {
+		DataBuffer foo = stringBuffer("foo");
+		DataBuffer bar = stringBuffer("bar");
+		Flux<DataBuffer> flux = Flux.just(foo, bar).concatWith(Flux.error(new IllegalStateException()));
+
+		StepVerifier.create(DataBufferUtils.join(flux))
+				.expectError(IllegalStateException.class)
+				.verify();
+
+		assertReleased(foo);
+		assertReleased(bar);
+	}
+
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link PooledDataBufferFactory}.
+ */
+public class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory(false, true);
+
+
+	@Test
+	public void sizeClasses() {
+		assertCapacity(256, 0);
+		assertCapacity(256, 256);
+		assertCapacity(512, 257);
+		assertCapacity(8192, 8192);
+		assertCapacity(65536, 65536);
+		assertCapacity(65537, 65537);
+	}
+
+	@Test
+	public void releasedBufferIsReused() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(1000);
+		ByteBuffer nativeBuffer = nativeBuffer(buffer);
+		buffer.write("foo".getBytes(StandardCharsets.UTF_8));
+		assertTrue(DataBufferUtils.release(buffer));
+
+		DataBuffer reused = this.bufferFactory.allocateBuffer(600);
+		assertSame(nativeBuffer, nativeBuffer(reused));
+		assertEquals(0, reused.readableByteCount());
+		assertTrue(DataBufferUtils.release(reused));
+	}
+
+	@Test
+	public void unpooledCapacityIsNotReused() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(100000);
+		ByteBuffer nativeBuffer = nativeBuffer(buffer);
+		assertTrue(DataBufferUtils.release(buffer));
+
+		DataBuffer other = this.bufferFactory.allocateBuffer(100000);
+		assertNotSame(nativeBuffer, nativeBuffer(other));
+		assertTrue(DataBufferUtils.release(other));
+	}
+
+	@Test
+	public void referenceCounting() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		assertTrue(buffer instanceof PooledDataBuffer);
+		DataBufferUtils.retain(buffer);
+		assertFalse(DataBufferUtils.release(buffer));
+		assertTrue(DataBufferUtils.release(buffer));
+		try {
+			DataBufferUtils.release(buffer);
+			fail("IllegalStateException expected");
+		}
+		catch (IllegalStateException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void sliceSharesReferenceCount() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.write(new byte[] {'a', 'b', 'c'});
+		DataBuffer slice = buffer.slice(1, 2);
+		assertTrue(slice instanceof PooledDataBuffer);
+		assertEquals('b', slice.read());
+
+		DataBufferUtils.retain(slice);
+		assertFalse(DataBufferUtils.release(buffer));
+		assertTrue(DataBufferUtils.release(slice.slice(0, 1)));
+	}
+
+	@Test
+	public void growDoesNotRecyclePreviousBuffer() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(256);
+		ByteBuffer initialBuffer = nativeBuffer(buffer);
+		buffer.write(new byte[300]);
+		assertEquals(512, nativeBuffer(buffer).capacity());
+		assertEquals(300, buffer.readableByteCount());
+
+		DataBuffer other = this.bufferFactory.allocateBuffer(100);
+		assertNotSame(initialBuffer, nativeBuffer(other));
+		assertTrue(DataBufferUtils.release(buffer));
+		assertTrue(DataBufferUtils.release(other));
+	}
+
+	@Test
+	public void sliceSurvivesGrow() {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(256);
+		buffer.write("hello".getBytes(StandardCharsets.UTF_8));
+		DataBuffer slice = buffer.slice(0, 5);
+		buffer.write(new byte[300]);
+
+		DataBuffer other = this.bufferFactory.allocateBuffer(256);
+		other.write("XXXXX".getBytes(StandardCharsets.UTF_8));
+		byte[] bytes = new byte[5];
+		slice.read(bytes);
+		assertEquals("hello", new String(bytes, StandardCharsets.UTF_8));
+		assertTrue(DataBufferUtils.release(buffer));
+		assertTrue(DataBufferUtils.release(other));
+	}
+
+	@Test
+	public void wrappedBufferIsNotPooled() {
+		DataBuffer buffer = this.bufferFactory.wrap(new byte[] {'a'});
+		assertFalse(buffer instanceof PooledDataBuffer);
+		assertFalse(DataBufferUtils.release(buffer));
+	}
+
+	@Test
+	public void leakDetection() throws Exception {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		DataBufferUtils.release(buffer);
+		this.bufferFactory.allocateBuffer(10);
+		buffer = null;
+
+		int leaks = 0;
+		for (int i = 0; i < 10 && leaks == 0; i++) {
+			System.gc();
+			Thread.sleep(10);
+			leaks = this.bufferFactory.reportLeaks();
+		}
+		assertEquals(1, leaks);
+	}
+
+
+	private void assertCapacity(int expected, int initialCapacity) {
+		DataBuffer buffer = this.bufferFactory.allocateBuffer(initialCapacity);
+		assertEquals(expected, nativeBuffer(buffer).capacity());
+		assertTrue(DataBufferUtils.release(buffer));
+	}
+
+	private static ByteBuffer nativeBuffer(DataBuffer buffer) {
+		return ((DefaultDataBuffer) buffer).getNativeBuffer();
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.metrics;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import org.springframework.core.metrics.RecordingApplicationStartup.RecordedStep;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link RecordingApplicationStartup} and the
+ * default no-op {@link ApplicationStartup}.
+ */
+public class RecordingApplicationStartupTests {
+
+	@Test
+	public void defaultStartupDoesNotEvaluateTags() {
+		AtomicBoolean evaluated = new AtomicBoolean();
+		StartupStep step = ApplicationStartup.DEFAULT.start("spring.test").tag("key", () -> {
+			evaluated.set(true);
+			return "value";
+		});
+		step.end();
+		assertFalse(evaluated.get());
+		assertFalse(step.getTags().iterator().hasNext());
+		assertSame(step, ApplicationStartup.DEFAULT.start("spring.other"));
+	}
+
+	@Test
+	public void nestedSteps() {
+		RecordingApplicationStartup startup = new RecordingApplicationStartup();
+		StartupStep outer = startup.start("spring.outer");
+		StartupStep inner = startup.start("spring.inner").tag("beanName", "myBean");
+		inner.end();
+		StartupStep sibling = startup.start("spring.inner").tag("beanName", () -> "otherBean");
+		sibling.end();
+		outer.end();
+		StartupStep next = startup.start("spring.next");
+		next.end();
+
+		List<RecordedStep> steps = startup.getRecordedSteps();
+		assertEquals(4, steps.size());
+		assertSame(inner, steps.get(0));
+		assertSame(sibling, steps.get(1));
+		assertSame(outer, steps.get(2));
+		assertEquals(Long.valueOf(outer.getId()), inner.getParentId());
+		assertEquals(Long.valueOf(outer.getId()), sibling.getParentId());
+		assertNull(outer.getParentId());
+		assertNull(next.getParentId());
+		assertEquals("otherBean", sibling.getTags().iterator().next().getValue());
+		assertTrue(steps.get(2).getDuration() >= steps.get(0).getDuration() + steps.get(1).getDuration());
+		assertEquals(Thread.currentThread().getName(), steps.get(0).getThreadName());
+	}
+
+	@Test
+	public void unendedNestedStep() {
+		RecordingApplicationStartup startup = new RecordingApplicationStartup();
+		StartupStep outer = startup.start("spring.outer");
+		startup.start("spring.inner");
+		outer.end();
+		StartupStep next = startup.start("spring.next");
+		assertNull(next.getParentId());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void endTwice() {
+		StartupStep step = new RecordingApplicationStartup().start("spring.test");
+		step.end();
+		step.end();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void tagAfterEnd() {
+		StartupStep step = new RecordingApplicationStartup().start("spring.test");
+		step.end();
+		step.tag("key", "value");
+	}
+
+	@Test
+	public void capacity() {
+		RecordingApplicationStartup startup = new RecordingApplicationStartup(2);
+		for (int i = 0; i < 5; i++) {
+			startup.start("spring.test").end();
+		}
+		assertEquals(2, startup.getRecordedSteps().size());
+		assertEquals(3, startup.getDiscardedStepCount());
+		startup.clear();
+		assertTrue(startup.getRecordedSteps().isEmpty());
+		assertEquals(0, startup.getDiscardedStepCount());
+	}
+
+	@Test
+	public void exportFlameGraph() throws Exception {
+		RecordingApplicationStartup startup = new RecordingApplicationStartup();
+		StartupStep outer = startup.start("spring.outer");
+		StartupStep inner = startup.start("spring.inner").tag("beanName", "my;bean").tag("type", "x");
+		Thread.sleep(5);
+		inner.end();
+		Thread.sleep(5);
+		outer.end();
+
+		StringWriter writer = new StringWriter();
+		startup.exportFlameGraph(writer);
+		String[] lines = writer.toString().split("\n");
+		assertEquals(2, lines.length);
+		assertTrue(lines[0].startsWith("spring.outer;spring.inner{beanName=my:bean,type=x} "));
+		assertTrue(lines[1].startsWith("spring.outer "));
+		long innerTime = Long.parseLong(lines[0].substring(lines[0].lastIndexOf(' ') + 1));
+		long outerSelfTime = Long.parseLong(lines[1].substring(lines[1].lastIndexOf(' ') + 1));
+		assertTrue(innerTime >= 5000);
+		assertTrue(outerSelfTime >= 5000);
+		assertEquals(startup.getRecordedSteps().get(1).getDuration() / 1000, innerTime + outerSelfTime, 2);
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.springframework.core.NestedIOException;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link IndexedMetadataReaderFactory}.
+ */
+public class IndexedMetadataReaderFactoryTests {
+
+	private static final String TYPE = "org/springframework/core/type/classreading/IndexedMetadataReaderFactoryTests$Sample";
+
+	private static final String ANNOTATION =
+			"Lorg/springframework/core/type/classreading/IndexedMetadataReaderFactoryTests$Values;";
+
+
+	@Test
+	public void replayRecord() throws IOException {
+		String record = "C33 " + TYPE + " java/lang/Object 1 java/io/Serializable A" + ANNOTATION +
+				" name 'a%20b%25 flag Z1 ch C65 numbers [I I1 I2 I3 ) names [ 'x 'y ) type TLjava/lang/String;" +
+				" policy NLjava/lang/annotation/RetentionPolicy; CLASS ) M1 sample ()Ljava/lang/String; A" +
+				ANNOTATION + " ) )";
+		IndexedMetadataReaderFactory factory = new IndexedMetadataReaderFactory(getClass().getClassLoader(),
+				Collections.singletonMap(Sample.class.getName(), record));
+		assertTrue(factory.isIndexed(Sample.class.getName()));
+
+		MetadataReader reader = factory.getMetadataReader(Sample.class.getName());
+		assertSame(reader, factory.getMetadataReader(Sample.class.getName()));
+		assertTrue(reader.getResource().getDescription().contains("IndexedMetadataReaderFactoryTests$Sample.class"));
+
+		AnnotationMetadata metadata = reader.getAnnotationMetadata();
+		assertEquals(Sample.class.getName(), metadata.getClassName());
+		assertEquals(Object.class.getName(), metadata.getSuperClassName());
+		assertArrayEquals(new String[] {"java.io.Serializable"}, metadata.getInterfaceNames());
+		assertTrue(metadata.isConcrete());
+
+		AnnotationAttributes attributes = (AnnotationAttributes) metadata.getAnnotationAttributes(Values.class.getName());
+		assertEquals("a b%", attributes.getString("name"));
+		assertTrue(attributes.getBoolean("flag"));
+		assertEquals('A', attributes.get("ch"));
+		assertArrayEquals(new int[] {1, 2, 3}, (int[]) attributes.get("numbers"));
+		assertArrayEquals(new String[] {"x", "y"}, attributes.getStringArray("names"));
+		assertEquals(String.class, attributes.getClass("type"));
+		assertEquals(RetentionPolicy.CLASS, attributes.getEnum("policy"));
+
+		assertTrue(metadata.hasAnnotatedMethods(Values.class.getName()));
+		MethodMetadata method = metadata.getAnnotatedMethods(Values.class.getName()).iterator().next();
+		assertEquals("sample", method.getMethodName());
+		assertEquals(String.class.getName(), method.getReturnTypeName());
+	}
+
+	@Test
+	public void fallbackToClassFile() throws IOException {
+		IndexedMetadataReaderFactory factory =
+				new IndexedMetadataReaderFactory(getClass().getClassLoader(), Collections.emptyMap());
+		assertFalse(factory.isIndexed(Sample.class.getName()));
+		MetadataReader reader = factory.getMetadataReader(Sample.class.getName());
+		assertTrue(reader instanceof SimpleMetadataReader);
+		assertTrue(reader.getAnnotationMetadata().hasAnnotation(Values.class.getName()));
+	}
+
+	@Test(expected = NestedIOException.class)
+	public void invalidRecord() throws IOException {
+		IndexedMetadataReaderFactory factory = new IndexedMetadataReaderFactory(getClass().getClassLoader(),
+				Collections.singletonMap(Sample.class.getName(), "C33 " + TYPE));
+		factory.getMetadataReader(Sample.class.getName());
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Values {
+
+		String name() default "";
+
+		boolean flag() default false;
+
+		char ch() default ' ';
+
+		int[] numbers() default {};
+
+		String[] names() default {};
+
+		Class<?> type() default Object.class;
+
+		RetentionPolicy policy() default RetentionPolicy.RUNTIME;
+	}
+
+
+	@Values
+	@SuppressWarnings("serial")
+	static class Sample implements java.io.Serializable {
+	}
+
+}
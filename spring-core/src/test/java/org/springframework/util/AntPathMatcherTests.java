@@ -616,10 +616,14 @@ public class AntPathMatcherTests {
 		assertTrue(pathMatcher.stringMatcherCache.size() > 20);
 
 		for (int i = 0; i < 65536; i++) {
-			pathMatcher.match("test" + i, "test");
+			pathMatcher.match("test" + i, "test" + i);
 		}
-		// Cache turned off because it went beyond the threshold
-		assertTrue(pathMatcher.stringMatcherCache.isEmpty());
+		// Cache stays alive but bounded, evicting least recently used patterns
+		assertEquals(65536, pathMatcher.stringMatcherCache.size());
+
+		pathMatcher.match("/hotels/{hotel}", "/hotels/1");
+		pathMatcher.match("test0", "test0");
+		assertEquals(65536, pathMatcher.stringMatcherCache.size());
 	}
 
 	@Test
@@ -671,7 +675,28 @@ public class AntPathMatcherTests {
 	public void cachePatternsSetToFalse() {
 		pathMatcher.setCachePatterns(false);
 		match();
-		assertTrue(pathMatcher.stringMatcherCache.isEmpty());
+		assertEquals(0, pathMatcher.stringMatcherCache.size());
+	}
+
+	@Test
+	public void wildcardSegmentsWithoutRegex() {
+		assertTrue(pathMatcher.match("/a*b*c", "/abc"));
+		assertTrue(pathMatcher.match("/a*b*c", "/aXbYbZc"));
+		assertFalse(pathMatcher.match("/a*b*c", "/aXbYbZ"));
+		assertTrue(pathMatcher.match("/a?c*", "/abcdef"));
+		assertFalse(pathMatcher.match("/a?c*", "/ac"));
+		assertTrue(pathMatcher.match("/*.$html", "/index.$html"));
+		assertFalse(pathMatcher.match("/*.html", "/indexxhtml"));
+		assertFalse(pathMatcher.match("/*.html", "/index\nhtml"));
+		assertFalse(pathMatcher.match("/a*c", "/a\nc"));
+		assertFalse(pathMatcher.match("/a?c", "/a\nc"));
+		assertTrue(pathMatcher.match("/a\nb", "/a\nb"));
+
+		pathMatcher.setCaseSensitive(false);
+		assertTrue(pathMatcher.match("/Hotels/*.HTML", "/hotels/index.html"));
+		assertTrue(pathMatcher.match("/Hotels/List", "/hotels/list"));
+		assertFalse(pathMatcher.match("/Hotels/List", "/hotels/lisT2"));
+		assertFalse(pathMatcher.match("/Hotels/\u00c4*", "/hotels/\u00e4x"));
 	}
 
 	@Test
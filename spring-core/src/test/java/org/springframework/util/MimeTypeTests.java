@@ -159,6 +159,27 @@ public class MimeTypeTests {
 		assertFalse(applicationWildcardXml.isCompatibleWith(MimeTypeUtils.APPLICATION_JSON));
 	}
 
+	@Test
+	public void includesAndIsCompatibleWithSuffixes() {
+		MimeType wildcardJson = new MimeType("application", "*+json");
+		MimeType problemJson = new MimeType("application", "problem+json");
+		MimeType problemXml = new MimeType("application", "problem+xml");
+		MimeType vendorJson = new MimeType("application", "vnd.x+json");
+		MimeType wildcardJsonish = new MimeType("application", "*+jsonx");
+
+		assertTrue(wildcardJson.includes(problemJson));
+		assertTrue(wildcardJson.includes(vendorJson));
+		assertFalse(wildcardJson.includes(problemXml));
+		assertFalse(wildcardJson.includes(wildcardJsonish));
+		assertFalse(problemJson.includes(vendorJson));
+
+		assertTrue(problemJson.isCompatibleWith(wildcardJson));
+		assertTrue(wildcardJson.isCompatibleWith(vendorJson));
+		assertFalse(problemXml.isCompatibleWith(wildcardJson));
+		assertFalse(wildcardJsonish.isCompatibleWith(problemJson));
+		assertFalse(problemJson.isCompatibleWith(vendorJson));
+	}
+
 	@Test
 	public void testToString() throws Exception {
 		MimeType mimeType = new MimeType("text", "plain");
@@ -174,6 +195,19 @@ public class MimeTypeTests {
 		assertEquals("Invalid subtype", "*", mimeType.getSubtype());
 	}
 
+	@Test
+	public void parseMimeTypeCached() {
+		MimeType mimeType = MimeTypeUtils.parseMimeType("text/plain;charset=UTF-8");
+		assertSame(mimeType, MimeTypeUtils.parseMimeType("text/plain;charset=UTF-8"));
+		assertEquals(mimeType, MimeTypeUtils.parseMimeType("text/plain; charset=UTF-8"));
+		assertEquals("text/plain;charset=UTF-8", mimeType.toString());
+		assertEquals(new MimeType("text", "plain", StandardCharsets.UTF_8).hashCode(), mimeType.hashCode());
+
+		String multipart = "multipart/form-data;boundary=abc";
+		assertNotSame(MimeTypeUtils.parseMimeType(multipart), MimeTypeUtils.parseMimeType(multipart));
+		assertEquals(MimeTypeUtils.parseMimeType(multipart), MimeTypeUtils.parseMimeType(multipart));
+	}
+
 	@Test(expected = InvalidMimeTypeException.class)
 	public void parseMimeTypeNoSubtype() {
 		MimeTypeUtils.parseMimeType("audio");
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Benchmarks for {@link JdbcTemplate} query execution and row mapping against
+ * an embedded HSQL database, isolating the framework overhead around the
+ * JDBC calls (statement preparation, result set extraction, row mapping).
+ */
+@BenchmarkMode(Mode.Throughput)
+public class JdbcTemplateBenchmark {
+
+	@Benchmark
+	public void queryWithRowMapper(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.jdbcTemplate.query("SELECT id, name, amount FROM item WHERE id < ?",
+				(rs, rowNum) -> new Item(rs.getLong(1), rs.getString(2), rs.getInt(3)), data.rowCount));
+	}
+
+	@Benchmark
+	public void queryWithBeanPropertyRowMapper(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.jdbcTemplate.query("SELECT id, name, amount FROM item WHERE id < ?",
+				data.beanPropertyRowMapper, data.rowCount));
+	}
+
+	@Benchmark
+	public void queryForList(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.jdbcTemplate.queryForList("SELECT id, name, amount FROM item WHERE id < ?", data.rowCount));
+	}
+
+	@Benchmark
+	public void queryForObject(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.jdbcTemplate.queryForObject("SELECT name FROM item WHERE id = ?", String.class, 1));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"1", "100"})
+		public int rowCount;
+
+		public EmbeddedDatabase database;
+
+		public JdbcTemplate jdbcTemplate;
+
+		public BeanPropertyRowMapper<Item> beanPropertyRowMapper;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.HSQL)
+					.generateUniqueName(true).build();
+			this.jdbcTemplate = new JdbcTemplate(this.database);
+			this.jdbcTemplate.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(50), amount INTEGER)");
+			for (int i = 0; i < 100; i++) {
+				this.jdbcTemplate.update("INSERT INTO item (id, name, amount) VALUES (?, ?, ?)", i, "item" + i, i * 10);
+			}
+			this.beanPropertyRowMapper = new BeanPropertyRowMapper<>(Item.class);
+		}
+
+		@TearDown(Level.Trial)
+		public void teardown() {
+			this.database.shutdown();
+		}
+	}
+
+
+	public static class Item {
+
+		private long id;
+
+		private String name;
+
+		private int amount;
+
+		public Item() {
+		}
+
+		public Item(long id, String name, int amount) {
+			this.id = id;
+			this.name = name;
+			this.amount = amount;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAmount() {
+			return this.amount;
+		}
+
+		public void setAmount(int amount) {
+			this.amount = amount;
+		}
+	}
+
+}
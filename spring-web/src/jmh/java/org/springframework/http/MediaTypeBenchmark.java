@@ -0,0 +1,75 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link MediaType} parsing and comparison, as performed
+ * for {@code Accept} and {@code Content-Type} headers on every request.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class MediaTypeBenchmark {
+
+	@Benchmark
+	public void parseContentType(BenchmarkData data, Blackhole bh) {
+		bh.consume(MediaType.parseMediaType(data.contentType));
+	}
+
+	@Benchmark
+	public void parseAcceptHeader(BenchmarkData data, Blackhole bh) {
+		List<MediaType> mediaTypes = MediaType.parseMediaTypes(data.acceptHeader);
+		MediaType.sortBySpecificityAndQuality(mediaTypes);
+		bh.consume(mediaTypes);
+	}
+
+	@Benchmark
+	public void isCompatibleWith(BenchmarkData data, Blackhole bh) {
+		for (MediaType producible : data.producibleTypes) {
+			bh.consume(data.wildcardXml.isCompatibleWith(producible));
+			bh.consume(data.wildcardXml.includes(producible));
+		}
+	}
+
+	@Benchmark
+	public void contentTypeToString(BenchmarkData data, Blackhole bh) {
+		bh.consume(MediaType.APPLICATION_JSON_UTF8.toString());
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public String contentType = "application/json;charset=UTF-8";
+
+		public String acceptHeader =
+				"text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,image/apng,*/*;q=0.8";
+
+		public MediaType wildcardXml = new MediaType("application", "*+xml");
+
+		public MediaType[] producibleTypes = {MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML,
+				MediaType.APPLICATION_ATOM_XML, MediaType.APPLICATION_PROBLEM_XML, MediaType.TEXT_PLAIN};
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoderBenchmark.Pojo;
+
+/**
+ * Benchmarks for {@link Jackson2JsonDecoder}, decoding a large JSON array
+ * received in chunks into a stream of values as well as into a single list.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Jackson2JsonDecoderBenchmark {
+
+	@Benchmark
+	public void decodeArrayToFlux(BenchmarkData data, Blackhole bh) {
+		data.decoder.decode(data.chunks(), data.elementType, MediaType.APPLICATION_JSON, Collections.emptyMap())
+				.doOnNext(bh::consume)
+				.blockLast();
+	}
+
+	@Benchmark
+	public void decodeArrayToMono(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.decoder.decodeToMono(data.chunks(), data.listType,
+				MediaType.APPLICATION_JSON, Collections.emptyMap()).block());
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"10", "10000"})
+		public int elementCount;
+
+		@Param({"8192"})
+		public int chunkSize;
+
+		public Jackson2JsonDecoder decoder;
+
+		public DataBufferFactory bufferFactory;
+
+		public ResolvableType elementType;
+
+		public ResolvableType listType;
+
+		public byte[] json;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.decoder = new Jackson2JsonDecoder();
+			this.bufferFactory = new DefaultDataBufferFactory();
+			this.elementType = ResolvableType.forClass(Pojo.class);
+			this.listType = ResolvableType.forClassWithGenerics(List.class, Pojo.class);
+			List<Pojo> pojos = new ArrayList<>(this.elementCount);
+			for (int i = 0; i < this.elementCount; i++) {
+				pojos.add(new Pojo("foo" + i, "bar" + i, i));
+			}
+			this.json = new ObjectMapper().writeValueAsBytes(pojos);
+		}
+
+		public Flux<DataBuffer> chunks() {
+			return Flux.range(0, (this.json.length + this.chunkSize - 1) / this.chunkSize).map(i -> {
+				int offset = i * this.chunkSize;
+				int length = Math.min(this.chunkSize, this.json.length - offset);
+				DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+				return buffer.write(this.json, offset, length);
+			});
+		}
+	}
+
+}
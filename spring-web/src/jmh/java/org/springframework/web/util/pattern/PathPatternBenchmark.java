@@ -0,0 +1,81 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link PathPattern} matching, mirroring the
+ * {@code AntPathMatcherBenchmark} in spring-core for comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PathPatternBenchmark {
+
+	@Benchmark
+	public void matches(BenchmarkData data, Blackhole bh) {
+		for (PathPattern pattern : data.patterns) {
+			for (String path : data.paths) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchAndExtract(BenchmarkData data, Blackhole bh) {
+		bh.consume(data.variablesPattern.matchAndExtract("/api/v1/users/42/orders/1234"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public List<PathPattern> patterns = new ArrayList<>();
+
+		public List<String> paths = new ArrayList<>();
+
+		public PathPattern variablesPattern;
+
+		@Setup(Level.Trial)
+		public void createData() {
+			PathPatternParser parser = new PathPatternParser();
+			this.patterns.add(parser.parse("/api/{version}/users/{id}"));
+			this.patterns.add(parser.parse("/api/{version}/users/{id}/orders/{orderId}"));
+			this.patterns.add(parser.parse("/static/**"));
+			this.patterns.add(parser.parse("/resources/*/default.css"));
+			this.patterns.add(parser.parse("/files/*.{ext:[a-z]+}"));
+			this.patterns.add(parser.parse("/admin/*/settings"));
+			this.paths.add("/api/v1/users/42");
+			this.paths.add("/api/v1/users/42/orders/1234");
+			this.paths.add("/static/js/app/main.js");
+			this.paths.add("/resources/css/default.css");
+			this.paths.add("/files/report.pdf");
+			this.paths.add("/admin/global/settings");
+			this.variablesPattern = parser.parse("/api/{version}/users/{id}/orders/{orderId}");
+		}
+	}
+
+}
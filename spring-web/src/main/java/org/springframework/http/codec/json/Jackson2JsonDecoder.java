@@ -26,6 +26,7 @@ import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -35,7 +36,6 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.CodecException;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.codec.HttpMessageDecoder;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -54,9 +54,7 @@ import org.springframework.util.MimeType;
  */
 public class Jackson2JsonDecoder extends Jackson2CodecSupport implements HttpMessageDecoder<Object> {
 
-	private final JsonObjectDecoder fluxDecoder = new JsonObjectDecoder(true);
-
-	private final JsonObjectDecoder monoDecoder = new JsonObjectDecoder(false);
+	private int maxInMemorySize = 1024 * 1024;
 
 
 	public Jackson2JsonDecoder() {
@@ -68,6 +66,27 @@ public class Jackson2JsonDecoder extends Jackson2CodecSupport implements HttpMes
 	}
 
 
+	/**
+	 * Set the maximum number of bytes that a single JSON value may span in the
+	 * input, since the tokens of each value are buffered until it is complete.
+	 * Values beyond that limit raise a {@link DecodingException}.
+	 * <p>By default this is set to 1MB.
+	 * @param byteCount the maximum number of bytes per JSON value
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+		Assert.isTrue(byteCount > 0, "'byteCount' must be greater than 0");
+		this.maxInMemorySize = byteCount;
+	}
+
+	/**
+	 * Return the {@link #setMaxInMemorySize configured} maximum number of
+	 * bytes per JSON value.
+	 */
+	public int getMaxInMemorySize() {
+		return this.maxInMemorySize;
+	}
+
+
 	@Override
 	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		JavaType javaType = this.objectMapper.getTypeFactory().constructType(elementType.getType());
@@ -86,20 +105,24 @@ public class Jackson2JsonDecoder extends Jackson2CodecSupport implements HttpMes
 	public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
-		return decodeInternal(this.fluxDecoder, input, elementType, mimeType, hints);
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				input, this.objectMapper.getFactory(), true, this.maxInMemorySize);
+		return decodeInternal(tokens, elementType, hints);
 	}
 
 	@Override
 	public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
 
-		return decodeInternal(this.monoDecoder, input, elementType, mimeType, hints).singleOrEmpty();
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				input, this.objectMapper.getFactory(), false, this.maxInMemorySize);
+		return decodeInternal(tokens, elementType, hints).singleOrEmpty();
 	}
 
-	private Flux<Object> decodeInternal(JsonObjectDecoder objectDecoder, Publisher<DataBuffer> inputStream,
-			ResolvableType elementType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+	private Flux<Object> decodeInternal(Flux<TokenBuffer> tokens, ResolvableType elementType,
+			@Nullable Map<String, Object> hints) {
 
-		Assert.notNull(inputStream, "'inputStream' must not be null");
+		Assert.notNull(tokens, "'tokens' must not be null");
 		Assert.notNull(elementType, "'elementType' must not be null");
 
 		Class<?> contextClass = getParameter(elementType).map(MethodParameter::getContainingClass).orElse(null);
@@ -110,26 +133,20 @@ public class Jackson2JsonDecoder extends Jackson2CodecSupport implements HttpMes
 				this.objectMapper.readerWithView(jsonView).forType(javaType) :
 				this.objectMapper.readerFor(javaType));
 
-		return objectDecoder.decode(inputStream, elementType, mimeType, hints)
-				.flatMap(dataBuffer -> {
-					if (dataBuffer.readableByteCount() == 0) {
-						return Mono.empty();
-					}
-					try {
-						Object value = reader.readValue(dataBuffer.asInputStream());
-						DataBufferUtils.release(dataBuffer);
-						return Mono.just(value);
-					}
-					catch (InvalidDefinitionException ex) {
-						return Mono.error(new CodecException("Type definition error: " + ex.getType(), ex));
-					}
-					catch (JsonProcessingException ex) {
-						return Mono.error(new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex));
-					}
-					catch (IOException ex) {
-						return Mono.error(new DecodingException("I/O error while parsing input stream", ex));
-					}
-				});
+		return tokens.map(tokenBuffer -> {
+			try {
+				return reader.readValue(tokenBuffer.asParser(this.objectMapper));
+			}
+			catch (InvalidDefinitionException ex) {
+				throw new CodecException("Type definition error: " + ex.getType(), ex);
+			}
+			catch (JsonProcessingException ex) {
+				throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+			}
+			catch (IOException ex) {
+				throw new DecodingException("I/O error while parsing input stream", ex);
+			}
+		});
 	}
 
 
@@ -17,7 +17,6 @@
 package org.springframework.http.codec.json;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -43,6 +42,7 @@ import org.springframework.core.codec.CodecException;
 import org.springframework.core.codec.EncodingException;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageEncoder;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
@@ -50,6 +50,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MimeType;
 
 /**
@@ -63,10 +64,14 @@ import org.springframework.util.MimeType;
  */
 public class Jackson2JsonEncoder extends Jackson2CodecSupport implements HttpMessageEncoder<Object> {
 
+	private static final byte[] NEWLINE_SEPARATOR = {'\n'};
+
+
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
 	private final PrettyPrinter ssePrettyPrinter;
 
+	private final Map<JavaType, BufferSizePredictor> bufferSizePredictors = new ConcurrentReferenceHashMap<>();
 
 
 	public Jackson2JsonEncoder() {
@@ -121,25 +126,42 @@ public class Jackson2JsonEncoder extends Jackson2CodecSupport implements HttpMes
 		Assert.notNull(elementType, "'elementType' must not be null");
 
 		if (inputStream instanceof Mono) {
-			return Flux.from(inputStream).map(value ->
-					encodeValue(value, mimeType, bufferFactory, elementType, hints));
+			ObjectWriter writer = createObjectWriter(elementType, mimeType, hints);
+			BufferSizePredictor predictor = getBufferSizePredictor(elementType);
+			return Flux.from(inputStream).map(value -> encodeValue(value, writer, predictor, bufferFactory, null));
 		}
 		else if (MediaType.APPLICATION_STREAM_JSON.isCompatibleWith(mimeType)) {
-			return Flux.from(inputStream).map(value -> {
-				DataBuffer buffer = encodeValue(value, mimeType, bufferFactory, elementType, hints);
-				buffer.write(new byte[]{'\n'});
-				return buffer;
+			return Flux.defer(() -> {
+				// Resolve the writer once per stream rather than once per value
+				ObjectWriter writer = createObjectWriter(elementType, mimeType, hints);
+				BufferSizePredictor predictor = getBufferSizePredictor(elementType);
+				return Flux.from(inputStream).map(value ->
+						encodeValue(value, writer, predictor, bufferFactory, NEWLINE_SEPARATOR));
 			});
 		}
 		else {
 			ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
 			return Flux.from(inputStream).collectList().map(list ->
-					encodeValue(list, mimeType, bufferFactory, listType, hints)).flux();
+					encodeValue(list, createObjectWriter(listType, mimeType, hints),
+							getBufferSizePredictor(listType), bufferFactory, null)).flux();
+		}
+	}
+
+	private BufferSizePredictor getBufferSizePredictor(ResolvableType type) {
+		JavaType javaType = getJavaType(type.getType(), null);
+		BufferSizePredictor predictor = this.bufferSizePredictors.get(javaType);
+		if (predictor == null) {
+			predictor = new BufferSizePredictor();
+			BufferSizePredictor existing = this.bufferSizePredictors.putIfAbsent(javaType, predictor);
+			if (existing != null) {
+				predictor = existing;
+			}
 		}
+		return predictor;
 	}
 
-	private DataBuffer encodeValue(Object value, @Nullable MimeType mimeType, DataBufferFactory bufferFactory,
-			ResolvableType elementType, @Nullable Map<String, Object> hints) {
+	private ObjectWriter createObjectWriter(ResolvableType elementType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) {
 
 		JavaType javaType = getJavaType(elementType.getType(), null);
 		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
@@ -156,10 +178,20 @@ public class Jackson2JsonEncoder extends Jackson2CodecSupport implements HttpMes
 			writer = writer.with(this.ssePrettyPrinter);
 		}
 
-		DataBuffer buffer = bufferFactory.allocateBuffer();
-		OutputStream outputStream = buffer.asOutputStream();
+		return writer;
+	}
+
+	private DataBuffer encodeValue(Object value, ObjectWriter writer, BufferSizePredictor predictor,
+			DataBufferFactory bufferFactory, @Nullable byte[] separator) {
+
+		DataBuffer buffer = bufferFactory.allocateBuffer(predictor.nextSize());
+		boolean release = true;
 		try {
-			writer.writeValue(outputStream, value);
+			writer.writeValue(buffer.asOutputStream(), value);
+			if (separator != null) {
+				buffer.write(separator);
+			}
+			release = false;
 		}
 		catch (InvalidDefinitionException ex) {
 			throw new CodecException("Type definition error: " + ex.getType(), ex);
@@ -170,7 +202,13 @@ public class Jackson2JsonEncoder extends Jackson2CodecSupport implements HttpMes
 		catch (IOException ex) {
 			throw new IllegalStateException("Unexpected I/O error while writing to data buffer", ex);
 		}
+		finally {
+			if (release) {
+				DataBufferUtils.release(buffer);
+			}
+		}
 
+		predictor.record(buffer.readableByteCount());
 		return buffer;
 	}
 
@@ -194,4 +232,41 @@ public class Jackson2JsonEncoder extends Jackson2CodecSupport implements HttpMes
 		return parameter.getMethodAnnotation(annotType);
 	}
 
+
+	/**
+	 * Predicts the capacity of the buffer to allocate for the next encoded value
+	 * of a given type, based on the sizes of recently encoded values of that type:
+	 * growing right away for larger values, to avoid expanding (i.e. copying)
+	 * buffers while writing, and shrinking gradually for smaller values.
+	 * Updates are deliberately racy: concurrent streams of the same type share
+	 * a single, approximate prediction.
+	 */
+	private static class BufferSizePredictor {
+
+		private static final int MIN_SIZE = 64;
+
+		private static final int MAX_SIZE = 64 * 1024;
+
+		private volatile int size = 256;
+
+		public int nextSize() {
+			return this.size;
+		}
+
+		public void record(int actualSize) {
+			// Some headroom above the actual size, aligned to 64 bytes
+			int target = Math.min(Math.max((actualSize + (actualSize >> 3) + 63) & ~63, MIN_SIZE), MAX_SIZE);
+			int size = this.size;
+			if (target > size) {
+				this.size = target;
+			}
+			else if (target < size) {
+				int shrunk = size - ((size - target + 3) >> 2);
+				if (shrunk != size) {
+					this.size = shrunk;
+				}
+			}
+		}
+	}
+
 }
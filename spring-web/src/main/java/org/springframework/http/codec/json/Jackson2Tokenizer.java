@@ -0,0 +1,229 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * Tokenizes a stream of {@link DataBuffer DataBuffers} into a stream of
+ * {@link TokenBuffer TokenBuffers}, each holding the tokens of one JSON value,
+ * using Jackson's non-blocking parser: bytes are parsed once, as they arrive,
+ * and each data buffer is released right after having been fed to the parser.
+ *
+ * @since 5.0
+ */
+class Jackson2Tokenizer {
+
+	private final JsonParser parser;
+
+	private final ByteArrayFeeder inputFeeder;
+
+	private final boolean tokenizeArrayElements;
+
+	private final int maxInMemorySize;
+
+	private TokenBuffer tokenBuffer;
+
+	private int objectDepth;
+
+	private int arrayDepth;
+
+	private long byteCount;
+
+	// Maps parser byte offsets onto the number of bytes fed so far
+	private long offsetAdjustment;
+
+	// Offset of the end of the previous value, i.e. where the current value starts
+	private long valueStartOffset;
+
+
+	private Jackson2Tokenizer(JsonParser parser, boolean tokenizeArrayElements, int maxInMemorySize) {
+		this.parser = parser;
+		this.inputFeeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+		this.tokenizeArrayElements = tokenizeArrayElements;
+		this.maxInMemorySize = maxInMemorySize;
+		this.tokenBuffer = new TokenBuffer(parser);
+	}
+
+
+	/**
+	 * Tokenize the given {@code Publisher<DataBuffer>} into {@code Flux<TokenBuffer>}.
+	 * @param dataBuffers the source data buffers
+	 * @param jsonFactory the factory to create the non-blocking parser with
+	 * @param tokenizeArrayElements if {@code true} and the "top level" JSON
+	 * value is an array, each element is returned individually, immediately
+	 * after it is received
+	 * @param maxInMemorySize the maximum number of bytes a single JSON value
+	 * may span before a {@link DecodingException} is raised
+	 * @return the resulting token buffers
+	 */
+	public static Flux<TokenBuffer> tokenize(Publisher<DataBuffer> dataBuffers, JsonFactory jsonFactory,
+			boolean tokenizeArrayElements, int maxInMemorySize) {
+
+		return Flux.defer(() -> {
+			Jackson2Tokenizer tokenizer;
+			try {
+				tokenizer = new Jackson2Tokenizer(
+						jsonFactory.createNonBlockingByteArrayParser(), tokenizeArrayElements, maxInMemorySize);
+			}
+			catch (IOException ex) {
+				return Flux.error(new DecodingException("Failed to create non-blocking JSON parser", ex));
+			}
+			return Flux.from(dataBuffers)
+					.concatMapIterable(tokenizer::tokenize)
+					.concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())));
+		});
+	}
+
+
+	private List<TokenBuffer> tokenize(DataBuffer dataBuffer) {
+		try {
+			int length = dataBuffer.readableByteCount();
+			if (length == 0) {
+				return Collections.emptyList();
+			}
+			ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+			if (byteBuffer.hasArray()) {
+				// The parser consumes all input before asking for more: no copy needed
+				int start = byteBuffer.arrayOffset() + byteBuffer.position();
+				this.inputFeeder.feedInput(byteBuffer.array(), start, start + length);
+			}
+			else {
+				byte[] bytes = new byte[length];
+				byteBuffer.get(bytes);
+				this.inputFeeder.feedInput(bytes, 0, length);
+			}
+			// Depending on the Jackson version, parser offsets include the start index
+			// within the fed array: measure from the start of each data buffer instead
+			this.offsetAdjustment = this.byteCount - this.parser.getCurrentLocation().getByteOffset();
+			this.byteCount += length;
+			List<TokenBuffer> result = parseTokens();
+			// Value still incomplete: bound the input held on to for it
+			checkValueSize(currentOffset());
+			return result;
+		}
+		catch (JsonProcessingException ex) {
+			throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw new DecodingException("I/O error while parsing input stream", ex);
+		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+	private List<TokenBuffer> endOfInput() {
+		this.inputFeeder.endOfInput();
+		try {
+			return parseTokens();
+		}
+		catch (JsonProcessingException ex) {
+			throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw new DecodingException("I/O error while parsing input stream", ex);
+		}
+	}
+
+	private List<TokenBuffer> parseTokens() throws IOException {
+		List<TokenBuffer> result = null;
+		while (true) {
+			JsonToken token = this.parser.nextToken();
+			if (token == null || token == JsonToken.NOT_AVAILABLE) {
+				break;
+			}
+			updateDepth(token);
+			if (isValueEnd(token)) {
+				this.tokenBuffer.copyCurrentEvent(this.parser);
+				if (result == null) {
+					result = new ArrayList<>(4);
+				}
+				result.add(this.tokenBuffer);
+				this.tokenBuffer = new TokenBuffer(this.parser);
+				long valueEndOffset = currentOffset();
+				checkValueSize(valueEndOffset);
+				this.valueStartOffset = valueEndOffset;
+			}
+			else if (!isTopLevelArrayToken(token)) {
+				this.tokenBuffer.copyCurrentEvent(this.parser);
+			}
+		}
+		return (result != null ? result : Collections.emptyList());
+	}
+
+	private long currentOffset() {
+		return this.parser.getCurrentLocation().getByteOffset() + this.offsetAdjustment;
+	}
+
+	private void checkValueSize(long offset) {
+		if (offset - this.valueStartOffset > this.maxInMemorySize) {
+			throw new DecodingException("Exceeded limit on max bytes per JSON value: " + this.maxInMemorySize);
+		}
+	}
+
+	private void updateDepth(JsonToken token) {
+		switch (token) {
+			case START_OBJECT:
+				this.objectDepth++;
+				break;
+			case END_OBJECT:
+				this.objectDepth--;
+				break;
+			case START_ARRAY:
+				this.arrayDepth++;
+				break;
+			case END_ARRAY:
+				this.arrayDepth--;
+				break;
+		}
+	}
+
+	private boolean isValueEnd(JsonToken token) {
+		if (!token.isStructEnd() && !token.isScalarValue()) {
+			return false;
+		}
+		if (this.tokenizeArrayElements) {
+			return (this.objectDepth == 0 && this.arrayDepth <= 1 && !isTopLevelArrayToken(token));
+		}
+		return (this.objectDepth == 0 && this.arrayDepth == 0);
+	}
+
+	private boolean isTopLevelArrayToken(JsonToken token) {
+		return (this.tokenizeArrayElements && this.objectDepth == 0 &&
+				((token == JsonToken.START_ARRAY && this.arrayDepth == 1) ||
+						(token == JsonToken.END_ARRAY && this.arrayDepth == 0)));
+	}
+
+}
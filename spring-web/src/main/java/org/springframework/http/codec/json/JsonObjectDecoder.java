@@ -48,7 +48,11 @@ import org.springframework.util.MimeType;
  *
  * @author Sebastien Deleuze
  * @since 5.0
+ * @deprecated as of 5.0, in favor of the non-blocking parsing in
+ * {@link Jackson2JsonDecoder}, which no longer uses this class; to be
+ * removed in the next release
  */
+@Deprecated
 class JsonObjectDecoder extends AbstractDecoder<DataBuffer> {
 
 	private static final int ST_CORRUPTED = -1;
@@ -98,7 +98,7 @@ public class XmlEventDecoder extends AbstractDecoder<XMLEvent> {
 			return flux.flatMap(new AaltoDataBufferToXmlEvent());
 		}
 		else {
-			Mono<DataBuffer> singleBuffer = flux.reduce(DataBuffer::write);
+			Mono<DataBuffer> singleBuffer = DataBufferUtils.join(flux);
 			return singleBuffer.
 					flatMapMany(dataBuffer -> {
 						try {
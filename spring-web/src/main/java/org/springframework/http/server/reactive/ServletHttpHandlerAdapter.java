@@ -89,11 +89,20 @@ public class ServletHttpHandlerAdapter implements Servlet {
 		return this.bufferSize;
 	}
 
+	/**
+	 * Set the factory to allocate request and response body buffers with.
+	 * <p>By default this is a {@link DefaultDataBufferFactory} for heap buffers.
+	 * Consider a {@link org.springframework.core.io.buffer.PooledDataBufferFactory}
+	 * for recycling buffers across requests, e.g. for large request bodies.
+	 */
 	public void setDataBufferFactory(DataBufferFactory dataBufferFactory) {
 		Assert.notNull(dataBufferFactory, "DataBufferFactory must not be null");
 		this.dataBufferFactory = dataBufferFactory;
 	}
 
+	/**
+	 * Return the configured {@link DataBufferFactory}.
+	 */
 	public DataBufferFactory getDataBufferFactory() {
 		return this.dataBufferFactory;
 	}
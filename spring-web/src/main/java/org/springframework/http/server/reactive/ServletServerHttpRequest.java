@@ -66,7 +66,9 @@ public class ServletServerHttpRequest extends AbstractServerHttpRequest {
 
 	private final DataBufferFactory bufferFactory;
 
-	private final byte[] buffer;
+	private final int bufferSize;
+
+	private byte[] buffer;
 
 
 	public ServletServerHttpRequest(HttpServletRequest request, AsyncContext asyncContext,
@@ -79,7 +81,7 @@ public class ServletServerHttpRequest extends AbstractServerHttpRequest {
 
 		this.request = request;
 		this.bufferFactory = bufferFactory;
-		this.buffer = new byte[bufferSize];
+		this.bufferSize = bufferSize;
 
 		asyncContext.addListener(new RequestAsyncListener());
 
@@ -187,6 +189,10 @@ public class ServletServerHttpRequest extends AbstractServerHttpRequest {
 	 */
 	@Nullable
 	protected DataBuffer readFromInputStream() throws IOException {
+		if (this.buffer == null) {
+			// Lazily allocated: not needed for requests without a body
+			this.buffer = new byte[this.bufferSize];
+		}
 		int read = this.request.getInputStream().read(this.buffer);
 		if (logger.isTraceEnabled()) {
 			logger.trace("read:" + read);
@@ -53,6 +53,8 @@ public class ServletServerHttpResponse extends AbstractListenerServerHttpRespons
 
 	private final int bufferSize;
 
+	private byte[] buffer;
+
 	private volatile ResponseBodyFlushProcessor bodyFlushProcessor;
 
 	private volatile ResponseBodyProcessor bodyProcessor;
@@ -147,10 +149,12 @@ public class ServletServerHttpResponse extends AbstractListenerServerHttpRespons
 		ServletOutputStream outputStream = response.getOutputStream();
 		InputStream input = dataBuffer.asInputStream();
 		int bytesWritten = 0;
-		byte[] buffer = new byte[this.bufferSize];
+		if (this.buffer == null) {
+			this.buffer = new byte[this.bufferSize];
+		}
 		int bytesRead;
-		while (outputStream.isReady() && (bytesRead = input.read(buffer)) != -1) {
-			outputStream.write(buffer, 0, bytesRead);
+		while (outputStream.isReady() && (bytesRead = input.read(this.buffer)) != -1) {
+			outputStream.write(this.buffer, 0, bytesRead);
 			bytesWritten += bytesRead;
 		}
 		return bytesWritten;
@@ -28,6 +28,7 @@ import org.apache.catalina.connector.CoyoteOutputStream;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 
 /**
  * {@link ServletHttpHandlerAdapter} extension that uses Tomcat APIs for reading
@@ -75,9 +76,12 @@ public class TomcatHttpHandlerAdapter extends ServletHttpHandlerAdapter {
 			}
 
 			if (read > 0) {
-				return getDataBufferFactory().wrap(byteBuffer);
+				// Slice rather than wrap, keeping the allocated buffer's ownership
+				// (e.g. the reference count of a pooled buffer) in place
+				return buffer.slice(0, read);
 			}
 
+			DataBufferUtils.release(buffer);
 			return null;
 		}
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2016 the original author or authors.
+ * Copyright 2002-2017 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,11 +51,20 @@ public class UndertowHttpHandlerAdapter implements io.undertow.server.HttpHandle
 	}
 
 
+	/**
+	 * Set the factory to allocate request and response body buffers with.
+	 * <p>By default this is a {@link DefaultDataBufferFactory} for heap buffers.
+	 * Consider a {@link org.springframework.core.io.buffer.PooledDataBufferFactory}
+	 * for recycling buffers across requests, e.g. for large request bodies.
+	 */
 	public void setDataBufferFactory(DataBufferFactory bufferFactory) {
 		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
 		this.bufferFactory = bufferFactory;
 	}
 
+	/**
+	 * Return the configured {@link DataBufferFactory}.
+	 */
 	public DataBufferFactory getDataBufferFactory() {
 		return this.bufferFactory;
 	}
@@ -154,7 +154,9 @@ public class UndertowServerHttpRequest extends AbstractServerHttpRequest {
 
 			if (read > 0) {
 				byteBuffer.flip();
-				return this.bufferFactory.wrap(byteBuffer);
+				// Copy out of the pooled ByteBuffer since it gets cleared for the next read
+				DataBuffer dataBuffer = this.bufferFactory.allocateBuffer(read);
+				return dataBuffer.write(byteBuffer);
 			}
 			else if (read == -1) {
 				onAllDataRead();
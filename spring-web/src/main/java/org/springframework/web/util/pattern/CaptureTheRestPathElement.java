@@ -49,19 +49,22 @@ class CaptureTheRestPathElement extends PathElement {
 
 		// If there is more data, it must start with the separator
 		if (candidateIndex < matchingContext.candidateLength &&
-				matchingContext.candidate[candidateIndex] != separator) {
+				matchingContext.candidate.charAt(candidateIndex) != separator) {
 			return false;
 		}
 		if (matchingContext.determineRemainingPath) {
 			matchingContext.remainingPathIndex = matchingContext.candidateLength;
 		}
 		if (matchingContext.extractingVariables) {
-			matchingContext.set(variableName, decode(new String(matchingContext.candidate, candidateIndex,
-					matchingContext.candidateLength - candidateIndex)));
+			matchingContext.capture(this.captureSlot, candidateIndex, matchingContext.candidateLength);
 		}
 		return true;
 	}
 
+	public String getVariableName() {
+		return this.variableName;
+	}
+
 	@Override
 	public int getNormalizedLength() {
 		return 1;
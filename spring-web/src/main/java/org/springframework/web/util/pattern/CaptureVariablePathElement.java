@@ -16,12 +16,9 @@
 
 package org.springframework.web.util.pattern;
 
-import java.nio.charset.StandardCharsets;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.springframework.web.util.UriUtils;
-
 /**
  * A path element representing capturing a piece of the path as a variable. In the pattern
  * '/foo/{bar}/goo' the {bar} is represented as a {@link CaptureVariablePathElement}. There
@@ -77,18 +74,13 @@ class CaptureVariablePathElement extends PathElement {
 			return false;
 		}
 
-		String substringForDecoding = null;
-		CharSequence candidateCapture = null;
 		if (this.constraintPattern != null) {
 			// TODO possible optimization - only regex match if rest of pattern matches? Benefit likely to vary pattern to pattern
+			CharSequence candidateCapture = new SubSequence(matchingContext.candidate, candidateIndex, nextPos);
 			if (includesPercent(matchingContext.candidate, candidateIndex, nextPos)) {
-				substringForDecoding = new String(matchingContext.candidate, candidateIndex, nextPos);
-				candidateCapture = UriUtils.decode(substringForDecoding, StandardCharsets.UTF_8);
-			}
-			else {
-				candidateCapture = new SubSequence(matchingContext.candidate, candidateIndex, nextPos);
+				candidateCapture = decode(candidateCapture);
 			}
-			Matcher matcher = constraintPattern.matcher(candidateCapture);
+			Matcher matcher = this.constraintPattern.matcher(candidateCapture);
 			if (matcher.groupCount() != 0) {
 				throw new IllegalArgumentException(
 						"No capture groups allowed in the constraint regex: " + this.constraintPattern.pattern());
@@ -110,7 +102,7 @@ class CaptureVariablePathElement extends PathElement {
 				if (!match && matchingContext.isAllowOptionalTrailingSlash()) {
 					match = (nextPos > candidateIndex) &&
 						    (nextPos + 1) == matchingContext.candidateLength && 
-						     matchingContext.candidate[nextPos] == separator;
+						     matchingContext.candidate.charAt(nextPos) == separator;
 				}
 			}
 		}
@@ -124,9 +116,7 @@ class CaptureVariablePathElement extends PathElement {
 		}
 
 		if (match && matchingContext.extractingVariables) {
-			matchingContext.set(this.variableName,
-					candidateCapture != null ? candidateCapture.toString():
-					decode(new String(matchingContext.candidate, candidateIndex, nextPos - candidateIndex)));
+			matchingContext.capture(this.captureSlot, candidateIndex, nextPos);
 		}
 		return match;
 	}
@@ -56,10 +56,10 @@ class LiteralPathElement extends PathElement {
 
 		if (this.caseSensitive) {
 			for (int i = 0; i < len; i++) {
-				if (matchingContext.candidate[candidateIndex++] != this.text[i]) {
+				if (matchingContext.candidate.charAt(candidateIndex++) != this.text[i]) {
 					// TODO unfortunate performance hit here on comparison when encoded data is the less likely case
-					if (i < 3 || matchingContext.candidate[candidateIndex-3] != '%' ||
-							Character.toUpperCase(matchingContext.candidate[candidateIndex-1]) != this.text[i]) {
+					if (i < 3 || matchingContext.candidate.charAt(candidateIndex-3) != '%' ||
+							Character.toUpperCase(matchingContext.candidate.charAt(candidateIndex-1)) != this.text[i]) {
 						return false;
 					}
 				}
@@ -68,7 +68,7 @@ class LiteralPathElement extends PathElement {
 		else {
 			for (int i = 0; i < len; i++) {
 				// TODO revisit performance if doing a lot of case insensitive matching
-				if (Character.toLowerCase(matchingContext.candidate[candidateIndex++]) != this.text[i]) {
+				if (Character.toLowerCase(matchingContext.candidate.charAt(candidateIndex++)) != this.text[i]) {
 					return false;
 				}
 			}
@@ -86,7 +86,7 @@ class LiteralPathElement extends PathElement {
 				else {
 					return (matchingContext.isAllowOptionalTrailingSlash() &&
 							(candidateIndex + 1) == matchingContext.candidateLength &&
-							matchingContext.candidate[candidateIndex] == separator);
+							matchingContext.candidate.charAt(candidateIndex) == separator);
 				}
 			}
 		}
@@ -103,6 +103,13 @@ class LiteralPathElement extends PathElement {
 		return len;
 	}
 
+	/**
+	 * Return the literal text, lower-cased if not matching case-sensitively.
+	 */
+	char[] getText() {
+		return this.text;
+	}
+
 
 	public String toString() {
 		return "Literal(" + String.valueOf(this.text) + ")";
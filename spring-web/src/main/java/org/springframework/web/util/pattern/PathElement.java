@@ -47,6 +47,9 @@ abstract class PathElement {
 	// The previous path element in the chain
 	protected PathElement prev;
 
+	// The index of the first variable captured by this path element within the pattern
+	protected int captureSlot;
+
 
 	/**
 	 * Create a new path element.
@@ -98,7 +101,7 @@ abstract class PathElement {
 	 */
 	protected boolean nextIfExistsIsSeparator(int nextIndex, MatchingContext matchingContext) {
 		return (nextIndex >= matchingContext.candidateLength ||
-				matchingContext.candidate[nextIndex] == this.separator);
+				matchingContext.candidate.charAt(nextIndex) == this.separator);
 	}
 
 	/**
@@ -106,7 +109,7 @@ abstract class PathElement {
 	 * @param toDecode the input char sequence that should be decoded if necessary
 	 * @return the decoded result
 	 */
-	protected String decode(CharSequence toDecode) {
+	protected static String decode(CharSequence toDecode) {
 		CharSequence decoded = toDecode;
 		if (includesPercent(toDecode)) {
 			decoded = UriUtils.decode(toDecode.toString(), StandardCharsets.UTF_8);
@@ -118,11 +121,11 @@ abstract class PathElement {
 	 * @param chars sequence of characters
 	 * @param from start position (included in check)
 	 * @param to end position (excluded from check)
-	 * @return true if the chars array includes a '%' character between the specified positions
+	 * @return true if the chars include a '%' character between the specified positions
 	 */
-	protected boolean includesPercent(char[] chars, int from, int to) {
+	protected static boolean includesPercent(String chars, int from, int to) {
 		for (int i = from; i < to; i++) {
-			if (chars[i] == '%') {
+			if (chars.charAt(i) == '%') {
 				return true;
 			}
 		}
@@ -133,7 +136,7 @@ abstract class PathElement {
 	 * @param chars string that may include a '%' character indicating it is encoded
 	 * @return true if the string contains a '%' character
 	 */
-	protected boolean includesPercent(CharSequence chars) {
+	protected static boolean includesPercent(CharSequence chars) {
 		for (int i = 0, max = chars.length(); i < max; i++) {
 			if (chars.charAt(i) == '%') {
 				return true;
@@ -16,8 +16,11 @@
 
 package org.springframework.web.util.pattern;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.lang.Nullable;
@@ -81,6 +84,9 @@ public class PathPattern implements Comparable<PathPattern> {
 	/** How many variables are captured in this pattern */
 	private int capturedVariableCount;
 
+	/** The names of the variables captured in this pattern, in the order of their capture slots */
+	private final String[] capturedVariableNames;
+
 	/**
 	 * The normalized length is trying to measure the 'active' part of the pattern. It is computed
 	 * by assuming all captured variables have a normalized length of 1. Effectively this means changing
@@ -118,8 +124,19 @@ public class PathPattern implements Comparable<PathPattern> {
 		this.allowOptionalTrailingSlash = allowOptionalTrailingSlash;
 
 		// Compute fields for fast comparison
+		List<String> variableNames = new ArrayList<>();
 		PathElement elem = head;
 		while (elem != null) {
+			elem.captureSlot = this.capturedVariableCount;
+			if (elem instanceof CaptureVariablePathElement) {
+				variableNames.add(((CaptureVariablePathElement) elem).getVariableName());
+			}
+			else if (elem instanceof CaptureTheRestPathElement) {
+				variableNames.add(((CaptureTheRestPathElement) elem).getVariableName());
+			}
+			else if (elem instanceof RegexPathElement) {
+				variableNames.addAll(((RegexPathElement) elem).getVariableNames());
+			}
 			this.capturedVariableCount += elem.getCaptureCount();
 			this.normalizedLength += elem.getNormalizedLength();
 			this.score += elem.getScore();
@@ -132,6 +149,7 @@ public class PathPattern implements Comparable<PathPattern> {
 			}
 			elem = elem.next;
 		}
+		this.capturedVariableNames = StringUtils.toStringArray(variableNames);
 	}
 
 
@@ -538,19 +556,24 @@ public class PathPattern implements Comparable<PathPattern> {
 	/**
 	 * Encapsulates context when attempting a match. Includes some fixed state like the
 	 * candidate currently being considered for a match but also some accumulators for
-	 * extracted variables.
+	 * extracted variables. The candidate is matched in place, with variables recorded
+	 * as index ranges into it and only turned into decoded values once requested.
 	 */
 	class MatchingContext {
 
 		// The candidate path to attempt a match against
-		char[] candidate;
+		final String candidate;
 
 		// The length of the candidate path
-		int candidateLength;
+		final int candidateLength;
 
 		boolean isMatchStartMatching = false;
 
-		private Map<String, String> extractedVariables;
+		// Start and end index in the candidate for each capture slot (-1 if not captured as a range)
+		private int[] capturedRanges;
+
+		// Values for capture slots captured as decoded text rather than as a range
+		private String[] capturedValues;
 
 		boolean extractingVariables;
 
@@ -562,8 +585,8 @@ public class PathPattern implements Comparable<PathPattern> {
 		int remainingPathIndex;
 
 		public MatchingContext(String path, boolean extractVariables) {
-			candidate = path.toCharArray();
-			candidateLength = candidate.length;
+			this.candidate = path;
+			this.candidateLength = path.length();
 			this.extractingVariables = extractVariables;
 		}
 
@@ -579,20 +602,50 @@ public class PathPattern implements Comparable<PathPattern> {
 			isMatchStartMatching = b;
 		}
 
-		public void set(String key, String value) {
-			if (this.extractedVariables == null) {
-				extractedVariables = new HashMap<>();
+		/**
+		 * Record the variable in the given capture slot as the given range of the candidate.
+		 */
+		public void capture(int slot, int start, int end) {
+			if (this.capturedRanges == null) {
+				initCaptures();
+			}
+			this.capturedRanges[slot * 2] = start;
+			this.capturedRanges[slot * 2 + 1] = end;
+		}
+
+		/**
+		 * Record the variable in the given capture slot as the given (already decoded) value.
+		 */
+		public void capture(int slot, String value) {
+			if (this.capturedRanges == null) {
+				initCaptures();
 			}
-			extractedVariables.put(key, value);
+			if (this.capturedValues == null) {
+				this.capturedValues = new String[capturedVariableNames.length];
+			}
+			this.capturedValues[slot] = value;
+		}
+
+		private void initCaptures() {
+			this.capturedRanges = new int[capturedVariableNames.length * 2];
+			Arrays.fill(this.capturedRanges, -1);
 		}
 
 		public Map<String, String> getExtractedVariables() {
-			if (this.extractedVariables == null) {
+			if (this.capturedRanges == null) {
 				return Collections.emptyMap();
 			}
-			else {
-				return this.extractedVariables;
+			Map<String, String> extractedVariables = new LinkedHashMap<>(capturedVariableNames.length * 2);
+			for (int slot = 0; slot < capturedVariableNames.length; slot++) {
+				if (this.capturedValues != null && this.capturedValues[slot] != null) {
+					extractedVariables.put(capturedVariableNames[slot], this.capturedValues[slot]);
+				}
+				else if (this.capturedRanges[slot * 2] != -1) {
+					extractedVariables.put(capturedVariableNames[slot], PathElement.decode(
+							this.candidate.substring(this.capturedRanges[slot * 2], this.capturedRanges[slot * 2 + 1])));
+				}
 			}
+			return extractedVariables;
 		}
 
 		/**
@@ -603,7 +656,7 @@ public class PathPattern implements Comparable<PathPattern> {
 		 */
 		public int scanAhead(int pos) {
 			while (pos < candidateLength) {
-				if (candidate[pos] == separator) {
+				if (candidate.charAt(pos) == separator) {
 					return pos;
 				}
 				pos++;
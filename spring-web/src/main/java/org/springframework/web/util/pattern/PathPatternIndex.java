@@ -0,0 +1,348 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Index of values associated with path patterns, narrowing the values to
+ * consider for a given lookup path to those with a pattern which may match
+ * it, in time proportional to the depth of the path rather than to the number
+ * of registered patterns.
+ *
+ * <p>The index is a prefix tree merged from the leading literal path segments
+ * of each pattern: a value is only returned for lookup paths starting with the
+ * same literal segments, and fully literal patterns only for lookup paths ending
+ * with their last segment, possibly followed by a suffix after a '.' (in order
+ * to cover suffix pattern matches). Values without patterns, as well as patterns
+ * starting with a variable or wildcard, are returned for every lookup path.
+ * Path segments are trimmed and compared ignoring case, with empty segments being
+ * ignored and lookup path segments containing encoded characters matching all
+ * values below them. This makes the index applicable to {@link PathPattern}s as
+ * well as to {@link org.springframework.util.AntPathMatcher} patterns in any of
+ * their configuration variants.
+ *
+ * <p>The returned candidates are a superset of the values with a matching pattern,
+ * in the order of their registration; callers are expected to perform the actual
+ * match check on them. This class is not thread-safe.
+ *
+ * @since 5.0
+ * @param <T> the type of values registered with their path patterns
+ */
+public class PathPatternIndex<T> {
+
+	private final char separator;
+
+	private final Node<T> root = new Node<>();
+
+	private final Map<T, Entry<T>> entries = new HashMap<>();
+
+	private long sequence;
+
+
+	/**
+	 * Create a new {@code PathPatternIndex} for patterns using '/' as separator.
+	 */
+	public PathPatternIndex() {
+		this('/');
+	}
+
+	/**
+	 * Create a new {@code PathPatternIndex} for patterns using the given separator.
+	 * Patterns parsed with a different separator are returned for every lookup path.
+	 * @param separator the separator to split lookup paths with
+	 */
+	public PathPatternIndex(char separator) {
+		this.separator = separator;
+	}
+
+
+	/**
+	 * Add the given value with the path patterns which it may match for.
+	 * <p>A value without patterns is considered for every lookup path.
+	 * A value which has been added before gets removed first.
+	 * @param value the value to add
+	 * @param patterns the path patterns of the value
+	 * (may be {@code null} or empty)
+	 */
+	public void add(T value, @Nullable Collection<PathPattern> patterns) {
+		Entry<T> entry = addEntry(value, patterns);
+		if (entry != null) {
+			for (PathPattern pattern : patterns) {
+				addPattern(entry, pattern);
+			}
+		}
+	}
+
+	/**
+	 * Add the given value with the {@link org.springframework.util.AntPathMatcher}
+	 * style patterns which it may match for, as used by the Servlet stack.
+	 * <p>A value without patterns is considered for every lookup path.
+	 * A value which has been added before gets removed first.
+	 * @param value the value to add
+	 * @param patterns the pattern Strings of the value, using this index's
+	 * separator (may be {@code null} or empty)
+	 */
+	public void addAntPatterns(T value, @Nullable Collection<String> patterns) {
+		Entry<T> entry = addEntry(value, patterns);
+		if (entry != null) {
+			for (String pattern : patterns) {
+				List<String> segments = new ArrayList<>();
+				boolean literal = true;
+				for (String segment : tokenize(pattern)) {
+					if (segment.indexOf('*') != -1 || segment.indexOf('?') != -1 || segment.indexOf('{') != -1) {
+						literal = false;
+						break;
+					}
+					segments.add(segment);
+				}
+				addSegments(entry, segments, literal);
+			}
+		}
+	}
+
+	/**
+	 * Register a new entry for the given value, replacing any previous one.
+	 * @return the entry to add the given patterns to, or {@code null} if
+	 * there are none and the entry has been added to the root already
+	 */
+	@Nullable
+	private Entry<T> addEntry(T value, @Nullable Collection<?> patterns) {
+		remove(value);
+		Entry<T> entry = new Entry<>(value, this.sequence++);
+		this.entries.put(value, entry);
+		if (patterns == null || patterns.isEmpty()) {
+			entry.addTo(this.root.entries);
+			return null;
+		}
+		return entry;
+	}
+
+	private void addPattern(Entry<T> entry, PathPattern pattern) {
+		if (pattern.getSeparator() != this.separator) {
+			entry.addTo(this.root.entries);
+			return;
+		}
+		StringBuilder path = new StringBuilder();
+		PathElement element = pattern.getHeadSection();
+		while (element != null) {
+			if (element instanceof SeparatorPathElement) {
+				path.append(this.separator);
+			}
+			else if (element instanceof LiteralPathElement) {
+				path.append(((LiteralPathElement) element).getText());
+			}
+			else {
+				break;
+			}
+			element = element.next;
+		}
+		List<String> segments = new ArrayList<>(Arrays.asList(tokenize(path.toString())));
+		if (element != null && path.length() > 0 && path.charAt(path.length() - 1) != this.separator) {
+			// Last segment continues with non-literal elements
+			segments.remove(segments.size() - 1);
+		}
+		addSegments(entry, segments, element == null);
+	}
+
+	private void addSegments(Entry<T> entry, List<String> segments, boolean literal) {
+		Node<T> node = this.root;
+		for (String segment : segments) {
+			node = node.getOrCreateChild(segment);
+		}
+		entry.addTo(literal ? node.terminalEntries : node.entries);
+	}
+
+	/**
+	 * Remove the given value from the index.
+	 * @param value the value to remove
+	 * @return {@code true} if the value was present before
+	 */
+	public boolean remove(T value) {
+		Entry<T> entry = this.entries.remove(value);
+		if (entry == null) {
+			return false;
+		}
+		for (List<Entry<T>> list : entry.lists) {
+			list.remove(entry);
+		}
+		return true;
+	}
+
+	/**
+	 * Remove all values from the index.
+	 */
+	public void clear() {
+		this.entries.clear();
+		this.root.entries.clear();
+		this.root.terminalEntries.clear();
+		this.root.children = null;
+	}
+
+	/**
+	 * Return the number of values in the index.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Return the values which may have a pattern matching the given lookup path,
+	 * in the order of their registration.
+	 * @param lookupPath the lookup path to find candidate values for
+	 * @return the candidate values (never {@code null})
+	 */
+	public List<T> getCandidates(String lookupPath) {
+		List<Entry<T>> candidates = new ArrayList<>(this.root.entries);
+		int sources = (candidates.isEmpty() ? 0 : 1);
+		String[] segments = tokenize(lookupPath);
+		if (segments.length == 0) {
+			sources += addAll(this.root.terminalEntries, candidates);
+		}
+		Node<T> node = this.root;
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i];
+			if (segment.indexOf('%') != -1) {
+				// Literal path elements may match encoded characters: consider all below
+				sources += node.collectChildren(candidates);
+				break;
+			}
+			if (i == segments.length - 1) {
+				// Fully literal patterns, possibly matching with a suffix
+				int dotIndex = segment.indexOf('.');
+				while (dotIndex != -1) {
+					sources += addTerminalEntries(node.getChild(segment.substring(0, dotIndex)), candidates);
+					dotIndex = segment.indexOf('.', dotIndex + 1);
+				}
+				sources += addTerminalEntries(node.getChild(segment), candidates);
+			}
+			node = node.getChild(segment);
+			if (node == null) {
+				break;
+			}
+			sources += addAll(node.entries, candidates);
+		}
+		if (sources > 1) {
+			candidates.sort((entry1, entry2) -> Long.compare(entry1.sequence, entry2.sequence));
+		}
+		List<T> values = new ArrayList<>(candidates.size());
+		Entry<T> previous = null;
+		for (Entry<T> candidate : candidates) {
+			if (candidate != previous) {
+				values.add(candidate.value);
+				previous = candidate;
+			}
+		}
+		return values;
+	}
+
+	private String[] tokenize(String path) {
+		String[] segments = StringUtils.tokenizeToStringArray(path, String.valueOf(this.separator));
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = segments[i].toLowerCase(Locale.ENGLISH);
+		}
+		return segments;
+	}
+
+	private static <T> int addTerminalEntries(@Nullable Node<T> node, List<Entry<T>> candidates) {
+		return (node != null ? addAll(node.terminalEntries, candidates) : 0);
+	}
+
+	private static <T> int addAll(List<Entry<T>> entries, List<Entry<T>> candidates) {
+		if (entries.isEmpty()) {
+			return 0;
+		}
+		candidates.addAll(entries);
+		return 1;
+	}
+
+
+	/**
+	 * A node in the prefix tree, representing a path segment.
+	 */
+	private static class Node<T> {
+
+		private Map<String, Node<T>> children;
+
+		/** Values with patterns continuing after this segment */
+		private final List<Entry<T>> entries = new ArrayList<>(1);
+
+		/** Values with fully literal patterns ending with this segment */
+		private final List<Entry<T>> terminalEntries = new ArrayList<>(1);
+
+		@Nullable
+		public Node<T> getChild(String segment) {
+			return (this.children != null ? this.children.get(segment) : null);
+		}
+
+		public Node<T> getOrCreateChild(String segment) {
+			if (this.children == null) {
+				this.children = new HashMap<>();
+			}
+			return this.children.computeIfAbsent(segment, key -> new Node<>());
+		}
+
+		public int collectChildren(List<Entry<T>> candidates) {
+			int sources = 0;
+			if (this.children != null) {
+				for (Node<T> child : this.children.values()) {
+					sources += addAll(child.entries, candidates) + addAll(child.terminalEntries, candidates) +
+							child.collectChildren(candidates);
+				}
+			}
+			return sources;
+		}
+	}
+
+
+	/**
+	 * A registered value, tracking the entry lists it has been added to.
+	 */
+	private static class Entry<T> {
+
+		private final T value;
+
+		private final long sequence;
+
+		private final List<List<Entry<T>>> lists = new ArrayList<>(1);
+
+		public Entry(T value, long sequence) {
+			this.value = value;
+			this.sequence = sequence;
+		}
+
+		public void addTo(List<Entry<T>> list) {
+			for (List<Entry<T>> existing : this.lists) {
+				if (existing == list) {
+					return;
+				}
+			}
+			list.add(this);
+			this.lists.add(list);
+		}
+	}
+
+}
@@ -140,12 +140,9 @@ class RegexPathElement extends PathElement {
 	public boolean matches(int candidateIndex, MatchingContext matchingContext) {
 		int pos = matchingContext.scanAhead(candidateIndex);
 		
-		CharSequence textToMatch = null;
+		CharSequence textToMatch = new SubSequence(matchingContext.candidate, candidateIndex, pos);
 		if (includesPercent(matchingContext.candidate, candidateIndex, pos)) {
-			textToMatch = decode(new SubSequence(matchingContext.candidate, candidateIndex, pos));
-		}
-		else {
-			textToMatch = new SubSequence(matchingContext.candidate, candidateIndex, pos);
+			textToMatch = decode(textToMatch);
 		}
 		Matcher matcher = this.pattern.matcher(textToMatch);
 		boolean matches = matcher.matches();
@@ -165,7 +162,7 @@ class RegexPathElement extends PathElement {
 					if (!matches && matchingContext.isAllowOptionalTrailingSlash()) {
 						matches = ((this.variableNames.size() == 0) ? true : pos > candidateIndex) &&
 							      (pos + 1) == matchingContext.candidateLength &&
-							      matchingContext.candidate[pos] == separator;
+							      matchingContext.candidate.charAt(pos) == separator;
 					}
 				}
 			}
@@ -186,9 +183,7 @@ class RegexPathElement extends PathElement {
 						+ "Use non-capturing groups instead.");
 			}
 			for (int i = 1; i <= matcher.groupCount(); i++) {
-				String name = this.variableNames.get(i - 1);
-				String value = matcher.group(i);
-				matchingContext.set(name, value);
+				matchingContext.capture(this.captureSlot + i - 1, matcher.group(i));
 			}
 		}
 		return matches;
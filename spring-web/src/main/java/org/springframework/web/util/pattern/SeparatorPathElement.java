@@ -41,7 +41,7 @@ class SeparatorPathElement extends PathElement {
 	public boolean matches(int candidateIndex, MatchingContext matchingContext) {
 		boolean matched = false;
 		if (candidateIndex < matchingContext.candidateLength &&
-			matchingContext.candidate[candidateIndex] == separator) {
+			matchingContext.candidate.charAt(candidateIndex) == separator) {
 			if (this.next == null) {
 				if (matchingContext.determineRemainingPath) {
 					matchingContext.remainingPathIndex = candidateIndex + 1;
@@ -61,20 +61,20 @@ class SingleCharWildcardedPathElement extends PathElement {
 			return false;  // there isn't enough data to match
 		}
 
-		char[] candidate = matchingContext.candidate;
+		String candidate = matchingContext.candidate;
 		if (this.caseSensitive) {
 			for (int i = 0; i <this.len; i++) {
 				char t = this.text[i];
 				if (t == '?') {
-					if (candidate[candidateIndex] == '%') {
+					if (candidate.charAt(candidateIndex) == '%') {
 						// encoded value, skip next two as well!
 						candidateIndex += 2;
 					}
 				}
-				else if (candidate[candidateIndex] != t) {
+				else if (candidate.charAt(candidateIndex) != t) {
 					// TODO unfortunate performance hit here on comparison when encoded data is the less likely case
-					if (i < 3 || matchingContext.candidate[candidateIndex-2] != '%' ||
-							Character.toUpperCase(matchingContext.candidate[candidateIndex]) != this.text[i]) {
+					if (i < 3 || matchingContext.candidate.charAt(candidateIndex-2) != '%' ||
+							Character.toUpperCase(matchingContext.candidate.charAt(candidateIndex)) != this.text[i]) {
 						return false;
 					}
 				}
@@ -85,12 +85,12 @@ class SingleCharWildcardedPathElement extends PathElement {
 			for (int i = 0; i < this.len; i++) {
 				char t = this.text[i];
 				if (t == '?') {
-					if (candidate[candidateIndex] == '%') {
+					if (candidate.charAt(candidateIndex) == '%') {
 						// encoded value, skip next two as well!
 						candidateIndex += 2;
 					}
 				}
-				else if (Character.toLowerCase(candidate[candidateIndex]) != t) {
+				else if (Character.toLowerCase(candidate.charAt(candidateIndex)) != t) {
 					return false;
 				}
 				candidateIndex++;
@@ -109,7 +109,7 @@ class SingleCharWildcardedPathElement extends PathElement {
 				else {
 					return (matchingContext.isAllowOptionalTrailingSlash() &&
 							(candidateIndex + 1) == matchingContext.candidateLength &&
-							matchingContext.candidate[candidateIndex] == separator);
+							matchingContext.candidate.charAt(candidateIndex) == separator);
 				}
 			}
 		}
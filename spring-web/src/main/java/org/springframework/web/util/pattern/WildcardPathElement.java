@@ -54,7 +54,7 @@ class WildcardPathElement extends PathElement {
 					return (matchingContext.isAllowOptionalTrailingSlash() &&  // if optional slash is on...
 							nextPos > candidateIndex &&  // and there is at least one character to match the *...
 							(nextPos + 1) == matchingContext.candidateLength &&   // and the nextPos is the end of the candidate...
-							matchingContext.candidate[nextPos] == separator);  // and the final character is a separator
+							matchingContext.candidate.charAt(nextPos) == separator);  // and the final character is a separator
 				}
 			}
 		}
@@ -34,7 +34,7 @@ class WildcardTheRestPathElement extends PathElement {
 	public boolean matches(int candidateIndex, PathPattern.MatchingContext matchingContext) {
 		// If there is more data, it must start with the separator
 		if (candidateIndex < matchingContext.candidateLength &&
-				matchingContext.candidate[candidateIndex] != separator) {
+				matchingContext.candidate.charAt(candidateIndex) != separator) {
 			return false;
 		}
 		if (matchingContext.determineRemainingPath) {
@@ -67,6 +67,18 @@ public class MediaTypeTests {
 		assertEquals("Invalid quality factor", 0.2D, mediaType.getQualityValue(), 0D);
 	}
 
+	@Test
+	public void parseMediaTypeCached() {
+		MediaType mediaType = MediaType.parseMediaType("text/html;q=0.9");
+		assertSame(mediaType, MediaType.parseMediaType("text/html;q=0.9"));
+		assertEquals(0.9D, mediaType.getQualityValue(), 0D);
+		assertEquals("text/html;q=0.9", mediaType.toString());
+
+		String multipart = "multipart/form-data;boundary=abc";
+		assertNotSame(MediaType.parseMediaType(multipart), MediaType.parseMediaType(multipart));
+		assertEquals(MediaType.parseMediaType(multipart), MediaType.parseMediaType(multipart));
+	}
+
 	@Test(expected = InvalidMediaTypeException.class)
 	public void parseMediaTypeNoSubtype() {
 		MediaType.parseMediaType("audio");
@@ -16,6 +16,7 @@
 
 package org.springframework.http.codec.json;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -195,6 +196,22 @@ public class Jackson2JsonDecoderTests extends AbstractDataBufferAllocatingTestCa
 		StepVerifier.create(flux).verifyErrorMatches(ex -> ex instanceof DecodingException);
 	}
 
+	@Test
+	public void maxInMemorySize() throws Exception {
+		Flux<DataBuffer> source = Flux.just(
+				stringBuffer("[{\"bar\":\"b1\",\"foo\":\"f1\"},"),
+				stringBuffer("{\"bar\":\"b2\",\"foo\":\"" + repeat('x', 100) + "\"}]"));
+		ResolvableType elementType = forClass(Pojo.class);
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+		decoder.setMaxInMemorySize(64);
+		assertEquals(64, decoder.getMaxInMemorySize());
+
+		Flux<Object> flux = decoder.decode(source, elementType, null, emptyMap());
+		StepVerifier.create(flux)
+				.expectNext(new Pojo("f1", "b1"))
+				.verifyError(DecodingException.class);
+	}
+
 	@Test
 	public void noDefaultConstructor() throws Exception {
 		Flux<DataBuffer> source = Flux.just(stringBuffer( "{\"property1\":\"foo\",\"property2\":\"bar\"}"));
@@ -204,6 +221,13 @@ public class Jackson2JsonDecoderTests extends AbstractDataBufferAllocatingTestCa
 	}
 
 
+	private static String repeat(char c, int count) {
+		char[] chars = new char[count];
+		Arrays.fill(chars, c);
+		return new String(chars);
+	}
+
+
 	private static class BeanWithNoDefaultConstructor {
 
 		private final String property1;
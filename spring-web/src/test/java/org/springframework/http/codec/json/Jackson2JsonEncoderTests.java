@@ -108,6 +108,24 @@ public class Jackson2JsonEncoderTests extends AbstractDataBufferAllocatingTestCa
 				.verifyComplete();
 	}
 
+	@Test
+	public void encodeAsStreamWithVaryingSizes() throws Exception {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			builder.append("foo");
+		}
+		String large = builder.toString();
+		Flux<Pojo> source = Flux.just(new Pojo("foo", "bar"), new Pojo(large, large), new Pojo("foo", "bar"));
+		ResolvableType type = ResolvableType.forClass(Pojo.class);
+		Flux<DataBuffer> output = this.encoder.encode(source, this.bufferFactory, type, APPLICATION_STREAM_JSON, emptyMap());
+
+		StepVerifier.create(output)
+				.consumeNextWith(stringConsumer("{\"foo\":\"foo\",\"bar\":\"bar\"}\n"))
+				.consumeNextWith(stringConsumer("{\"foo\":\"" + large + "\",\"bar\":\"" + large + "\"}\n"))
+				.consumeNextWith(stringConsumer("{\"foo\":\"foo\",\"bar\":\"bar\"}\n"))
+				.verifyComplete();
+	}
+
 	@Test
 	public void fieldLevelJsonView() throws Exception {
 		JacksonViewBean bean = new JacksonViewBean();
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.AbstractDataBufferAllocatingTestCase;
+import org.springframework.core.io.buffer.DataBuffer;
+
+/**
+ * Unit tests for {@link Jackson2Tokenizer}.
+ */
+public class Jackson2TokenizerTests extends AbstractDataBufferAllocatingTestCase {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+
+	@Test
+	public void singleChunkToJsonObject() {
+		testTokenize(Collections.singletonList("{\"foo\": \"foofoo\", \"bar\": \"barbar\"}"),
+				Collections.singletonList("{\"foo\":\"foofoo\",\"bar\":\"barbar\"}"), false);
+	}
+
+	@Test
+	public void multipleChunksToJsonObject() {
+		testTokenize(Arrays.asList("{\"foo\": \"foofoo\"", ", \"bar\": \"barbar\"}"),
+				Collections.singletonList("{\"foo\":\"foofoo\",\"bar\":\"barbar\"}"), false);
+		testTokenize(Arrays.asList("{\"foo\": \"foo", "foo\", \"ba", "r\": 4", "2}"),
+				Collections.singletonList("{\"foo\":\"foofoo\",\"bar\":42}"), false);
+	}
+
+	@Test
+	public void arrayAsSingleValue() {
+		testTokenize(Collections.singletonList("[{\"foo\": \"bar\"},{\"foo\": \"baz\"}]"),
+				Collections.singletonList("[{\"foo\":\"bar\"},{\"foo\":\"baz\"}]"), false);
+		testTokenize(Arrays.asList("[{\"foo\": \"bar\"}", ",{\"foo\": \"baz\"}]"),
+				Collections.singletonList("[{\"foo\":\"bar\"},{\"foo\":\"baz\"}]"), false);
+	}
+
+	@Test
+	public void singleChunkToArrayElements() {
+		testTokenize(Collections.singletonList(
+				"[{\"foo\": \"foofoo\", \"bar\": \"barbar\"},{\"foo\": \"foofoofoo\", \"bar\": \"barbarbar\"}]"),
+				Arrays.asList("{\"foo\":\"foofoo\",\"bar\":\"barbar\"}",
+						"{\"foo\":\"foofoofoo\",\"bar\":\"barbarbar\"}"), true);
+		testTokenize(Collections.singletonList("[{\"foo\": \"bar\"},{\"foo\": \"baz\"}]"),
+				Arrays.asList("{\"foo\":\"bar\"}", "{\"foo\":\"baz\"}"), true);
+	}
+
+	@Test
+	public void multipleChunksToArrayElements() {
+		testTokenize(Arrays.asList("[{\"foo\": \"foofoo\", \"bar\"",
+				": \"barbar\"},{\"foo\": \"foofoofoo\", \"bar\": \"barbarbar\"}]"),
+				Arrays.asList("{\"foo\":\"foofoo\",\"bar\":\"barbar\"}",
+						"{\"foo\":\"foofoofoo\",\"bar\":\"barbarbar\"}"), true);
+		testTokenize(Arrays.asList("[{\"foo\": \"", "bar\"},{\"fo", "o\": \"baz\"}", "]"),
+				Arrays.asList("{\"foo\":\"bar\"}", "{\"foo\":\"baz\"}"), true);
+
+		// SPR-15013
+		testTokenize(Arrays.asList("[", "{\"id\":1,\"name\":\"Robert\"}", ",", "{\"id\":2,\"name\":\"Raide\"}",
+				",", "{\"id\":3,\"name\":\"Ford\"}", "]"),
+				Arrays.asList("{\"id\":1,\"name\":\"Robert\"}", "{\"id\":2,\"name\":\"Raide\"}",
+						"{\"id\":3,\"name\":\"Ford\"}"), true);
+	}
+
+	@Test
+	public void nestedAndScalarArrayElements() {
+		testTokenize(Arrays.asList("[[1, [2]], {\"a\": [3]}, \"fo", "o\", 4", "2, null, []]"),
+				Arrays.asList("[1,[2]]", "{\"a\":[3]}", "\"foo\"", "42", "null", "[]"), true);
+		testTokenize(Collections.singletonList("[]"), Collections.emptyList(), true);
+	}
+
+	@Test
+	public void multipleRootValues() {
+		testTokenize(Arrays.asList("{\"foo\": 1} {\"bar\"", ": 2}\n[3, 4]"),
+				Arrays.asList("{\"foo\":1}", "{\"bar\":2}", "[3,4]"), false);
+		testTokenize(Arrays.asList("{\"foo\": 1} {\"bar\"", ": 2}\n[3, 4]"),
+				Arrays.asList("{\"foo\":1}", "{\"bar\":2}", "3", "4"), true);
+	}
+
+	@Test
+	public void emptyInput() {
+		testTokenize(Collections.emptyList(), Collections.emptyList(), false);
+		testTokenize(Arrays.asList("", " "), Collections.emptyList(), true);
+	}
+
+	@Test
+	public void invalidJson() {
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				Flux.just(stringBuffer("{\"foo\": \"bar\"}"), stringBuffer(" {\"foo\"; 1}")),
+				this.objectMapper.getFactory(), true, 1024);
+		StepVerifier.create(tokens.map(this::tokensToJson))
+				.expectNext("{\"foo\":\"bar\"}")
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+	@Test
+	public void incompleteJson() {
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				Flux.just(stringBuffer("[{\"foo\": \"bar\"}, {\"foo\"")),
+				this.objectMapper.getFactory(), true, 1024);
+		StepVerifier.create(tokens.map(this::tokensToJson))
+				.expectNext("{\"foo\":\"bar\"}")
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+	@Test
+	public void maxInMemorySize() {
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				Flux.just(stringBuffer("[{\"foo\": \"bar\"}, {\"foo\": \""),
+						stringBuffer("0123456789012345678901234567890123456789\"}]")),
+				this.objectMapper.getFactory(), true, 32);
+		StepVerifier.create(tokens.map(this::tokensToJson))
+				.expectNext("{\"foo\":\"bar\"}")
+				.expectError(DecodingException.class)
+				.verify();
+
+		// Each array element within the limit
+		tokens = Jackson2Tokenizer.tokenize(
+				Flux.just(stringBuffer("[{\"foo\": \"0123456789\"},"), stringBuffer("{\"foo\": \"0123456789\"},"),
+						stringBuffer("{\"foo\": \"0123456789\"}]")),
+				this.objectMapper.getFactory(), true, 32);
+		StepVerifier.create(tokens.map(this::tokensToJson))
+				.expectNextCount(3)
+				.expectComplete()
+				.verify();
+	}
+
+	@Test
+	public void maxInMemorySizeWithArrayOffset() {
+		// 32 bytes, split across two buffers backed by arrays with leading garbage
+		Flux<TokenBuffer> tokens = Jackson2Tokenizer.tokenize(
+				Flux.just(offsetBuffer("{\"foo\": \"01234"), offsetBuffer("5678901234567890\"}")),
+				this.objectMapper.getFactory(), false, 32);
+		StepVerifier.create(tokens.map(this::tokensToJson))
+				.expectNext("{\"foo\":\"012345678901234567890\"}")
+				.expectComplete()
+				.verify();
+
+		tokens = Jackson2Tokenizer.tokenize(
+				Flux.just(offsetBuffer("{\"foo\": \"01234"), offsetBuffer("56789012345678901\"}")),
+				this.objectMapper.getFactory(), false, 32);
+		StepVerifier.create(tokens.map(this::tokensToJson))
+				.expectError(DecodingException.class)
+				.verify();
+	}
+
+
+	private void testTokenize(List<String> source, List<String> expected, boolean tokenizeArrayElements) {
+		Flux<DataBuffer> dataBuffers = Flux.fromIterable(source).map(this::stringBuffer);
+		Flux<String> result = Jackson2Tokenizer.tokenize(
+				dataBuffers, this.objectMapper.getFactory(), tokenizeArrayElements, 1024 * 1024)
+				.map(this::tokensToJson);
+		StepVerifier.create(result)
+				.expectNextSequence(expected)
+				.expectComplete()
+				.verify();
+	}
+
+	private DataBuffer offsetBuffer(String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		byte[] array = new byte[1000 + bytes.length];
+		System.arraycopy(bytes, 0, array, 1000, bytes.length);
+		return this.bufferFactory.wrap(ByteBuffer.wrap(array, 1000, bytes.length));
+	}
+
+	private String tokensToJson(TokenBuffer tokenBuffer) {
+		try {
+			StringWriter writer = new StringWriter();
+			JsonGenerator generator = this.objectMapper.getFactory().createGenerator(writer);
+			tokenBuffer.serialize(generator);
+			generator.close();
+			return writer.toString();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
@@ -29,6 +29,7 @@ import org.springframework.core.io.buffer.DataBuffer;
 /**
  * @author Sebastien Deleuze
  */
+@SuppressWarnings("deprecation")
 public class JsonObjectDecoderTests extends AbstractDataBufferAllocatingTestCase {
 
 	@Test
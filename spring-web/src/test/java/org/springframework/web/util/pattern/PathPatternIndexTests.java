@@ -0,0 +1,190 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.springframework.util.AntPathMatcher;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link PathPatternIndex}.
+ */
+public class PathPatternIndexTests {
+
+	private final PathPatternParser parser = new PathPatternParser();
+
+	private final PathPatternIndex<String> index = new PathPatternIndex<>();
+
+
+	@Test
+	public void literalPrefix() {
+		add("/api/users/{id}");
+		add("/api/orders/{id}");
+		add("/api/users/{id}/orders");
+		add("/{version}/users");
+		assertEquals(Arrays.asList("/api/users/{id}", "/api/users/{id}/orders", "/{version}/users"),
+				this.index.getCandidates("/api/users/1"));
+		assertEquals(Collections.singletonList("/{version}/users"), this.index.getCandidates("/other/users"));
+	}
+
+	@Test
+	public void fullyLiteral() {
+		add("/api/users");
+		add("/api/users/");
+		add("/api/orders");
+		add("/api/**");
+		assertEquals(Arrays.asList("/api/users", "/api/users/", "/api/**"), this.index.getCandidates("/api/users"));
+		assertEquals(Arrays.asList("/api/users", "/api/users/", "/api/**"), this.index.getCandidates("/api/users/"));
+		assertEquals(Arrays.asList("/api/users", "/api/users/", "/api/**"), this.index.getCandidates("/api/users.json"));
+		assertEquals(Collections.singletonList("/api/**"), this.index.getCandidates("/api/users/1"));
+		assertEquals(Collections.singletonList("/api/**"), this.index.getCandidates("/api/usersx"));
+		assertEquals(Collections.singletonList("/api/**"), this.index.getCandidates("/api"));
+	}
+
+	@Test
+	public void emptyPatternAndNoPatterns() {
+		add("");
+		add("/");
+		this.index.add("none", null);
+		assertEquals(Arrays.asList("", "/", "none"), this.index.getCandidates(""));
+		assertEquals(Arrays.asList("", "/", "none"), this.index.getCandidates("/"));
+		assertEquals(Collections.singletonList("none"), this.index.getCandidates("/foo"));
+	}
+
+	@Test
+	public void multiplePatternsPerValue() {
+		this.index.add("both", Arrays.asList(this.parser.parse("/api/users/{id}"), this.parser.parse("/api/{id}")));
+		add("/api/users/{id}/orders");
+		assertEquals(Arrays.asList("both", "/api/users/{id}/orders"), this.index.getCandidates("/api/users/1"));
+	}
+
+	@Test
+	public void caseInsensitiveAndEncodedSegments() {
+		add("/api/Users/{id}");
+		add("/api/users/{id}/orders");
+		add("/api/other/{id}");
+		assertEquals(Arrays.asList("/api/Users/{id}", "/api/users/{id}/orders"), this.index.getCandidates("/API/users/1"));
+		assertEquals(Arrays.asList("/api/Users/{id}", "/api/users/{id}/orders", "/api/other/{id}"),
+				this.index.getCandidates("/api/us%65rs/1"));
+	}
+
+	@Test
+	public void remove() {
+		add("/api/users/{id}");
+		add("/api/users");
+		assertTrue(this.index.remove("/api/users/{id}"));
+		assertFalse(this.index.remove("/api/users/{id}"));
+		assertEquals(Collections.emptyList(), this.index.getCandidates("/api/users/1"));
+		assertEquals(Collections.singletonList("/api/users"), this.index.getCandidates("/api/users"));
+		assertEquals(1, this.index.size());
+		this.index.clear();
+		assertEquals(0, this.index.size());
+		assertEquals(Collections.emptyList(), this.index.getCandidates("/api/users"));
+	}
+
+	@Test
+	public void candidatesIncludeAllMatches() {
+		List<String> patterns = Arrays.asList("", "/", "/foo", "/foo/", "/foo/bar", "/foo/*", "/foo/**",
+				"/foo/{bar}", "/foo/{*rest}", "/fo?/bar", "/foo/b*", "/foo/{bar}/baz", "/*/bar", "/**", "foo/bar",
+				"/Foo/Bar", "/foo//bar", "/foo/bar.{ext}", "/foo/bar.txt", "/foo/{bar:[a-z]+}", "/foo/%62ar");
+		List<String> paths = Arrays.asList("", "/", "/foo", "/foo/", "/foo/bar", "/foo/bar/", "/foo/bar/baz",
+				"/fox/bar", "foo/bar", "/FOO/BAR", "/foo//bar", "/foo/bar.txt", "/foo/%62ar", "/foo/b%61r", "/x");
+		for (String pattern : patterns) {
+			add(pattern);
+		}
+		PathPatternParser optionalTrailingSlashParser = new PathPatternParser();
+		optionalTrailingSlashParser.setMatchOptionalTrailingSlash(true);
+		PathPatternParser caseInsensitiveParser = new PathPatternParser();
+		caseInsensitiveParser.setCaseSensitive(false);
+		for (PathPatternParser parser : Arrays.asList(this.parser, optionalTrailingSlashParser, caseInsensitiveParser)) {
+			PathPatternIndex<String> index = new PathPatternIndex<>();
+			for (String pattern : patterns) {
+				index.add(pattern, Collections.singleton(parser.parse(pattern)));
+			}
+			for (String path : paths) {
+				List<String> candidates = index.getCandidates(path);
+				List<String> matches = new ArrayList<>();
+				for (String pattern : patterns) {
+					if (parser.parse(pattern).matches(path)) {
+						matches.add(pattern);
+					}
+				}
+				assertTrue("Missing matches for path '" + path + "': " + matches + " vs " + candidates,
+						candidates.containsAll(matches));
+			}
+		}
+	}
+
+
+	@Test
+	public void antPatterns() {
+		this.index.addAntPatterns("literal", Collections.singleton("/api/users"));
+		this.index.addAntPatterns("prefix", Arrays.asList("/api//Users/{id}", "/api/accounts/*"));
+		this.index.addAntPatterns("wildcard", Collections.singleton("/api/**/orders"));
+		this.index.addAntPatterns("none", Collections.emptySet());
+		assertEquals(Arrays.asList("literal", "prefix", "wildcard", "none"), this.index.getCandidates("/api/users"));
+		assertEquals(Arrays.asList("prefix", "wildcard", "none"), this.index.getCandidates("/api/ users/1"));
+		assertEquals(Arrays.asList("prefix", "wildcard", "none"), this.index.getCandidates("/api/accounts/1"));
+		assertEquals(Arrays.asList("wildcard", "none"), this.index.getCandidates("/api/other/orders"));
+		assertEquals(Collections.singletonList("none"), this.index.getCandidates("/other/orders"));
+	}
+
+	@Test
+	public void candidatesIncludeAllAntPathMatcherMatches() {
+		List<String> patterns = Arrays.asList("", "/", "/foo", "/foo/", "/foo/bar", "/foo/*", "/foo/**",
+				"/foo/{bar}", "/fo?/bar", "/foo/b*", "/foo/{bar}/baz", "/*/bar", "/**", "foo/bar", "/Foo/Bar",
+				"/foo//bar", "/foo/ bar", "/foo/bar.{ext}", "/foo/bar.txt", "/foo/{bar:[a-z]+}", "/foo/**/baz");
+		List<String> paths = Arrays.asList("", "/", "/foo", "/foo/", "/foo/bar", "/foo/bar/", "/foo/bar/baz",
+				"/fox/bar", "foo/bar", "/FOO/BAR", "/foo//bar", "/foo/ bar", "/foo/bar.txt", "/foo/bar.txt.json",
+				"/foo/x/y/baz", "/x");
+		for (String pattern : patterns) {
+			this.index.addAntPatterns(pattern, Collections.singleton(pattern));
+		}
+		AntPathMatcher caseInsensitiveMatcher = new AntPathMatcher();
+		caseInsensitiveMatcher.setCaseSensitive(false);
+		AntPathMatcher trimTokensMatcher = new AntPathMatcher();
+		trimTokensMatcher.setTrimTokens(true);
+		for (AntPathMatcher matcher : Arrays.asList(new AntPathMatcher(), caseInsensitiveMatcher, trimTokensMatcher)) {
+			for (String path : paths) {
+				List<String> candidates = this.index.getCandidates(path);
+				List<String> matches = new ArrayList<>();
+				for (String pattern : patterns) {
+					// Including suffix pattern and trailing slash matches, as in PatternsRequestCondition
+					if (matcher.match(pattern, path) || matcher.match(pattern + ".*", path) ||
+							matcher.match(pattern + "/", path)) {
+						matches.add(pattern);
+					}
+				}
+				assertTrue("Missing matches for path '" + path + "': " + matches + " vs " + candidates,
+						candidates.containsAll(matches));
+			}
+		}
+	}
+
+
+	private void add(String pattern) {
+		this.index.add(pattern, Collections.singleton(this.parser.parse(pattern)));
+	}
+
+}
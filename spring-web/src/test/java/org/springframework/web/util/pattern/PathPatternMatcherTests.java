@@ -265,6 +265,17 @@ public class PathPatternMatcherTests {
 		checkCapture("{var:f o}","f%20o","var","f o"); // constraint is expressed in non encoded form
 		checkCapture("{var:f.o}","f%20o","var","f o");
 		checkCapture("{var:f\\|o}","f%7co","var","f|o");	
+		checkCapture("/{var:f o}","/f%20o","var","f o");
+		checkCapture("/foo/{var:f.o}/bar","/foo/f%20o/bar","var","f o");
+	}
+
+	@Test
+	public void capturesAcrossPathElements() {
+		Map<String, String> result = checkCapture("/{a}/{b}_{c:[0-9]+}/x/{*d}", "/a%20/b_12/x/d/e",
+				"a", "a ", "b", "b", "c", "12", "d", "/d/e");
+		assertEquals(4, result.size());
+		assertEquals(Collections.emptyMap(), checkCapture("/a/*/b", "/a/x/b"));
+		assertEquals("/x/y", parse("/a/{*rest}").getPathRemaining("/a/x/y").getMatchingVariables().get("rest"));
 	}
 	
 	@Test
@@ -29,6 +29,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.pattern.PathPattern;
 import org.springframework.web.util.pattern.PathPatternComparator;
+import org.springframework.web.util.pattern.PathPatternIndex;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
@@ -44,6 +45,8 @@ public class PathPatternRegistry<T> {
 
 	private final Map<PathPattern, T> patternsMap;
 
+	private final PathPatternIndex<PathPattern> patternIndex;
+
 
 	/**
 	 * Create a new {@code PathPatternRegistry} with
@@ -72,6 +75,10 @@ public class PathPatternRegistry<T> {
 	public PathPatternRegistry(PathPatternParser patternParser, Map<PathPattern, T> patternsMap) {
 		this.pathPatternParser = patternParser;
 		this.patternsMap = new HashMap<>(patternsMap);
+		this.patternIndex = new PathPatternIndex<>();
+		for (PathPattern pattern : patternsMap.keySet()) {
+			this.patternIndex.add(pattern, Collections.singleton(pattern));
+		}
 	}
 
 
@@ -89,9 +96,9 @@ public class PathPatternRegistry<T> {
 	 * @param lookupPath the URL lookup path to be matched against
 	 */
 	public SortedSet<PathMatchResult<T>> findMatches(String lookupPath) {
-		return this.patternsMap.entrySet().stream()
-				.filter(entry -> entry.getKey().matches(lookupPath))
-				.map(entry -> new PathMatchResult<>(entry.getKey(), entry.getValue()))
+		return this.patternIndex.getCandidates(lookupPath).stream()
+				.filter(pattern -> pattern.matches(lookupPath))
+				.map(pattern -> new PathMatchResult<>(pattern, this.patternsMap.get(pattern)))
 				.collect(Collectors.toCollection(() ->
 						new TreeSet<>(new PathMatchResultComparator<T>(lookupPath))));
 	}
@@ -102,10 +109,10 @@ public class PathPatternRegistry<T> {
 	 */
 	public Optional<PathMatchResult<T>> findFirstMatch(String lookupPath) {
 		PathPatternComparator comparator = new PathPatternComparator(lookupPath);
-		return this.patternsMap.entrySet().stream()
-				.filter(entry -> entry.getKey().matches(lookupPath))
-				.reduce((e1, e2) -> comparator.compare(e1.getKey(), e2.getKey()) < 0 ? e1 : e2)
-				.map(entry -> new PathMatchResult<>(entry.getKey(), entry.getValue()));
+		return this.patternIndex.getCandidates(lookupPath).stream()
+				.filter(pattern -> pattern.matches(lookupPath))
+				.reduce((p1, p2) -> comparator.compare(p1, p2) < 0 ? p1 : p2)
+				.map(pattern -> new PathMatchResult<>(pattern, this.patternsMap.get(pattern)));
 	}
 
 	/**
@@ -113,6 +120,7 @@ public class PathPatternRegistry<T> {
 	 */
 	public void clear() {
 		this.patternsMap.clear();
+		this.patternIndex.clear();
 	}
 
 	/**
@@ -123,7 +131,9 @@ public class PathPatternRegistry<T> {
 	public void register(String rawPattern, T handler) {
 		String fixedPattern = prependLeadingSlash(rawPattern);
 		PathPattern newPattern = this.pathPatternParser.parse(fixedPattern);
-		this.patternsMap.put(newPattern, handler);
+		if (this.patternsMap.put(newPattern, handler) == null) {
+			this.patternIndex.add(newPattern, Collections.singleton(newPattern));
+		}
 	}
 
 	private String prependLeadingSlash(String pattern) {
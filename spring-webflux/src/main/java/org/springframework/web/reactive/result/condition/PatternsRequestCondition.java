@@ -153,7 +153,8 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 	 * that is guaranteed to contain matching patterns, sorted with a
 	 * {@link PathPatternComparator}.
 	 * @param exchange the current exchange
-	 * @return the same instance if the condition contains no patterns;
+	 * @return the same instance if the condition contains no patterns
+	 * or a single matching pattern;
 	 * or a new condition with sorted matching patterns;
 	 * or {@code null} if no patterns match.
 	 */
@@ -165,6 +166,10 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		}
 
 		String lookupPath = exchange.getRequest().getPath().pathWithinApplication().value();
+		if (this.patterns.size() == 1) {
+			// Common case: a single pattern, no need for sorting into a new condition
+			return (this.patterns.get(0).matches(lookupPath) ? this : null);
+		}
 		SortedSet<PathPattern> matches = getMatchingPatterns(lookupPath);
 		return matches.isEmpty() ? null : new PatternsRequestCondition(new ArrayList<>(matches), this.parser);
 	}
@@ -43,6 +43,8 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.handler.AbstractHandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -300,7 +302,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			throws Exception {
 
 		List<Match> matches = new ArrayList<>();
-		addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, exchange);
+		addMatchingMappings(this.mappingRegistry.getMappingsByPath(lookupPath), matches, exchange);
 
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -403,6 +405,24 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	protected abstract Set<String> getMappingPathPatterns(T mapping);
 
+	/**
+	 * Return the parsed path patterns of the given mapping, allowing for the
+	 * mappings to check for a lookup path to be narrowed through a
+	 * {@link PathPatternIndex} instead of going through all registered mappings.
+	 * <p>This is only appropriate if a mapping may only match lookup paths
+	 * matched by one of the returned patterns, or any lookup path if it has
+	 * no patterns at all.
+	 * <p>The default implementation returns {@code null}, indicating that the
+	 * mapping needs to be checked for every lookup path.
+	 * @param mapping the mapping to return the path patterns for
+	 * @return the path patterns of the mapping, or {@code null} if not applicable
+	 * @since 5.0
+	 */
+	@Nullable
+	protected Set<PathPattern> getMappingParsedPathPatterns(T mapping) {
+		return null;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -434,6 +454,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Map<T, HandlerMethod> mappingLookup = new LinkedHashMap<>();
 
+		private final PathPatternIndex<T> pathPatternIndex = new PathPatternIndex<>();
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
@@ -446,6 +468,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.mappingLookup;
 		}
 
+		/**
+		 * Return all mappings which may match the given lookup path, in registration
+		 * order, according to their parsed path patterns. Not thread-safe.
+		 * @see #acquireReadLock()
+		 * @see #getMappingParsedPathPatterns
+		 */
+		public List<T> getMappingsByPath(String lookupPath) {
+			return this.pathPatternIndex.getCandidates(lookupPath);
+		}
+
 		/**
 		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
@@ -477,7 +509,9 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				if (logger.isInfoEnabled()) {
 					logger.info("Mapped \"" + mapping + "\" onto " + handlerMethod);
 				}
-				this.mappingLookup.put(mapping, handlerMethod);
+				if (this.mappingLookup.put(mapping, handlerMethod) == null) {
+					this.pathPatternIndex.add(mapping, getMappingParsedPathPatterns(mapping));
+				}
 
 				CorsConfiguration corsConfig = initCorsConfiguration(handler, method, mapping);
 				if (corsConfig != null) {
@@ -510,6 +544,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				}
 
 				this.mappingLookup.remove(definition.getMapping());
+				this.pathPatternIndex.remove(definition.getMapping());
 				this.corsLookup.remove(definition.getHandlerMethod());
 			}
 			finally {
@@ -80,6 +80,15 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getPatternsCondition().getPatternStrings();
 	}
 
+	/**
+	 * Expose the parsed {@link PathPattern}s of this {@link RequestMappingInfo},
+	 * narrowing the mappings to check for a lookup path through their patterns.
+	 */
+	@Override
+	protected Set<PathPattern> getMappingParsedPathPatterns(RequestMappingInfo info) {
+		return info.getPatternsCondition().getPatterns();
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
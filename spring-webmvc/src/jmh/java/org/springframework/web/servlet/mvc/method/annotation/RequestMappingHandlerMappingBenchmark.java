@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.mvc.method.annotation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.mock.web.test.MockHttpServletRequest;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+/**
+ * Benchmarks for {@link RequestMappingHandlerMapping} lookups against a large
+ * synthetic route table, with and without the path pattern index.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RequestMappingHandlerMappingBenchmark {
+
+	@Benchmark
+	public void directMatch(BenchmarkData data, Blackhole bh) throws Exception {
+		bh.consume(data.handlerMapping.getHandler(data.directRequest));
+	}
+
+	@Benchmark
+	public void patternMatch(BenchmarkData data, Blackhole bh) throws Exception {
+		bh.consume(data.handlerMapping.getHandler(data.patternRequest));
+	}
+
+	@Benchmark
+	public void nestedPatternMatch(BenchmarkData data, Blackhole bh) throws Exception {
+		bh.consume(data.handlerMapping.getHandler(data.nestedPatternRequest));
+	}
+
+	@Benchmark
+	public void noMatch(BenchmarkData data, Blackhole bh) throws Exception {
+		bh.consume(data.handlerMapping.getHandler(data.noMatchRequest));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"2000"})
+		public int routes;
+
+		@Param({"true", "false"})
+		public boolean pathPatternIndex;
+
+		public RequestMappingHandlerMapping handlerMapping;
+
+		public MockHttpServletRequest directRequest;
+
+		public MockHttpServletRequest patternRequest;
+
+		public MockHttpServletRequest nestedPatternRequest;
+
+		public MockHttpServletRequest noMatchRequest;
+
+		@Setup(Level.Trial)
+		public void createData() {
+			boolean usePathPatternIndex = this.pathPatternIndex;
+			this.handlerMapping = new RequestMappingHandlerMapping() {
+				@Override
+				protected boolean usePathPatternIndex() {
+					return usePathPatternIndex;
+				}
+			};
+			Method method = ClassUtils.getMethod(TestController.class, "handle");
+			TestController controller = new TestController();
+			int resources = this.routes / 4;
+			for (int i = 0; i < resources; i++) {
+				String resource = "/api/v1/resource" + i;
+				register(controller, method, resource, RequestMethod.GET);
+				register(controller, method, resource, RequestMethod.POST);
+				register(controller, method, resource + "/{id}", RequestMethod.GET);
+				register(controller, method, resource + "/{id}/items/{itemId}", RequestMethod.GET);
+			}
+			int last = resources - 1;
+			this.directRequest = new MockHttpServletRequest("GET", "/api/v1/resource" + last);
+			this.patternRequest = new MockHttpServletRequest("GET", "/api/v1/resource" + last + "/42");
+			this.nestedPatternRequest = new MockHttpServletRequest("GET", "/api/v1/resource" + last + "/42/items/7");
+			this.noMatchRequest = new MockHttpServletRequest("GET", "/api/v2/unknown/42");
+		}
+
+		private void register(TestController controller, Method method, String path, RequestMethod requestMethod) {
+			RequestMappingInfo info = RequestMappingInfo.paths(path).methods(requestMethod).build();
+			this.handlerMapping.registerMapping(info, controller, method);
+		}
+	}
+
+
+	public static class TestController {
+
+		public void handle() {
+		}
+	}
+
+}
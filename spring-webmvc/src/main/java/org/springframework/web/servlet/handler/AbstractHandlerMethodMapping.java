@@ -44,6 +44,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPatternIndex;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -346,8 +347,14 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			// No choice but to go through all mappings...
-			addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			if (usePathPatternIndex()) {
+				// Go through all mappings which may match the lookup path...
+				addMatchingMappings(this.mappingRegistry.getMappingsByPath(lookupPath), matches, request);
+			}
+			else {
+				// No choice but to go through all mappings...
+				addMatchingMappings(this.mappingRegistry.getMappings().keySet(), matches, request);
+			}
 		}
 
 		if (!matches.isEmpty()) {
@@ -453,6 +460,23 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	protected abstract Set<String> getMappingPathPatterns(T mapping);
 
+	/**
+	 * Whether to narrow the mappings to check for a lookup path through a
+	 * {@link PathPatternIndex} of their {@link #getMappingPathPatterns path patterns},
+	 * instead of going through all registered mappings.
+	 * <p>This is only appropriate if a mapping may only match lookup paths which
+	 * start with the path segments preceding the last segment of one of its patterns
+	 * (ignoring case and empty segments), or any lookup path if it has no patterns.
+	 * This holds for {@link org.springframework.util.AntPathMatcher} based patterns
+	 * with the default "/" path separator, including suffix pattern and trailing
+	 * slash matches.
+	 * <p>The default implementation returns {@code false}.
+	 * @since 5.0
+	 */
+	protected boolean usePathPatternIndex() {
+		return false;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -486,6 +510,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> urlLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> pathIndex = new PathPatternIndex<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
@@ -509,6 +535,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.urlLookup.get(urlPath);
 		}
 
+		/**
+		 * Return all mappings which may match the given lookup path, in registration
+		 * order, according to the index of their path patterns. Not thread-safe.
+		 * @see #acquireReadLock()
+		 * @see #usePathPatternIndex()
+		 */
+		public List<T> getMappingsByPath(String lookupPath) {
+			return this.pathIndex.getCandidates(lookupPath);
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -553,6 +589,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				for (String url : directUrls) {
 					this.urlLookup.add(url, mapping);
 				}
+				this.pathIndex.addAntPatterns(mapping, getMappingPathPatterns(mapping));
 
 				String name = null;
 				if (getNamingStrategy() != null) {
@@ -641,6 +678,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				this.pathIndex.remove(definition.getMapping());
 				removeMappingName(definition);
 
 				this.corsLookup.remove(definition.getHandlerMethod());
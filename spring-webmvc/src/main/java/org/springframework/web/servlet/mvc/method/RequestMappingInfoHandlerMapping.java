@@ -33,8 +33,10 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -83,6 +85,22 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getPatternsCondition().getPatterns();
 	}
 
+	/**
+	 * Narrow the mappings to check through the path pattern index if this
+	 * handler mapping uses a plain {@link AntPathMatcher} with the "/" path
+	 * separator, as is the default.
+	 * <p>The index is skipped, going through all registered mappings instead,
+	 * for custom {@link PathMatcher} implementations (including subclasses of
+	 * {@code AntPathMatcher}) as well as for path separators other than "/",
+	 * since their matching semantics are not known to the index.
+	 */
+	@Override
+	protected boolean usePathPatternIndex() {
+		PathMatcher pathMatcher = getPathMatcher();
+		return (pathMatcher.getClass() == AntPathMatcher.class &&
+				AntPathMatcher.DEFAULT_PATH_SEPARATOR.equals(((AntPathMatcher) pathMatcher).getPathSeparator()));
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
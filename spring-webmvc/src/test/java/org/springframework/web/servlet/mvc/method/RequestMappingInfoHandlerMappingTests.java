@@ -37,6 +37,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.test.MockHttpServletRequest;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -379,6 +380,57 @@ public class RequestMappingInfoHandlerMappingTests {
 		assertEquals(";mvar=a/b", uriVariables.get("filter"));
 	}
 
+	@Test
+	public void getHandlerWithPathPatternIndex() throws Exception {
+		this.handlerMapping = new TestRequestMappingInfoHandlerMapping();
+		registerMapping(this.fooMethod, "/api/users/{id}", "/api/accounts/{id}");
+		registerMapping(this.barMethod, "/api/users");
+		registerMapping(this.fooParamMethod, "/{version}/users/{id}/orders");
+		registerMapping(this.emptyMethod, "/api/**/orders");
+
+		assertEquals(this.fooMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/api/users/1")).getMethod());
+		assertEquals(this.fooMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/api/users/1.json")).getMethod());
+		assertEquals(this.fooMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/api/accounts/1")).getMethod());
+		assertEquals(this.barMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/api/users/")).getMethod());
+		assertEquals(this.barMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/api/users.json")).getMethod());
+		assertEquals(this.fooParamMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/v1/users/1/orders")).getMethod());
+		assertEquals(this.fooParamMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/api/users/1/orders")).getMethod());
+		assertEquals(this.emptyMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/api/accounts/1/orders")).getMethod());
+		assertNull(this.handlerMapping.getHandler(new MockHttpServletRequest("GET", "/api/users/1/items")));
+		assertNull(this.handlerMapping.getHandler(new MockHttpServletRequest("GET", "/other/users/1")));
+
+		this.handlerMapping.unregisterMapping(this.handlerMapping.getHandlerMethods().keySet().iterator().next());
+		assertNull(this.handlerMapping.getHandler(new MockHttpServletRequest("GET", "/api/users/1")));
+	}
+
+	@Test
+	public void getHandlerWithPathPatternIndexAndCaseInsensitiveMatching() throws Exception {
+		this.handlerMapping = new TestRequestMappingInfoHandlerMapping();
+		AntPathMatcher pathMatcher = new AntPathMatcher();
+		pathMatcher.setCaseSensitive(false);
+		this.handlerMapping.setPathMatcher(pathMatcher);
+		registerMapping(this.fooMethod, "/api/Users/{id}");
+
+		assertEquals(this.fooMethod.getMethod(), getHandler(new MockHttpServletRequest("GET", "/API/users/1")).getMethod());
+	}
+
+	@Test
+	public void pathPatternIndexRequiresDefaultPathSeparator() throws Exception {
+		this.handlerMapping = new TestRequestMappingInfoHandlerMapping();
+		assertTrue(this.handlerMapping.usePathPatternIndex());
+		this.handlerMapping.setPathMatcher(new AntPathMatcher("."));
+		assertFalse(this.handlerMapping.usePathPatternIndex());
+		this.handlerMapping.setPathMatcher(new AntPathMatcher() {});
+		assertFalse(this.handlerMapping.usePathPatternIndex());
+	}
+
+
+	private void registerMapping(HandlerMethod handlerMethod, String... patterns) {
+		RequestMappingInfo info = new RequestMappingInfo(new PatternsRequestCondition(patterns,
+				this.handlerMapping.getUrlPathHelper(), this.handlerMapping.getPathMatcher(), true, true),
+				null, null, null, null, null, null);
+		this.handlerMapping.registerMapping(info, handlerMethod.getBean(), handlerMethod.getMethod());
+	}
 
 	private HandlerMethod getHandler(MockHttpServletRequest request) throws Exception {
 		HandlerExecutionChain chain = this.handlerMapping.getHandler(request);